@@ -0,0 +1,188 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.StreamCorruptedException;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.util.MSeq;
+
+/**
+ * Genotype encoding, which writes the chromosomes one after another. The
+ * chromosomes of the genotype {@code template} are used for creating the
+ * chromosomes of the read genotypes.
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class ChromosomeEncoding<G extends Gene<?, G>>
+	implements GenotypeEncoding<G>
+{
+
+	@FunctionalInterface
+	interface Writer<T> {
+		void write(final T value, final DataOutput out) throws IOException;
+	}
+
+	@FunctionalInterface
+	interface Reader<T> {
+		T read(final T template, final DataInput in) throws IOException;
+	}
+
+	/**
+	 * The maximal length of a read sequence. Every element is encoded with
+	 * at least one byte, so no valid length exceeds the maximal frame size.
+	 */
+	static final int MAX_LENGTH = SocketTransport.MAX_FRAME_SIZE;
+
+	private final Genotype<G> _template;
+	private final Writer<? super Chromosome<G>> _writer;
+	private final Reader<Chromosome<G>> _reader;
+
+	ChromosomeEncoding(
+		final Genotype<G> template,
+		final Writer<? super Chromosome<G>> writer,
+		final Reader<Chromosome<G>> reader
+	) {
+		_template = requireNonNull(template);
+		_writer = requireNonNull(writer);
+		_reader = requireNonNull(reader);
+	}
+
+	@Override
+	public void write(final Genotype<G> genotype, final DataOutput out)
+		throws IOException
+	{
+		writeInt(genotype.length(), out);
+		for (var chromosome : genotype) {
+			_writer.write(chromosome, out);
+		}
+	}
+
+	@Override
+	public Genotype<G> read(final DataInput in) throws IOException {
+		final int length = readInt(in);
+		if (length != _template.length()) {
+			throw new InvalidObjectException(
+				"Invalid genotype length: " + length
+			);
+		}
+
+		final MSeq<Chromosome<G>> chromosomes = MSeq.ofLength(length);
+		for (int i = 0; i < length; ++i) {
+			chromosomes.set(i, _reader.read(_template.get(i), in));
+		}
+		return Genotype.of(chromosomes);
+	}
+
+	/**
+	 * Create a new encoding, which writes the chromosome length followed by
+	 * the encoded genes. The genes of the chromosome templates are used for
+	 * creating the read genes. Since the genes of a chromosome share their
+	 * validity range, chromosomes with variable length are supported as well.
+	 */
+	static <G extends Gene<?, G>> ChromosomeEncoding<G> ofGenes(
+		final Genotype<G> template,
+		final Writer<? super G> writer,
+		final Reader<G> reader
+	) {
+		requireNonNull(writer);
+		requireNonNull(reader);
+
+		return new ChromosomeEncoding<>(
+			template,
+			(chromosome, out) -> {
+				writeInt(chromosome.length(), out);
+				for (var gene : chromosome) {
+					writer.write(gene, out);
+				}
+			},
+			(chromosome, in) -> {
+				final int length = readLength(in);
+				if (length < 1) {
+					throw new InvalidObjectException(
+						"Invalid chromosome length: " + length
+					);
+				}
+
+				final MSeq<G> genes = MSeq.ofLength(length);
+				for (int i = 0; i < length; ++i) {
+					final var gene = chromosome.get(min(i, chromosome.length() - 1));
+					genes.set(i, reader.read(gene, in));
+				}
+				return chromosome.newInstance(genes.toISeq());
+			}
+		);
+	}
+
+	/**
+	 * Reads a sequence length from the given input and checks it against
+	 * the {@link #MAX_LENGTH} and the number of remaining bytes, before it
+	 * is used for allocating the sequence.
+	 *
+	 * @param in the data input
+	 * @return the read length
+	 * @throws StreamCorruptedException if the read length is invalid
+	 * @throws IOException if reading the length fails
+	 */
+	static int readLength(final DataInput in) throws IOException {
+		final int length = readInt(in);
+		final int remaining = in instanceof InputStream stream
+			? stream.available()
+			: MAX_LENGTH;
+
+		if (length < 0 || length > min(remaining, MAX_LENGTH)) {
+			throw new StreamCorruptedException(
+				"Invalid sequence length: " + length
+			);
+		}
+		return length;
+	}
+
+	/**
+	 * Reads a byte array, whose length is checked with
+	 * {@link #readLength(DataInput)}.
+	 *
+	 * @param in the data input
+	 * @return the read bytes
+	 * @throws IOException if reading the bytes fails
+	 */
+	static byte[] readBytes(final DataInput in) throws IOException {
+		final byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+}
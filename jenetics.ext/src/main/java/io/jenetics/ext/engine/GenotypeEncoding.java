@@ -0,0 +1,235 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.ext.engine.ChromosomeEncoding.readBytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.BitSet;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongGene;
+
+/**
+ * Binary encoding of genotypes, which are exchanged between the islands of
+ * different processes. The gene specific encodings only write the allele
+ * values of the genes. All other gene properties, like the valid ranges,
+ * are taken from the given genotype {@code template}, which must have the
+ * same number of chromosomes as the encoded genotypes.
+ *
+ * <pre>{@code
+ * final Genotype<DoubleGene> template = problem.codec().encoding().newInstance();
+ * final GenotypeEncoding<DoubleGene> encoding = GenotypeEncoding.ofDouble(template);
+ * }</pre>
+ *
+ * @see MigrationTransport
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public interface GenotypeEncoding<G extends Gene<?, G>> {
+
+	/**
+	 * Writes the given {@code genotype} to the given data output.
+	 *
+	 * @param genotype the genotype to write
+	 * @param out the data output
+	 * @throws IOException if writing the genotype fails
+	 */
+	void write(final Genotype<G> genotype, final DataOutput out)
+		throws IOException;
+
+	/**
+	 * Reads a genotype from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the read genotype
+	 * @throws IOException if reading the genotype fails
+	 */
+	Genotype<G> read(final DataInput in) throws IOException;
+
+
+	/**
+	 * Return an encoding for {@link DoubleGene} genotypes, which writes the
+	 * allele values as 8 byte IEEE 754 values.
+	 *
+	 * @param template the genotype template
+	 * @return a new double gene encoding
+	 * @throws NullPointerException if the {@code template} is {@code null}
+	 */
+	static GenotypeEncoding<DoubleGene>
+	ofDouble(final Genotype<DoubleGene> template) {
+		return ChromosomeEncoding.ofGenes(
+			template,
+			(gene, out) -> out.writeDouble(gene.doubleValue()),
+			(gene, in) -> gene.newInstance(in.readDouble())
+		);
+	}
+
+	/**
+	 * Return an encoding for {@link IntegerGene} genotypes, which writes the
+	 * allele values with a variable length encoding.
+	 *
+	 * @param template the genotype template
+	 * @return a new integer gene encoding
+	 * @throws NullPointerException if the {@code template} is {@code null}
+	 */
+	static GenotypeEncoding<IntegerGene>
+	ofInteger(final Genotype<IntegerGene> template) {
+		return ChromosomeEncoding.ofGenes(
+			template,
+			(gene, out) -> writeInt(gene.intValue(), out),
+			(gene, in) -> gene.newInstance(readInt(in))
+		);
+	}
+
+	/**
+	 * Return an encoding for {@link LongGene} genotypes, which writes the
+	 * allele values with a variable length encoding.
+	 *
+	 * @param template the genotype template
+	 * @return a new long gene encoding
+	 * @throws NullPointerException if the {@code template} is {@code null}
+	 */
+	static GenotypeEncoding<LongGene>
+	ofLong(final Genotype<LongGene> template) {
+		return ChromosomeEncoding.ofGenes(
+			template,
+			(gene, out) -> writeLong(gene.longValue(), out),
+			(gene, in) -> gene.newInstance(readLong(in))
+		);
+	}
+
+	/**
+	 * Return an encoding for {@link EnumGene} genotypes, which writes the
+	 * allele indexes with a variable length encoding. This encoding can
+	 * also be used for permutation genotypes.
+	 *
+	 * @param template the genotype template
+	 * @param <A> the allele type
+	 * @return a new enum gene encoding
+	 * @throws NullPointerException if the {@code template} is {@code null}
+	 */
+	static <A> GenotypeEncoding<EnumGene<A>>
+	ofEnum(final Genotype<EnumGene<A>> template) {
+		return ChromosomeEncoding.ofGenes(
+			template,
+			(gene, out) -> writeInt(gene.alleleIndex(), out),
+			(gene, in) -> {
+				final int index = readInt(in);
+				if (index < 0 || index >= gene.validAlleles().length()) {
+					throw new InvalidObjectException("Invalid allele index: " + index);
+				}
+				return EnumGene.of(index, gene.validAlleles());
+			}
+		);
+	}
+
+	/**
+	 * Return an encoding for {@link BitGene} genotypes, which writes the
+	 * bits of every chromosome as packed byte array.
+	 *
+	 * @param template the genotype template
+	 * @return a new bit gene encoding
+	 * @throws NullPointerException if the {@code template} is {@code null}
+	 */
+	static GenotypeEncoding<BitGene>
+	ofBit(final Genotype<BitGene> template) {
+		return new ChromosomeEncoding<>(
+			template,
+			(chromosome, out) -> {
+				writeInt(chromosome.length(), out);
+				writeBytes(
+					chromosome.as(BitChromosome.class).toBitSet().toByteArray(),
+					out
+				);
+			},
+			(chromosome, in) -> {
+				final int length = readInt(in);
+				if (length != chromosome.length()) {
+					throw new InvalidObjectException(
+						"Invalid chromosome length: " + length
+					);
+				}
+				return BitChromosome.of(
+					BitSet.valueOf(readBytes(in)),
+					length,
+					chromosome.as(BitChromosome.class).oneProbability()
+				);
+			}
+		);
+	}
+
+	/**
+	 * Return an encoding, which uses the Java serialization for writing the
+	 * genotypes. This encoding works for every serializable gene type, but
+	 * is less compact than the gene specific encodings.
+	 *
+	 * @param <G> the gene type
+	 * @return a new serialization based encoding
+	 */
+	static <G extends Gene<?, G>> GenotypeEncoding<G> serialized() {
+		return new GenotypeEncoding<>() {
+			@Override
+			public void write(final Genotype<G> genotype, final DataOutput out)
+				throws IOException
+			{
+				final var bytes = new ByteArrayOutputStream();
+				try (var oout = new ObjectOutputStream(bytes)) {
+					oout.writeObject(genotype);
+				}
+				writeBytes(bytes.toByteArray(), out);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Genotype<G> read(final DataInput in) throws IOException {
+				final var bytes = new ByteArrayInputStream(readBytes(in));
+				try (var oin = new ObjectInputStream(bytes)) {
+					return (Genotype<G>)oin.readObject();
+				} catch (ClassNotFoundException | ClassCastException e) {
+					throw new InvalidObjectException(e.getMessage());
+				}
+			}
+		};
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Transport implementation, which exchanges the migrants via shared,
+ * in-memory queues.
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class InMemoryTransport<G extends Gene<?, G>>
+	implements MigrationTransport<G>
+{
+
+	private final int _node;
+	private final List<Queue<Genotype<G>>> _inboxes;
+	private final IslandEngine.Topology _topology;
+
+	private volatile boolean _closed = false;
+
+	private InMemoryTransport(
+		final int node,
+		final List<Queue<Genotype<G>>> inboxes,
+		final IslandEngine.Topology topology
+	) {
+		_node = node;
+		_inboxes = inboxes;
+		_topology = topology;
+	}
+
+	@Override
+	public void send(final Seq<Genotype<G>> migrants) {
+		requireNonNull(migrants);
+		if (_closed) {
+			return;
+		}
+
+		for (int target : _topology.targets(_node, _inboxes.size())) {
+			migrants.forEach(_inboxes.get(target)::add);
+		}
+	}
+
+	@Override
+	public ISeq<Genotype<G>> receive() {
+		final Queue<Genotype<G>> inbox = _inboxes.get(_node);
+		final MSeq<Genotype<G>> migrants = MSeq.ofLength(inbox.size());
+
+		int count = 0;
+		Genotype<G> migrant;
+		while (count < migrants.length() && (migrant = inbox.poll()) != null) {
+			migrants.set(count++, migrant);
+		}
+		return migrants.subSeq(0, count).toISeq();
+	}
+
+	@Override
+	public void close() {
+		_closed = true;
+		_inboxes.get(_node).clear();
+	}
+
+	static <G extends Gene<?, G>> List<MigrationTransport<G>>
+	of(final int nodes, final IslandEngine.Topology topology) {
+		requireNonNull(topology);
+		if (nodes < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of nodes must be greater than zero: %d", nodes
+			));
+		}
+
+		final List<Queue<Genotype<G>>> inboxes = IntStream.range(0, nodes)
+			.<Queue<Genotype<G>>>mapToObj(i -> new ConcurrentLinkedQueue<>())
+			.toList();
+
+		return IntStream.range(0, nodes)
+			.<MigrationTransport<G>>mapToObj(i ->
+				new InMemoryTransport<>(i, inboxes, topology))
+			.toList();
+	}
+
+}
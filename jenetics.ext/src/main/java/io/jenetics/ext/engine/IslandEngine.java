@@ -0,0 +1,539 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.math.Subset;
+import io.jenetics.internal.util.PartialSorter;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * The {@code IslandEngine} evolves several sub-populations, the
+ * <em>islands</em>, concurrently and exchanges individuals between them.
+ * Every island is evolved by its own {@link Engine}, which allows different
+ * configurations for the single islands. The islands are evolved
+ * concurrently, one generation at a time, with the given {@link Executor}.
+ * Every {@link Migration#interval()} generations, the best individuals of
+ * every island migrate to the neighbour islands, defined by the
+ * {@link Topology} of the islands.
+ *
+ * <pre>{@code
+ *  final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *      .populationSize(100)
+ *      .build();
+ *
+ *  final Genotype<DoubleGene> result = IslandEngine
+ *      .of(
+ *          Migration.of(Topology.RING, 10, 2),
+ *          engine, engine, engine, engine
+ *      )
+ *      .stream()
+ *      .limit(Limits.bySteadyFitness(50))
+ *      .collect(EvolutionResult.toBestGenotype());
+ * }</pre>
+ *
+ * The {@link EvolutionResult} of every generation contains the merged
+ * population of all islands, in island order. The counts of the result are
+ * the sums of the island counts, and the durations the summed durations of
+ * the islands. Since the island populations are restored from the merged
+ * population, the island engine can be combined with the other engines of
+ * this package, like every other evolution {@link Engine}.
+ *
+ * @see ConcatEngine
+ * @see CyclicEngine
+ * @see MigrationInterceptor
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	/**
+	 * Defines the migration routes between the islands.
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 7.1
+	 * @since 7.1
+	 */
+	@FunctionalInterface
+	public interface Topology {
+
+		/**
+		 * Every island sends its emigrants to the next island. The last
+		 * island sends its emigrants to the first one.
+		 */
+		Topology RING = (island, islands) -> islands > 1
+			? new int[]{(island + 1)%islands}
+			: new int[0];
+
+		/**
+		 * Every island sends its emigrants to all other islands.
+		 */
+		Topology FULLY_CONNECTED = (island, islands) -> IntStream
+			.range(0, islands)
+			.filter(i -> i != island)
+			.toArray();
+
+		/**
+		 * Return the indexes of the islands, the given {@code island} sends
+		 * its emigrants to.
+		 *
+		 * @param island the index of the emigrating island
+		 * @param islands the number of islands
+		 * @return the indexes of the target islands
+		 */
+		int[] targets(final int island, final int islands);
+
+		/**
+		 * Return a topology, where every island sends its emigrants to
+		 * {@code degree} randomly chosen other islands. The targets are
+		 * chosen anew for every migration.
+		 *
+		 * @param degree the number of target islands
+		 * @return a new random topology
+		 * @throws IllegalArgumentException if the {@code degree} is smaller
+		 *         than one
+		 */
+		static Topology random(final int degree) {
+			if (degree < 1) {
+				throw new IllegalArgumentException(format(
+					"Degree must be greater than zero: %d", degree
+				));
+			}
+
+			return (island, islands) -> {
+				final RandomGenerator random = RandomRegistry.random();
+				final int[] others = FULLY_CONNECTED.targets(island, islands);
+				final int count = Math.min(degree, others.length);
+
+				// Partial Fisher-Yates shuffle of the other islands.
+				for (int i = 0; i < count; ++i) {
+					final int j = i + random.nextInt(others.length - i);
+					final int temp = others[i];
+					others[i] = others[j];
+					others[j] = temp;
+				}
+				final int[] targets = new int[count];
+				System.arraycopy(others, 0, targets, 0, count);
+				return targets;
+			};
+		}
+
+	}
+
+	/**
+	 * Defines which residents of an island are replaced by the immigrants.
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 7.1
+	 * @since 7.1
+	 */
+	public enum Replacement {
+
+		/**
+		 * The immigrants replace the worst residents of the island.
+		 */
+		WORST,
+
+		/**
+		 * The immigrants replace randomly chosen residents of the island.
+		 */
+		RANDOM
+
+	}
+
+	/**
+	 * The migration parameters of the island engine.
+	 *
+	 * @param topology the migration routes between the islands
+	 * @param interval the number of generations between two migrations
+	 * @param size the number of emigrants of every island
+	 * @param selector the selector, which selects the emigrants of an island
+	 * @param replacement the residents, which are replaced by the immigrants
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 7.1
+	 * @since 7.1
+	 */
+	public record Migration<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>(
+		Topology topology,
+		int interval,
+		int size,
+		Selector<G, C> selector,
+		Replacement replacement
+	) {
+
+		/**
+		 * Create a new migration parameter object.
+		 *
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 * @throws IllegalArgumentException if the {@code interval} or the
+		 *         {@code size} is smaller than one
+		 */
+		public Migration {
+			requireNonNull(topology);
+			requireNonNull(selector);
+			requireNonNull(replacement);
+			if (interval < 1) {
+				throw new IllegalArgumentException(format(
+					"Migration interval must be greater than zero: %d",
+					interval
+				));
+			}
+			if (size < 1) {
+				throw new IllegalArgumentException(format(
+					"Migration size must be greater than zero: %d", size
+				));
+			}
+		}
+
+		/**
+		 * Create a new migration parameter object, where the {@code size}
+		 * best individuals of an island replace the worst individuals of the
+		 * target islands.
+		 *
+		 * @param topology the migration routes between the islands
+		 * @param interval the number of generations between two migrations
+		 * @param size the number of emigrants of every island
+		 * @param <G> the gene type
+		 * @param <C> the fitness type
+		 * @return a new migration parameter object
+		 * @throws NullPointerException if the {@code topology} is {@code null}
+		 * @throws IllegalArgumentException if the {@code interval} or the
+		 *         {@code size} is smaller than one
+		 */
+		public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Migration<G, C> of(
+			final Topology topology,
+			final int interval,
+			final int size
+		) {
+			return new Migration<G, C>(
+				topology,
+				interval,
+				size,
+				new TruncationSelector<G, C>(),
+				Replacement.WORST
+			);
+		}
+
+		/**
+		 * Selects the emigrants of the given population.
+		 *
+		 * @param population the island population
+		 * @param optimize the optimization strategy
+		 * @return the selected emigrants
+		 */
+		ISeq<Phenotype<G, C>> emigrants(
+			final Seq<Phenotype<G, C>> population,
+			final Optimize optimize
+		) {
+			return selector.select(
+				population,
+				Math.min(size, population.size()),
+				optimize
+			);
+		}
+
+		/**
+		 * Replaces residents of the given population by the given
+		 * immigrants. If there are more immigrants than residents, the
+		 * remaining immigrants are dropped.
+		 *
+		 * @param population the evaluated island population
+		 * @param immigrants the immigrants
+		 * @param optimize the optimization strategy
+		 * @return the new island population
+		 */
+		ISeq<Phenotype<G, C>> immigrate(
+			final ISeq<Phenotype<G, C>> population,
+			final Seq<Phenotype<G, C>> immigrants,
+			final Optimize optimize
+		) {
+			final int count = Math.min(immigrants.size(), population.size());
+			if (count == 0) {
+				return population;
+			}
+
+			final int[] indexes = switch (replacement) {
+				case WORST -> PartialSorter.sort(
+					population,
+					population.size(),
+					count,
+					(p, i, j) -> optimize.<C>ascending()
+						.compare(p.get(i).fitness(), p.get(j).fitness())
+				);
+				case RANDOM -> Subset.next(
+					population.size(),
+					count,
+					RandomRegistry.random()
+				);
+			};
+
+			final MSeq<Phenotype<G, C>> result = population.copy();
+			for (int i = 0; i < count; ++i) {
+				result.set(indexes[i], immigrants.get(i));
+			}
+			return result.toISeq();
+		}
+
+	}
+
+	private final List<Engine<G, C>> _islands;
+	private final Migration<G, C> _migration;
+	private final Executor _executor;
+	private final Optimize _optimize;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param islands the engines of the islands
+	 * @param migration the migration parameters
+	 * @param executor the executor used for evolving the islands concurrently
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty or
+	 *         not all islands have the same optimization strategy
+	 */
+	public IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final Migration<G, C> migration,
+		final Executor executor
+	) {
+		islands.forEach(Objects::requireNonNull);
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("No islands given.");
+		}
+
+		_islands = List.copyOf(islands);
+		_migration = requireNonNull(migration);
+		_executor = requireNonNull(executor);
+		_optimize = _islands.get(0).optimize();
+
+		if (!_islands.stream().allMatch(i -> i.optimize() == _optimize)) {
+			throw new IllegalArgumentException(
+				"All islands must have the same optimization strategy."
+			);
+		}
+	}
+
+	/**
+	 * Return the number of islands.
+	 *
+	 * @return the number of islands
+	 */
+	public int islands() {
+		return _islands.size();
+	}
+
+	/**
+	 * Return the migration parameters of this island engine.
+	 *
+	 * @return the migration parameters
+	 */
+	public Migration<G, C> migration() {
+		return _migration;
+	}
+
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final long generation = start.generation();
+		final List<ISeq<Phenotype<G, C>>> populations = split(start.population());
+
+		final List<EvolutionResult<G, C>> results = parallel(i ->
+			_islands.get(i).evolve(EvolutionStart.of(populations.get(i), generation))
+		);
+
+		List<ISeq<Phenotype<G, C>>> islands = results.stream()
+			.map(EvolutionResult::population)
+			.toList();
+		if (_islands.size() > 1 && generation%_migration.interval() == 0) {
+			islands = migrate(islands);
+		}
+
+		return EvolutionResult.of(
+			_optimize,
+			islands.stream()
+				.flatMap(ISeq::stream)
+				.collect(ISeq.toISeq()),
+			generation,
+			generation,
+			results.stream()
+				.map(EvolutionResult::durations)
+				.reduce(EvolutionDurations.ZERO, EvolutionDurations::plus),
+			results.stream().mapToInt(EvolutionResult::killCount).sum(),
+			results.stream().mapToInt(EvolutionResult::invalidCount).sum(),
+			results.stream().mapToInt(EvolutionResult::alterCount).sum(),
+			results.stream().mapToInt(EvolutionResult::timeoutCount).sum()
+		);
+	}
+
+	// Splits the merged population into the island populations. A population
+	// with foreign size is distributed round-robin.
+	private List<ISeq<Phenotype<G, C>>>
+	split(final ISeq<Phenotype<G, C>> population) {
+		final int islands = _islands.size();
+		final List<ISeq<Phenotype<G, C>>> populations = new ArrayList<>(islands);
+
+		final int size = _islands.stream().mapToInt(Engine::populationSize).sum();
+		if (population.size() == size) {
+			int start = 0;
+			for (var island : _islands) {
+				final int end = start + island.populationSize();
+				populations.add(population.subSeq(start, end));
+				start = end;
+			}
+		} else {
+			for (int i = 0; i < islands; ++i) {
+				final MSeq<Phenotype<G, C>> pop =
+					MSeq.ofLength((population.size() - i + islands - 1)/islands);
+				for (int j = 0; j < pop.length(); ++j) {
+					pop.set(j, population.get(i + j*islands));
+				}
+				populations.add(pop.toISeq());
+			}
+		}
+
+		return populations;
+	}
+
+	private List<ISeq<Phenotype<G, C>>>
+	migrate(final List<ISeq<Phenotype<G, C>>> islands) {
+		final List<ISeq<Phenotype<G, C>>> emigrants = parallel(i ->
+			_migration.emigrants(islands.get(i), _optimize)
+		);
+
+		// The inboxes are filled in island order, which makes the order of
+		// the immigrants, and the dropped ones, independent of the thread
+		// timing.
+		final List<List<Phenotype<G, C>>> inboxes = islands.stream()
+			.<List<Phenotype<G, C>>>map(island -> new ArrayList<>())
+			.toList();
+		for (int i = 0; i < islands.size(); ++i) {
+			for (int target : _migration.topology().targets(i, islands.size())) {
+				inboxes.get(target).addAll(emigrants.get(i).asList());
+			}
+		}
+
+		return parallel(i -> _migration.immigrate(
+			islands.get(i),
+			ISeq.of(inboxes.get(i)),
+			_optimize
+		));
+	}
+
+	// Applies the given function to every island concurrently.
+	private <T> List<T> parallel(final IntFunction<? extends T> function) {
+		final List<CompletableFuture<T>> futures = IntStream
+			.range(0, _islands.size())
+			.mapToObj(i -> CompletableFuture.<T>supplyAsync(
+				() -> function.apply(i),
+				_executor
+			))
+			.toList();
+
+		return futures.stream()
+			.map(CompletableFuture::join)
+			.toList();
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return EvolutionStream.ofEvolution(start, this);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(() -> EvolutionStart.of(
+			init.population().map(gt -> Phenotype.of(gt, init.generation())),
+			init.generation()
+		));
+	}
+
+	/**
+	 * Create a new island engine with the given {@code islands}, which are
+	 * evolved concurrently with the common {@link ForkJoinPool}.
+	 *
+	 * @param migration the migration parameters
+	 * @param islands the engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty or
+	 *         not all islands have the same optimization strategy
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(
+		final Migration<G, C> migration,
+		final Engine<G, C>... islands
+	) {
+		return new IslandEngine<>(
+			List.of(islands),
+			migration,
+			ForkJoinPool.commonPool()
+		);
+	}
+
+}
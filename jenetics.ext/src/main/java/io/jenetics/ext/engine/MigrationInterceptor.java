@@ -0,0 +1,146 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+
+/**
+ * Evolution interceptor, which lets an engine take part in the island model
+ * via the given {@link MigrationTransport}. Every
+ * {@link IslandEngine.Migration#interval()} generations, the emigrants of the
+ * evolved population are sent to the peers of the transport. The received
+ * immigrants are integrated into the population before the next evolution
+ * step and are evaluated by the intercepted engine.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .interceptor(new MigrationInterceptor<>(transport, migration))
+ *     .build();
+ * }</pre>
+ *
+ * The {@link IslandEngine.Migration#topology()} is not used by this
+ * interceptor, since the migration routes are defined by the transport.
+ *
+ * @see IslandEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class MigrationInterceptor<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>
+{
+
+	private final MigrationTransport<G> _transport;
+	private final IslandEngine.Migration<G, C> _migration;
+
+	private volatile Optimize _optimize;
+
+	/**
+	 * Create a new migration interceptor.
+	 *
+	 * @param transport the transport, used for exchanging the migrants
+	 * @param migration the migration parameters
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public MigrationInterceptor(
+		final MigrationTransport<G> transport,
+		final IslandEngine.Migration<G, C> migration
+	) {
+		_transport = requireNonNull(transport);
+		_migration = requireNonNull(migration);
+	}
+
+	/**
+	 * Return the migration transport of this interceptor.
+	 *
+	 * @return the migration transport
+	 */
+	public MigrationTransport<G> transport() {
+		return _transport;
+	}
+
+	/**
+	 * Return the migration parameters of this interceptor.
+	 *
+	 * @return the migration parameters
+	 */
+	public IslandEngine.Migration<G, C> migration() {
+		return _migration;
+	}
+
+	@Override
+	public EvolutionStart<G, C> before(final EvolutionStart<G, C> start) {
+		final Optimize optimize = _optimize;
+		final ISeq<Phenotype<G, C>> population = start.population();
+
+		// The immigrants can't replace residents with unknown fitness.
+		if (optimize == null ||
+			population.isEmpty() ||
+			!population.forAll(Phenotype::isEvaluated))
+		{
+			return start;
+		}
+
+		final ISeq<Genotype<G>> migrants = _transport.receive();
+		if (migrants.isEmpty()) {
+			return start;
+		}
+
+		final ISeq<Phenotype<G, C>> immigrants = migrants
+			.map(gt -> Phenotype.<G, C>of(gt, start.generation()));
+
+		return EvolutionStart.of(
+			_migration.immigrate(population, immigrants, optimize),
+			start.generation()
+		);
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		_optimize = result.optimize();
+
+		if (result.generation()%_migration.interval() == 0) {
+			final ISeq<Genotype<G>> emigrants = _migration
+				.emigrants(result.population(), result.optimize())
+				.map(Phenotype::genotype);
+
+			_transport.send(emigrants);
+		}
+
+		return result;
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.Closeable;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Transport layer for exchanging migrants between islands, which may run in
+ * different processes. A transport instance represents <em>one</em> island
+ * node and defines, to which other nodes the migrants are sent. Only the
+ * genotypes of the migrants are transferred, the receiving island evaluates
+ * the immigrants with its own fitness function.
+ * <p>
+ * The migration is <em>best effort</em>. Migrants which can't be delivered,
+ * e.g. because the target node is not reachable, may be dropped by the
+ * transport implementation without affecting the evolution of the sending
+ * island.
+ *
+ * <pre>{@code
+ * final MigrationTransport<DoubleGene> transport = SocketTransport
+ *     .open(new InetSocketAddress("localhost", 5001), encoding);
+ * transport.addPeer(new InetSocketAddress("localhost", 5002));
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .interceptor(new MigrationInterceptor<>(transport, migration))
+ *     .build();
+ * }</pre>
+ *
+ * @see MigrationInterceptor
+ * @see SocketTransport
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public interface MigrationTransport<G extends Gene<?, G>> extends Closeable {
+
+	/**
+	 * Sends the given {@code migrants} to the target nodes of this transport.
+	 * This method doesn't wait until the migrants have been received.
+	 *
+	 * @param migrants the migrants to send
+	 * @throws NullPointerException if the given {@code migrants} are
+	 *         {@code null}
+	 */
+	void send(final Seq<Genotype<G>> migrants);
+
+	/**
+	 * Return the migrants, which have been received since the last call of
+	 * this method. This method doesn't block and returns an empty sequence
+	 * if no migrants are available.
+	 *
+	 * @return the received migrants
+	 */
+	ISeq<Genotype<G>> receive();
+
+	/**
+	 * Closes this transport and releases all its resources. Migrants which
+	 * haven't been sent yet are dropped.
+	 */
+	@Override
+	void close();
+
+
+	/**
+	 * Return {@code nodes} connected in-memory transports, where the
+	 * migrants are routed according the given {@code topology}. The
+	 * in-memory transports can be used for running the islands within the
+	 * same process or as a replacement of a network transport in tests.
+	 *
+	 * @param nodes the number of island nodes
+	 * @param topology the migration topology
+	 * @param <G> the gene type
+	 * @return the transports of the island nodes
+	 * @throws IllegalArgumentException if {@code nodes} is smaller than one
+	 * @throws NullPointerException if the {@code topology} is {@code null}
+	 */
+	static <G extends Gene<?, G>> List<MigrationTransport<G>>
+	inMemory(final int nodes, final IslandEngine.Topology topology) {
+		return InMemoryTransport.of(nodes, topology);
+	}
+
+}
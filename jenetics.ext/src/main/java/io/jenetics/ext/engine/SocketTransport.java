@@ -0,0 +1,526 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Migration transport, which exchanges the migrants via TCP sockets. Every
+ * transport listens on its own address for incoming migrants and sends its
+ * emigrants to all registered peers. This allows running the islands in
+ * different processes, on the same or on different hosts.
+ *
+ * <pre>{@code
+ * final var encoding = GenotypeEncoding.ofDouble(template);
+ * final var transport = SocketTransport.open(
+ *     new InetSocketAddress("localhost", 5001),
+ *     encoding
+ * );
+ * transport.addPeer(new InetSocketAddress("localhost", 5002));
+ * }</pre>
+ *
+ * The emigrants of one {@link #send(Seq)} call are encoded once and sent as
+ * one frame, consisting of the frame size followed by the encoded genotypes.
+ * If a peer isn't reachable, or doesn't read its data, the frames are kept
+ * and sent later. At most {@link #MAX_PENDING_FRAMES} are kept per peer;
+ * older frames are dropped. The pending frames are flushed on every call of
+ * {@link #send(Seq)} and {@link #receive()}. Frames, which are sent shortly
+ * before a peer goes down, may get lost.
+ *
+ * @implNote
+ * All connections are used in non-blocking mode, so neither
+ * {@link #send(Seq)} nor {@link #receive()} ever waits for the network. A
+ * dead or stalled peer therefore doesn't stall the evolution. Failed
+ * connection attempts are retried with an exponential back-off, between
+ * 50 ms and 5 s.
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class SocketTransport<G extends Gene<?, G>>
+	implements MigrationTransport<G>
+{
+
+	/**
+	 * The maximal size of one migration frame in bytes.
+	 */
+	public static final int MAX_FRAME_SIZE = 16*1024*1024;
+
+	/**
+	 * The maximal number of frames, which are kept for an unreachable peer.
+	 */
+	public static final int MAX_PENDING_FRAMES = 32;
+
+	private static final long MIN_RECONNECT_DELAY = 50_000_000L;
+	private static final long MAX_RECONNECT_DELAY = 5_000_000_000L;
+
+	private final ServerSocketChannel _server;
+	private final Selector _selector;
+	private final InetSocketAddress _address;
+	private final GenotypeEncoding<G> _encoding;
+	private final List<Peer> _peers = new ArrayList<>();
+
+	private boolean _closed = false;
+
+	private SocketTransport(
+		final ServerSocketChannel server,
+		final Selector selector,
+		final GenotypeEncoding<G> encoding
+	)
+		throws IOException
+	{
+		_server = server;
+		_selector = selector;
+		_address = (InetSocketAddress)server.getLocalAddress();
+		_encoding = encoding;
+	}
+
+	/**
+	 * Return the address, this transport is listening on for incoming
+	 * migrants.
+	 *
+	 * @return the listening address
+	 */
+	public InetSocketAddress address() {
+		return _address;
+	}
+
+	/**
+	 * Adds a peer, the emigrants are sent to. The connection to the peer is
+	 * established lazily.
+	 *
+	 * @param address the listening address of the peer transport
+	 * @throws NullPointerException if the given {@code address} is
+	 *         {@code null}
+	 */
+	public synchronized void addPeer(final InetSocketAddress address) {
+		_peers.add(new Peer(requireNonNull(address)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException if the encoded {@code migrants} exceed
+	 *         the {@link #MAX_FRAME_SIZE}
+	 * @throws UncheckedIOException if encoding the migrants fails
+	 */
+	@Override
+	public synchronized void send(final Seq<Genotype<G>> migrants) {
+		requireNonNull(migrants);
+		if (_closed) {
+			return;
+		}
+
+		if (!migrants.isEmpty()) {
+			final ByteBuffer frame = encode(migrants);
+			for (var peer : _peers) {
+				peer.enqueue(frame.duplicate());
+			}
+		}
+		flush();
+	}
+
+	private ByteBuffer encode(final Seq<Genotype<G>> migrants) {
+		final var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			writeInt(migrants.length(), out);
+			for (var genotype : migrants) {
+				_encoding.write(genotype, out);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		final int size = bytes.size();
+		if (size > MAX_FRAME_SIZE) {
+			throw new IllegalArgumentException(format(
+				"Frame size exceeds the maximal size of %d bytes: %d",
+				MAX_FRAME_SIZE, size
+			));
+		}
+
+		return ByteBuffer.allocate(Integer.BYTES + size)
+			.putInt(size)
+			.put(bytes.toByteArray())
+			.flip();
+	}
+
+	private void flush() {
+		final long now = System.nanoTime();
+		for (var peer : _peers) {
+			peer.flush(now);
+		}
+	}
+
+	@Override
+	public synchronized ISeq<Genotype<G>> receive() {
+		if (_closed) {
+			return ISeq.empty();
+		}
+
+		flush();
+
+		final List<Genotype<G>> migrants = new ArrayList<>();
+		try {
+			while (_selector.selectNow() > 0) {
+				final Iterator<SelectionKey> keys =
+					_selector.selectedKeys().iterator();
+
+				while (keys.hasNext()) {
+					final SelectionKey key = keys.next();
+					keys.remove();
+
+					if (key.isValid() && key.isAcceptable()) {
+						accept();
+					} else if (key.isValid() && key.isReadable()) {
+						read(key, migrants);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return ISeq.of(migrants);
+	}
+
+	private void accept() throws IOException {
+		final SocketChannel channel = _server.accept();
+		if (channel != null) {
+			channel.configureBlocking(false);
+			channel.register(_selector, SelectionKey.OP_READ, new Inbound());
+		}
+	}
+
+	private void read(final SelectionKey key, final List<Genotype<G>> migrants) {
+		final var channel = (SocketChannel)key.channel();
+		final var inbound = (Inbound)key.attachment();
+
+		try {
+			final List<byte[]> frames = new ArrayList<>();
+			final boolean open = inbound.read(channel, frames);
+			for (var frame : frames) {
+				decode(frame).forEach(migrants::add);
+			}
+			if (!open) {
+				close(key);
+			}
+		} catch (IOException | RuntimeException e) {
+			// Closing broken or corrupted connections. The peer reconnects.
+			close(key);
+		}
+	}
+
+	private static void close(final SelectionKey key) {
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException ignore) {
+		}
+	}
+
+	private ISeq<Genotype<G>> decode(final byte[] frame) throws IOException {
+		final var in = new DataInputStream(new ByteArrayInputStream(frame));
+
+		final int count = readInt(in);
+		if (count < 0 || count > frame.length) {
+			throw new StreamCorruptedException("Invalid migrant count: " + count);
+		}
+
+		final List<Genotype<G>> migrants = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			migrants.add(_encoding.read(in));
+		}
+		return ISeq.of(migrants);
+	}
+
+	@Override
+	public synchronized void close() {
+		if (_closed) {
+			return;
+		}
+		_closed = true;
+
+		for (var peer : _peers) {
+			peer.disconnect();
+		}
+		for (var key : _selector.keys()) {
+			close(key);
+		}
+		try {
+			try {
+				_selector.close();
+			} finally {
+				_server.close();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("SocketTransport[address=%s, peers=%d]", _address, _peers.size());
+	}
+
+	/**
+	 * Opens a new socket transport, which listens on the given {@code bind}
+	 * address for incoming migrants. Use port {@code 0} for letting the
+	 * system choose a free port.
+	 *
+	 * @param bind the listening address of the transport
+	 * @param encoding the genotype encoding
+	 * @param <G> the gene type
+	 * @return a new socket transport
+	 * @throws IOException if the listening socket can't be opened
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>> SocketTransport<G> open(
+		final InetSocketAddress bind,
+		final GenotypeEncoding<G> encoding
+	)
+		throws IOException
+	{
+		requireNonNull(bind);
+		requireNonNull(encoding);
+
+		final ServerSocketChannel server = ServerSocketChannel.open();
+		try {
+			server.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+			server.bind(bind);
+			server.configureBlocking(false);
+
+			final Selector selector = Selector.open();
+			server.register(selector, SelectionKey.OP_ACCEPT);
+			return new SocketTransport<>(server, selector, encoding);
+		} catch (IOException | RuntimeException e) {
+			server.close();
+			throw e;
+		}
+	}
+
+	/* *************************************************************************
+	 * Helper classes.
+	 * ************************************************************************/
+
+	/**
+	 * Outgoing, non-blocking connection to a peer transport, with the frames
+	 * which haven't been sent yet.
+	 */
+	private static final class Peer {
+		private final InetSocketAddress _address;
+		private final Deque<ByteBuffer> _pending = new ArrayDeque<>();
+
+		private SocketChannel _channel;
+		private boolean _connected = false;
+		private long _delay = MIN_RECONNECT_DELAY;
+		private long _nextConnect = System.nanoTime();
+
+		Peer(final InetSocketAddress address) {
+			_address = address;
+		}
+
+		void enqueue(final ByteBuffer frame) {
+			if (_pending.size() >= MAX_PENDING_FRAMES) {
+				// A partially sent frame must be completed.
+				final ByteBuffer first = _pending.removeFirst();
+				if (first.position() > 0) {
+					_pending.removeFirst();
+					_pending.addFirst(first);
+				}
+			}
+			_pending.addLast(frame);
+		}
+
+		/**
+		 * Sends as many pending frames as possible, without blocking.
+		 *
+		 * @param now the current time in nanoseconds
+		 */
+		void flush(final long now) {
+			if (_pending.isEmpty()) {
+				return;
+			}
+			if (_channel == null && (now - _nextConnect < 0 || !connect(now))) {
+				return;
+			}
+
+			try {
+				if (!_connected) {
+					if (!_channel.finishConnect()) {
+						return;
+					}
+					connected();
+				}
+
+				ByteBuffer frame;
+				while ((frame = _pending.peekFirst()) != null) {
+					_channel.write(frame);
+					if (frame.hasRemaining()) {
+						// Send buffer is full, continue with the next flush.
+						return;
+					}
+					_pending.removeFirst();
+				}
+			} catch (IOException e) {
+				// A broken, established connection is re-opened immediately,
+				// failed connection attempts are retried with a delay.
+				if (_connected) {
+					disconnect();
+					_nextConnect = now;
+				} else {
+					disconnect();
+					backoff(now);
+				}
+			}
+		}
+
+		private boolean connect(final long now) {
+			try {
+				final SocketChannel channel = SocketChannel.open();
+				try {
+					channel.configureBlocking(false);
+					channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+					_channel = channel;
+					if (channel.connect(_address)) {
+						connected();
+					}
+					return true;
+				} catch (IOException e) {
+					_channel = null;
+					channel.close();
+					throw e;
+				}
+			} catch (IOException e) {
+				backoff(now);
+				return false;
+			}
+		}
+
+		private void connected() {
+			_connected = true;
+			_delay = MIN_RECONNECT_DELAY;
+		}
+
+		private void backoff(final long now) {
+			_nextConnect = now + _delay;
+			_delay = Math.min(2*_delay, MAX_RECONNECT_DELAY);
+		}
+
+		void disconnect() {
+			if (_channel != null) {
+				try {
+					_channel.close();
+				} catch (IOException ignore) {
+				} finally {
+					_channel = null;
+					_connected = false;
+				}
+			}
+
+			// The frame is re-sent completely over the next connection.
+			final ByteBuffer frame = _pending.peekFirst();
+			if (frame != null) {
+				frame.rewind();
+			}
+		}
+	}
+
+	/**
+	 * Incoming connection state, which collects the bytes of the currently
+	 * received frame.
+	 */
+	private static final class Inbound {
+		private final ByteBuffer _header = ByteBuffer.allocate(Integer.BYTES);
+		private ByteBuffer _payload;
+
+		/**
+		 * Reads the available bytes from the given channel and adds the
+		 * payload of all completely read frames.
+		 *
+		 * @return {@code false} if the end of the stream has been reached
+		 */
+		boolean read(final SocketChannel channel, final List<byte[]> frames)
+			throws IOException
+		{
+			while (true) {
+				if (_payload == null) {
+					if (channel.read(_header) < 0) {
+						return false;
+					}
+					if (_header.hasRemaining()) {
+						return true;
+					}
+
+					final int size = _header.flip().getInt();
+					if (size < 1 || size > MAX_FRAME_SIZE) {
+						throw new StreamCorruptedException(
+							"Invalid frame size: " + size
+						);
+					}
+					_payload = ByteBuffer.allocate(size);
+				}
+
+				if (channel.read(_payload) < 0) {
+					return false;
+				}
+				if (_payload.hasRemaining()) {
+					return true;
+				}
+
+				frames.add(_payload.array());
+				_header.clear();
+				_payload = null;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.StreamCorruptedException;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GenotypeEncodingTest {
+
+	private static <G extends Gene<?, G>> byte[] write(
+		final GenotypeEncoding<G> encoding,
+		final Genotype<G> genotype
+	)
+		throws IOException
+	{
+		final var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			encoding.write(genotype, out);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static <G extends Gene<?, G>> Genotype<G> read(
+		final GenotypeEncoding<G> encoding,
+		final byte[] bytes
+	)
+		throws IOException
+	{
+		return encoding.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	@Test(dataProvider = "encodings")
+	public <G extends Gene<?, G>> void roundtrip(
+		final GenotypeEncoding<G> encoding,
+		final Genotype<G> template
+	)
+		throws IOException
+	{
+		for (int i = 0; i < 20; ++i) {
+			final Genotype<G> genotype = template.newInstance();
+			final Genotype<G> read = read(encoding, write(encoding, genotype));
+
+			Assert.assertEquals(read, genotype);
+			Assert.assertTrue(read.isValid());
+		}
+	}
+
+	@DataProvider
+	public Object[][] encodings() {
+		final var doubles = Genotype.of(DoubleChromosome.of(-5, 5, 10), 3);
+		final var ints = Genotype.of(
+			IntegerChromosome.of(-1000, 1000, IntRange.of(5, 15)),
+			IntegerChromosome.of(0, 10, 1)
+		);
+		final var longs = Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, 7), 2);
+		final var bits = Genotype.of(
+			BitChromosome.of(13, 0.3),
+			BitChromosome.of(100, 0.9)
+		);
+		final var permutation = Genotype.of(PermutationChromosome.ofInteger(20));
+
+		return new Object[][] {
+			{GenotypeEncoding.ofDouble(doubles), doubles},
+			{GenotypeEncoding.ofInteger(ints), ints},
+			{GenotypeEncoding.ofLong(longs), longs},
+			{GenotypeEncoding.ofBit(bits), bits},
+			{GenotypeEncoding.ofEnum(permutation), permutation},
+			{GenotypeEncoding.serialized(), doubles},
+			{GenotypeEncoding.serialized(), permutation}
+		};
+	}
+
+	@Test
+	public void compactIntegerEncoding() throws IOException {
+		final var genotype = Genotype.of(IntegerChromosome.of(0, 10, 100));
+		final byte[] bytes = write(GenotypeEncoding.ofInteger(genotype), genotype);
+
+		// Chromosome count, chromosome length and one byte per gene.
+		Assert.assertEquals(bytes.length, 1 + 2 + 100);
+	}
+
+	@Test(expectedExceptions = InvalidObjectException.class)
+	public void invalidChromosomeCount() throws IOException {
+		final var doubles = Genotype.of(DoubleChromosome.of(0, 1, 5), 2);
+		final var encoding = GenotypeEncoding.ofDouble(doubles);
+
+		read(encoding, write(encoding, Genotype.of(DoubleChromosome.of(0, 1, 5))));
+	}
+
+	@Test(expectedExceptions = InvalidObjectException.class)
+	public void invalidAlleleIndex() throws IOException {
+		final var small = Genotype.of(PermutationChromosome.ofInteger(5));
+		final var large = Genotype.of(PermutationChromosome.ofInteger(500));
+
+		read(GenotypeEncoding.ofEnum(small), write(GenotypeEncoding.ofEnum(large), large));
+	}
+
+	@Test(
+		dataProvider = "invalidLengths",
+		expectedExceptions = StreamCorruptedException.class
+	)
+	public void invalidChromosomeLength(final int length) throws IOException {
+		final var doubles = Genotype.of(DoubleChromosome.of(0, 1, 5));
+
+		read(GenotypeEncoding.ofDouble(doubles), lengths(1, length));
+	}
+
+	@Test(
+		dataProvider = "invalidLengths",
+		expectedExceptions = StreamCorruptedException.class
+	)
+	public void invalidSerializedLength(final int length) throws IOException {
+		read(GenotypeEncoding.<DoubleGene>serialized(), lengths(length));
+	}
+
+	@DataProvider
+	public Object[][] invalidLengths() {
+		return new Object[][] {
+			{-1},
+			{100},
+			{Integer.MAX_VALUE}
+		};
+	}
+
+	private static byte[] lengths(final int... lengths) throws IOException {
+		final var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			for (int length : lengths) {
+				writeInt(length, out);
+			}
+			out.write(new byte[10]);
+		}
+		return bytes.toByteArray();
+	}
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.Limits;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.engine.IslandEngine.Migration;
+import io.jenetics.ext.engine.IslandEngine.Replacement;
+import io.jenetics.ext.engine.IslandEngine.Topology;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static final Genotype<IntegerGene> GTF =
+		Genotype.of(IntegerChromosome.of(0, 1000));
+
+	private static Engine<IntegerGene, Integer> engine(final int populationSize) {
+		return Engine.builder(gt -> gt.gene().intValue(), GTF)
+			.populationSize(populationSize)
+			.build();
+	}
+
+	// Engine which keeps the best individuals unchanged.
+	private static Engine<IntegerGene, Integer> elitist(final int populationSize) {
+		return Engine.builder(gt -> gt.gene().intValue(), GTF)
+			.populationSize(populationSize)
+			.selector(new TruncationSelector<>())
+			.alterers(new Mutator<>(0))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	private static Phenotype<IntegerGene, Integer> phenotype(final int value) {
+		return Phenotype.of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 1000))),
+			1
+		);
+	}
+
+	@Test(dataProvider = "invalidMigrations", expectedExceptions = IllegalArgumentException.class)
+	public void invalidMigration(final int interval, final int size) {
+		Migration.of(Topology.RING, interval, size);
+	}
+
+	@DataProvider
+	public Object[][] invalidMigrations() {
+		return new Object[][] {
+			{0, 1},
+			{1, 0},
+			{-1, 5}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noIslands() {
+		new IslandEngine<IntegerGene, Integer>(
+			List.of(),
+			Migration.of(Topology.RING, 1, 1),
+			Runnable::run
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimize() {
+		IslandEngine.of(
+			Migration.of(Topology.RING, 1, 1),
+			engine(10),
+			Engine.builder(gt -> gt.gene().intValue(), GTF)
+				.minimizing()
+				.build()
+		);
+	}
+
+	@Test
+	public void ringTopology() {
+		Assert.assertEquals(Topology.RING.targets(0, 1), new int[0]);
+		Assert.assertEquals(Topology.RING.targets(0, 3), new int[]{1});
+		Assert.assertEquals(Topology.RING.targets(2, 3), new int[]{0});
+	}
+
+	@Test
+	public void fullyConnectedTopology() {
+		Assert.assertEquals(Topology.FULLY_CONNECTED.targets(0, 1), new int[0]);
+		Assert.assertEquals(Topology.FULLY_CONNECTED.targets(1, 4), new int[]{0, 2, 3});
+	}
+
+	@Test
+	public void randomTopology() {
+		final Topology topology = Topology.random(2);
+		for (int i = 0; i < 100; ++i) {
+			final int[] targets = topology.targets(3, 6);
+			Assert.assertEquals(targets.length, 2);
+			Assert.assertNotEquals(targets[0], targets[1]);
+			Assert.assertTrue(Arrays.stream(targets).allMatch(t -> t != 3 && t < 6));
+		}
+		Assert.assertEquals(topology.targets(0, 2), new int[]{1});
+		Assert.assertEquals(topology.targets(0, 1), new int[0]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidRandomTopology() {
+		Topology.random(0);
+	}
+
+	@Test
+	public void stream() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final var engine = new IslandEngine<>(
+				List.of(engine(20), engine(20), engine(30), engine(10)),
+				Migration.of(Topology.RING, 3, 2),
+				executor
+			);
+
+			final List<EvolutionResult<IntegerGene, Integer>> results = engine
+				.stream()
+				.limit(20)
+				.toList();
+
+			Assert.assertEquals(results.size(), 20);
+			for (int i = 0; i < results.size(); ++i) {
+				final var result = results.get(i);
+				Assert.assertEquals(result.generation(), i + 1);
+				Assert.assertEquals(result.population().size(), 80);
+				Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void ringMigration() {
+		final var engine = new IslandEngine<>(
+			List.of(elitist(5), elitist(5), elitist(5)),
+			Migration.of(Topology.RING, 1, 1),
+			Runnable::run
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			phenotype(999), phenotype(0), phenotype(0), phenotype(0), phenotype(0),
+			phenotype(0), phenotype(0), phenotype(0), phenotype(0), phenotype(0),
+			phenotype(0), phenotype(0), phenotype(0), phenotype(0), phenotype(0)
+		);
+
+		final var first = engine.evolve(EvolutionStart.of(population, 1));
+		Assert.assertEquals(best(first, 0), 999);
+		Assert.assertEquals(best(first, 1), 999);
+		Assert.assertEquals(best(first, 2), 0);
+
+		final var second = engine.evolve(first.next());
+		Assert.assertEquals(best(second, 0), 999);
+		Assert.assertEquals(best(second, 1), 999);
+		Assert.assertEquals(best(second, 2), 999);
+	}
+
+	@Test
+	public void migrationInterval() {
+		final var engine = new IslandEngine<>(
+			List.of(elitist(5), elitist(5)),
+			Migration.of(Topology.RING, 2, 1),
+			Runnable::run
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			phenotype(999), phenotype(0), phenotype(0), phenotype(0), phenotype(0),
+			phenotype(0), phenotype(0), phenotype(0), phenotype(0), phenotype(0)
+		);
+
+		final var first = engine.evolve(EvolutionStart.of(population, 1));
+		Assert.assertEquals(best(first, 1), 0);
+
+		final var second = engine.evolve(first.next());
+		Assert.assertEquals(best(second, 1), 999);
+	}
+
+	@Test
+	public void randomReplacement() {
+		final var engine = new IslandEngine<>(
+			List.of(elitist(5), elitist(5)),
+			new Migration<IntegerGene, Integer>(
+				Topology.FULLY_CONNECTED,
+				1,
+				5,
+				new TruncationSelector<>(),
+				Replacement.RANDOM
+			),
+			Runnable::run
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			phenotype(999), phenotype(999), phenotype(999), phenotype(999), phenotype(999),
+			phenotype(0), phenotype(0), phenotype(0), phenotype(0), phenotype(0)
+		);
+
+		final var result = engine.evolve(EvolutionStart.of(population, 1));
+		Assert.assertTrue(
+			result.population().subSeq(0, 5).forAll(pt -> pt.fitness() == 0)
+		);
+		Assert.assertTrue(
+			result.population().subSeq(5, 10).forAll(pt -> pt.fitness() == 999)
+		);
+	}
+
+	@Test
+	public void immigrantOrder() {
+		// The emigrants of the first island are selected last.
+		final Selector<IntegerGene, Integer> selector = (population, count, opt) -> {
+			if (population.get(0).fitness() == 100) {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return population.asISeq();
+		};
+
+		final var engine = new IslandEngine<>(
+			List.of(elitist(1), elitist(1), elitist(1)),
+			new Migration<IntegerGene, Integer>(
+				Topology.FULLY_CONNECTED,
+				1,
+				1,
+				selector,
+				Replacement.WORST
+			),
+			task -> new Thread(task).start()
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			phenotype(100), phenotype(200), phenotype(300)
+		);
+
+		// Only the first immigrant, in island order, replaces the resident.
+		final var result = engine.evolve(EvolutionStart.of(population, 1));
+		Assert.assertEquals(result.population().get(0).fitness().intValue(), 200);
+		Assert.assertEquals(result.population().get(1).fitness().intValue(), 100);
+		Assert.assertEquals(result.population().get(2).fitness().intValue(), 100);
+	}
+
+	@Test
+	public void limitedStream() {
+		final var engine = IslandEngine.of(
+			Migration.of(Topology.random(1), 5, 1),
+			engine(10), engine(10), engine(10)
+		);
+
+		final var result = engine.stream()
+			.limit(Limits.byFixedGeneration(15))
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.totalGenerations(), 15);
+		Assert.assertEquals(result.population().size(), 30);
+	}
+
+	private static int best(
+		final EvolutionResult<IntegerGene, Integer> result,
+		final int island
+	) {
+		return result.population().subSeq(island*5, island*5 + 5).stream()
+			.mapToInt(Phenotype::fitness)
+			.max()
+			.orElseThrow();
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.engine.IslandEngine.Migration;
+import io.jenetics.ext.engine.IslandEngine.Topology;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MigrationTransportTest {
+
+	private static final Genotype<IntegerGene> GTF =
+		Genotype.of(IntegerChromosome.of(0, 1000));
+
+	private static Genotype<IntegerGene> genotype(final int value) {
+		return Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 1000)));
+	}
+
+	@SafeVarargs
+	private static ISeq<Genotype<IntegerGene>>
+	seq(final Genotype<IntegerGene>... genotypes) {
+		return ISeq.of(genotypes);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noNodes() {
+		MigrationTransport.inMemory(0, Topology.RING);
+	}
+
+	@Test
+	public void ringRouting() {
+		final List<MigrationTransport<IntegerGene>> nodes =
+			MigrationTransport.inMemory(3, Topology.RING);
+
+		nodes.get(0).send(seq(genotype(1), genotype(2)));
+		nodes.get(2).send(seq(genotype(3)));
+
+		Assert.assertEquals(nodes.get(0).receive(), seq(genotype(3)));
+		Assert.assertEquals(nodes.get(1).receive(), seq(genotype(1), genotype(2)));
+		Assert.assertTrue(nodes.get(2).receive().isEmpty());
+
+		// The inboxes are drained by receiving.
+		Assert.assertTrue(nodes.get(1).receive().isEmpty());
+	}
+
+	@Test
+	public void closedNodeDoesNotSend() {
+		final List<MigrationTransport<IntegerGene>> nodes =
+			MigrationTransport.inMemory(2, Topology.FULLY_CONNECTED);
+
+		nodes.get(0).close();
+		nodes.get(0).send(seq(genotype(1)));
+
+		Assert.assertTrue(nodes.get(1).receive().isEmpty());
+	}
+
+	@Test
+	public void interceptorMigration() {
+		final List<MigrationTransport<IntegerGene>> nodes =
+			MigrationTransport.inMemory(2, Topology.RING);
+		final Migration<IntegerGene, Integer> migration =
+			Migration.of(Topology.RING, 1, 1);
+
+		final var source = new MigrationInterceptor<>(nodes.get(0), migration);
+		final var target = new MigrationInterceptor<>(nodes.get(1), migration);
+
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.gene().intValue(), GTF)
+			.populationSize(10)
+			.selector(new TruncationSelector<>())
+			.alterers(new Mutator<>(0))
+			.executor(Runnable::run)
+			.build();
+
+		// The source island contains the global optimum.
+		final ISeq<Phenotype<IntegerGene, Integer>> sourcePopulation = IntStream
+			.range(0, 10)
+			.mapToObj(i -> Phenotype.<IntegerGene, Integer>of(
+				genotype(i == 0 ? 999 : i), 1))
+			.collect(ISeq.toISeq());
+		final EvolutionResult<IntegerGene, Integer> sourceResult = engine
+			.evolve(EvolutionStart.of(sourcePopulation, 1));
+		Assert.assertSame(source.after(sourceResult), sourceResult);
+
+		// Without a known optimization strategy, nothing is received.
+		final EvolutionStart<IntegerGene, Integer> start = EvolutionStart.of(
+			engine.evolve(EvolutionStart.of(ISeq.empty(), 1)).population(),
+			2
+		);
+		Assert.assertSame(target.before(start), start);
+
+		target.after(engine.evolve(start));
+		final EvolutionStart<IntegerGene, Integer> migrated = target.before(start);
+		Assert.assertTrue(migrated.population().stream()
+			.anyMatch(pt -> pt.genotype().equals(genotype(999))));
+
+		final var result = engine.evolve(migrated);
+		Assert.assertEquals(result.bestFitness().intValue(), 999);
+	}
+
+	@Test
+	public void interceptedEngines() {
+		final List<MigrationTransport<IntegerGene>> nodes =
+			MigrationTransport.inMemory(2, Topology.FULLY_CONNECTED);
+		final Migration<IntegerGene, Integer> migration =
+			Migration.of(Topology.RING, 2, 2);
+
+		final List<Engine<IntegerGene, Integer>> engines = nodes.stream()
+			.map(node -> Engine.builder(gt -> gt.gene().intValue(), GTF)
+				.populationSize(20)
+				.interceptor(new MigrationInterceptor<>(node, migration))
+				.build())
+			.toList();
+
+		final List<EvolutionStart<IntegerGene, Integer>> starts = new ArrayList<>();
+		engines.forEach(engine -> starts.add(EvolutionStart.empty()));
+		for (int generation = 1; generation <= 10; ++generation) {
+			for (int i = 0; i < engines.size(); ++i) {
+				starts.set(i, engines.get(i).evolve(starts.get(i)).next());
+			}
+		}
+
+		for (var start : starts) {
+			Assert.assertEquals(start.population().size(), 20);
+			Assert.assertEquals(start.generation(), 11);
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SocketTransportTest {
+
+	private static final Genotype<DoubleGene> TEMPLATE =
+		Genotype.of(DoubleChromosome.of(0, 1, 5), 2);
+
+	private static final GenotypeEncoding<DoubleGene> ENCODING =
+		GenotypeEncoding.ofDouble(TEMPLATE);
+
+	private static InetSocketAddress localhost(final int port) {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+	}
+
+	private static SocketTransport<DoubleGene> open(final int port)
+		throws IOException
+	{
+		return SocketTransport.open(localhost(port), ENCODING);
+	}
+
+	// Receives migrants until the expected number has been received. Sending
+	// an empty sequence flushes the pending frames of the sender.
+	private static List<Genotype<DoubleGene>> receive(
+		final MigrationTransport<DoubleGene> transport,
+		final MigrationTransport<DoubleGene> sender,
+		final int count
+	)
+		throws InterruptedException
+	{
+		final List<Genotype<DoubleGene>> migrants = new ArrayList<>();
+		final long end = System.currentTimeMillis() + 10_000;
+		while (migrants.size() < count && System.currentTimeMillis() < end) {
+			sender.send(ISeq.empty());
+			transport.receive().forEach(migrants::add);
+			Thread.sleep(10);
+		}
+		return migrants;
+	}
+
+	@SafeVarargs
+	private static ISeq<Genotype<DoubleGene>>
+	seq(final Genotype<DoubleGene>... genotypes) {
+		return ISeq.of(genotypes);
+	}
+
+	@Test
+	public void sendReceive() throws Exception {
+		try (var a = open(0); var b = open(0)) {
+			a.addPeer(b.address());
+			b.addPeer(a.address());
+
+			final ISeq<Genotype<DoubleGene>> migrants =
+				ISeq.of(TEMPLATE::newInstance, 10);
+			a.send(migrants.subSeq(0, 3));
+			a.send(migrants.subSeq(3, 10));
+			b.send(migrants.subSeq(0, 1));
+
+			Assert.assertEquals(receive(b, a, 10), migrants.asList());
+			Assert.assertEquals(receive(a, b, 1), migrants.subSeq(0, 1).asList());
+			Assert.assertTrue(b.receive().isEmpty());
+		}
+	}
+
+	@Test
+	public void emptySend() throws Exception {
+		try (var a = open(0); var b = open(0)) {
+			a.addPeer(b.address());
+			a.send(ISeq.empty());
+
+			Thread.sleep(50);
+			Assert.assertTrue(b.receive().isEmpty());
+		}
+	}
+
+	@Test
+	public void reconnect() throws Exception {
+		final InetSocketAddress address;
+		try (var b = open(0)) {
+			address = b.address();
+		}
+
+		try (var a = open(0)) {
+			a.addPeer(address);
+
+			// The peer isn't available yet and the frame is kept.
+			final var migrant = TEMPLATE.newInstance();
+			a.send(seq(migrant));
+
+			try (var b = SocketTransport.open(address, ENCODING)) {
+				a.receive();
+				Assert.assertEquals(receive(b, a, 1), List.of(migrant));
+			}
+
+			// Peer went away again and comes back.
+			final var next = TEMPLATE.newInstance();
+			a.send(seq(next));
+			try (var b = SocketTransport.open(address, ENCODING)) {
+				a.send(seq(next));
+				final List<Genotype<DoubleGene>> received = receive(b, a, 1);
+				Assert.assertFalse(received.isEmpty());
+				Assert.assertTrue(received.stream().allMatch(next::equals));
+			}
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void stalledPeer() throws Exception {
+		try (var server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+			var a = open(0))
+		{
+			// The peer accepts the connection but never reads any data.
+			a.addPeer(localhost(server.getLocalPort()));
+
+			final ISeq<Genotype<DoubleGene>> migrants =
+				ISeq.of(TEMPLATE::newInstance, 10_000);
+			for (int i = 0; i < 100; ++i) {
+				a.send(migrants);
+				Assert.assertTrue(a.receive().isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void closedTransport() throws Exception {
+		final var a = open(0);
+		a.close();
+		a.close();
+
+		a.send(seq(TEMPLATE.newInstance()));
+		Assert.assertTrue(a.receive().isEmpty());
+	}
+
+}
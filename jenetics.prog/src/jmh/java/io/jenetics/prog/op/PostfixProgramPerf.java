@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Compares the evaluation of a program for a whole sample set, as it is done
+ * by the symbolic regression.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostfixProgramPerf {
+
+	private static final Tree<Op<Double>, ?> PROGRAM = MathExpr.parse(
+		"x*x*x + 2.5*x*y - y/3.0 + sin(x) - x*y*y + 1.5"
+	).tree();
+
+	private static final PostfixProgram POSTFIX = PostfixProgram.of(PROGRAM);
+
+	private static final ToDoubleFunction<double[]> COMPILED =
+		new ProgramCompiler().compile(PROGRAM);
+
+	double[][] samples;
+	Double[][] boxedSamples;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random();
+		samples = new double[1_000][];
+		boxedSamples = new Double[samples.length][];
+		for (int i = 0; i < samples.length; ++i) {
+			samples[i] = random.doubles(2, -10, 10).toArray();
+			boxedSamples[i] = box(samples[i]);
+		}
+	}
+
+	@Benchmark
+	public double[] tree() {
+		final double[] results = new double[boxedSamples.length];
+		for (int i = 0; i < results.length; ++i) {
+			results[i] = Program.eval(PROGRAM, boxedSamples[i]);
+		}
+		return results;
+	}
+
+	@Benchmark
+	public double[] postfix() {
+		return POSTFIX.eval(samples);
+	}
+
+	@Benchmark
+	public double[] postfixLinearized() {
+		return PostfixProgram.of(PROGRAM).eval(samples);
+	}
+
+	@Benchmark
+	public double[] compiled() {
+		final double[] results = new double[samples.length];
+		for (int i = 0; i < results.length; ++i) {
+			results[i] = COMPILED.applyAsDouble(samples[i]);
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Base class of the program classes generated by the {@link ProgramCompiler}.
+ * The generated subclasses only implement the {@link #eval(double[])} method.
+ * Constant values and operations, which are not inlined, are loaded from the
+ * {@code _consts} and {@code _ops} arrays. This way, programs with the same
+ * structure share the same generated class.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+abstract class CompiledProgram implements ToDoubleFunction<double[]> {
+
+	static final String NAME = "io/jenetics/prog/op/CompiledProgram";
+	static final String CONSTRUCTOR_DESCRIPTOR = "([Lio/jenetics/prog/op/Op;[DI)V";
+
+	final Op<Double>[] _ops;
+	final double[] _consts;
+	final int _arity;
+
+	CompiledProgram(
+		final Op<Double>[] ops,
+		final double[] consts,
+		final int arity
+	) {
+		_ops = ops;
+		_consts = consts;
+		_arity = arity;
+	}
+
+	/**
+	 * Evaluates the compiled program with the given {@code variables}.
+	 * This method is implemented by the generated classes.
+	 *
+	 * @param variables the program variables
+	 * @return the program result
+	 */
+	abstract double eval(final double[] variables);
+
+	@Override
+	public final double applyAsDouble(final double[] variables) {
+		if (variables.length < _arity) {
+			throw new IllegalArgumentException(format(
+				"Program requires %d variables, but got %d.",
+				_arity, variables.length
+			));
+		}
+		return eval(variables);
+	}
+
+	/**
+	 * Implementation of the {@link MathOp#GT} operation, called by the
+	 * generated code.
+	 */
+	static double gt(final double a, final double b) {
+		return a > b ? 1.0 : -1.0;
+	}
+
+}
@@ -0,0 +1,384 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.acos;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan;
+import static java.lang.Math.cbrt;
+import static java.lang.Math.ceil;
+import static java.lang.Math.cos;
+import static java.lang.Math.cosh;
+import static java.lang.Math.exp;
+import static java.lang.Math.floor;
+import static java.lang.Math.hypot;
+import static java.lang.Math.log;
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.rint;
+import static java.lang.Math.signum;
+import static java.lang.Math.sin;
+import static java.lang.Math.sinh;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.lang.Math.tanh;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Linearized representation of a {@code double} operation tree, which is
+ * evaluated by a simple stack machine. The tree is translated once into an
+ * array of instructions in <em>postfix</em> order. The evaluation then runs
+ * in a single loop over these instructions, using a {@code double[]} operand
+ * stack. No intermediate objects are created for {@link MathOp}s, variables
+ * and constants. Other operations are called with the boxed operands.
+ *
+ * <pre>{@code
+ * final PostfixProgram program = PostfixProgram.of(tree);
+ * final double[] results = program.eval(samples);
+ * }</pre>
+ *
+ * The {@link #eval(double[][])} method should be used for evaluating the
+ * program for many sample points, since it allocates the operand stack only
+ * once for all samples.
+ *
+ * @see Program#eval(Tree, Object[])
+ * @see ProgramCompiler
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class PostfixProgram implements ToDoubleFunction<double[]> {
+
+	private static final int NOP = -1;
+	private static final int VAR = 0;
+	private static final int CONST = 1;
+	private static final int CALL = 2;
+	private static final int ABS = 3;
+	private static final int NEG = 4;
+	private static final int MIN = 5;
+	private static final int MAX = 6;
+	private static final int CEIL = 7;
+	private static final int FLOOR = 8;
+	private static final int SIGNUM = 9;
+	private static final int RINT = 10;
+	private static final int ADD = 11;
+	private static final int SUB = 12;
+	private static final int MUL = 13;
+	private static final int DIV = 14;
+	private static final int MOD = 15;
+	private static final int POW = 16;
+	private static final int SQR = 17;
+	private static final int SQRT = 18;
+	private static final int CBRT = 19;
+	private static final int HYPOT = 20;
+	private static final int EXP = 21;
+	private static final int LOG = 22;
+	private static final int LOG10 = 23;
+	private static final int SIN = 24;
+	private static final int COS = 25;
+	private static final int TAN = 26;
+	private static final int ACOS = 27;
+	private static final int ASIN = 28;
+	private static final int ATAN = 29;
+	private static final int COSH = 30;
+	private static final int SINH = 31;
+	private static final int TANH = 32;
+	private static final int GT = 33;
+
+	private final int[] _codes;
+	private final int[] _operands;
+	private final double[] _consts;
+	private final Op<Double>[] _ops;
+	private final int[] _opArities;
+	private final int _stackSize;
+	private final int _arity;
+
+	private PostfixProgram(
+		final int[] codes,
+		final int[] operands,
+		final double[] consts,
+		final Op<Double>[] ops,
+		final int[] opArities,
+		final int stackSize,
+		final int arity
+	) {
+		_codes = codes;
+		_operands = operands;
+		_consts = consts;
+		_ops = ops;
+		_opArities = opArities;
+		_stackSize = stackSize;
+		_arity = arity;
+	}
+
+	/**
+	 * Return the number of variables, this program requires. This is the
+	 * highest variable index plus one.
+	 *
+	 * @return the number of program variables
+	 */
+	public int arity() {
+		return _arity;
+	}
+
+	/**
+	 * Return the number of instructions of this program. This is the number
+	 * of nodes of the original tree, without the removed {@link MathOp#ID}
+	 * nodes.
+	 *
+	 * @return the number of program instructions
+	 */
+	public int size() {
+		return _codes.length;
+	}
+
+	/**
+	 * Evaluates the program with the given {@code variables}.
+	 *
+	 * @param variables the program variables
+	 * @return the program result
+	 * @throws NullPointerException if the given variable array is {@code null}
+	 * @throws IllegalArgumentException if the length of the variable array
+	 *         is smaller than the program arity
+	 */
+	@Override
+	public double applyAsDouble(final double[] variables) {
+		checkArity(variables);
+		return eval(variables, new double[_stackSize]);
+	}
+
+	/**
+	 * Evaluates the program for every given sample point.
+	 *
+	 * @param samples the variables of the sample points
+	 * @return the program results, one for every sample point
+	 * @throws NullPointerException if the given sample array or one of its
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the length of a variable array
+	 *         is smaller than the program arity
+	 */
+	public double[] eval(final double[][] samples) {
+		final double[] stack = new double[_stackSize];
+		final double[] results = new double[samples.length];
+		for (int i = 0; i < samples.length; ++i) {
+			checkArity(samples[i]);
+			results[i] = eval(samples[i], stack);
+		}
+		return results;
+	}
+
+	private void checkArity(final double[] variables) {
+		if (variables.length < _arity) {
+			throw new IllegalArgumentException(format(
+				"Program requires %d variables, but got %d.",
+				_arity, variables.length
+			));
+		}
+	}
+
+	private double eval(final double[] variables, final double[] stack) {
+		int sp = 0;
+		for (int pc = 0; pc < _codes.length; ++pc) {
+			switch (_codes[pc]) {
+				case VAR -> stack[sp++] = variables[_operands[pc]];
+				case CONST -> stack[sp++] = _consts[_operands[pc]];
+				case CALL -> sp = call(_operands[pc], stack, sp);
+				case ABS -> stack[sp - 1] = abs(stack[sp - 1]);
+				case NEG -> stack[sp - 1] = -stack[sp - 1];
+				case MIN -> { --sp; stack[sp - 1] = min(stack[sp - 1], stack[sp]); }
+				case MAX -> { --sp; stack[sp - 1] = max(stack[sp - 1], stack[sp]); }
+				case CEIL -> stack[sp - 1] = ceil(stack[sp - 1]);
+				case FLOOR -> stack[sp - 1] = floor(stack[sp - 1]);
+				case SIGNUM -> stack[sp - 1] = signum(stack[sp - 1]);
+				case RINT -> stack[sp - 1] = rint(stack[sp - 1]);
+				case ADD -> { --sp; stack[sp - 1] = stack[sp - 1] + stack[sp]; }
+				case SUB -> { --sp; stack[sp - 1] = stack[sp - 1] - stack[sp]; }
+				case MUL -> { --sp; stack[sp - 1] = stack[sp - 1]*stack[sp]; }
+				case DIV -> { --sp; stack[sp - 1] = stack[sp - 1]/stack[sp]; }
+				case MOD -> { --sp; stack[sp - 1] = stack[sp - 1]%stack[sp]; }
+				case POW -> { --sp; stack[sp - 1] = pow(stack[sp - 1], stack[sp]); }
+				case SQR -> stack[sp - 1] = stack[sp - 1]*stack[sp - 1];
+				case SQRT -> stack[sp - 1] = sqrt(stack[sp - 1]);
+				case CBRT -> stack[sp - 1] = cbrt(stack[sp - 1]);
+				case HYPOT -> { --sp; stack[sp - 1] = hypot(stack[sp - 1], stack[sp]); }
+				case EXP -> stack[sp - 1] = exp(stack[sp - 1]);
+				case LOG -> stack[sp - 1] = log(stack[sp - 1]);
+				case LOG10 -> stack[sp - 1] = log10(stack[sp - 1]);
+				case SIN -> stack[sp - 1] = sin(stack[sp - 1]);
+				case COS -> stack[sp - 1] = cos(stack[sp - 1]);
+				case TAN -> stack[sp - 1] = tan(stack[sp - 1]);
+				case ACOS -> stack[sp - 1] = acos(stack[sp - 1]);
+				case ASIN -> stack[sp - 1] = asin(stack[sp - 1]);
+				case ATAN -> stack[sp - 1] = atan(stack[sp - 1]);
+				case COSH -> stack[sp - 1] = cosh(stack[sp - 1]);
+				case SINH -> stack[sp - 1] = sinh(stack[sp - 1]);
+				case TANH -> stack[sp - 1] = tanh(stack[sp - 1]);
+				case GT -> { --sp; stack[sp - 1] = stack[sp - 1] > stack[sp] ? 1.0 : -1.0; }
+				default -> throw new AssertionError("Unknown code: " + _codes[pc]);
+			}
+		}
+		return stack[0];
+	}
+
+	// Calls the operation with the boxed operands from the stack.
+	private int call(final int index, final double[] stack, final int sp) {
+		final int arity = _opArities[index];
+		final Double[] args = new Double[arity];
+		for (int i = 0; i < arity; ++i) {
+			args[i] = stack[sp - arity + i];
+		}
+
+		final int top = sp - arity;
+		stack[top] = _ops[index].apply(args);
+		return top + 1;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"PostfixProgram[size=%d, arity=%d, stack=%d]",
+			size(), _arity, _stackSize
+		);
+	}
+
+	/**
+	 * Linearizes the given operation tree.
+	 *
+	 * @param program the operation tree
+	 * @return the linearized program
+	 * @throws NullPointerException if the given {@code program} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid
+	 */
+	@SuppressWarnings("unchecked")
+	public static PostfixProgram of(final Tree<? extends Op<Double>, ?> program) {
+		Program.check(program);
+
+		final int size = program.size();
+		final int[] codes = new int[size];
+		final int[] operands = new int[size];
+		final List<Double> consts = new ArrayList<>();
+		final List<Op<Double>> ops = new ArrayList<>();
+		final List<Integer> opArities = new ArrayList<>();
+
+		int stack = 0;
+		int stackSize = 0;
+		int arity = 0;
+
+		int pc = 0;
+		final Iterator<? extends Tree<? extends Op<Double>, ?>> nodes =
+			program.postorderIterator();
+		while (nodes.hasNext()) {
+			final Tree<? extends Op<Double>, ?> node = nodes.next();
+			final Op<Double> op = node.value();
+
+			if (op instanceof Var<Double> var) {
+				codes[pc] = VAR;
+				operands[pc] = var.index();
+				arity = Math.max(arity, var.index() + 1);
+			} else if (op instanceof Val<Double> val) {
+				codes[pc] = CONST;
+				operands[pc] = consts.size();
+				consts.add(val.value());
+			} else if (op instanceof MathOp mop) {
+				codes[pc] = code(mop);
+			} else {
+				codes[pc] = CALL;
+				operands[pc] = ops.size();
+				ops.add(op);
+				opArities.add(node.childCount());
+			}
+
+			stack += 1 - node.childCount();
+			stackSize = Math.max(stackSize, stack);
+			++pc;
+		}
+
+		// Remove the no-op instructions of the identity operations.
+		int length = 0;
+		for (int i = 0; i < size; ++i) {
+			if (codes[i] != NOP) {
+				codes[length] = codes[i];
+				operands[length] = operands[i];
+				++length;
+			}
+		}
+
+		return new PostfixProgram(
+			Arrays.copyOf(codes, length),
+			Arrays.copyOf(operands, length),
+			consts.stream().mapToDouble(Double::doubleValue).toArray(),
+			(Op<Double>[])ops.toArray(new Op<?>[0]),
+			opArities.stream().mapToInt(Integer::intValue).toArray(),
+			stackSize,
+			arity
+		);
+	}
+
+	private static int code(final MathOp op) {
+		return switch (op) {
+			case ID -> NOP;
+			case ABS -> ABS;
+			case NEG -> NEG;
+			case MIN -> MIN;
+			case MAX -> MAX;
+			case CEIL -> CEIL;
+			case FLOOR -> FLOOR;
+			case SIGNUM -> SIGNUM;
+			case RINT -> RINT;
+			case ADD -> ADD;
+			case SUB -> SUB;
+			case MUL -> MUL;
+			case DIV -> DIV;
+			case MOD -> MOD;
+			case POW -> POW;
+			case SQR -> SQR;
+			case SQRT -> SQRT;
+			case CBRT -> CBRT;
+			case HYPOT -> HYPOT;
+			case EXP -> EXP;
+			case LOG -> LOG;
+			case LOG10 -> LOG10;
+			case SIN -> SIN;
+			case COS -> COS;
+			case TAN -> TAN;
+			case ACOS -> ACOS;
+			case ASIN -> ASIN;
+			case ATAN -> ATAN;
+			case COSH -> COSH;
+			case SINH -> SINH;
+			case TANH -> TANH;
+			case GT -> GT;
+		};
+	}
+
+}
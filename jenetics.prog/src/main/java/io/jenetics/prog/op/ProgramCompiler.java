@@ -0,0 +1,640 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Compiles {@code double} operation trees into JVM bytecode. The compiled
+ * program is a generated <em>hidden</em> class, which evaluates the tree
+ * without recursion, argument arrays or boxing. All {@link MathOp}s, variables
+ * and constants are translated into the corresponding bytecode instructions.
+ * Other operations are called with the boxed results of their child nodes.
+ *
+ * <pre>{@code
+ * final ProgramCompiler compiler = new ProgramCompiler();
+ * final ToDoubleFunction<double[]> f = compiler.compile(program);
+ * final double result = f.applyAsDouble(new double[]{1.0, 2.0});
+ * }</pre>
+ *
+ * The generated classes only depend on the <em>structure</em> of the
+ * compiled tree; the constant values are given to the created instance.
+ * Compiled classes are kept in a bounded LRU cache, so that trees with the
+ * same structure, which occur frequently in a GP population, are compiled
+ * only once. Classes which are evicted from the cache are unloaded by the
+ * garbage collector, once they are no longer referenced.
+ *
+ * @implNote
+ * Compiling a tree is considerably more expensive than interpreting it once.
+ * The compilation pays off if the program is evaluated for many samples, as
+ * it is the case for symbolic regression problems. Very large trees, whose
+ * bytecode exceeds the method size limit of the JIT compiler, are not
+ * compiled and evaluated with {@link Program#eval(Tree, Object[])}.
+ *
+ * @see Program#eval(Tree, Object[])
+ * @see MathExpr#eval(double...)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class ProgramCompiler {
+
+	/**
+	 * The default number of compiled classes kept in the cache.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1_000;
+
+	// Bytecode size limit of methods, compiled by the JIT (HugeMethodLimit).
+	static final int MAX_CODE_SIZE = 8_000;
+
+	private static final String CLASS_NAME = "io/jenetics/prog/op/GeneratedProgram";
+
+	private static final MethodType CONSTRUCTOR_TYPE =
+		methodType(CompiledProgram.class, Op[].class, double[].class, int.class);
+
+	private final Cache _cache;
+
+	/**
+	 * Create a new program compiler with the given cache size.
+	 *
+	 * @param cacheSize the maximal number of cached program classes
+	 * @throws IllegalArgumentException if the {@code cacheSize} is smaller
+	 *         than one
+	 */
+	public ProgramCompiler(final int cacheSize) {
+		_cache = new Cache(cacheSize);
+	}
+
+	/**
+	 * Create a new program compiler with the {@link #DEFAULT_CACHE_SIZE}.
+	 */
+	public ProgramCompiler() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Compiles the given operation tree. The returned function evaluates
+	 * the tree with the given variable array, like
+	 * {@link Program#eval(Tree, Object[])}.
+	 *
+	 * @param program the operation tree to compile
+	 * @return the compiled program
+	 * @throws NullPointerException if the given {@code program} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid
+	 */
+	public ToDoubleFunction<double[]>
+	compile(final Tree<? extends Op<Double>, ?> program) {
+		Program.check(program);
+
+		final Assembler assembler = new Assembler();
+		assembler.emit(program);
+		if (assembler.codeSize() > MAX_CODE_SIZE) {
+			return variables -> Program.eval(program, box(variables));
+		}
+
+		final Key key = new Key(assembler.toClassFile());
+		MethodHandle constructor;
+		synchronized (_cache) {
+			constructor = _cache.get(key);
+		}
+		if (constructor == null) {
+			constructor = define(key.bytes);
+			synchronized (_cache) {
+				_cache.put(key, constructor);
+			}
+		}
+
+		try {
+			return (CompiledProgram)constructor.invokeExact(
+				assembler.ops(),
+				assembler.consts(),
+				assembler.arity()
+			);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Compiles the given math expression.
+	 *
+	 * @see #compile(Tree)
+	 *
+	 * @param expr the math expression to compile
+	 * @return the compiled math expression
+	 * @throws NullPointerException if the given {@code expr} is {@code null}
+	 */
+	public ToDoubleFunction<double[]> compile(final MathExpr expr) {
+		return compile(expr.tree());
+	}
+
+	private static MethodHandle define(final byte[] bytes) {
+		try {
+			final Lookup lookup = MethodHandles.lookup()
+				.defineHiddenClass(bytes, true);
+
+			return lookup
+				.findConstructor(
+					lookup.lookupClass(),
+					methodType(void.class, Op[].class, double[].class, int.class)
+				)
+				.asType(CONSTRUCTOR_TYPE);
+		} catch (IllegalAccessException | NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/* *************************************************************************
+	 * Bytecode generation.
+	 * ************************************************************************/
+
+	/**
+	 * Translates an operation tree into the class file of a
+	 * {@link CompiledProgram} subclass.
+	 */
+	private static final class Assembler {
+		private static final int ACC_FINAL = 0x0010;
+		private static final int ACC_SUPER = 0x0020;
+		private static final int ACC_SYNTHETIC = 0x1000;
+
+		private static final int ICONST_0 = 0x03;
+		private static final int BIPUSH = 0x10;
+		private static final int SIPUSH = 0x11;
+		private static final int LDC_W = 0x13;
+		private static final int ILOAD_3 = 0x1d;
+		private static final int ALOAD_0 = 0x2a;
+		private static final int ALOAD_1 = 0x2b;
+		private static final int ALOAD_2 = 0x2c;
+		private static final int DALOAD = 0x31;
+		private static final int AALOAD = 0x32;
+		private static final int AASTORE = 0x53;
+		private static final int DUP = 0x59;
+		private static final int DUP2 = 0x5c;
+		private static final int DADD = 0x63;
+		private static final int DSUB = 0x67;
+		private static final int DMUL = 0x6b;
+		private static final int DDIV = 0x6f;
+		private static final int DREM = 0x73;
+		private static final int DNEG = 0x77;
+		private static final int DRETURN = 0xaf;
+		private static final int RETURN = 0xb1;
+		private static final int GETFIELD = 0xb4;
+		private static final int INVOKEVIRTUAL = 0xb6;
+		private static final int INVOKESPECIAL = 0xb7;
+		private static final int INVOKESTATIC = 0xb8;
+		private static final int INVOKEINTERFACE = 0xb9;
+		private static final int ANEWARRAY = 0xbd;
+		private static final int CHECKCAST = 0xc0;
+
+		private final ConstantPool _pool = new ConstantPool();
+		private final Bytes _code = new Bytes();
+		private final List<Op<Double>> _ops = new ArrayList<>();
+		private double[] _consts = new double[8];
+		private int _constCount = 0;
+		private int _arity = 0;
+
+		private int _stack = 0;
+		private int _maxStack = 0;
+
+		int codeSize() {
+			return _code.size();
+		}
+
+		@SuppressWarnings("unchecked")
+		Op<Double>[] ops() {
+			return (Op<Double>[])_ops.toArray(new Op<?>[0]);
+		}
+
+		double[] consts() {
+			return Arrays.copyOf(_consts, _constCount);
+		}
+
+		int arity() {
+			return _arity;
+		}
+
+		/**
+		 * Emits the code, which pushes the result of the given tree node onto
+		 * the operand stack.
+		 */
+		void emit(final Tree<? extends Op<Double>, ?> node) {
+			final Op<Double> op = node.value();
+
+			if (op instanceof Var<Double> var) {
+				_arity = Math.max(_arity, var.index() + 1);
+				op(ALOAD_1, 1);
+				push(var.index());
+				op(DALOAD, 0);
+			} else if (op instanceof Val<Double> val) {
+				if (_constCount == _consts.length) {
+					_consts = Arrays.copyOf(_consts, _constCount*2);
+				}
+				_consts[_constCount] = val.value();
+				op(ALOAD_0, 1);
+				field("_consts", "[D");
+				push(_constCount++);
+				op(DALOAD, 0);
+			} else if (op instanceof MathOp mop) {
+				node.childIterator().forEachRemaining(this::emit);
+				emit(mop);
+			} else {
+				emitCall(op, node);
+			}
+		}
+
+		private void emit(final MathOp op) {
+			switch (op) {
+				case ID -> {}
+				case NEG -> op(DNEG, 0);
+				case ADD -> op(DADD, -2);
+				case SUB -> op(DSUB, -2);
+				case MUL -> op(DMUL, -2);
+				case DIV -> op(DDIV, -2);
+				case MOD -> op(DREM, -2);
+				case SQR -> {
+					op(DUP2, 2);
+					op(DMUL, -2);
+				}
+				case GT -> invokestatic(CompiledProgram.NAME, "gt", "(DD)D", -2);
+				case MIN -> math("min", 2);
+				case MAX -> math("max", 2);
+				case POW -> math("pow", 2);
+				case HYPOT -> math("hypot", 2);
+				case ABS -> math("abs", 1);
+				case CEIL -> math("ceil", 1);
+				case FLOOR -> math("floor", 1);
+				case SIGNUM -> math("signum", 1);
+				case RINT -> math("rint", 1);
+				case SQRT -> math("sqrt", 1);
+				case CBRT -> math("cbrt", 1);
+				case EXP -> math("exp", 1);
+				case LOG -> math("log", 1);
+				case LOG10 -> math("log10", 1);
+				case SIN -> math("sin", 1);
+				case COS -> math("cos", 1);
+				case TAN -> math("tan", 1);
+				case ACOS -> math("acos", 1);
+				case ASIN -> math("asin", 1);
+				case ATAN -> math("atan", 1);
+				case COSH -> math("cosh", 1);
+				case SINH -> math("sinh", 1);
+				case TANH -> math("tanh", 1);
+			}
+		}
+
+		private void math(final String name, final int arity) {
+			if (arity == 1) {
+				invokestatic("java/lang/Math", name, "(D)D", 0);
+			} else {
+				invokestatic("java/lang/Math", name, "(DD)D", -2);
+			}
+		}
+
+		// Calls the operation with the boxed results of the child nodes.
+		private void emitCall(
+			final Op<Double> op,
+			final Tree<? extends Op<Double>, ?> node
+		) {
+			op(ALOAD_0, 1);
+			field("_ops", "[Lio/jenetics/prog/op/Op;");
+			push(_ops.size());
+			op(AALOAD, -1);
+			_ops.add(op);
+
+			push(node.childCount());
+			op(ANEWARRAY, 0);
+			_code.u2(_pool.type("java/lang/Double"));
+
+			for (int i = 0; i < node.childCount(); ++i) {
+				op(DUP, 1);
+				push(i);
+				emit(node.childAt(i));
+				invokestatic(
+					"java/lang/Double", "valueOf", "(D)Ljava/lang/Double;", -1
+				);
+				op(AASTORE, -3);
+			}
+
+			op(INVOKEINTERFACE, -1);
+			_code.u2(_pool.interfaceMethod(
+				"java/util/function/Function",
+				"apply",
+				"(Ljava/lang/Object;)Ljava/lang/Object;"
+			));
+			_code.u1(2);
+			_code.u1(0);
+
+			op(CHECKCAST, 0);
+			_code.u2(_pool.type("java/lang/Double"));
+			op(INVOKEVIRTUAL, 1);
+			_code.u2(_pool.method("java/lang/Double", "doubleValue", "()D"));
+		}
+
+		private void op(final int opcode, final int stack) {
+			_code.u1(opcode);
+			_stack += stack;
+			_maxStack = Math.max(_maxStack, _stack);
+		}
+
+		private void push(final int value) {
+			if (value <= 5) {
+				op(ICONST_0 + value, 1);
+			} else if (value <= Byte.MAX_VALUE) {
+				op(BIPUSH, 1);
+				_code.u1(value);
+			} else if (value <= Short.MAX_VALUE) {
+				op(SIPUSH, 1);
+				_code.u2(value);
+			} else {
+				op(LDC_W, 1);
+				_code.u2(_pool.integer(value));
+			}
+		}
+
+		private void field(final String name, final String descriptor) {
+			op(GETFIELD, 0);
+			_code.u2(_pool.field(CompiledProgram.NAME, name, descriptor));
+		}
+
+		private void invokestatic(
+			final String owner,
+			final String name,
+			final String descriptor,
+			final int stack
+		) {
+			op(INVOKESTATIC, stack);
+			_code.u2(_pool.method(owner, name, descriptor));
+		}
+
+		/**
+		 * Return the class file of the compiled program class.
+		 */
+		byte[] toClassFile() {
+			op(DRETURN, -2);
+
+			final Bytes init = new Bytes();
+			init.u1(ALOAD_0);
+			init.u1(ALOAD_1);
+			init.u1(ALOAD_2);
+			init.u1(ILOAD_3);
+			init.u1(INVOKESPECIAL);
+			init.u2(_pool.method(
+				CompiledProgram.NAME,
+				"<init>",
+				CompiledProgram.CONSTRUCTOR_DESCRIPTOR
+			));
+			init.u1(RETURN);
+
+			final int thisClass = _pool.type(CLASS_NAME);
+			final int superClass = _pool.type(CompiledProgram.NAME);
+			final int code = _pool.utf8("Code");
+			final int initName = _pool.utf8("<init>");
+			final int initDescriptor = _pool.utf8(CompiledProgram.CONSTRUCTOR_DESCRIPTOR);
+			final int evalName = _pool.utf8("eval");
+			final int evalDescriptor = _pool.utf8("([D)D");
+
+			final Bytes out = new Bytes();
+			out.u4(0xCAFEBABE);
+			out.u2(0);
+			out.u2(61);
+			out.u2(_pool.count());
+			out.bytes(_pool.bytes());
+			out.u2(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+			out.u2(thisClass);
+			out.u2(superClass);
+			out.u2(0);
+			out.u2(0);
+			out.u2(2);
+			method(out, initName, initDescriptor, code, 4, 4, init);
+			method(out, evalName, evalDescriptor, code, _maxStack, 2, _code);
+			out.u2(0);
+			return out.toByteArray();
+		}
+
+		private static void method(
+			final Bytes out,
+			final int name,
+			final int descriptor,
+			final int codeAttribute,
+			final int maxStack,
+			final int maxLocals,
+			final Bytes code
+		) {
+			out.u2(0);
+			out.u2(name);
+			out.u2(descriptor);
+			out.u2(1);
+			out.u2(codeAttribute);
+			out.u4(12 + code.size());
+			out.u2(maxStack);
+			out.u2(maxLocals);
+			out.u4(code.size());
+			out.bytes(code.toByteArray());
+			out.u2(0);
+			out.u2(0);
+		}
+	}
+
+	/**
+	 * The constant pool of the generated class file.
+	 */
+	private static final class ConstantPool {
+		private final Bytes _bytes = new Bytes();
+		private final Map<String, Integer> _indexes = new HashMap<>();
+
+		int count() {
+			return _indexes.size() + 1;
+		}
+
+		byte[] bytes() {
+			return _bytes.toByteArray();
+		}
+
+		int utf8(final String value) {
+			final Integer index = _indexes.get("U" + value);
+			if (index != null) {
+				return index;
+			}
+
+			final byte[] bytes = value.getBytes(UTF_8);
+			_bytes.u1(1);
+			_bytes.u2(bytes.length);
+			_bytes.bytes(bytes);
+			return add("U" + value);
+		}
+
+		int integer(final int value) {
+			final Integer index = _indexes.get("I" + value);
+			if (index != null) {
+				return index;
+			}
+
+			_bytes.u1(3);
+			_bytes.u4(value);
+			return add("I" + value);
+		}
+
+		int type(final String name) {
+			return entry(7, "C" + name, utf8(name));
+		}
+
+		int field(final String owner, final String name, final String descriptor) {
+			return member(9, owner, name, descriptor);
+		}
+
+		int method(final String owner, final String name, final String descriptor) {
+			return member(10, owner, name, descriptor);
+		}
+
+		int interfaceMethod(
+			final String owner,
+			final String name,
+			final String descriptor
+		) {
+			return member(11, owner, name, descriptor);
+		}
+
+		private int member(
+			final int tag,
+			final String owner,
+			final String name,
+			final String descriptor
+		) {
+			final int type = type(owner);
+			final int nameAndType = entry(
+				12, "N" + name + ":" + descriptor,
+				utf8(name), utf8(descriptor)
+			);
+			return entry(
+				tag, tag + owner + "." + name + ":" + descriptor,
+				type, nameAndType
+			);
+		}
+
+		private int entry(final int tag, final String key, final int... refs) {
+			final Integer index = _indexes.get(key);
+			if (index != null) {
+				return index;
+			}
+
+			_bytes.u1(tag);
+			for (int ref : refs) {
+				_bytes.u2(ref);
+			}
+			return add(key);
+		}
+
+		private int add(final String key) {
+			final int index = count();
+			_indexes.put(key, index);
+			return index;
+		}
+	}
+
+	/**
+	 * Simple byte buffer with big-endian write methods.
+	 */
+	private static final class Bytes extends ByteArrayOutputStream {
+		void u1(final int value) {
+			write(value);
+		}
+
+		void u2(final int value) {
+			write(value >>> 8);
+			write(value);
+		}
+
+		void u4(final int value) {
+			u2(value >>> 16);
+			u2(value);
+		}
+
+		void bytes(final byte[] bytes) {
+			write(bytes, 0, bytes.length);
+		}
+	}
+
+	/* *************************************************************************
+	 * Class cache.
+	 * ************************************************************************/
+
+	/**
+	 * The class file bytes, which identify a compiled program class.
+	 */
+	private record Key(byte[] bytes) {
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key key && Arrays.equals(bytes, key.bytes);
+		}
+	}
+
+	/**
+	 * LRU cache of the constructors of the compiled program classes. Access
+	 * to the cache must be synchronized on the cache object itself.
+	 */
+	private static final class Cache extends LinkedHashMap<Key, MethodHandle> {
+		private final int _maxSize;
+
+		Cache(final int maxSize) {
+			super(16, 0.75F, true);
+			if (maxSize < 1) {
+				throw new IllegalArgumentException(format(
+					"Cache size must be greater than zero: %d", maxSize
+				));
+			}
+			_maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(
+			final Map.Entry<Key, MethodHandle> eldest
+		) {
+			return size() > _maxSize;
+		}
+	}
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Sampling implementation, which stores the sample points column-wise. Every
+ * variable is stored as a {@code double[]} column. A program is evaluated by
+ * applying every operation once to whole columns, instead of evaluating the
+ * program tree once per sample point. Sub-trees without variables are
+ * evaluated only once. If a {@link SubtreeCache} is given, the evaluated
+ * sub-tree columns are cached and reused by the following program
+ * evaluations.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class ColumnSampling implements Sampling<Double>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final double[][] _columns;
+	private final Double[] _results;
+
+	// The cache is not serialized.
+	private final transient SubtreeCache _cache;
+
+	ColumnSampling(
+		final double[] results,
+		final double[][] columns,
+		final SubtreeCache cache
+	) {
+		requireNonNull(results);
+		if (results.length == 0) {
+			throw new IllegalArgumentException("Sample list must not be empty.");
+		}
+		if (columns.length == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+		for (int i = 0; i < columns.length; ++i) {
+			if (columns[i].length != results.length) {
+				throw new IllegalArgumentException(format(
+					"Expected %d values, but got %d for column index %d.",
+					results.length, columns[i].length, i
+				));
+			}
+		}
+
+		_columns = Arrays.stream(columns)
+			.map(double[]::clone)
+			.toArray(double[][]::new);
+		_results = Arrays.stream(results)
+			.boxed()
+			.toArray(Double[]::new);
+		_cache = cache;
+	}
+
+	ColumnSampling(final double[] results, final double[][] columns) {
+		this(results, columns, null);
+	}
+
+	/**
+	 * Create a new column sampling from the given sample points.
+	 */
+	static ColumnSampling of(
+		final List<? extends Sample<Double>> samples,
+		final SubtreeCache cache
+	) {
+		final int arity = samples.isEmpty() ? 0 : samples.get(0).arity();
+		final double[] results = new double[samples.size()];
+		final double[][] columns = new double[arity][samples.size()];
+		for (int i = 0; i < results.length; ++i) {
+			final Sample<Double> sample = samples.get(i);
+			if (sample.arity() != arity) {
+				throw new IllegalArgumentException(format(
+					"Expected arity %d, but got %d for sample index %d.",
+					arity, sample.arity(), i
+				));
+			}
+
+			results[i] = sample.result();
+			for (int j = 0; j < arity; ++j) {
+				columns[j][i] = sample.argAt(j);
+			}
+		}
+
+		return new ColumnSampling(results, columns, cache);
+	}
+
+	int size() {
+		return _results.length;
+	}
+
+	int arity() {
+		return _columns.length;
+	}
+
+	@Override
+	public Result<Double> eval(final Tree<? extends Op<Double>, ?> program) {
+		Program.check(program);
+
+		final Column result;
+		if (_cache != null) {
+			result = new Evaluation().eval(program, SubtreeCache.Key.of(program));
+			_cache.tick();
+		} else {
+			result = new Evaluation().eval(program, null);
+		}
+
+		final Double[] calculated = new Double[size()];
+		for (int i = 0; i < calculated.length; ++i) {
+			calculated[i] = result.isScalar() ? result.scalar : result.values[i];
+		}
+
+		return new Result<>(calculated, _results);
+	}
+
+	@Override
+	public Result<Double> eval(
+		final Function<? super Double[], ? extends Double> function
+	) {
+		requireNonNull(function);
+
+		final Double[] calculated = new Double[size()];
+		for (int i = 0; i < calculated.length; ++i) {
+			final Double[] args = new Double[arity()];
+			for (int j = 0; j < args.length; ++j) {
+				args[j] = _columns[j][i];
+			}
+			calculated[i] = function.apply(args);
+		}
+
+		return new Result<>(calculated, _results);
+	}
+
+	/* *************************************************************************
+	 * Column-wise evaluation.
+	 * ************************************************************************/
+
+	/**
+	 * Intermediate evaluation result. Either a scalar, for sub-trees without
+	 * variables, or a column of values. Temporary columns are owned by the
+	 * evaluation and can be overwritten by the parent operation.
+	 */
+	private record Column(double[] values, double scalar, boolean temporary) {
+		static Column scalar(final double value) {
+			return new Column(null, value, false);
+		}
+
+		boolean isScalar() {
+			return values == null;
+		}
+	}
+
+	/**
+	 * Evaluation of one program. The temporary columns, which are no longer
+	 * needed, are reused for the following operations. The structural cache
+	 * keys of the program nodes are only given, if a cache is configured.
+	 */
+	private final class Evaluation {
+		private final Deque<double[]> _free = new ArrayDeque<>();
+
+		Column eval(
+			final Tree<? extends Op<Double>, ?> node,
+			final SubtreeCache.Key key
+		) {
+			final Op<Double> op = node.value();
+
+			if (op instanceof Var<Double> var) {
+				if (var.index() >= _columns.length) {
+					throw new IllegalArgumentException(format(
+						"No value for variable '%s' given.", var
+					));
+				}
+				return new Column(_columns[var.index()], 0, false);
+			}
+			if (op instanceof Val<Double> val) {
+				return Column.scalar(val.value());
+			}
+
+			final boolean cached = key != null && key.variable && op != MathOp.ID;
+			if (cached) {
+				final double[] values = _cache.get(key);
+				if (values != null) {
+					return new Column(values, 0, false);
+				}
+			}
+
+			final Column[] args = new Column[node.childCount()];
+			boolean scalar = true;
+			for (int i = 0; i < args.length; ++i) {
+				args[i] = eval(
+					node.childAt(i),
+					key != null ? key.children[i] : null
+				);
+				scalar &= args[i].isScalar();
+			}
+
+			if (scalar) {
+				final Double[] values = new Double[args.length];
+				for (int i = 0; i < args.length; ++i) {
+					values[i] = args[i].scalar;
+				}
+				return Column.scalar(op.apply(values));
+			}
+
+			final Column result = op instanceof MathOp mop
+				? args.length == 1
+					? apply(mop, args[0])
+					: apply(mop, column(args[0]), column(args[1]))
+				: call(op, args);
+
+			// The cached column is owned by the cache and must not be reused.
+			if (cached && result.temporary) {
+				_cache.put(key, result.values);
+				return new Column(result.values, 0, false);
+			}
+			return result;
+		}
+
+		private double[] allocate() {
+			final double[] values = _free.poll();
+			return values != null ? values : new double[size()];
+		}
+
+		private void release(final Column column) {
+			if (column.temporary) {
+				_free.push(column.values);
+			}
+		}
+
+		private Column column(final Column column) {
+			if (column.isScalar()) {
+				final double[] values = allocate();
+				Arrays.fill(values, column.scalar);
+				return new Column(values, 0, true);
+			}
+			return column;
+		}
+
+		private Column apply(final MathOp op, final Column arg) {
+			if (op == MathOp.ID) {
+				return arg;
+			}
+
+			final double[] a = arg.values;
+			final double[] r = arg.temporary ? a : allocate();
+			final int n = r.length;
+
+			switch (op) {
+				case ABS -> { for (int i = 0; i < n; ++i) r[i] = Math.abs(a[i]); }
+				case NEG -> { for (int i = 0; i < n; ++i) r[i] = -a[i]; }
+				case CEIL -> { for (int i = 0; i < n; ++i) r[i] = Math.ceil(a[i]); }
+				case FLOOR -> { for (int i = 0; i < n; ++i) r[i] = Math.floor(a[i]); }
+				case SIGNUM -> { for (int i = 0; i < n; ++i) r[i] = Math.signum(a[i]); }
+				case RINT -> { for (int i = 0; i < n; ++i) r[i] = Math.rint(a[i]); }
+				case SQR -> { for (int i = 0; i < n; ++i) r[i] = a[i]*a[i]; }
+				case SQRT -> { for (int i = 0; i < n; ++i) r[i] = Math.sqrt(a[i]); }
+				case CBRT -> { for (int i = 0; i < n; ++i) r[i] = Math.cbrt(a[i]); }
+				case EXP -> { for (int i = 0; i < n; ++i) r[i] = Math.exp(a[i]); }
+				case LOG -> { for (int i = 0; i < n; ++i) r[i] = Math.log(a[i]); }
+				case LOG10 -> { for (int i = 0; i < n; ++i) r[i] = Math.log10(a[i]); }
+				case SIN -> { for (int i = 0; i < n; ++i) r[i] = Math.sin(a[i]); }
+				case COS -> { for (int i = 0; i < n; ++i) r[i] = Math.cos(a[i]); }
+				case TAN -> { for (int i = 0; i < n; ++i) r[i] = Math.tan(a[i]); }
+				case ACOS -> { for (int i = 0; i < n; ++i) r[i] = Math.acos(a[i]); }
+				case ASIN -> { for (int i = 0; i < n; ++i) r[i] = Math.asin(a[i]); }
+				case ATAN -> { for (int i = 0; i < n; ++i) r[i] = Math.atan(a[i]); }
+				case COSH -> { for (int i = 0; i < n; ++i) r[i] = Math.cosh(a[i]); }
+				case SINH -> { for (int i = 0; i < n; ++i) r[i] = Math.sinh(a[i]); }
+				case TANH -> { for (int i = 0; i < n; ++i) r[i] = Math.tanh(a[i]); }
+				default -> throw new AssertionError("Not an unary operation: " + op);
+			}
+
+			return new Column(r, 0, true);
+		}
+
+		private Column apply(final MathOp op, final Column arg1, final Column arg2) {
+			final double[] a = arg1.values;
+			final double[] b = arg2.values;
+			final double[] r = arg1.temporary ? a : arg2.temporary ? b : allocate();
+			final int n = r.length;
+
+			switch (op) {
+				case ADD -> { for (int i = 0; i < n; ++i) r[i] = a[i] + b[i]; }
+				case SUB -> { for (int i = 0; i < n; ++i) r[i] = a[i] - b[i]; }
+				case MUL -> { for (int i = 0; i < n; ++i) r[i] = a[i]*b[i]; }
+				case DIV -> { for (int i = 0; i < n; ++i) r[i] = a[i]/b[i]; }
+				case MOD -> { for (int i = 0; i < n; ++i) r[i] = a[i]%b[i]; }
+				case MIN -> { for (int i = 0; i < n; ++i) r[i] = Math.min(a[i], b[i]); }
+				case MAX -> { for (int i = 0; i < n; ++i) r[i] = Math.max(a[i], b[i]); }
+				case POW -> { for (int i = 0; i < n; ++i) r[i] = Math.pow(a[i], b[i]); }
+				case HYPOT -> { for (int i = 0; i < n; ++i) r[i] = Math.hypot(a[i], b[i]); }
+				case GT -> { for (int i = 0; i < n; ++i) r[i] = a[i] > b[i] ? 1.0 : -1.0; }
+				default -> throw new AssertionError("Not a binary operation: " + op);
+			}
+
+			if (r == a) {
+				release(arg2);
+			} else if (r == b) {
+				release(arg1);
+			}
+			return new Column(r, 0, true);
+		}
+
+		// Calls the operation element-wise with the boxed arguments.
+		private Column call(final Op<Double> op, final Column[] args) {
+			final double[] r = allocate();
+			for (int i = 0; i < r.length; ++i) {
+				final Double[] values = new Double[args.length];
+				for (int j = 0; j < args.length; ++j) {
+					values[j] = args[j].isScalar()
+						? args[j].scalar
+						: args[j].values[i];
+				}
+				r[i] = op.apply(values);
+			}
+
+			for (var arg : args) {
+				release(arg);
+			}
+			return new Column(r, 0, true);
+		}
+	}
+
+}
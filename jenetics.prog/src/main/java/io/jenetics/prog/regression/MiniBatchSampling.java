@@ -0,0 +1,446 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Sampling which evaluates the programs only on a random <em>mini-batch</em>
+ * of the sample points. The mini-batch is rotated with the {@link #next()}
+ * method, usually once per generation. The sample points are shuffled and
+ * then processed in consecutive batches, so that every sample point is used
+ * once per <em>epoch</em>. If the number of sample points is not a multiple
+ * of the batch size, the last batch of an epoch is filled up with sample
+ * points of the next epoch, which doesn't contain duplicates.
+ * <p>
+ * Optionally, the evaluation is done as <em>race</em>. The batch is then
+ * evaluated in progressively doubling stages, {@code 1/8}, {@code 1/4},
+ * {@code 1/2} and the whole batch. If the partial error of a program exceeds
+ * the given quantile of the errors, which were calculated for the previous
+ * batch, the evaluation is aborted and the partial error is returned. Racing
+ * is only applied if the sampling is used by a {@link Regression} problem,
+ * since the error function is needed for calculating the partial errors.
+ *
+ * <pre>{@code
+ * final MiniBatchSampling<Double> sampling =
+ *     MiniBatchSampling.of(samples, 256, 0.75);
+ * final Regression<Double> regression =
+ *     Regression.of(codec, Error.of(LossFunction::mse), sampling);
+ *
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(regression)
+ *     .minimizing()
+ *     .interceptor(sampling.interceptor())
+ *     .build();
+ *
+ * final ISeq<Phenotype<ProgramGene<Double>, Double>> population = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult())
+ *     .population();
+ *
+ * // Re-score the best programs on the full sample set.
+ * final Regression<Double> full = Regression.of(codec, error, sampling.full());
+ * final Tree<Op<Double>, ?> best = population.stream()
+ *     .sorted(Comparator.comparing(Phenotype::fitness))
+ *     .limit(10)
+ *     .map(pt -> codec.decode(pt.genotype()))
+ *     .min(Comparator.comparingDouble(full::error))
+ *     .orElseThrow();
+ * }</pre>
+ *
+ * The fitness values of programs, which were evaluated with different
+ * batches, are not comparable. The {@link #interceptor()} therefore rotates
+ * the batch <em>and</em> forces the re-evaluation of the whole population,
+ * for every generation.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see Regression
+ *
+ * @param <T> the sample type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class MiniBatchSampling<T> implements Sampling<T> {
+
+	private static final int RACING_STAGES = 4;
+
+	/**
+	 * The evaluation stages of one batch, together with the racing bound and
+	 * the errors calculated for this batch.
+	 */
+	private static final class Batch<T> {
+		final List<SampleList<T>> stages;
+		final double bound;
+
+		private double[] _errors = new double[64];
+		private int _size = 0;
+
+		Batch(final List<SampleList<T>> stages, final double bound) {
+			this.stages = stages;
+			this.bound = bound;
+		}
+
+		synchronized void record(final double error) {
+			if (_size == _errors.length) {
+				_errors = Arrays.copyOf(_errors, _size*2);
+			}
+			_errors[_size++] = error;
+		}
+
+		synchronized double quantile(final double quantile) {
+			final double[] errors = Arrays.stream(_errors, 0, _size)
+				.filter(e -> !Double.isNaN(e))
+				.sorted()
+				.toArray();
+
+			return errors.length > 0
+				? errors[Math.max((int)Math.ceil(quantile*errors.length) - 1, 0)]
+				: Double.POSITIVE_INFINITY;
+		}
+	}
+
+	private final List<Sample<T>> _samples;
+	private final int _batchSize;
+	private final double _quantile;
+
+	private final int[] _order;
+	private int _offset;
+
+	private volatile Batch<T> _batch;
+
+	private MiniBatchSampling(
+		final List<Sample<T>> samples,
+		final int batchSize,
+		final double quantile
+	) {
+		_samples = samples;
+		_batchSize = Math.min(batchSize, samples.size());
+		_quantile = quantile;
+
+		_order = new int[samples.size()];
+		for (int i = 0; i < _order.length; ++i) {
+			_order[i] = i;
+		}
+		_offset = _order.length;
+
+		next();
+	}
+
+	/**
+	 * Return the number of sample points of one batch.
+	 *
+	 * @return the batch size
+	 */
+	public int batchSize() {
+		return _batchSize;
+	}
+
+	/**
+	 * Return the current racing bound. Evaluations whose partial errors
+	 * exceed this value are aborted. If the racing is disabled, or no error
+	 * has been calculated for the previous batch,
+	 * {@link Double#POSITIVE_INFINITY} is returned.
+	 *
+	 * @return the current racing bound
+	 */
+	public double bound() {
+		return _batch.bound;
+	}
+
+	/**
+	 * Rotates the mini-batch. After all sample points have been used, the
+	 * sample points are shuffled again, using the random engine of the
+	 * {@link RandomRegistry}. The remaining sample points of the old epoch
+	 * are filled up with the first sample points of the new one.
+	 */
+	public synchronized void next() {
+		final List<Sample<T>> samples = new ArrayList<>(_batchSize);
+		final int tail = Math.min(_order.length - _offset, _batchSize);
+		for (int i = _offset; i < _offset + tail; ++i) {
+			samples.add(_samples.get(_order[i]));
+		}
+		_offset += tail;
+
+		if (tail < _batchSize) {
+			final boolean[] used = new boolean[_order.length];
+			for (int i = _order.length - tail; i < _order.length; ++i) {
+				used[_order[i]] = true;
+			}
+
+			shuffle(_order, RandomRegistry.random());
+			_offset = _batchSize - tail;
+
+			// Moves the sample points, which are already part of the batch,
+			// behind the head of the new epoch.
+			for (int i = 0, j = _offset; i < _offset; ++i) {
+				if (used[_order[i]]) {
+					while (used[_order[j]]) {
+						++j;
+					}
+					swap(_order, i, j++);
+				}
+			}
+
+			for (int i = 0; i < _offset; ++i) {
+				samples.add(_samples.get(_order[i]));
+			}
+		}
+
+		final Batch<T> previous = _batch;
+		final double bound = previous != null && _quantile < 1
+			? previous.quantile(_quantile)
+			: Double.POSITIVE_INFINITY;
+
+		_batch = new Batch<>(stages(samples), bound);
+	}
+
+	private static void shuffle(final int[] array, final RandomGenerator random) {
+		for (int i = array.length; --i > 0;) {
+			swap(array, i, random.nextInt(i + 1));
+		}
+	}
+
+	private static void swap(final int[] array, final int i, final int j) {
+		final int temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
+	// Splits the batch in progressively doubling stages, if racing is enabled.
+	private List<SampleList<T>> stages(final List<Sample<T>> samples) {
+		if (_quantile >= 1) {
+			return List.of(new SampleList<>(samples));
+		}
+
+		final List<SampleList<T>> stages = new ArrayList<>();
+		int start = 0;
+		for (int i = RACING_STAGES - 1; i >= 0; --i) {
+			final int end = samples.size() >> i;
+			if (end > start) {
+				stages.add(new SampleList<>(samples.subList(start, end)));
+				start = end;
+			}
+		}
+		return List.copyOf(stages);
+	}
+
+	/**
+	 * Return a sampling object which contains <em>all</em> sample points.
+	 * This sampling can be used for re-scoring the final, best programs.
+	 *
+	 * @return a sampling object with all sample points
+	 */
+	public Sampling<T> full() {
+		return new SampleList<>(_samples);
+	}
+
+	/**
+	 * Return an evolution interceptor, which rotates the mini-batch before
+	 * every generation. Since the fitness values of different batches are not
+	 * comparable, the fitness of the whole population is reset, which forces
+	 * its re-evaluation with the new batch.
+	 *
+	 * @param <G> the gene type
+	 * @return a new interceptor, which rotates the mini-batch
+	 */
+	public <G extends Gene<?, G>> EvolutionInterceptor<G, Double> interceptor() {
+		return EvolutionInterceptor.ofBefore(start -> {
+			if (start.population().isEmpty()) {
+				return start;
+			}
+
+			next();
+			return EvolutionStart.of(
+				start.population().map(Phenotype::nullifyFitness),
+				start.generation()
+			);
+		});
+	}
+
+	/**
+	 * Evaluates the given {@code program} with the whole, current mini-batch.
+	 *
+	 * @param program the program to evaluate
+	 * @return the evaluated sample result
+	 */
+	@Override
+	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
+		requireNonNull(program);
+
+		final Batch<T> batch = _batch;
+		final Result<T> first = batch.stages.get(0).eval(program);
+		if (batch.stages.size() == 1) {
+			return first;
+		}
+
+		final var result = new Partial<>(first, _batchSize);
+		for (int i = 1; i < batch.stages.size(); ++i) {
+			result.append(batch.stages.get(i).eval(program));
+		}
+		return result.toResult();
+	}
+
+	/**
+	 * Calculates the error of the given {@code program} with the current
+	 * mini-batch, racing against the current {@link #bound()}.
+	 */
+	double error(final Tree<? extends Op<T>, ?> program, final Error<T> error) {
+		requireNonNull(program);
+		requireNonNull(error);
+
+		final Batch<T> batch = _batch;
+		final var result = new Partial<>(batch.stages.get(0).eval(program), _batchSize);
+
+		for (int i = 1; i < batch.stages.size(); ++i) {
+			final double partial = result.error(program, error);
+			if (partial > batch.bound) {
+				batch.record(partial);
+				return partial;
+			}
+			result.append(batch.stages.get(i).eval(program));
+		}
+
+		final double value = result.error(program, error);
+		batch.record(value);
+		return value;
+	}
+
+	/**
+	 * Collects the results of the already evaluated stages.
+	 */
+	private static final class Partial<T> {
+		private final T[] _calculated;
+		private final T[] _expected;
+		private int _size;
+
+		Partial(final Result<T> first, final int capacity) {
+			_calculated = Arrays.copyOf(first.calculated(), capacity);
+			_expected = Arrays.copyOf(first.expected(), capacity);
+			_size = first.calculated().length;
+		}
+
+		void append(final Result<T> result) {
+			final int length = result.calculated().length;
+			System.arraycopy(result.calculated(), 0, _calculated, _size, length);
+			System.arraycopy(result.expected(), 0, _expected, _size, length);
+			_size += length;
+		}
+
+		double error(final Tree<? extends Op<T>, ?> program, final Error<T> error) {
+			return _size == _calculated.length
+				? error.apply(program, _calculated, _expected)
+				: error.apply(
+					program,
+					Arrays.copyOf(_calculated, _size),
+					Arrays.copyOf(_expected, _size)
+				);
+		}
+
+		Result<T> toResult() {
+			return new Result<>(_calculated, _expected);
+		}
+	}
+
+	/* *************************************************************************
+	 * Factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new mini-batch sampling with racing. Evaluations are aborted,
+	 * if the partial error of a program exceeds the given {@code quantile}
+	 * of the errors of the previous batch.
+	 *
+	 * @param samples the sample points
+	 * @param batchSize the number of sample points of one mini-batch. If the
+	 *        batch size is greater than the number of sample points, all
+	 *        sample points are used.
+	 * @param quantile the error quantile used as racing bound. A value of
+	 *        {@code 1} disables the racing.
+	 * @param <T> the sample type
+	 * @return a new mini-batch sampling
+	 * @throws NullPointerException if the given {@code samples} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code samples} are empty,
+	 *         the batch size is smaller than one or the quantile is not
+	 *         within the range {@code (0, 1]}
+	 */
+	public static <T> MiniBatchSampling<T> of(
+		final List<? extends Sample<T>> samples,
+		final int batchSize,
+		final double quantile
+	) {
+		if (samples.isEmpty()) {
+			throw new IllegalArgumentException("Sample list must not be empty.");
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero: %d", batchSize
+			));
+		}
+		if (!(quantile > 0 && quantile <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Quantile not within the range (0, 1]: %f", quantile
+			));
+		}
+
+		return new MiniBatchSampling<>(List.copyOf(samples), batchSize, quantile);
+	}
+
+	/**
+	 * Create a new mini-batch sampling without racing.
+	 *
+	 * @param samples the sample points
+	 * @param batchSize the number of sample points of one mini-batch. If the
+	 *        batch size is greater than the number of sample points, all
+	 *        sample points are used.
+	 * @param <T> the sample type
+	 * @return a new mini-batch sampling
+	 * @throws NullPointerException if the given {@code samples} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code samples} are empty
+	 *         or the batch size is smaller than one
+	 */
+	public static <T> MiniBatchSampling<T> of(
+		final List<? extends Sample<T>> samples,
+		final int batchSize
+	) {
+		return of(samples, batchSize, 1);
+	}
+
+}
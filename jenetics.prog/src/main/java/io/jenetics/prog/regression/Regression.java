@@ -91,12 +91,13 @@ import io.jenetics.prog.regression.Sampling.Result;
  * }</pre>
  *
  * @see SampleBuffer
+ * @see MiniBatchSampling
  * @see Sampling
  *
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 7.1
  * @since 5.0
  */
 public final class Regression<T>
@@ -142,6 +143,10 @@ public final class Regression<T>
 	 * @return the overall error value of the program
 	 */
 	public double error(final Tree<? extends Op<T>, ?> program) {
+		if (_sampling instanceof MiniBatchSampling<T> batch) {
+			return batch.error(program, _error);
+		}
+
 		final Result<T> result = _sampling.eval(program);
 		return result != null
 			? _error.apply(program, result.calculated(), result.expected())
@@ -40,22 +40,56 @@ import io.jenetics.prog.op.Op;
  * ({@link #add(Sample)}) or a list ({@link #addAll(Collection)}) of new values.
  * These values will be made available for evaluation after an explicit call of
  * the {@link #publish()} method.
+ * <p>
+ * For {@code Double} samples, a sub-tree cache can be enabled with the
+ * {@link #SampleBuffer(int, int, int)} constructor. The published samples
+ * are then evaluated column-wise, and the evaluated sub-tree columns are
+ * reused across the evaluated programs. Every call of {@link #publish()}
+ * starts with a new, empty cache.
  *
  * @implNote
  * This class is thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 7.1
  * @since 6.0
  */
 public final class SampleBuffer<T> implements Sampling<T> {
 
+	// The published sample points and the sampling used for evaluation.
+	private record Snapshot<T>(SampleList<T> samples, Sampling<T> sampling) {}
+
 	private final RingBuffer _buffer;
+	private final int _cacheSize;
+	private final int _maxAge;
 
-	private volatile SampleList<T> _snapshot = null;
+	private volatile Snapshot<T> _snapshot = null;
 
 	public SampleBuffer(final int capacity) {
 		_buffer = new RingBuffer(capacity);
+		_cacheSize = 0;
+		_maxAge = 0;
+	}
+
+	/**
+	 * Create a new sample buffer, which caches the evaluated sub-tree columns
+	 * of {@code Double} programs. For other sample types, the cache
+	 * parameters are ignored.
+	 *
+	 * @since 7.1
+	 *
+	 * @param capacity the capacity of the sample buffer
+	 * @param cacheSize the maximal number of cached sub-tree columns
+	 * @param maxAge the maximal number of program evaluations, a cached
+	 *        sub-tree column is kept without being used
+	 * @throws IllegalArgumentException if one of the arguments is smaller
+	 *         than one
+	 */
+	public SampleBuffer(final int capacity, final int cacheSize, final int maxAge) {
+		SubtreeCache.checkParameters(cacheSize, maxAge);
+		_buffer = new RingBuffer(capacity);
+		_cacheSize = cacheSize;
+		_maxAge = maxAge;
 	}
 
 	/**
@@ -94,14 +128,24 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	public int publish() {
 		final Object[] values = _buffer.snapshot();
 
-		SampleList<T> snapshot = null;
+		Snapshot<T> snapshot = null;
 		if (values != null && values.length > 0) {
 			final List samples = Arrays.asList(values);
-			snapshot = new SampleList(samples);
+			final SampleList<T> list = new SampleList(samples);
+
+			final Sampling<T> sampling =
+				_cacheSize > 0 && list.get(0).argAt(0) instanceof Double
+					? (Sampling)ColumnSampling.of(
+						samples,
+						new SubtreeCache(_cacheSize, _maxAge)
+					)
+					: list;
+
+			snapshot = new Snapshot<>(list, sampling);
 		}
 
 		try {
-			return snapshot != null ? snapshot.size() : 0;
+			return snapshot != null ? snapshot.samples().size() : 0;
 		} finally {
 			_snapshot = snapshot;
 		}
@@ -115,17 +159,17 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	 * @return the currently <em>published</em> sample points
 	 */
 	List<Sample<T>> samples() {
-		final SampleList<T> snapshot = _snapshot;
-		return snapshot != null ? snapshot : List.of();
+		final Snapshot<T> snapshot = _snapshot;
+		return snapshot != null ? snapshot.samples() : List.of();
 	}
 
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
 		requireNonNull(program);
 
-		final SampleList<T> snapshot = _snapshot;
-		return snapshot != null && !snapshot.isEmpty()
-			? snapshot.eval(program)
+		final Snapshot<T> snapshot = _snapshot;
+		return snapshot != null
+			? snapshot.sampling().eval(program)
 			: null;
 	}
 
@@ -133,9 +177,9 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	public Result<T> eval(final Function<? super T[], ? extends T> function) {
 		requireNonNull(function);
 
-		final SampleList<T> snapshot = _snapshot;
-		return snapshot != null && !snapshot.isEmpty()
-			? snapshot.eval(function)
+		final Snapshot<T> snapshot = _snapshot;
+		return snapshot != null
+			? snapshot.sampling().eval(function)
 			: null;
 	}
 
@@ -33,6 +33,7 @@ import java.util.stream.Stream;
 import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.PostfixProgram;
 import io.jenetics.prog.op.Program;
 
 /**
@@ -55,6 +56,10 @@ final class SampleList<T>
 	private final T[][] _arguments;
 	private final T[] _results;
 
+	// Unboxed sample arguments, if the sample type is Double. Not available
+	// after deserialization, where the generic evaluation is used instead.
+	private final transient double[][] _doubleArguments;
+
 	@SuppressWarnings("unchecked")
 	SampleList(final List<? extends Sample<T>> samples) {
 		if (samples.isEmpty()) {
@@ -89,6 +94,14 @@ final class SampleList<T>
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		_doubleArguments = _type == Double.class
+			? Stream.of(_arguments)
+				.map(args -> Stream.of(args)
+					.mapToDouble(arg -> ((Double)arg).doubleValue())
+					.toArray())
+				.toArray(double[][]::new)
+			: null;
 	}
 
 	private static <T> T[] args(final Class<T> type, final Sample<T> sample) {
@@ -105,7 +118,23 @@ final class SampleList<T>
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
 		requireNonNull(program);
-		return eval(args -> Program.eval(program, args));
+		return _doubleArguments != null
+			? evalDouble(program)
+			: eval(args -> Program.eval(program, args));
+	}
+
+	// Fast path for double programs, using the postfix interpreter.
+	@SuppressWarnings("unchecked")
+	private Result<T> evalDouble(final Tree<? extends Op<T>, ?> program) {
+		final double[] values = PostfixProgram
+			.of((Tree<? extends Op<Double>, ?>)program)
+			.eval(_doubleArguments);
+
+		final T[] calculated = (T[])Array.newInstance(_type, values.length);
+		for (int i = 0; i < values.length; ++i) {
+			calculated[i] = (T)Double.valueOf(values[i]);
+		}
+		return new Result<>(calculated, _results);
 	}
 
 	@Override
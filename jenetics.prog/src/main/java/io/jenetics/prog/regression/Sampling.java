@@ -109,4 +109,71 @@ public interface Sampling<T> {
 		return Sampling.of(List.of(samples));
 	}
 
+	/**
+	 * Create a new, column-oriented sampling object. The values of every
+	 * variable are given as one column array. A program is evaluated by
+	 * applying its operations once to the whole columns, which is
+	 * considerably faster than evaluating the program tree for every sample
+	 * point, if the number of samples is large.
+	 *
+	 * <pre>{@code
+	 * final double[] xs = ...;
+	 * final double[] ys = ...;
+	 * final Sampling<Double> sampling = Sampling.ofColumns(ys, xs);
+	 * }</pre>
+	 *
+	 * @since 7.1
+	 *
+	 * @param results the expected sample results
+	 * @param columns the variable columns. The column {@code i} contains the
+	 *        values of the variable with index {@code i}.
+	 * @return a new column-oriented sampling object
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 * @throws IllegalArgumentException if no sample or no column is given,
+	 *         or if the length of one column differs from the number of
+	 *         results
+	 */
+	static Sampling<Double> ofColumns(
+		final double[] results,
+		final double[]... columns
+	) {
+		return new ColumnSampling(results, columns);
+	}
+
+	/**
+	 * Create a new, column-oriented sampling object, which caches the
+	 * evaluated sub-tree columns. Structurally equal sub-trees, which occur
+	 * in different programs of the population, are then evaluated only once,
+	 * as long as they stay in the cache.
+	 *
+	 * @see #ofColumns(double[], double[]...)
+	 *
+	 * @since 7.1
+	 *
+	 * @param cacheSize the maximal number of cached sub-tree columns
+	 * @param maxAge the maximal number of program evaluations, a cached
+	 *        sub-tree column is kept without being used
+	 * @param results the expected sample results
+	 * @param columns the variable columns. The column {@code i} contains the
+	 *        values of the variable with index {@code i}.
+	 * @return a new column-oriented sampling object
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 * @throws IllegalArgumentException if no sample or no column is given,
+	 *         if the length of one column differs from the number of
+	 *         results, or if the cache size or the maximal age is smaller
+	 *         than one
+	 */
+	static Sampling<Double> ofColumns(
+		final int cacheSize,
+		final int maxAge,
+		final double[] results,
+		final double[]... columns
+	) {
+		return new ColumnSampling(
+			results,
+			columns,
+			new SubtreeCache(cacheSize, maxAge)
+		);
+	}
+
 }
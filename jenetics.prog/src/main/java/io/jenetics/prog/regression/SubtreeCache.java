@@ -0,0 +1,226 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Cache of evaluated sub-tree columns, shared by all programs which are
+ * evaluated with the same {@link ColumnSampling}. Since the sub-trees of GP
+ * programs are heavily recombined by the tree crossover operators, many
+ * sub-trees occur in several individuals of a population. The cache is
+ * bounded by its maximal number of entries. Additionally, entries which
+ * haven't been used within the last {@code maxAge} program evaluations are
+ * evicted.
+ * <p>
+ * The cache is thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class SubtreeCache {
+
+	/**
+	 * Structural representation of an operation tree, used as cache key. The
+	 * hash code is calculated once, when the key is created.
+	 */
+	static final class Key {
+		final Op<Double> op;
+		final Key[] children;
+		final boolean variable;
+
+		private final Object _symbol;
+		private final int _hash;
+
+		private Key(final Op<Double> op, final Key[] children) {
+			this.op = op;
+			this.children = children;
+
+			boolean variable = op instanceof Var<?>;
+			for (var child : children) {
+				variable |= child.variable;
+			}
+			this.variable = variable;
+
+			_symbol = symbol(op);
+			_hash = 31*_symbol.hashCode() + Arrays.hashCode(children);
+		}
+
+		private static Object symbol(final Op<Double> op) {
+			if (op instanceof MathOp) {
+				return op;
+			} else if (op instanceof Var<?> var) {
+				return new VarSymbol(var.index());
+			} else if (op instanceof Val<Double> val) {
+				return val.value();
+			} else {
+				return new OpSymbol(op);
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key other &&
+				_hash == other._hash &&
+				_symbol.equals(other._symbol) &&
+				Arrays.equals(children, other.children);
+		}
+
+		static Key of(final Tree<? extends Op<Double>, ?> tree) {
+			final Key[] children = new Key[tree.childCount()];
+			for (int i = 0; i < children.length; ++i) {
+				children[i] = of(tree.childAt(i));
+			}
+			return new Key(tree.value(), children);
+		}
+	}
+
+	private record VarSymbol(int index) {}
+
+	// Operations without structural equality are compared by identity.
+	private record OpSymbol(Op<?> op) {
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(op);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof OpSymbol other && op == other.op;
+		}
+	}
+
+	private static final class Entry {
+		final double[] values;
+		long time;
+
+		Entry(final double[] values, final long time) {
+			this.values = values;
+			this.time = time;
+		}
+	}
+
+	private final int _maxSize;
+	private final int _maxAge;
+	private final Map<Key, Entry> _entries = new LinkedHashMap<>(16, 0.75F, true);
+
+	private long _time = 0;
+	private long _hits = 0;
+	private long _misses = 0;
+
+	/**
+	 * Create a new sub-tree cache.
+	 *
+	 * @param maxSize the maximal number of cached sub-tree columns
+	 * @param maxAge the maximal number of program evaluations, a cached
+	 *        column is kept without being used
+	 * @throws IllegalArgumentException if one of the arguments is smaller
+	 *         than one
+	 */
+	SubtreeCache(final int maxSize, final int maxAge) {
+		checkParameters(maxSize, maxAge);
+		_maxSize = maxSize;
+		_maxAge = maxAge;
+	}
+
+	static void checkParameters(final int maxSize, final int maxAge) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Cache size must be greater than zero: %d", maxSize
+			));
+		}
+		if (maxAge < 1) {
+			throw new IllegalArgumentException(format(
+				"Maximal age must be greater than zero: %d", maxAge
+			));
+		}
+	}
+
+	synchronized double[] get(final Key key) {
+		final Entry entry = _entries.get(key);
+		if (entry != null) {
+			entry.time = _time;
+			++_hits;
+			return entry.values;
+		} else {
+			++_misses;
+			return null;
+		}
+	}
+
+	synchronized void put(final Key key, final double[] values) {
+		_entries.put(key, new Entry(values, _time));
+		evict();
+	}
+
+	/**
+	 * Advances the cache time by one program evaluation and evicts the
+	 * outdated entries.
+	 */
+	synchronized void tick() {
+		++_time;
+		evict();
+	}
+
+	// The entries are in access order, the least recently used first.
+	private void evict() {
+		final Iterator<Entry> entries = _entries.values().iterator();
+		while (entries.hasNext()) {
+			final Entry entry = entries.next();
+			if (_entries.size() > _maxSize || _time - entry.time > _maxAge) {
+				entries.remove();
+			} else {
+				break;
+			}
+		}
+	}
+
+	synchronized int size() {
+		return _entries.size();
+	}
+
+	synchronized long hits() {
+		return _hits;
+	}
+
+	synchronized long misses() {
+		return _misses;
+	}
+
+}
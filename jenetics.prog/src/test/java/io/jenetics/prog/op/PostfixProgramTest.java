@@ -0,0 +1,150 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PostfixProgramTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.<Op<Double>>of(
+		MathOp.values()
+	).append(
+		Op.of("fma", 3, v -> v[0]*v[1] + v[2]),
+		Op.of("half", v -> v/2.0)
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Var.of("z", 2),
+		MathOp.PI,
+		Const.of(1.0),
+		EphemeralConst.of(() -> new Random().nextDouble()*10)
+	);
+
+	private static void assertBitsEquals(final double actual, final double expected) {
+		Assert.assertEquals(
+			Double.doubleToLongBits(actual),
+			Double.doubleToLongBits(expected),
+			actual + " != " + expected
+		);
+	}
+
+	@Test(dataProvider = "mathOps")
+	public void evalMathOp(final MathOp op) {
+		final TreeNode<Op<Double>> tree = TreeNode.of(op);
+		for (int i = 0; i < op.arity(); ++i) {
+			tree.attach(Var.of("x" + i, i));
+		}
+
+		final var program = PostfixProgram.of(tree);
+		Assert.assertEquals(program.arity(), op.arity());
+
+		final var random = new Random(123);
+		for (int i = 0; i < 20; ++i) {
+			final double[] args = random.doubles(op.arity(), -10, 10).toArray();
+			assertBitsEquals(
+				program.applyAsDouble(args),
+				Program.eval(tree, box(args))
+			);
+		}
+	}
+
+	@DataProvider
+	public Object[][] mathOps() {
+		return Stream.of(MathOp.values())
+			.map(op -> new Object[]{op})
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "seeds")
+	public void evalRandomProgram(final long seed) {
+		final Random random = new Random(seed);
+
+		for (int i = 0; i < 20; ++i) {
+			final var tree = FlatTreeNode.ofTree(
+				Program.of(5, OPERATIONS, TERMINALS, random)
+			);
+			final var program = PostfixProgram.of(tree);
+
+			final double[][] samples = IntStream.range(0, 20)
+				.mapToObj(j -> random.doubles(3, -10, 10).toArray())
+				.toArray(double[][]::new);
+			final double[] results = program.eval(samples);
+
+			for (int j = 0; j < samples.length; ++j) {
+				final double expected = Program.eval(tree, box(samples[j]));
+				assertBitsEquals(results[j], expected);
+				assertBitsEquals(program.applyAsDouble(samples[j]), expected);
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] seeds() {
+		return IntStream.range(0, 10)
+			.mapToObj(i -> new Object[]{(long)i})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void identityIsRemoved() {
+		final var program = PostfixProgram.of(MathExpr.parse("id(id(x)) + 1").tree());
+
+		Assert.assertEquals(program.size(), 3);
+		Assert.assertEquals(program.applyAsDouble(new double[]{2}), 3.0);
+	}
+
+	@Test
+	public void constantProgram() {
+		final var program = PostfixProgram.of(TreeNode.of(Const.of(5.0)));
+
+		Assert.assertEquals(program.arity(), 0);
+		Assert.assertEquals(program.eval(new double[3][0]), new double[]{5, 5, 5});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingVariables() {
+		PostfixProgram.of(MathExpr.parse("x + y").tree())
+			.eval(new double[][]{{1, 2}, {1}});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidProgram() {
+		PostfixProgram.of(TreeNode.<Op<Double>>of(MathOp.ADD).attach(Var.of("x", 0)));
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProgramCompilerTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.<Op<Double>>of(
+		MathOp.values()
+	).append(
+		Op.of("fma", 3, v -> v[0]*v[1] + v[2]),
+		Op.of("half", v -> v/2.0)
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Var.of("z", 2),
+		MathOp.PI,
+		Const.of(1.0),
+		EphemeralConst.of(() -> new Random().nextDouble()*10)
+	);
+
+	private static void assertEquals(
+		final ToDoubleFunction<double[]> compiled,
+		final Tree<? extends Op<Double>, ?> program,
+		final Random random
+	) {
+		for (int i = 0; i < 20; ++i) {
+			final double[] args = random.doubles(3, -10, 10).toArray();
+			final double expected = Program.eval(program, box(args));
+			final double actual = compiled.applyAsDouble(args);
+
+			Assert.assertEquals(
+				Double.doubleToLongBits(actual),
+				Double.doubleToLongBits(expected),
+				program.toParenthesesString() + ": " + actual + " != " + expected
+			);
+		}
+	}
+
+	@Test(dataProvider = "mathOps")
+	public void compileMathOp(final MathOp op) {
+		final TreeNode<Op<Double>> tree = TreeNode.of(op);
+		for (int i = 0; i < op.arity(); ++i) {
+			tree.attach(Var.of("x" + i, i));
+		}
+
+		final var compiled = new ProgramCompiler().compile(tree);
+		Assert.assertTrue(compiled instanceof CompiledProgram);
+		assertEquals(compiled, tree, new Random(123));
+	}
+
+	@DataProvider
+	public Object[][] mathOps() {
+		return Stream.of(MathOp.values())
+			.map(op -> new Object[]{op})
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "seeds")
+	public void compileRandomProgram(final long seed) {
+		final Random random = new Random(seed);
+		final ProgramCompiler compiler = new ProgramCompiler();
+
+		for (int i = 0; i < 20; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(5, OPERATIONS, TERMINALS, random);
+
+			assertEquals(compiler.compile(program), program, random);
+		}
+	}
+
+	@DataProvider
+	public Object[][] seeds() {
+		return IntStream.range(0, 10)
+			.mapToObj(i -> new Object[]{(long)i})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void compileMathExpr() {
+		final MathExpr expr = MathExpr.parse("2*z + 3*x - y + sin(x)^2");
+		final var compiled = new ProgramCompiler().compile(expr);
+
+		Assert.assertEquals(
+			compiled.applyAsDouble(new double[]{3, 2, 1}),
+			expr.eval(3, 2, 1)
+		);
+	}
+
+	@Test
+	public void sameStructureSharesClass() {
+		final ProgramCompiler compiler = new ProgramCompiler();
+		final var f1 = compiler.compile(MathExpr.parse("x*2.0 + sin(y)"));
+		final var f2 = compiler.compile(MathExpr.parse("x*5.0 + sin(y)"));
+		final var f3 = compiler.compile(MathExpr.parse("x*5.0 + cos(y)"));
+
+		Assert.assertSame(f1.getClass(), f2.getClass());
+		Assert.assertNotSame(f1.getClass(), f3.getClass());
+		Assert.assertEquals(f1.applyAsDouble(new double[]{1, 0}), 2.0);
+		Assert.assertEquals(f2.applyAsDouble(new double[]{1, 0}), 5.0);
+	}
+
+	@Test
+	public void cacheEviction() {
+		final ProgramCompiler compiler = new ProgramCompiler(1);
+		final var f1 = compiler.compile(MathExpr.parse("x + y"));
+		compiler.compile(MathExpr.parse("x - y"));
+		final var f2 = compiler.compile(MathExpr.parse("x + y"));
+
+		Assert.assertNotSame(f1.getClass(), f2.getClass());
+	}
+
+	@Test
+	public void largeProgram() {
+		final TreeNode<Op<Double>> tree = TreeNode.of(Var.of("x", 0));
+		TreeNode<Op<Double>> program = tree;
+		for (int i = 0; i < ProgramCompiler.MAX_CODE_SIZE/4; ++i) {
+			program = TreeNode.<Op<Double>>of(MathOp.ADD)
+				.attach(program)
+				.attach(Const.of(1.0));
+		}
+
+		final var compiled = new ProgramCompiler().compile(program);
+		Assert.assertFalse(compiled instanceof CompiledProgram);
+		Assert.assertEquals(
+			compiled.applyAsDouble(new double[]{1}),
+			1.0 + ProgramCompiler.MAX_CODE_SIZE/4
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingVariables() {
+		new ProgramCompiler()
+			.compile(MathExpr.parse("x + y"))
+			.applyAsDouble(new double[]{1});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidProgram() {
+		new ProgramCompiler()
+			.compile(TreeNode.<Op<Double>>of(MathOp.ADD).attach(Var.of("x", 0)));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCacheSize() {
+		new ProgramCompiler(0);
+	}
+
+}
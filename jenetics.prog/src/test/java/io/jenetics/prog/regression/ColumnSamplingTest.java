@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.EphemeralConst;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ColumnSamplingTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.<Op<Double>>of(
+		MathOp.values()
+	).append(
+		Op.of("fma", 3, v -> v[0]*v[1] + v[2])
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		MathOp.PI,
+		Const.of(1.0),
+		EphemeralConst.of(() -> new Random().nextDouble()*10)
+	);
+
+	private static double[] column(final Random random, final int size) {
+		return random.doubles(size, -10, 10).toArray();
+	}
+
+	private static Double[] expected(
+		final Tree<? extends Op<Double>, ?> program,
+		final double[] xs,
+		final double[] ys
+	) {
+		final Double[] expected = new Double[xs.length];
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = Program.eval(program, xs[i], ys[i]);
+		}
+		return expected;
+	}
+
+	@Test(dataProvider = "seeds")
+	public void evalRandomProgram(final long seed) {
+		final Random random = new Random(seed);
+		final double[] xs = column(random, 50);
+		final double[] ys = column(random, 50);
+		final double[] results = column(random, 50);
+		final Sampling<Double> sampling = Sampling.ofColumns(results, xs, ys);
+
+		for (int i = 0; i < 20; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(4, OPERATIONS, TERMINALS, random);
+
+			final var result = sampling.eval(program);
+			Assert.assertEquals(result.calculated(), expected(program, xs, ys));
+			Assert.assertEquals(
+				result.expected(),
+				IntStream.range(0, results.length)
+					.mapToObj(j -> results[j])
+					.toArray(Double[]::new)
+			);
+		}
+	}
+
+	@DataProvider
+	public Object[][] seeds() {
+		return IntStream.range(0, 10)
+			.mapToObj(i -> new Object[]{(long)i})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void evalSharedSubExpressions() {
+		final double[] xs = {1, 2, 3};
+		final double[] ys = {4, 5, 6};
+		final var program = MathExpr.parse("(x + 1)*(x + y) - (x + 1)/y + id(x)").tree();
+
+		final var result = Sampling.ofColumns(new double[3], xs, ys).eval(program);
+		Assert.assertEquals(result.calculated(), expected(program, xs, ys));
+	}
+
+	@Test(dataProvider = "seeds")
+	public void evalCachedRandomPrograms(final long seed) {
+		final Random random = new Random(seed);
+		final double[] xs = column(random, 50);
+		final double[] ys = column(random, 50);
+		final var cache = new SubtreeCache(100, 10);
+		final var sampling = new ColumnSampling(new double[50], new double[][]{xs, ys}, cache);
+
+		final var programs = IntStream.range(0, 20)
+			.mapToObj(i -> Program.of(4, OPERATIONS, TERMINALS, random))
+			.toList();
+
+		// Evaluating every program twice must give the same result.
+		for (int i = 0; i < 2; ++i) {
+			for (var program : programs) {
+				Assert.assertEquals(
+					sampling.eval(program).calculated(),
+					expected(program, xs, ys)
+				);
+			}
+		}
+		Assert.assertTrue(cache.size() <= 100);
+	}
+
+	@Test
+	public void evalCachedSharedSubtrees() {
+		final double[] xs = {1, 2, 3};
+		final double[] ys = {4, 5, 6};
+		final var cache = new SubtreeCache(100, 100);
+		final var sampling = new ColumnSampling(new double[3], new double[][]{xs, ys}, cache);
+
+		final var p1 = MathExpr.parse("sin(x*y) + (x - 1)").tree();
+		final var p2 = MathExpr.parse("sin(x*y)*cos(x - 1)").tree();
+		Assert.assertEquals(sampling.eval(p1).calculated(), expected(p1, xs, ys));
+		final long hits = cache.hits();
+		Assert.assertEquals(sampling.eval(p2).calculated(), expected(p2, xs, ys));
+
+		// 'sin(x*y)' and 'x - 1' are taken from the cache.
+		Assert.assertEquals(cache.hits() - hits, 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCacheSize() {
+		Sampling.ofColumns(0, 10, new double[]{1, 2}, new double[]{3, 4});
+	}
+
+	@Test
+	public void evalConstantProgram() {
+		final var result = Sampling.ofColumns(new double[]{1, 2}, new double[]{3, 4})
+			.eval(MathExpr.parse("sin(2)*3 + 1").tree());
+
+		final double expected = Math.sin(2)*3 + 1;
+		Assert.assertEquals(result.calculated(), new Double[]{expected, expected});
+	}
+
+	@Test
+	public void evalFunction() {
+		final var result = Sampling.ofColumns(new double[]{1, 2}, new double[]{3, 4})
+			.eval(args -> args[0]*2);
+
+		Assert.assertEquals(result.calculated(), new Double[]{6.0, 8.0});
+	}
+
+	@Test
+	public void inputIsCopied() {
+		final double[] xs = {1, 2};
+		final var sampling = Sampling.ofColumns(new double[]{1, 2}, xs);
+		xs[0] = 10;
+
+		Assert.assertEquals(
+			sampling.eval(MathExpr.parse("x").tree()).calculated(),
+			new Double[]{1.0, 2.0}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingVariable() {
+		Sampling.ofColumns(new double[]{1, 2}, new double[]{3, 4})
+			.eval(MathExpr.parse("x + y").tree());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptySamples() {
+		Sampling.ofColumns(new double[0], new double[0]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noColumns() {
+		Sampling.ofColumns(new double[]{1, 2});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void columnLengthCheck() {
+		Sampling.ofColumns(new double[]{1, 2}, new double[]{1, 2}, new double[]{1});
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.EphemeralConst;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MiniBatchSamplingTest {
+
+	private static final ISeq<Op<Double>> OPS =
+		ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL);
+
+	private static final ISeq<Op<Double>> TMS = ISeq.of(
+		Var.of("x", 0),
+		EphemeralConst.of(() -> (double)RandomRegistry.random().nextInt(10))
+	);
+
+	private static List<Sample<Double>> samples(final int size) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> Sample.ofDouble(i, 3.0*i*i + 1))
+			.toList();
+	}
+
+	private static Tree<Op<Double>, ?> tree(final String expression) {
+		return MathExpr.parse(expression).tree();
+	}
+
+	@Test
+	public void rotateBatches() {
+		final var sampling = MiniBatchSampling.of(samples(50), 10);
+		final Set<Double> xs = new HashSet<>();
+
+		for (int i = 0; i < 5; ++i) {
+			final var result = sampling.eval(tree("x"));
+			Assert.assertEquals(result.calculated().length, 10);
+			xs.addAll(List.of(result.calculated()));
+			sampling.next();
+		}
+
+		// Every sample point is used once per epoch.
+		Assert.assertEquals(xs.size(), 50);
+	}
+
+	@Test
+	public void rotateIncompleteBatches() {
+		final var sampling = MiniBatchSampling.of(samples(25), 10);
+		final List<Double> xs = new ArrayList<>();
+
+		for (int i = 0; i < 10; ++i) {
+			final var result = sampling.eval(tree("x"));
+			Assert.assertEquals(result.calculated().length, 10);
+			Assert.assertEquals(Set.of(result.calculated()).size(), 10);
+			xs.addAll(List.of(result.calculated()));
+			sampling.next();
+		}
+
+		// Every sample point is used once per epoch, including the sample
+		// points of the incomplete last batch.
+		for (int epoch = 0; epoch < 4; ++epoch) {
+			Assert.assertEquals(
+				new HashSet<>(xs.subList(epoch*25, (epoch + 1)*25)).size(),
+				25
+			);
+		}
+	}
+
+	@Test
+	public void evalStages() {
+		final var sampling = MiniBatchSampling.of(samples(100), 37, 0.5);
+		final var result = sampling.eval(tree("3*x*x + 1"));
+
+		Assert.assertEquals(result.calculated().length, 37);
+		Assert.assertEquals(result.calculated(), result.expected());
+	}
+
+	@Test
+	public void batchSizeGreaterThanSamples() {
+		final var sampling = MiniBatchSampling.of(samples(10), 100);
+		Assert.assertEquals(sampling.batchSize(), 10);
+		Assert.assertEquals(sampling.eval(tree("x")).calculated().length, 10);
+	}
+
+	@Test
+	public void racing() {
+		final var sampling = MiniBatchSampling.of(samples(200), 64, 0.5);
+		final Regression<Double> regression = Regression.of(
+			Regression.codecOf(OPS, TMS, 5),
+			Error.of(LossFunction::mse),
+			sampling
+		);
+		Assert.assertEquals(sampling.bound(), Double.POSITIVE_INFINITY);
+
+		final var good = tree("3*x*x + 1");
+		final var bad = tree("x*x*x*x");
+		Assert.assertEquals(regression.error(good), 0.0);
+		regression.error(good);
+		regression.error(bad);
+		sampling.next();
+
+		Assert.assertEquals(sampling.bound(), 0.0);
+		Assert.assertEquals(regression.error(good), 0.0);
+
+		// The bad program is aborted after the first stage.
+		final var first = sampling.eval(bad);
+		final Double[] calculated = List.of(first.calculated()).subList(0, 8)
+			.toArray(Double[]::new);
+		final Double[] expected = List.of(first.expected()).subList(0, 8)
+			.toArray(Double[]::new);
+		Assert.assertEquals(
+			regression.error(bad),
+			LossFunction.mse(calculated, expected)
+		);
+	}
+
+	@Test
+	public void withoutRacing() {
+		final var sampling = MiniBatchSampling.of(samples(200), 64);
+		final Regression<Double> regression = Regression.of(
+			Regression.codecOf(OPS, TMS, 5),
+			Error.of(LossFunction::mse),
+			sampling
+		);
+
+		final var bad = tree("x*x*x*x");
+		regression.error(tree("3*x*x + 1"));
+		sampling.next();
+
+		final var result = sampling.eval(bad);
+		Assert.assertEquals(sampling.bound(), Double.POSITIVE_INFINITY);
+		Assert.assertEquals(
+			regression.error(bad),
+			LossFunction.mse(result.calculated(), result.expected())
+		);
+	}
+
+	@Test
+	public void evolve() {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5, t -> t.gene().size() < 30);
+		final var samples = samples(500);
+		final var sampling = MiniBatchSampling.of(samples, 50, 0.75);
+		final var error = Error.<Double>of(LossFunction::mse);
+
+		final Engine<ProgramGene<Double>, Double> engine = Engine
+			.builder(Regression.of(codec, error, sampling))
+			.minimizing()
+			.interceptor(sampling.<ProgramGene<Double>>interceptor())
+			.populationSize(50)
+			.build();
+
+		final ISeq<Phenotype<ProgramGene<Double>, Double>> population = engine
+			.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult())
+			.population();
+		Assert.assertTrue(population.forAll(Phenotype::isEvaluated));
+
+		final Regression<Double> full = Regression.of(codec, error, sampling.full());
+		Assert.assertEquals(sampling.full().eval(tree("x")).calculated().length, 500);
+
+		final var best = population.stream()
+			.map(pt -> codec.decode(pt.genotype()))
+			.mapToDouble(full::error)
+			.min()
+			.orElseThrow();
+		Assert.assertTrue(Double.isFinite(best));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptySamples() {
+		MiniBatchSampling.of(List.<Sample<Double>>of(), 10);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		MiniBatchSampling.of(samples(10), 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		MiniBatchSampling.of(samples(10), 5, 0);
+	}
+
+}
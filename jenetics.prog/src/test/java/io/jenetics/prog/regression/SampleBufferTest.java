@@ -20,10 +20,13 @@
 package io.jenetics.prog.regression;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.prog.op.MathExpr;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -55,4 +58,38 @@ public class SampleBufferTest {
 		);
 	}
 
+	@Test
+	public void publishCached() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(10, 100, 10);
+		final var program = MathExpr.parse("sin(x)*x + 1").tree();
+
+		for (int i = 0; i < 10; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		buffer.publish();
+		Assert.assertEquals(
+			buffer.eval(program).calculated(),
+			IntStream.range(0, 10)
+				.mapToObj(i -> Math.sin(i)*i + 1)
+				.toArray(Double[]::new)
+		);
+
+		// The cached columns of the old snapshot must not be used.
+		for (int i = 10; i < 20; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		buffer.publish();
+		Assert.assertEquals(
+			buffer.eval(program).calculated(),
+			IntStream.range(10, 20)
+				.mapToObj(i -> Math.sin(i)*i + 1)
+				.toArray(Double[]::new)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCacheSize() {
+		new SampleBuffer<Double>(10, 0, 10);
+	}
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Op;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCacheTest {
+
+	private static SubtreeCache.Key key(final String expression) {
+		final Tree<? extends Op<Double>, ?> tree = MathExpr.parse(expression).tree();
+		return SubtreeCache.Key.of(tree);
+	}
+
+	@Test
+	public void keyEquality() {
+		Assert.assertEquals(key("sin(x)*y + 3"), key("sin(x)*y + 3"));
+		Assert.assertEquals(key("sin(x)*y + 3").hashCode(), key("sin(x)*y + 3").hashCode());
+
+		Assert.assertNotEquals(key("sin(x)*y + 3"), key("sin(y)*x + 3"));
+		Assert.assertNotEquals(key("sin(x)*y + 3"), key("sin(x)*y + 4"));
+		Assert.assertNotEquals(key("sin(x)*y + 3"), key("cos(x)*y + 3"));
+		Assert.assertNotEquals(key("x - y"), key("y - x"));
+	}
+
+	@Test
+	public void keyVariable() {
+		Assert.assertTrue(key("sin(x) + 1").variable);
+		Assert.assertFalse(key("sin(2) + 1").variable);
+	}
+
+	@Test
+	public void getPut() {
+		final var cache = new SubtreeCache(10, 10);
+		Assert.assertNull(cache.get(key("x + 1")));
+
+		final double[] values = {1, 2, 3};
+		cache.put(key("x + 1"), values);
+		Assert.assertSame(cache.get(key("x + 1")), values);
+		Assert.assertEquals(cache.size(), 1);
+		Assert.assertEquals(cache.hits(), 1);
+		Assert.assertEquals(cache.misses(), 1);
+	}
+
+	@Test
+	public void evictBySize() {
+		final var cache = new SubtreeCache(2, 100);
+		cache.put(key("x + 1"), new double[]{1});
+		cache.put(key("x + 2"), new double[]{2});
+		cache.get(key("x + 1"));
+		cache.put(key("x + 3"), new double[]{3});
+
+		Assert.assertEquals(cache.size(), 2);
+		Assert.assertNotNull(cache.get(key("x + 1")));
+		Assert.assertNull(cache.get(key("x + 2")));
+		Assert.assertNotNull(cache.get(key("x + 3")));
+	}
+
+	@Test
+	public void evictByAge() {
+		final var cache = new SubtreeCache(100, 2);
+		cache.put(key("x + 1"), new double[]{1});
+		cache.put(key("x + 2"), new double[]{2});
+
+		cache.tick();
+		cache.tick();
+		cache.get(key("x + 2"));
+		cache.tick();
+
+		Assert.assertEquals(cache.size(), 1);
+		Assert.assertNull(cache.get(key("x + 1")));
+		Assert.assertNotNull(cache.get(key("x + 2")));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSize() {
+		new SubtreeCache(0, 10);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidAge() {
+		new SubtreeCache(10, 0);
+	}
+
+}
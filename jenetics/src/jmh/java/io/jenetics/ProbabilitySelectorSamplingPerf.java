@@ -0,0 +1,105 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.ProbabilitySelector.incremental;
+import static io.jenetics.internal.math.Basics.normalize;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.internal.math.AliasTable;
+
+/**
+ * Compares the binary search on the summed probability array with the
+ * alias table sampling. Both benchmarks include the creation of the sampling
+ * data structure and select {@code size} indexes, like the
+ * {@link ProbabilitySelector} does for one generation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProbabilitySelectorSamplingPerf {
+
+	@Param({"100", "250", "1000", "10000", "50000", "100000"})
+	public int size;
+
+	private final Random random = new Random();
+	private double[] probabilities;
+
+	@Setup
+	public void setup() {
+		probabilities = new double[size];
+		for (int i = 0; i < size; ++i) {
+			probabilities[i] = Math.abs(random.nextGaussian()) + 0.1;
+		}
+		normalize(probabilities);
+	}
+
+	@Benchmark
+	public int binarySearch() {
+		final double[] incr = incremental(probabilities.clone());
+
+		int sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += ProbabilitySelector.indexOf(incr, random.nextDouble());
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int aliasTable() {
+		final AliasTable table = AliasTable.of(probabilities);
+
+		int sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += table.nextIndex(random);
+		}
+		return sum;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + ProbabilitySelectorSamplingPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the default, {@code ForkJoinPool} based, evaluator with the
+ * thread-per-phenotype evaluator for <em>blocking</em> fitness functions.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EvaluatorPerf {
+
+	@Param({"100", "1000"})
+	public int populationSize;
+
+	@Param({"1"})
+	public int blockingMillis;
+
+	private ISeq<Phenotype<DoubleGene, Double>> population;
+	private Evaluator<DoubleGene, Double> forkJoin;
+	private Evaluator<DoubleGene, Double> virtualThreads;
+
+	@Setup
+	public void setup() {
+		population = Genotype.of(DoubleChromosome.of(0, 1, 10)).instances()
+			.limit(populationSize)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+
+		forkJoin = Evaluators.concurrent(this::fitness, ForkJoinPool.commonPool());
+		virtualThreads = Evaluators.virtualThreads(this::fitness);
+	}
+
+	private double fitness(final Genotype<DoubleGene> gt) {
+		try {
+			Thread.sleep(blockingMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return gt.gene().doubleValue();
+	}
+
+	@Benchmark
+	public Object forkJoin() {
+		return forkJoin.eval(population);
+	}
+
+	@Benchmark
+	public Object virtualThreads() {
+		return virtualThreads.eval(population);
+	}
+
+}
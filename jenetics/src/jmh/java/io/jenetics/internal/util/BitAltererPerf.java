@@ -0,0 +1,134 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.AltererResult;
+import io.jenetics.BitChromosome;
+import io.jenetics.BitFlipMutator;
+import io.jenetics.BitGene;
+import io.jenetics.BitMultiPointCrossover;
+import io.jenetics.BitUniformCrossover;
+import io.jenetics.Genotype;
+import io.jenetics.MultiPointCrossover;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.UniformCrossover;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the gene based alterers with the word-parallel bit alterers.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BitAltererPerf {
+
+	@Param({"1000", "100000"})
+	public int length;
+
+	ISeq<Phenotype<BitGene, Integer>> population;
+
+	final Mutator<BitGene, Integer> mutator = new Mutator<>(0.01);
+	final BitFlipMutator<Integer> bitFlipMutator = new BitFlipMutator<>(0.01);
+
+	final UniformCrossover<BitGene, Integer> uniformCrossover =
+		new UniformCrossover<>(0.5, 0.5);
+	final BitUniformCrossover<Integer> bitUniformCrossover =
+		new BitUniformCrossover<>(0.5, 0.5);
+
+	final MultiPointCrossover<BitGene, Integer> multiPointCrossover =
+		new MultiPointCrossover<>(0.5, 4);
+	final BitMultiPointCrossover<Integer> bitMultiPointCrossover =
+		new BitMultiPointCrossover<>(0.5, 4);
+
+	@Setup
+	public void setup() {
+		population = Genotype.of(BitChromosome.of(length, 0.5)).instances()
+			.limit(20)
+			.map(gt -> Phenotype.<BitGene, Integer>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> mutator() {
+		return mutator.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> bitFlipMutator() {
+		return bitFlipMutator.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> uniformCrossover() {
+		return uniformCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> bitUniformCrossover() {
+		return bitUniformCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> multiPointCrossover() {
+		return multiPointCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<BitGene, Integer> bitMultiPointCrossover() {
+		return bitMultiPointCrossover.alter(population, 1);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + BitAltererPerf.class.getSimpleName() + ".*")
+			.warmupIterations(4)
+			.measurementIterations(7)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
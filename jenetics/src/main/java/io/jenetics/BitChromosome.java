@@ -37,6 +37,7 @@ import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.BitSet;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.collection.BitArray;
@@ -49,7 +50,8 @@ import io.jenetics.util.ISeq;
  *
  * @implNote
  * This class is immutable and thread-safe. The bits of the bit chromosome are
- * backed by a {@code byte[]} array with the following layout:
+ * backed by a {@code long[]} array, where the {@code byte[]} representation
+ * has the following layout:
  * <pre> {@code
  *  Byte:       3        2        1        0
  *              |        |        |        |
@@ -60,11 +62,12 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 7.0
+ * @version 7.1
  */
 public final class BitChromosome extends Number
 	implements
 		Chromosome<BitGene>,
+		BulkMutableChromosome<BitGene>,
 		Comparable<BitChromosome>,
 		Serializable
 {
@@ -326,6 +329,57 @@ public final class BitChromosome extends Number
 		return new BitChromosome(array, _p);
 	}
 
+	/**
+	 * Return a new chromosome, where the bits at the given {@code indexes}
+	 * are replaced by the result of the given {@code mutation} function. The
+	 * bit array of {@code this} chromosome is copied and only the mutated
+	 * bits are written, without creating a new gene sequence.
+	 *
+	 * @since 7.1
+	 *
+	 * @param indexes the indexes of the genes to mutate
+	 * @param mutation the gene mutation function
+	 * @return a new chromosome with the mutated genes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IndexOutOfBoundsException if one of the given indexes is out of
+	 *         range {@code (index < 0 || index >= length())}
+	 */
+	@Override
+	public BitChromosome mutate(
+		final int[] indexes,
+		final UnaryOperator<BitGene> mutation
+	) {
+		requireNonNull(mutation);
+
+		final var array = _genes.copy();
+		for (int index : indexes) {
+			array.set(index, mutation.apply(get(index)).bit());
+		}
+
+		return new BitChromosome(array, _p);
+	}
+
+	/**
+	 * Return a copy of the bit array of {@code this} chromosome.
+	 *
+	 * @return a copy of the bit array
+	 */
+	BitArray toBitArray() {
+		return _genes.copy();
+	}
+
+	/**
+	 * Create a new chromosome from the given bit {@code array}, with the
+	 * same ones probability as {@code this} chromosome. The given array is
+	 * not copied and must not be changed afterwards.
+	 *
+	 * @param array the bits of the new chromosome
+	 * @return a new chromosome
+	 */
+	BitChromosome newInstance(final BitArray array) {
+		return new BitChromosome(array, _p);
+	}
+
 	@Override
 	public BitChromosome newInstance() {
 		return of(length(), _p);
@@ -373,9 +427,7 @@ public final class BitChromosome extends Number
 	 */
 	public BitChromosome and(final BitChromosome other) {
 		final var array = _genes.copy();
-		for (int i = 0; i < Math.min(length(), other.length()); ++i) {
-			array.set(i, array.get(i) && other._genes.get(i));
-		}
+		array.and(other._genes);
 
 		return new BitChromosome(array, _p);
 	}
@@ -390,9 +442,7 @@ public final class BitChromosome extends Number
 	 */
 	public BitChromosome or(final BitChromosome other) {
 		final var array = _genes.copy();
-		for (int i = 0; i < Math.min(length(), other.length()); ++i) {
-			array.set(i, array.get(i) || other._genes.get(i));
-		}
+		array.or(other._genes);
 
 		return new BitChromosome(array, _p);
 	}
@@ -407,9 +457,7 @@ public final class BitChromosome extends Number
 	 */
 	public BitChromosome xor(final BitChromosome other) {
 		final var array = _genes.copy();
-		for (int i = 0; i < Math.min(length(), other.length()); ++i) {
-			array.set(i, array.get(i) ^ other._genes.get(i));
-		}
+		array.xor(other._genes);
 
 		return new BitChromosome(array, _p);
 	}
@@ -0,0 +1,133 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.collection.BitArray;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Base class of the crossover alterers, which are working directly on the
+ * bits of the chromosomes. It chooses the chromosomes in the same way as the
+ * {@link Crossover} class, but performs the crossover on copies of the
+ * underlying bit arrays, instead of gene sequences.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+abstract class BitCrossover<C extends Comparable<? super C>>
+	extends Recombinator<BitGene, C>
+{
+
+	BitCrossover(final double probability) {
+		super(probability, 2);
+	}
+
+	@Override
+	protected final int recombine(
+		final MSeq<Phenotype<BitGene, C>> population,
+		final int[] individuals,
+		final long generation
+	) {
+		assert individuals.length == 2 : "Required order of 2";
+
+		final var pt1 = population.get(individuals[0]);
+		final var pt2 = population.get(individuals[1]);
+		final var gt1 = pt1.genotype();
+		final var gt2 = pt2.genotype();
+
+		final var random = RandomRegistry.random();
+
+		//Choosing the Chromosome index for crossover.
+		final int chIndex = random.nextInt(min(gt1.length(), gt2.length()));
+
+		final var c1 = MSeq.of(gt1);
+		final var c2 = MSeq.of(gt2);
+		final var bits1 = toBitArray(c1.get(chIndex));
+		final var bits2 = toBitArray(c2.get(chIndex));
+
+		crossover(bits1, bits2, random);
+
+		c1.set(chIndex, newInstance(c1.get(chIndex), bits1));
+		c2.set(chIndex, newInstance(c2.get(chIndex), bits2));
+
+		//Creating two new Phenotypes and exchanging it with the old.
+		population.set(
+			individuals[0],
+			Phenotype.of(Genotype.of(c1), generation)
+		);
+		population.set(
+			individuals[1],
+			Phenotype.of(Genotype.of(c2), generation)
+		);
+
+		return order();
+	}
+
+	/**
+	 * Template method which performs the crossover. The arguments given are
+	 * copies of the bits of the two chromosomes, which might have different
+	 * lengths.
+	 *
+	 * @param that the bits of the first chromosome
+	 * @param other the bits of the other chromosome
+	 * @param random the random generator used for the crossover
+	 */
+	abstract void crossover(
+		final BitArray that,
+		final BitArray other,
+		final RandomGenerator random
+	);
+
+	private static BitArray toBitArray(final Chromosome<BitGene> chromosome) {
+		if (chromosome instanceof BitChromosome bits) {
+			return bits.toBitArray();
+		} else {
+			final var array = BitArray.ofLength(chromosome.length());
+			for (int i = 0; i < chromosome.length(); ++i) {
+				array.set(i, chromosome.get(i).bit());
+			}
+			return array;
+		}
+	}
+
+	private static Chromosome<BitGene> newInstance(
+		final Chromosome<BitGene> chromosome,
+		final BitArray array
+	) {
+		if (chromosome instanceof BitChromosome bits) {
+			return bits.newInstance(array);
+		} else {
+			return chromosome.newInstance(
+				IntStream.range(0, array.length())
+					.mapToObj(i -> BitGene.of(array.get(i)))
+					.collect(ISeq.toISeq())
+			);
+		}
+	}
+
+}
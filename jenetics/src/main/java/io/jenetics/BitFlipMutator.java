@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.collection.BitArray;
+
+/**
+ * Bit-flip mutator for bit chromosomes. Every bit of a selected chromosome is
+ * flipped with the given mutation probability. Unlike the plain
+ * {@link Mutator}, which replaces a mutated {@link BitGene} with a random one
+ * (and therefore changes it only with a probability of 0.5), this mutator
+ * always inverts the mutated bits.
+ * <p>
+ * For {@link BitChromosome}s, the mutation is performed on the underlying
+ * bit array, 64 bits at once. A random flip mask is created and XOR'ed with a
+ * copy of the chromosome bits. No {@link BitGene} objects are created. Other
+ * {@code BitGene} chromosomes are mutated gene by gene.
+ *
+ * <pre>{@code
+ * final Engine<BitGene, Integer> engine = Engine.builder(fitness, encoding)
+ *     .alterers(
+ *         new BitFlipMutator<>(0.01),
+ *         new BitUniformCrossover<>(0.2))
+ *     .build();
+ * }</pre>
+ *
+ * @see BitUniformCrossover
+ * @see BitMultiPointCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class BitFlipMutator<C extends Comparable<? super C>>
+	extends Mutator<BitGene, C>
+{
+
+	/**
+	 * Create a new bit-flip mutator with the given mutation probability.
+	 *
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}.
+	 */
+	public BitFlipMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Create a new bit-flip mutator with the default mutation probability
+	 * ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}).
+	 */
+	public BitFlipMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Flips the bits of the given chromosome with the given probability. If
+	 * the chromosome is a {@link BitChromosome}, the bits are flipped with a
+	 * random flip mask.
+	 */
+	@Override
+	protected MutatorResult<Chromosome<BitGene>> mutate(
+		final Chromosome<BitGene> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		if (chromosome instanceof BitChromosome bits) {
+			final var mask = BitArray.ofLength(bits.length(), p, random);
+			final int mutations = mask.bitCount();
+			if (mutations == 0) {
+				return new MutatorResult<>(chromosome, 0);
+			}
+
+			final var array = bits.toBitArray();
+			array.xor(mask);
+			return new MutatorResult<>(bits.newInstance(array), mutations);
+		} else {
+			return super.mutate(chromosome, p, random);
+		}
+	}
+
+	/**
+	 * Return the flipped {@code gene}.
+	 */
+	@Override
+	protected BitGene mutate(final BitGene gene, final RandomGenerator random) {
+		return BitGene.of(!gene.bit());
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.collection.BitArray;
+import io.jenetics.internal.math.Subset;
+
+/**
+ * Multiple point crossover for bit chromosomes. It has the same semantics as
+ * the {@link MultiPointCrossover}, but the bit ranges between the crossover
+ * points are swapped 64 bits at once. If it is created with one crossover
+ * point, it behaves like a single point crossover.
+ *
+ * @see MultiPointCrossover
+ * @see BitUniformCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class BitMultiPointCrossover<C extends Comparable<? super C>>
+	extends BitCrossover<C>
+{
+
+	private final int _n;
+
+	/**
+	 * Create a new crossover instance.
+	 *
+	 * @param probability the recombination probability.
+	 * @param n the number of crossover points.
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]} or {@code n &lt; 1}.
+	 */
+	public BitMultiPointCrossover(final double probability, final int n) {
+		super(probability);
+		if (n < 1) {
+			throw new IllegalArgumentException(format(
+				"n must be at least 1 but was %d.", n
+			));
+		}
+		_n = n;
+	}
+
+	/**
+	 * Create a new crossover instance with two crossover points.
+	 *
+	 * @param probability the recombination probability.
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}.
+	 */
+	public BitMultiPointCrossover(final double probability) {
+		this(probability, 2);
+	}
+
+	/**
+	 * Create a new crossover instance with two crossover points and crossover
+	 * probability 0.05.
+	 */
+	public BitMultiPointCrossover() {
+		this(0.05, 2);
+	}
+
+	/**
+	 * Return the number of crossover points.
+	 *
+	 * @return the number of crossover points.
+	 */
+	public int crossoverPointCount() {
+		return _n;
+	}
+
+	@Override
+	void crossover(
+		final BitArray that,
+		final BitArray other,
+		final RandomGenerator random
+	) {
+		final int n = min(that.length(), other.length());
+		final int k = min(n, _n);
+		final int[] points = Subset.next(n, k, random);
+
+		for (int i = 0; i < points.length - 1; i += 2) {
+			that.swap(points[i], points[i + 1], other);
+		}
+		if (points.length%2 == 1) {
+			that.swap(points[points.length - 1], n, other);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[p=%f, n=%d]",
+			getClass().getSimpleName(), _probability, _n
+		);
+	}
+
+}
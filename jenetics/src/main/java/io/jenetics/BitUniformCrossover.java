@@ -0,0 +1,109 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.collection.BitArray;
+import io.jenetics.internal.util.Requires;
+
+/**
+ * Uniform crossover for bit chromosomes. It has the same semantics as the
+ * {@link UniformCrossover}, but swaps the bits of the two chromosomes 64 bits
+ * at once. A random swap mask, where every bit is set with the
+ * {@link #swapProbability()}, determines the bits which are exchanged
+ * between the two chromosomes.
+ *
+ * @see UniformCrossover
+ * @see BitMultiPointCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class BitUniformCrossover<C extends Comparable<? super C>>
+	extends BitCrossover<C>
+{
+
+	private final double _swapProbability;
+
+	/**
+	 * Create a new uniform bit crossover instance.
+	 *
+	 * @param crossoverProbability the recombination probability. This is the
+	 *        probability that a given individual is selected for crossover.
+	 * @param swapProbability the probability for swapping a given bit of
+	 *         a chromosome
+	 * @throws IllegalArgumentException if the probabilities are not in the
+	 *         valid range of {@code [0, 1]}
+	 */
+	public BitUniformCrossover(
+		final double crossoverProbability,
+		final double swapProbability
+	) {
+		super(crossoverProbability);
+		_swapProbability = Requires.probability(swapProbability);
+	}
+
+	/**
+	 * Create a new uniform bit crossover instance. The
+	 * {@code swapProbability} is set to
+	 * {@link Alterer#DEFAULT_ALTER_PROBABILITY}.
+	 *
+	 * @param crossoverProbability the recombination probability. This is the
+	 *        probability that a given individual is selected for crossover.
+	 * @throws IllegalArgumentException if the probabilities are not in the
+	 *         valid range of {@code [0, 1]}
+	 */
+	public BitUniformCrossover(final double crossoverProbability) {
+		this(crossoverProbability, DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Create a new uniform bit crossover instance. The probabilities are set
+	 * to {@link Alterer#DEFAULT_ALTER_PROBABILITY}.
+	 */
+	public BitUniformCrossover() {
+		this(DEFAULT_ALTER_PROBABILITY, DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Return the probability for swapping bits of a chromosome.
+	 *
+	 * @return the probability for swapping bits of a chromosome
+	 */
+	public double swapProbability() {
+		return _swapProbability;
+	}
+
+	@Override
+	void crossover(
+		final BitArray that,
+		final BitArray other,
+		final RandomGenerator random
+	) {
+		final int length = min(that.length(), other.length());
+		final var mask = BitArray.ofLength(length, _swapProbability, random);
+		that.swap(other, mask);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Chromosome interface, which allows to mutate a (small) subset of its genes
+ * efficiently. This interface is used by the {@link Mutator} for replacing
+ * only the genes at the selected mutation indexes. Chromosomes with a dense,
+ * primitive array representation, like the {@link DoubleChromosome}, can copy
+ * the allele array and write the mutated slots, instead of creating a new
+ * gene sequence.
+ *
+ * <pre>{@code
+ * final DoubleChromosome chromosome = DoubleChromosome.of(0, 10, 1000);
+ * final DoubleChromosome mutated = chromosome.mutate(
+ *     new int[]{1, 42, 512},
+ *     DoubleGene::newInstance
+ * );
+ * }</pre>
+ *
+ * @implSpec
+ * Implementations must be immutable. The returned chromosome must contain
+ * the mutated genes at the given indexes and the original genes at all other
+ * positions. The mutation function is called exactly once for every given
+ * index, in the order of the {@code indexes} array.
+ *
+ * @see Mutator#mutate(Chromosome, double, java.util.random.RandomGenerator)
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public interface BulkMutableChromosome<G extends Gene<?, G>>
+	extends Chromosome<G>
+{
+
+	/**
+	 * Return a new chromosome, where the genes at the given {@code indexes}
+	 * are replaced by the result of the given {@code mutation} function. All
+	 * other genes are taken unchanged from {@code this} chromosome.
+	 *
+	 * @param indexes the indexes of the genes to mutate
+	 * @param mutation the gene mutation function
+	 * @return a new chromosome with the mutated genes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IndexOutOfBoundsException if one of the given indexes is out of
+	 *         range {@code (index < 0 || index >= length())}
+	 */
+	Chromosome<G> mutate(final int[] indexes, final UnaryOperator<G> mutation);
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code CycleCrossover} (CX) is a crossover operator for permutation
+ * chromosomes, which preserves the absolute positions of the genes. The
+ * positions of the two parents are partitioned into <em>cycles</em>: starting
+ * at position {@code i}, the value {@code P2[i]} is searched in {@code P1},
+ * which leads to the next position of the cycle. The offspring take the genes
+ * of the first cycle from their own parent, the genes of the second cycle from
+ * the other parent, and so on, alternately.
+ * <pre>
+ *     P1 = 1 2 3 4 5 6 7 8
+ *     P2 = 8 5 2 1 3 6 4 7
+ *
+ *     C1 = 1 5 2 4 3 6 7 8
+ *     C2 = 8 2 3 1 5 6 4 7
+ * </pre>
+ * The cycles are determined with the inverse position maps of the two
+ * parents in linear time. The crossover doesn't consume any random numbers.
+ *
+ * <em>The {@code CycleCrossover} class requires chromosomes with the
+ * same length. An {@code IllegalArgumentException} is thrown at runtime if this
+ * requirement is not fulfilled.</em> If the chromosomes are permutations of
+ * different subsets of the valid alleles, a cycle may be open. Open cycles
+ * are treated like closed ones, which keeps the offspring valid.
+ *
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class CycleCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	/**
+	 * Create a new cycle crossover with the given recombination probability.
+	 *
+	 * @param probability the recombination probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}
+	 */
+	public CycleCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
+	) {
+		crossover(that, other, alleles);
+	}
+
+	// Package private for testing purpose.
+	static void crossover(final int[] that, final int[] other, final int alleles) {
+		final int n = that.length;
+		final int[] thatPositions = positions(that, alleles);
+		final int[] otherPositions = positions(other, alleles);
+		final boolean[] visited = new boolean[n];
+
+		boolean swap = false;
+		for (int i = 0; i < n; ++i) {
+			if (!visited[i]) {
+				// Find the start of an open cycle.
+				int start = i;
+				int previous = otherPositions[that[start]];
+				while (previous != -1 && previous != i) {
+					start = previous;
+					previous = otherPositions[that[start]];
+				}
+
+				int index = start;
+				do {
+					final int next = thatPositions[other[index]];
+					visited[index] = true;
+					if (swap) {
+						final int temp = that[index];
+						that[index] = other[index];
+						other[index] = temp;
+					}
+					index = next;
+				} while (index != -1 && index != start);
+
+				swap = !swap;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	}
+
+}
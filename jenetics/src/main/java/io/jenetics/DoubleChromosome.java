@@ -22,6 +22,7 @@ package io.jenetics;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.util.RandomRegistry.random;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -31,6 +32,7 @@ import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -46,21 +48,33 @@ import io.jenetics.util.MSeq;
  * @see DoubleGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same range,
+ * which is always the case for chromosomes created by the factory methods,
+ * the alleles are stored in a single {@code double[]} array. The
+ * {@link DoubleGene} objects are then created lazily, when they are accessed.
+ * The primitive accessor methods, like {@link #doubleValue(int)} or
+ * {@link #toArray()}, work directly on the underlying array.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 7.1
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
 	implements
 		NumericChromosome<Double, DoubleGene>,
+		BulkMutableChromosome<DoubleGene>,
 		Serializable
 {
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	/**
+	 * The alleles of the chromosome, or {@code null} if the genes doesn't
+	 * share the same range.
+	 */
+	private final transient double[] _values;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -79,7 +93,26 @@ public class DoubleChromosome
 		final ISeq<DoubleGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(DoubleGeneStore.seq(genes), lengthRange);
+		_values = DoubleGeneStore.values(_genes);
+	}
+
+	/**
+	 * Create a new chromosome, which is backed by the given {@code values}
+	 * array. The array is <em>not</em> copied.
+	 *
+	 * @param values the allele values of the chromosome
+	 * @param min the minimal value of the genes (inclusively)
+	 * @param max the maximal value of the genes (exclusively)
+	 * @param lengthRange the allowed length range of the chromosome
+	 */
+	DoubleChromosome(
+		final double[] values,
+		final double min,
+		final double max,
+		final IntRange lengthRange
+	) {
+		this(DoubleGeneStore.seq(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -92,6 +125,77 @@ public class DoubleChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	public double doubleValue(final int index) {
+		return _values != null
+			? _values[index]
+			: get(index).doubleValue();
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			if (_values != null) {
+				boolean valid = Double.isFinite(_min) && Double.isFinite(_max);
+				for (int i = 0; i < _values.length && valid; ++i) {
+					valid = Double.isFinite(_values[i]) &&
+						Double.compare(_values[i], _min) >= 0 &&
+						Double.compare(_values[i], _max) < 0;
+				}
+				_valid = valid;
+			} else {
+				_valid = super.isValid();
+			}
+		}
+		return _valid;
+	}
+
+	/**
+	 * Return a new chromosome, where the genes at the given {@code indexes}
+	 * are replaced by the result of the given {@code mutation} function. If
+	 * the mutated genes keep the range of this chromosome, the alleles are
+	 * copied and written directly into a new {@code double[]} array.
+	 *
+	 * @since 7.1
+	 *
+	 * @param indexes the indexes of the genes to mutate
+	 * @param mutation the gene mutation function
+	 * @return a new chromosome with the mutated genes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IndexOutOfBoundsException if one of the given indexes is out of
+	 *         range {@code (index < 0 || index >= length())}
+	 */
+	@Override
+	public DoubleChromosome mutate(
+		final int[] indexes,
+		final UnaryOperator<DoubleGene> mutation
+	) {
+		requireNonNull(mutation);
+
+		final DoubleGene[] mutated = new DoubleGene[indexes.length];
+		boolean dense = _values != null;
+		for (int i = 0; i < indexes.length; ++i) {
+			mutated[i] = mutation.apply(get(indexes[i]));
+			dense = dense &&
+				mutated[i].min().equals(_min) &&
+				mutated[i].max().equals(_max);
+		}
+
+		if (dense) {
+			final double[] values = _values.clone();
+			for (int i = 0; i < indexes.length; ++i) {
+				values[indexes[i]] = mutated[i].doubleValue();
+			}
+			return newInstance(DoubleGeneStore.seq(values, _min, _max));
+		} else {
+			final MSeq<DoubleGene> genes = _genes.copy();
+			for (int i = 0; i < indexes.length; ++i) {
+				genes.set(indexes[i], mutated[i]);
+			}
+			return newInstance(genes.toISeq());
+		}
+	}
+
 	/**
 	 * Maps the gene alleles of this chromosome, given as {@code double[]} array,
 	 * by applying the given mapper function {@code f}. The mapped gene values
@@ -122,12 +226,8 @@ public class DoubleChromosome
 	public DoubleChromosome map(final Function<? super double[], double[]> f) {
 		requireNonNull(f);
 
-		final var range = DoubleRange.of(_min, _max);
-		final var genes = DoubleStream.of(f.apply(toArray()))
-			.mapToObj(v -> DoubleGene.of(v, range))
-			.collect(ISeq.toISeq());
-
-		return newInstance(genes);
+		final double[] values = f.apply(toArray()).clone();
+		return new DoubleChromosome(values, _min, _max, lengthRange());
 	}
 
 	/**
@@ -139,7 +239,9 @@ public class DoubleChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public DoubleStream doubleStream() {
-		return IntStream.range(0, length()).mapToDouble(this::doubleValue);
+		return _values != null
+			? DoubleStream.of(_values)
+			: IntStream.range(0, length()).mapToDouble(this::doubleValue);
 	}
 
 	/**
@@ -161,8 +263,12 @@ public class DoubleChromosome
 			? array
 			: new double[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
+		if (_values != null) {
+			System.arraycopy(_values, 0, a, 0, _values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = doubleValue(i);
+			}
 		}
 
 		return a;
@@ -177,7 +283,9 @@ public class DoubleChromosome
 	 * @return an array containing the elements of this chromosome
 	 */
 	public double[] toArray() {
-		return toArray(new double[length()]);
+		return _values != null
+			? _values.clone()
+			: toArray(new double[length()]);
 	}
 
 
@@ -238,8 +346,15 @@ public class DoubleChromosome
 		final double max,
 		final IntRange lengthRange
 	) {
-		final ISeq<DoubleGene> genes = DoubleGene.seq(min, max, lengthRange);
-		return new DoubleChromosome(genes, lengthRange);
+		final var random = random();
+		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
+
+		final double[] values = new double[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextDouble(min, max);
+		}
+
+		return new DoubleChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -357,12 +472,12 @@ public class DoubleChromosome
 		final var min = in.readDouble();
 		final var max = in.readDouble();
 
-		final MSeq<DoubleGene> values = MSeq.ofLength(length);
+		final double[] values = new double[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, DoubleGene.of(in.readDouble(), min, max));
+			values[i] = in.readDouble();
 		}
 
-		return new DoubleChromosome(values.toISeq(), lengthRange);
+		return new DoubleChromosome(values, min, max, lengthRange);
 	}
 
 }
@@ -0,0 +1,166 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.ISeq;
+
+/**
+ * Read-only array store, which holds the alleles of {@link DoubleGene}s in a
+ * single {@code double[]} array. All genes of the store share the same range.
+ * The {@code DoubleGene} objects are only created on demand, when they are
+ * accessed via the {@link #get(int)} method. Copies of this store are
+ * <em>ordinary</em> object stores, since they might be altered with genes of
+ * a different range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class DoubleGeneStore implements Array.Store<DoubleGene>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	final double[] values;
+	final double min;
+	final double max;
+
+	private DoubleGeneStore(
+		final double[] values,
+		final double min,
+		final double max
+	) {
+		this.values = requireNonNull(values);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public DoubleGene get(final int index) {
+		return DoubleGene.of(values[index], min, max);
+	}
+
+	@Override
+	public void set(final int index, final DoubleGene value) {
+		throw new UnsupportedOperationException("Store is read-only.");
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super DoubleGene> comparator
+	) {
+		throw new UnsupportedOperationException("Store is read-only.");
+	}
+
+	@Override
+	public int length() {
+		return values.length;
+	}
+
+	@Override
+	public ObjectStore<DoubleGene> copy(final int from, final int until) {
+		final Object[] genes = new Object[until - from];
+		for (int i = 0; i < genes.length; ++i) {
+			genes[i] = get(i + from);
+		}
+		return ObjectStore.of(genes);
+	}
+
+	@Override
+	public ObjectStore<DoubleGene> newInstance(final int length) {
+		return ObjectStore.ofLength(length);
+	}
+
+	/**
+	 * Return the alleles of the given gene sequence, if it is backed by an
+	 * (unsliced) {@code DoubleGeneStore}.
+	 *
+	 * @param genes the gene sequence
+	 * @return the backing allele array, or {@code null} if the given sequence
+	 *         is not backed by a {@code DoubleGeneStore}
+	 */
+	static double[] values(final ISeq<DoubleGene> genes) {
+		return genes instanceof ArrayISeq<DoubleGene> seq &&
+			seq.array.store() instanceof DoubleGeneStore store &&
+			store.values.length == seq.length()
+				? store.values
+				: null;
+	}
+
+	/**
+	 * Return a gene sequence which is backed by a {@code DoubleGeneStore}. If
+	 * the given genes don't share the same range, the given sequence is
+	 * returned unchanged.
+	 *
+	 * @param genes the genes to store
+	 * @return a gene sequence backed by a {@code double[]} array, if possible
+	 */
+	static ISeq<DoubleGene> seq(final ISeq<DoubleGene> genes) {
+		if (genes.isEmpty() || values(genes) != null) {
+			return genes;
+		}
+
+		final double min = genes.get(0).min();
+		final double max = genes.get(0).max();
+		final double[] values = new double[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			final DoubleGene gene = genes.get(i);
+			if (Double.compare(gene.min(), min) != 0 ||
+				Double.compare(gene.max(), max) != 0)
+			{
+				return genes;
+			}
+			values[i] = gene.doubleValue();
+		}
+
+		return seq(values, min, max);
+	}
+
+	/**
+	 * Create a new gene sequence, which is backed by the given {@code values}.
+	 * The given array is <em>not</em> copied.
+	 *
+	 * @param values the allele values
+	 * @param min the minimal value of the genes
+	 * @param max the maximal value of the genes
+	 * @return a new gene sequence
+	 */
+	static ISeq<DoubleGene> seq(
+		final double[] values,
+		final double min,
+		final double max
+	) {
+		return new ArrayISeq<>(
+			Array.of(new DoubleGeneStore(values, min, max)).seal()
+		);
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code EdgeRecombinationCrossover} (ERX) is a crossover operator for
+ * permutation chromosomes, which preserves the <em>adjacency</em> of the
+ * genes. It is well suited for problems like the TSP, where the fitness
+ * depends on the neighbours of a gene and not on its absolute position.
+ * <p>
+ * For every offspring, the union of the (cyclic) neighbours of both parents
+ * is created for every gene. The offspring starts with the first gene of its
+ * own parent. The next gene is chosen from the not yet used neighbours of the
+ * current gene, preferring the neighbour with the fewest remaining neighbours.
+ * Ties are broken randomly. If the current gene has no unused neighbours, a
+ * random unused gene is chosen. The neighbour lists and the pool of unused
+ * genes are stored in {@code int[]} arrays, which keeps the crossover linear
+ * in the chromosome length.
+ *
+ * <em>The {@code EdgeRecombinationCrossover} class requires chromosomes with
+ * the same length. An {@code IllegalArgumentException} is thrown at runtime if
+ * this requirement is not fulfilled.</em> If the chromosomes are permutations
+ * of different subsets of the valid alleles, every offspring only contains
+ * the genes of its own parent.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Edge_recombination_operator">
+ *     Wikipedia: Edge recombination operator</a>
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class EdgeRecombinationCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	// Every gene has at most four distinct neighbours, two of every parent.
+	private static final int MAX_NEIGHBOURS = 4;
+
+	/**
+	 * Create a new edge recombination crossover with the given recombination
+	 * probability.
+	 *
+	 * @param probability the recombination probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}
+	 */
+	public EdgeRecombinationCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
+	) {
+		final int[] a = recombine(that, other, alleles, random);
+		final int[] b = recombine(other, that, alleles, random);
+		System.arraycopy(a, 0, that, 0, a.length);
+		System.arraycopy(b, 0, other, 0, b.length);
+	}
+
+	/**
+	 * Creates one offspring, which consists of the values of {@code that}
+	 * array and starts with its first value.
+	 */
+	static int[] recombine(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
+	) {
+		final int n = that.length;
+		final int[] positions = positions(that, alleles);
+
+		// The neighbours of every position of 'that' array.
+		final int[] neighbours = new int[MAX_NEIGHBOURS*n];
+		final int[] counts = new int[n];
+		for (int i = 0; i < n; ++i) {
+			link(i, (i + 1)%n, neighbours, counts);
+		}
+		for (int i = 0; i < n; ++i) {
+			final int p = positions[other[i]];
+			final int q = positions[other[(i + 1)%n]];
+			if (p != -1 && q != -1) {
+				link(p, q, neighbours, counts);
+			}
+		}
+
+		// Number of the not yet visited neighbours.
+		final int[] degrees = counts.clone();
+		final boolean[] visited = new boolean[n];
+
+		// Pool of the not yet visited positions, with O(1) removal.
+		final int[] pool = new int[n];
+		final int[] poolIndexes = new int[n];
+		for (int i = 0; i < n; ++i) {
+			pool[i] = i;
+			poolIndexes[i] = i;
+		}
+		int size = n;
+
+		final int[] offspring = new int[n];
+		int current = 0;
+		for (int k = 0; k < n; ++k) {
+			offspring[k] = that[current];
+			visited[current] = true;
+
+			final int last = pool[--size];
+			pool[poolIndexes[current]] = last;
+			poolIndexes[last] = poolIndexes[current];
+
+			final int from = current*MAX_NEIGHBOURS;
+			final int to = from + counts[current];
+			for (int j = from; j < to; ++j) {
+				--degrees[neighbours[j]];
+			}
+
+			if (size > 0) {
+				int next = -1;
+				int degree = Integer.MAX_VALUE;
+				int ties = 0;
+				for (int j = from; j < to; ++j) {
+					final int neighbour = neighbours[j];
+					if (!visited[neighbour]) {
+						if (degrees[neighbour] < degree) {
+							degree = degrees[neighbour];
+							next = neighbour;
+							ties = 1;
+						} else if (degrees[neighbour] == degree &&
+							random.nextInt(++ties) == 0)
+						{
+							next = neighbour;
+						}
+					}
+				}
+
+				current = next != -1 ? next : pool[random.nextInt(size)];
+			}
+		}
+
+		return offspring;
+	}
+
+	private static void link(
+		final int p,
+		final int q,
+		final int[] neighbours,
+		final int[] counts
+	) {
+		if (p != q) {
+			add(p, q, neighbours, counts);
+			add(q, p, neighbours, counts);
+		}
+	}
+
+	private static void add(
+		final int p,
+		final int q,
+		final int[] neighbours,
+		final int[] counts
+	) {
+		final int from = p*MAX_NEIGHBOURS;
+		final int to = from + counts[p];
+		for (int i = from; i < to; ++i) {
+			if (neighbours[i] == q) {
+				return;
+			}
+		}
+		neighbours[to] = q;
+		++counts[p];
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	}
+
+}
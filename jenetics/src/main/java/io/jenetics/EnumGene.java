@@ -26,7 +26,9 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
 
+import io.jenetics.util.BaseSeq;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
 /**
@@ -61,7 +63,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 7.1
  */
 public final class EnumGene<A>
 	implements
@@ -266,4 +268,69 @@ public final class EnumGene<A>
 		return EnumGene.of(ISeq.of(validAlleles));
 	}
 
+	/* *************************************************************************
+	 *  Allele index view, used by the permutation alterers.
+	 * ************************************************************************/
+
+	/**
+	 * Return the allele indexes of the given {@code genes}.
+	 *
+	 * @param genes the enum genes
+	 * @return the allele indexes of the given genes
+	 */
+	static int[] toAlleleIndexes(final BaseSeq<? extends EnumGene<?>> genes) {
+		if (genes instanceof PermutationChromosome<?> chromosome) {
+			return chromosome.toIntArray();
+		}
+
+		final int[] indexes = new int[genes.length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = genes.get(i).alleleIndex();
+		}
+		return indexes;
+	}
+
+	/**
+	 * Writes the given allele {@code indexes} back to the {@code genes}
+	 * sequence. Only the genes with a changed allele index are replaced.
+	 *
+	 * @param genes the enum genes to update
+	 * @param indexes the new allele indexes
+	 * @param <A> the allele type
+	 */
+	static <A> void setAlleleIndexes(
+		final MSeq<EnumGene<A>> genes,
+		final int[] indexes
+	) {
+		for (int i = 0; i < indexes.length; ++i) {
+			final EnumGene<A> gene = genes.get(i);
+			if (gene._alleleIndex != indexes[i]) {
+				genes.set(i, new EnumGene<>(indexes[i], gene._validAlleles));
+			}
+		}
+	}
+
+	/**
+	 * Create a new chromosome from the given one, with the given allele
+	 * {@code indexes}. The {@code indexes} array must not be changed
+	 * afterwards.
+	 *
+	 * @param chromosome the chromosome template
+	 * @param indexes the allele indexes of the new chromosome
+	 * @param <A> the allele type
+	 * @return a new chromosome with the given allele indexes
+	 */
+	static <A> Chromosome<EnumGene<A>> newChromosome(
+		final Chromosome<EnumGene<A>> chromosome,
+		final int[] indexes
+	) {
+		if (chromosome instanceof PermutationChromosome<A> permutation) {
+			return permutation.newInstance(indexes);
+		}
+
+		final MSeq<EnumGene<A>> genes = MSeq.of(chromosome);
+		setAlleleIndexes(genes, indexes);
+		return chromosome.newInstance(genes.toISeq());
+	}
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.ISeq;
+
+/**
+ * Array store of {@link EnumGene}s, which only keeps the allele indexes in an
+ * {@code int[]} array. The genes are created as lightweight views on access.
+ * The store is read-only and only used for <em>sealed</em> arrays. Modifying
+ * the array copies the genes into an {@link ObjectStore} first.
+ *
+ * @see PermutationChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class EnumGeneStore<A> implements Array.Store<EnumGene<A>>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final ISeq<? extends A> _validAlleles;
+	private final int[] _indexes;
+
+	private EnumGeneStore(
+		final ISeq<? extends A> validAlleles,
+		final int[] indexes
+	) {
+		_validAlleles = requireNonNull(validAlleles);
+		_indexes = requireNonNull(indexes);
+	}
+
+	@Override
+	public EnumGene<A> get(final int index) {
+		return new EnumGene<>(_indexes[index], _validAlleles);
+	}
+
+	@Override
+	public void set(final int index, final EnumGene<A> value) {
+		throw new UnsupportedOperationException("Store is read-only.");
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super EnumGene<A>> comparator
+	) {
+		throw new UnsupportedOperationException("Store is read-only.");
+	}
+
+	@Override
+	public int length() {
+		return _indexes.length;
+	}
+
+	@Override
+	public ObjectStore<EnumGene<A>> copy(final int from, final int until) {
+		final ObjectStore<EnumGene<A>> store = ObjectStore.ofLength(until - from);
+		for (int i = from; i < until; ++i) {
+			store.set(i - from, get(i));
+		}
+		return store;
+	}
+
+	@Override
+	public ObjectStore<EnumGene<A>> newInstance(final int length) {
+		return ObjectStore.ofLength(length);
+	}
+
+	/**
+	 * Return a new immutable gene sequence, which is backed by the given
+	 * allele {@code indexes}. The {@code indexes} array is not copied.
+	 *
+	 * @param validAlleles the valid alleles of the genes
+	 * @param indexes the allele indexes of the genes
+	 * @param <A> the allele type
+	 * @return a new gene sequence view of the given allele indexes
+	 */
+	static <A> ISeq<EnumGene<A>> seq(
+		final ISeq<? extends A> validAlleles,
+		final int[] indexes
+	) {
+		return new ArrayISeq<>(
+			Array.of(new EnumGeneStore<A>(validAlleles, indexes)).seal()
+		);
+	}
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	@Serial
+	private Object writeReplace() {
+		return copy(0, length());
+	}
+
+}
@@ -22,6 +22,7 @@ package io.jenetics;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.util.RandomRegistry.random;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -31,6 +32,7 @@ import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -44,21 +46,33 @@ import io.jenetics.util.MSeq;
  * @see IntegerGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same range,
+ * which is always the case for chromosomes created by the factory methods,
+ * the alleles are stored in a single {@code int[]} array. The
+ * {@link IntegerGene} objects are then created lazily, when they are accessed.
+ * The primitive accessor methods, like {@link #intValue(int)} or
+ * {@link #toArray()}, work directly on the underlying array.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 7.0
+ * @version 7.1
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
 	implements
 		NumericChromosome<Integer, IntegerGene>,
+		BulkMutableChromosome<IntegerGene>,
 		Serializable
 {
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	/**
+	 * The alleles of the chromosome, or {@code null} if the genes doesn't
+	 * share the same range.
+	 */
+	private final transient int[] _values;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -77,7 +91,26 @@ public class IntegerChromosome
 		final ISeq<IntegerGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(IntegerGeneStore.seq(genes), lengthRange);
+		_values = IntegerGeneStore.values(_genes);
+	}
+
+	/**
+	 * Create a new chromosome, which is backed by the given {@code values}
+	 * array. The array is <em>not</em> copied.
+	 *
+	 * @param values the allele values of the chromosome
+	 * @param min the minimal value of the genes (inclusively)
+	 * @param max the maximal value of the genes (exclusively)
+	 * @param lengthRange the allowed length range of the chromosome
+	 */
+	IntegerChromosome(
+		final int[] values,
+		final int min,
+		final int max,
+		final IntRange lengthRange
+	) {
+		this(IntegerGeneStore.seq(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -90,6 +123,75 @@ public class IntegerChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	public int intValue(final int index) {
+		return _values != null
+			? _values[index]
+			: get(index).intValue();
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			if (_values != null) {
+				boolean valid = true;
+				for (int i = 0; i < _values.length && valid; ++i) {
+					valid = _values[i] >= _min && _values[i] < _max;
+				}
+				_valid = valid;
+			} else {
+				_valid = super.isValid();
+			}
+		}
+		return _valid;
+	}
+
+	/**
+	 * Return a new chromosome, where the genes at the given {@code indexes}
+	 * are replaced by the result of the given {@code mutation} function. If
+	 * the mutated genes keep the range of this chromosome, the alleles are
+	 * copied and written directly into a new {@code int[]} array.
+	 *
+	 * @since 7.1
+	 *
+	 * @param indexes the indexes of the genes to mutate
+	 * @param mutation the gene mutation function
+	 * @return a new chromosome with the mutated genes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IndexOutOfBoundsException if one of the given indexes is out of
+	 *         range {@code (index < 0 || index >= length())}
+	 */
+	@Override
+	public IntegerChromosome mutate(
+		final int[] indexes,
+		final UnaryOperator<IntegerGene> mutation
+	) {
+		requireNonNull(mutation);
+
+		final IntegerGene[] mutated = new IntegerGene[indexes.length];
+		boolean dense = _values != null;
+		for (int i = 0; i < indexes.length; ++i) {
+			mutated[i] = mutation.apply(get(indexes[i]));
+			dense = dense &&
+				mutated[i].min().equals(_min) &&
+				mutated[i].max().equals(_max);
+		}
+
+		if (dense) {
+			final int[] values = _values.clone();
+			for (int i = 0; i < indexes.length; ++i) {
+				values[indexes[i]] = mutated[i].intValue();
+			}
+			return newInstance(IntegerGeneStore.seq(values, _min, _max));
+		} else {
+			final MSeq<IntegerGene> genes = _genes.copy();
+			for (int i = 0; i < indexes.length; ++i) {
+				genes.set(indexes[i], mutated[i]);
+			}
+			return newInstance(genes.toISeq());
+		}
+	}
+
 	/**
 	 * Maps the gene alleles of this chromosome, given as {@code int[]} array,
 	 * by applying the given mapper function {@code f}. The mapped gene values
@@ -119,12 +221,8 @@ public class IntegerChromosome
 	public IntegerChromosome map(final Function<? super int[], int[]> f) {
 		requireNonNull(f);
 
-		final var range = IntRange.of(_min, _max);
-		final var genes = IntStream.of(f.apply(toArray()))
-			.mapToObj(v -> IntegerGene.of(v, range))
-			.collect(ISeq.toISeq());
-
-		return newInstance(genes);
+		final int[] values = f.apply(toArray()).clone();
+		return new IntegerChromosome(values, _min, _max, lengthRange());
 	}
 
 	/**
@@ -136,7 +234,9 @@ public class IntegerChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public IntStream intStream() {
-		return IntStream.range(0, length()).map(this::intValue);
+		return _values != null
+			? IntStream.of(_values)
+			: IntStream.range(0, length()).map(this::intValue);
 	}
 
 	/**
@@ -155,8 +255,12 @@ public class IntegerChromosome
 	 */
 	public int[] toArray(final int[] array) {
 		final int[] a = array.length >= length() ? array : new int[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
+		if (_values != null) {
+			System.arraycopy(_values, 0, a, 0, _values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = intValue(i);
+			}
 		}
 
 		return a;
@@ -171,7 +275,9 @@ public class IntegerChromosome
 	 * @return an array containing the elements of this chromosome
 	 */
 	public int[] toArray() {
-		return toArray(new int[length()]);
+		return _values != null
+			? _values.clone()
+			: toArray(new int[length()]);
 	}
 
 
@@ -232,8 +338,15 @@ public class IntegerChromosome
 		final int max,
 		final IntRange lengthRange
 	) {
-		final ISeq<IntegerGene> values = IntegerGene.seq(min, max, lengthRange);
-		return new IntegerChromosome(values, lengthRange);
+		final var random = random();
+		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
+
+		final int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextInt(min, max);
+		}
+
+		return new IntegerChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -360,12 +473,12 @@ public class IntegerChromosome
 		final var min = readInt(in);
 		final var max = readInt(in);
 
-		final MSeq<IntegerGene> values = MSeq.ofLength(length);
+		final int[] values = new int[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, IntegerGene.of(readInt(in), min, max));
+			values[i] = readInt(in);
 		}
 
-		return new IntegerChromosome(values.toISeq(), lengthRange);
+		return new IntegerChromosome(values, min, max, lengthRange);
 	}
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.internal.math.Randoms.indexes;
+
+import java.util.PrimitiveIterator;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code InversionMutator} reverses the order of the genes between two
+ * randomly chosen positions. For a (cyclic) route, this is the classical
+ * <em>2-opt</em> move, which replaces two edges of the route by two new ones,
+ * while keeping all other edges. This makes the mutator well suited for
+ * combinatorial problems like the TSP. The inversion is performed on the
+ * {@code int[]} allele indexes of the {@link EnumGene}s.
+ *
+ * @see TwoOptMutator
+ * @see PermutationChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class InversionMutator<T, C extends Comparable<? super C>>
+	extends Mutator<EnumGene<T>, C>
+{
+
+	/**
+	 * Constructs an alterer with a given mutation probability.
+	 *
+	 * @param probability the mutation probability.
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}.
+	 */
+	public InversionMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Default constructor, with default mutation probability
+	 * ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}).
+	 */
+	public InversionMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Reverses randomly chosen segments of the given chromosome, with the
+	 * mutation probability of this mutation.
+	 */
+	@Override
+	protected MutatorResult<Chromosome<EnumGene<T>>> mutate(
+		final Chromosome<EnumGene<T>> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		final MutatorResult<Chromosome<EnumGene<T>>> result;
+		if (chromosome.length() > 1) {
+			final int[] indexes = EnumGene.toAlleleIndexes(chromosome);
+			final PrimitiveIterator.OfInt it =
+				indexes(random, indexes.length, p).iterator();
+
+			int mutations = 0;
+			while (it.hasNext()) {
+				reverse(indexes, it.nextInt(), random.nextInt(indexes.length));
+				++mutations;
+			}
+
+			result = new MutatorResult<>(
+				EnumGene.newChromosome(chromosome, indexes),
+				mutations
+			);
+		} else {
+			result = new MutatorResult<>(chromosome, 0);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reverses the elements of the given {@code array} between the positions
+	 * {@code i} and {@code j}, both inclusive. The positions needn't be ordered.
+	 */
+	static void reverse(final int[] array, final int i, final int j) {
+		int from = Math.min(i, j);
+		int to = Math.max(i, j);
+		while (from < to) {
+			final int temp = array[from];
+			array[from++] = array[to];
+			array[to--] = temp;
+		}
+	}
+
+}
@@ -24,6 +24,7 @@ import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.readLong;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.util.RandomRegistry.random;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -33,6 +34,7 @@ import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -48,21 +50,33 @@ import io.jenetics.util.MSeq;
  * @see LongGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same range,
+ * which is always the case for chromosomes created by the factory methods,
+ * the alleles are stored in a single {@code long[]} array. The
+ * {@link LongGene} objects are then created lazily, when they are accessed.
+ * The primitive accessor methods, like {@link #longValue(int)} or
+ * {@link #toArray()}, work directly on the underlying array.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 7.1
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
 	implements
 		NumericChromosome<Long, LongGene>,
+		BulkMutableChromosome<LongGene>,
 		Serializable
 {
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	/**
+	 * The alleles of the chromosome, or {@code null} if the genes doesn't
+	 * share the same range.
+	 */
+	private final transient long[] _values;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -81,7 +95,26 @@ public class LongChromosome
 		final ISeq<LongGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(LongGeneStore.seq(genes), lengthRange);
+		_values = LongGeneStore.values(_genes);
+	}
+
+	/**
+	 * Create a new chromosome, which is backed by the given {@code values}
+	 * array. The array is <em>not</em> copied.
+	 *
+	 * @param values the allele values of the chromosome
+	 * @param min the minimal value of the genes (inclusively)
+	 * @param max the maximal value of the genes (exclusively)
+	 * @param lengthRange the allowed length range of the chromosome
+	 */
+	LongChromosome(
+		final long[] values,
+		final long min,
+		final long max,
+		final IntRange lengthRange
+	) {
+		this(LongGeneStore.seq(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -94,6 +127,75 @@ public class LongChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	public long longValue(final int index) {
+		return _values != null
+			? _values[index]
+			: get(index).longValue();
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_valid == null) {
+			if (_values != null) {
+				boolean valid = true;
+				for (int i = 0; i < _values.length && valid; ++i) {
+					valid = _values[i] >= _min && _values[i] < _max;
+				}
+				_valid = valid;
+			} else {
+				_valid = super.isValid();
+			}
+		}
+		return _valid;
+	}
+
+	/**
+	 * Return a new chromosome, where the genes at the given {@code indexes}
+	 * are replaced by the result of the given {@code mutation} function. If
+	 * the mutated genes keep the range of this chromosome, the alleles are
+	 * copied and written directly into a new {@code long[]} array.
+	 *
+	 * @since 7.1
+	 *
+	 * @param indexes the indexes of the genes to mutate
+	 * @param mutation the gene mutation function
+	 * @return a new chromosome with the mutated genes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IndexOutOfBoundsException if one of the given indexes is out of
+	 *         range {@code (index < 0 || index >= length())}
+	 */
+	@Override
+	public LongChromosome mutate(
+		final int[] indexes,
+		final UnaryOperator<LongGene> mutation
+	) {
+		requireNonNull(mutation);
+
+		final LongGene[] mutated = new LongGene[indexes.length];
+		boolean dense = _values != null;
+		for (int i = 0; i < indexes.length; ++i) {
+			mutated[i] = mutation.apply(get(indexes[i]));
+			dense = dense &&
+				mutated[i].min().equals(_min) &&
+				mutated[i].max().equals(_max);
+		}
+
+		if (dense) {
+			final long[] values = _values.clone();
+			for (int i = 0; i < indexes.length; ++i) {
+				values[indexes[i]] = mutated[i].longValue();
+			}
+			return newInstance(LongGeneStore.seq(values, _min, _max));
+		} else {
+			final MSeq<LongGene> genes = _genes.copy();
+			for (int i = 0; i < indexes.length; ++i) {
+				genes.set(indexes[i], mutated[i]);
+			}
+			return newInstance(genes.toISeq());
+		}
+	}
+
 	/**
 	 * Maps the gene alleles of this chromosome, given as {@code long[]} array,
 	 * by applying the given mapper function {@code f}. The mapped gene values
@@ -123,12 +225,8 @@ public class LongChromosome
 	public LongChromosome map(final Function<? super long[], long[]> f) {
 		requireNonNull(f);
 
-		final var range = LongRange.of(_min, _max);
-		final var genes = LongStream.of(f.apply(toArray()))
-			.mapToObj(v -> LongGene.of(v, range))
-			.collect(ISeq.toISeq());
-
-		return newInstance(genes);
+		final long[] values = f.apply(toArray()).clone();
+		return new LongChromosome(values, _min, _max, lengthRange());
 	}
 
 	/**
@@ -140,7 +238,9 @@ public class LongChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public LongStream longStream() {
-		return IntStream.range(0, length()).mapToLong(this::longValue);
+		return _values != null
+			? LongStream.of(_values)
+			: IntStream.range(0, length()).mapToLong(this::longValue);
 	}
 
 	/**
@@ -159,8 +259,12 @@ public class LongChromosome
 	 */
 	public long[] toArray(final long[] array) {
 		final long[] a = array.length >= length() ? array : new long[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
+		if (_values != null) {
+			System.arraycopy(_values, 0, a, 0, _values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = longValue(i);
+			}
 		}
 
 		return a;
@@ -175,7 +279,9 @@ public class LongChromosome
 	 * @return an array containing the elements of this chromosome
 	 */
 	public long[] toArray() {
-		return toArray(new long[length()]);
+		return _values != null
+			? _values.clone()
+			: toArray(new long[length()]);
 	}
 
 
@@ -237,8 +343,15 @@ public class LongChromosome
 		final long max,
 		final IntRange lengthRange
 	) {
-		final ISeq<LongGene> values = LongGene.seq(min, max, lengthRange);
-		return new LongChromosome(values, lengthRange);
+		final var random = random();
+		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
+
+		final long[] values = new long[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextLong(min, max);
+		}
+
+		return new LongChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -367,12 +480,12 @@ public class LongChromosome
 		final var min = readLong(in);
 		final var max = readLong(in);
 
-		final MSeq<LongGene> values = MSeq.ofLength(length);
+		final long[] values = new long[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, LongGene.of(readLong(in), min, max));
+			values[i] = readLong(in);
 		}
 
-		return new LongChromosome(values.toISeq(), lengthRange);
+		return new LongChromosome(values, min, max, lengthRange);
 	}
 
 }
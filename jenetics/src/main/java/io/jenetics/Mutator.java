@@ -25,7 +25,9 @@ import static java.lang.String.format;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Probabilities;
+import io.jenetics.internal.math.Randoms;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +67,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -100,7 +102,8 @@ public class Mutator<
 	 * {@link #mutate(Genotype, double, RandomGenerator)},
 	 * {@link #mutate(Chromosome, double, RandomGenerator)},
 	 * {@link #mutate(Gene, RandomGenerator)},
-	 * in this specific order.
+	 * in this specific order. The mutated phenotypes record the original
+	 * phenotype as their {@link Phenotype#provenance()}.
 	 *
 	 * @see #mutate(Phenotype, long, double, RandomGenerator)
 	 * @see #mutate(Genotype, double, RandomGenerator)
@@ -121,6 +124,7 @@ public class Mutator<
 		final Seq<MutatorResult<Phenotype<G, C>>> result = population
 			.map(pt -> random.nextInt() < P
 				? mutate(pt, generation, p, random)
+					.map(mutated -> mutated.derivedFrom(pt))
 				: new MutatorResult<>(pt, 0));
 
 		return new AltererResult<>(
@@ -182,9 +186,15 @@ public class Mutator<
 	}
 
 	/**
-	 * Mutates the given chromosome.
+	 * Mutates the given chromosome. The indexes of the mutated genes are
+	 * selected up front, and only the genes at these indexes are replaced. If
+	 * the chromosome implements the {@link BulkMutableChromosome} interface,
+	 * the mutation is delegated to the
+	 * {@link BulkMutableChromosome#mutate(int[], java.util.function.UnaryOperator)}
+	 * method.
 	 *
 	 * @see #mutate(Gene, RandomGenerator)
+	 * @see BulkMutableChromosome
 	 *
 	 * @param chromosome the chromosome to mutate
 	 * @param p the mutation probability for the underlying genetic objects
@@ -196,17 +206,23 @@ public class Mutator<
 		final double p,
 		final RandomGenerator random
 	) {
-		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? new MutatorResult<>(mutate(gene, random), 1)
-				: new MutatorResult<>(gene, 0))
-			.collect(ISeq.toISeq());
-
-		return new MutatorResult<>(
-			chromosome.newInstance(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+		final int[] indexes = Randoms.nextIndexes(random, chromosome.length(), p);
+		if (indexes.length == 0) {
+			return new MutatorResult<>(chromosome, 0);
+		}
+
+		final Chromosome<G> mutated;
+		if (chromosome instanceof BulkMutableChromosome<G> bulk) {
+			mutated = bulk.mutate(indexes, gene -> mutate(gene, random));
+		} else {
+			final MSeq<G> genes = MSeq.of(chromosome);
+			for (int index : indexes) {
+				genes.set(index, mutate(genes.get(index), random));
+			}
+			mutated = chromosome.newInstance(genes.toISeq());
+		}
+
+		return new MutatorResult<>(mutated, indexes.length);
 	}
 
 	/**
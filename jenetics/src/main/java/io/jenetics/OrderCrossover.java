@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.math.Subset;
+
+/**
+ * The {@code OrderCrossover} (OX) is a crossover operator for permutation
+ * chromosomes, which preserves the relative order of the genes. A crossing
+ * region is chosen by selecting two crossing points. Every offspring keeps the
+ * crossing region of its own parent. The remaining positions are filled with
+ * the genes of the other parent, which are not part of the crossing region,
+ * in the order they appear in the other parent. The filling starts after the
+ * crossing region and wraps around.
+ * <pre>
+ *     P1 = 012|345|6789
+ *     P2 = 987|654|3210
+ *
+ *     C1 = 876|345|2109
+ *     C2 = 123|654|7890
+ * </pre>
+ *
+ * <em>The {@code OrderCrossover} class requires chromosomes with the
+ * same length. An {@code IllegalArgumentException} is thrown at runtime if this
+ * requirement is not fulfilled.</em> If the chromosomes are permutations of
+ * different subsets of the valid alleles, the offspring are completed with
+ * the unused genes of its own parent, which keeps them valid.
+ *
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class OrderCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	/**
+	 * Create a new order crossover with the given recombination probability.
+	 *
+	 * @param probability the recombination probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}
+	 */
+	public OrderCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
+	) {
+		final int[] points = Subset.next(that.length, 2, random);
+		crossover(that, other, points[0], points[1], alleles);
+	}
+
+	// Package private for testing purpose.
+	static void crossover(
+		final int[] that,
+		final int[] other,
+		final int begin,
+		final int end,
+		final int alleles
+	) {
+		final int[] a = that.clone();
+		final int[] used = new int[alleles];
+		fill(that, other, begin, end, used, 1);
+		fill(other, a, begin, end, used, 2);
+	}
+
+	/*
+	 * Fills the positions outside the crossing region of 'that' array with
+	 * the values of the 'other' array. Values with 'used[value] == mark'
+	 * are already part of the offspring.
+	 */
+	private static void fill(
+		final int[] that,
+		final int[] other,
+		final int begin,
+		final int end,
+		final int[] used,
+		final int mark
+	) {
+		final int n = that.length;
+		final int[] parent = that.clone();
+		for (int i = begin; i < end; ++i) {
+			used[that[i]] = mark;
+		}
+
+		int index = end%n;
+		for (int i = 0; i < n && index != begin; ++i) {
+			final int value = other[(end + i)%n];
+			if (used[value] != mark) {
+				used[value] = mark;
+				that[index] = value;
+				index = (index + 1)%n;
+			}
+		}
+
+		// Only needed if the parents have different allele sets.
+		for (int i = 0; i < n && index != begin; ++i) {
+			final int value = parent[(end + i)%n];
+			if (used[value] != mark) {
+				used[value] = mark;
+				that[index] = value;
+				index = (index + 1)%n;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	}
+
+}
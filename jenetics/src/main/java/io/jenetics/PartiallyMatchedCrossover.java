@@ -21,9 +21,10 @@ package io.jenetics;
 
 import static java.lang.String.format;
 
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
 import io.jenetics.internal.math.Subset;
-import io.jenetics.util.MSeq;
-import io.jenetics.util.RandomRegistry;
 
 /**
  * The {@code PartiallyMatchedCrossover} (PMX) guarantees that all {@link Gene}s
@@ -34,9 +35,9 @@ import io.jenetics.util.RandomRegistry;
  * is the case in many combinatorial optimization problems. Other crossover
  * operators for combinatorial optimization are:
  * <ul>
- *     <li>order crossover</li>
- *     <li>cycle crossover</li>
- *     <li>edge recombination crossover</li>
+ *     <li>order crossover ({@link OrderCrossover})</li>
+ *     <li>cycle crossover ({@link CycleCrossover})</li>
+ *     <li>edge recombination crossover ({@link EdgeRecombinationCrossover})</li>
  *     <li>edge assembly crossover</li>
  * </ul>
  * <p>
@@ -65,15 +66,19 @@ import io.jenetics.util.RandomRegistry;
  * <em>The {@code PartiallyMatchedCrossover} class requires chromosomes with the
  * same length. An {@code IllegalArgumentException} is thrown at runtime if this
  * requirement is not fulfilled.</em>
+ * <p>
+ * The crossover works on the allele indexes of the genes. The repair step
+ * uses an inverse position map of the crossing region, which makes the
+ * crossover linear in the chromosome length.
  *
  * @see PermutationChromosome
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.4
+ * @version 7.1
  */
 public class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
-	extends Crossover<EnumGene<T>, C>
+	extends PermutationCrossover<T, C>
 {
 
 	public PartiallyMatchedCrossover(final double probability) {
@@ -81,47 +86,80 @@ public class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
 	}
 
 	@Override
-	protected int crossover(
-		final MSeq<EnumGene<T>> that,
-		final MSeq<EnumGene<T>> other
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
 	) {
-		if (that.length() != other.length()) {
-			throw new IllegalArgumentException(format(
-				"Required chromosomes with same length: %s != %s",
-				that.length(), other.length()
-			));
-		}
-
-		if (that.length() >= 2) {
-			final var random = RandomRegistry.random();
-			final int[] points = Subset.next(that.length(), 2, random);
+		final int[] points = Subset.next(that.length, 2, random);
+		crossover(that, other, points[0], points[1], alleles);
+	}
 
-			that.swap(points[0], points[1], other, points[0]);
-			repair(that, other, points[0], points[1]);
-			repair(other, that, points[0], points[1]);
+	// Package private for testing purpose.
+	static void crossover(
+		final int[] that,
+		final int[] other,
+		final int begin,
+		final int end,
+		final int alleles
+	) {
+		for (int i = begin; i < end; ++i) {
+			final int temp = that[i];
+			that[i] = other[i];
+			other[i] = temp;
 		}
 
-		return 1;
+		final int[] positions = new int[alleles];
+		Arrays.fill(positions, -1);
+		repair(that, other, begin, end, positions);
+		repair(other, that, begin, end, positions);
 	}
 
-	private static <T> void repair(
-		final MSeq<T> that, final MSeq<T> other,
-		final int begin, final int end
+	/*
+	 * Replaces the duplicate values outside the crossing region, by following
+	 * the mapping of the crossing region. The 'positions' array must contain
+	 * -1 for all values and is left in this state.
+	 */
+	private static void repair(
+		final int[] that,
+		final int[] other,
+		final int begin,
+		final int end,
+		final int[] positions
 	) {
+		for (int i = begin; i < end; ++i) {
+			positions[that[i]] = i;
+		}
+
 		for (int i = 0; i < begin; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
-			while (index != -1) {
-				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
-			}
+			that[i] = map(that[i], other, begin, end, positions);
+		}
+		for (int i = end; i < that.length; ++i) {
+			that[i] = map(that[i], other, begin, end, positions);
+		}
+
+		for (int i = begin; i < end; ++i) {
+			positions[that[i]] = -1;
 		}
-		for (int i = end, n = that.length(); i < n; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
-			while (index != -1) {
-				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
-			}
+	}
+
+	private static int map(
+		final int value,
+		final int[] other,
+		final int begin,
+		final int end,
+		final int[] positions
+	) {
+		// For valid permutations, the mapping chains are disjoint and
+		// contain at most 'end - begin' elements.
+		int result = value;
+		int index = positions[result];
+		for (int k = begin; index != -1 && k < end; ++k) {
+			result = other[index];
+			index = positions[result];
 		}
+		return result;
 	}
 
 	@Override
@@ -21,7 +21,7 @@ package io.jenetics;
 
 import static java.lang.String.format;
 import static io.jenetics.internal.util.Arrays.shuffle;
-import static io.jenetics.internal.util.Bits.getAndSet;
+import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -32,15 +32,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.math.Subset;
-import io.jenetics.internal.util.Bits;
 import io.jenetics.internal.util.Requires;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
 /**
@@ -70,7 +69,12 @@ import io.jenetics.util.RandomRegistry;
  * Usable {@link Alterer} for this chromosome:
  * <ul>
  *     <li>{@link PartiallyMatchedCrossover}</li>
+ *     <li>{@link OrderCrossover}</li>
+ *     <li>{@link CycleCrossover}</li>
+ *     <li>{@link EdgeRecombinationCrossover}</li>
  *     <li>{@link SwapMutator}</li>
+ *     <li>{@link InversionMutator}</li>
+ *     <li>{@link TwoOptMutator}</li>
  * </ul>
  * <p>
  * <em><b>Implementation note 1:</b>
@@ -101,11 +105,13 @@ import io.jenetics.util.RandomRegistry;
  * @see SwapMutator
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The chromosome only stores the
+ * allele indexes of its genes in an {@code int[]} array. The {@link EnumGene}s
+ * are created as lightweight views when they are accessed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.1
  */
 public final class PermutationChromosome<T>
 	extends AbstractChromosome<EnumGene<T>>
@@ -114,17 +120,23 @@ public final class PermutationChromosome<T>
 	@Serial
 	private static final long serialVersionUID = 2L;
 
+	// Reusable bit set for checking the validity of the allele indexes.
+	private static final ThreadLocal<long[]> BITS =
+		ThreadLocal.withInitial(() -> new long[0]);
+
 	private final ISeq<T> _validAlleles;
+	private final int[] _indexes;
 
 	// Private primary constructor.
 	private PermutationChromosome(
-		final ISeq<EnumGene<T>> genes,
+		final ISeq<? extends T> validAlleles,
+		final int[] indexes,
 		final Boolean valid
 	) {
-		super(genes);
+		super(EnumGeneStore.seq(validAlleles, indexes));
 
-		assert !genes.isEmpty();
-		_validAlleles = genes.get(0).validAlleles();
+		_validAlleles = ISeq.upcast(validAlleles);
+		_indexes = indexes;
 		_valid = valid;
 	}
 
@@ -137,10 +149,30 @@ public final class PermutationChromosome<T>
 	 * @param genes the enum genes the new chromosome consists of
 	 * @throws NullPointerException if the given {@code genes} are null
 	 * @throws IllegalArgumentException if the given {@code genes} sequence is
-	 *         empty
+	 *         empty or the genes have different valid alleles
 	 */
 	public PermutationChromosome(final ISeq<EnumGene<T>> genes) {
-		this(genes, null);
+		this(validAlleles(genes), EnumGene.toAlleleIndexes(genes), null);
+	}
+
+	private static <T> ISeq<T> validAlleles(final ISeq<EnumGene<T>> genes) {
+		if (genes.isEmpty()) {
+			throw new IllegalArgumentException(
+				"The genes sequence must contain at least one gene."
+			);
+		}
+
+		final ISeq<T> alleles = genes.get(0).validAlleles();
+		for (int i = 1, n = genes.length(); i < n; ++i) {
+			final ISeq<T> other = genes.get(i).validAlleles();
+			if (other != alleles && !other.equals(alleles)) {
+				throw new IllegalArgumentException(format(
+					"Gene %d has different valid alleles.", i
+				));
+			}
+		}
+
+		return alleles;
 	}
 
 	/**
@@ -152,6 +184,33 @@ public final class PermutationChromosome<T>
 		return _validAlleles;
 	}
 
+	/**
+	 * Return the allele indexes of the genes of this chromosome. The
+	 * allele of the gene at position {@code i} is
+	 * {@code validAlleles().get(toIntArray()[i])}. This method gives fitness
+	 * functions a compact access to the permutation, without creating
+	 * {@link EnumGene} objects.
+	 *
+	 * <pre>{@code
+	 * final double[][] distances = ...;
+	 * static double length(final PermutationChromosome<City> route) {
+	 *     final int[] path = route.toIntArray();
+	 *     double length = distances[path[path.length - 1]][path[0]];
+	 *     for (int i = 1; i < path.length; ++i) {
+	 *         length += distances[path[i - 1]][path[i]];
+	 *     }
+	 *     return length;
+	 * }
+	 * }</pre>
+	 *
+	 * @since 7.1
+	 *
+	 * @return a copy of the allele indexes of this chromosome
+	 */
+	public int[] toIntArray() {
+		return _indexes.clone();
+	}
+
 	/**
 	 * Check if this chromosome represents still a valid permutation (or subset)
 	 * of the given valid alleles.
@@ -159,13 +218,36 @@ public final class PermutationChromosome<T>
 	@Override
 	public boolean isValid() {
 		if (_valid == null) {
-			final byte[] check = Bits.newArray(_validAlleles.length());
-			_valid = _genes.forAll(g -> !getAndSet(check, g.alleleIndex()));
+			_valid = isPermutation(_indexes, _validAlleles.length());
 		}
 
 		return _valid;
 	}
 
+	private static boolean isPermutation(final int[] indexes, final int alleles) {
+		long[] bits = BITS.get();
+		if (bits.length < (alleles + 63) >>> 6) {
+			bits = new long[(alleles + 63) >>> 6];
+			BITS.set(bits);
+		}
+
+		int i = 0;
+		boolean unique = true;
+		for (; i < indexes.length && unique; ++i) {
+			final int word = indexes[i] >>> 6;
+			final long mask = 1L << indexes[i];
+			unique = (bits[word] & mask) == 0;
+			bits[word] |= mask;
+		}
+
+		// Only the touched words are cleared, for re-using the bit set.
+		for (int j = 0; j < i; ++j) {
+			bits[indexes[j] >>> 6] = 0;
+		}
+
+		return unique;
+	}
+
 	/**
 	 * Create a new, <em>random</em> chromosome.
 	 */
@@ -179,10 +261,36 @@ public final class PermutationChromosome<T>
 		return new PermutationChromosome<>(genes);
 	}
 
+	/**
+	 * Create a new chromosome with the valid alleles of this chromosome and
+	 * the given allele {@code indexes}. The {@code indexes} array is not
+	 * copied.
+	 *
+	 * @param indexes the allele indexes of the new chromosome
+	 * @return a new chromosome with the given allele indexes
+	 */
+	PermutationChromosome<T> newInstance(final int[] indexes) {
+		return new PermutationChromosome<>(_validAlleles, indexes, null);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash(_indexes, hash(_validAlleles, hash(getClass())));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof PermutationChromosome<?> other &&
+			Arrays.equals(_indexes, other._indexes) &&
+			(_validAlleles == other._validAlleles ||
+				_validAlleles.equals(other._validAlleles));
+	}
+
 	@Override
 	public String toString() {
-		return _genes.stream()
-			.map(g -> g.allele().toString())
+		return IntStream.of(_indexes)
+			.mapToObj(i -> String.valueOf(_validAlleles.get(i)))
 			.collect(Collectors.joining("|"));
 	}
 
@@ -228,11 +336,7 @@ public final class PermutationChromosome<T>
 		final int[] subset = Subset.next(alleles.size(), length, rnd);
 		shuffle(subset, rnd);
 
-		final ISeq<EnumGene<T>> genes = IntStream.of(subset)
-			.mapToObj(i -> EnumGene.<T>of(i, alleles))
-			.collect(ISeq.toISeq());
-
-		return new PermutationChromosome<>(genes, true);
+		return new PermutationChromosome<>(alleles, subset, true);
 	}
 
 	/**
@@ -341,8 +445,8 @@ public final class PermutationChromosome<T>
 
 	void write(final ObjectOutput out) throws IOException {
 		out.writeObject(_validAlleles);
-		for (EnumGene<?> gene : _genes) {
-			writeInt(gene.alleleIndex(), out);
+		for (int index : _indexes) {
+			writeInt(index, out);
 		}
 	}
 
@@ -351,12 +455,18 @@ public final class PermutationChromosome<T>
 		throws IOException, ClassNotFoundException
 	{
 		final ISeq validAlleles = (ISeq)in.readObject();
-		final MSeq genes = MSeq.ofLength(validAlleles.length());
-		for (int i = 0, n = validAlleles.length(); i < n; ++i) {
-			genes.set(i, new EnumGene(readInt(in), validAlleles));
+		final int[] indexes = new int[validAlleles.length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = readInt(in);
+			if (indexes[i] < 0 || indexes[i] >= indexes.length) {
+				throw new InvalidObjectException(format(
+					"Allele index is not in range [0, %d): %d.",
+					indexes.length, indexes[i]
+				));
+			}
 		}
 
-		return new PermutationChromosome(genes.toISeq());
+		return new PermutationChromosome(validAlleles, indexes, null);
 	}
 
 }
@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Base class of the crossover alterers for permutation chromosomes. The
+ * crossover is performed on the allele indexes of the {@link EnumGene}s,
+ * which allows to use {@code int[]} arrays as inverse position maps. This
+ * keeps the crossover operations linear in the chromosome length.
+ *
+ * @see PermutationChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+abstract class PermutationCrossover<T, C extends Comparable<? super C>>
+	extends Crossover<EnumGene<T>, C>
+{
+
+	PermutationCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	protected int crossover(
+		final MSeq<EnumGene<T>> that,
+		final MSeq<EnumGene<T>> other
+	) {
+		if (that.length() != other.length()) {
+			throw new IllegalArgumentException(format(
+				"Required chromosomes with same length: %s != %s",
+				that.length(), other.length()
+			));
+		}
+
+		if (that.length() >= 2) {
+			final int[] a = EnumGene.toAlleleIndexes(that);
+			final int[] b = EnumGene.toAlleleIndexes(other);
+			final int alleles = max(
+				that.get(0).validAlleles().length(),
+				other.get(0).validAlleles().length()
+			);
+
+			crossover(a, b, alleles, RandomRegistry.random());
+
+			EnumGene.setAlleleIndexes(that, a);
+			EnumGene.setAlleleIndexes(other, b);
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Template method which performs the crossover on the allele indexes of
+	 * the two chromosomes. The given arrays have the same length, which is at
+	 * least two, and contain values within the range {@code [0, alleles)}.
+	 *
+	 * @param that the allele indexes of the first chromosome
+	 * @param other the allele indexes of the other chromosome
+	 * @param alleles the number of valid alleles
+	 * @param random the random generator used for the crossover
+	 */
+	abstract void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final RandomGenerator random
+	);
+
+	/**
+	 * Return a new position map for the given allele indexes, where
+	 * {@code map[array[i]] == i}. All alleles which are not part of the
+	 * given array are mapped to {@code -1}.
+	 */
+	static int[] positions(final int[] array, final int alleles) {
+		final int[] positions = new int[alleles];
+		Arrays.fill(positions, -1);
+		for (int i = 0; i < array.length; ++i) {
+			positions[array[i]] = i;
+		}
+		return positions;
+	}
+
+}
@@ -44,8 +44,14 @@ import io.jenetics.util.Verifiable;
  * and an optional fitness value. Once the fitness has been evaluated, a new
  * {@code Phenotype} instance, with the calculated fitness, can be created with
  * the {@link #withFitness(Comparable)}.
+ * <p>
+ * Phenotypes created by the alterers of the library, like {@link Mutator}
+ * and {@link Recombinator}, carry a {@link Provenance} hint. It references
+ * the evaluated parent the phenotype has been derived from, which allows an
+ * incremental fitness evaluation.
  *
  * @see Genotype
+ * @see Provenance
  *
  * @implNote
  * This class is immutable and thread-safe.
@@ -55,7 +61,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.1
  */
 public final class Phenotype<
 	G extends Gene<?, G>,
@@ -73,12 +79,16 @@ public final class Phenotype<
 	private final long _generation;
 	private final C _fitness;
 
+	// Not part of the phenotype value and therefore not serialized.
+	private final transient Provenance<G, C> _provenance;
+
 	/**
 	 * Create a new phenotype from the given arguments.
 	 *
 	 * @param genotype the genotype of this phenotype.
 	 * @param generation the current generation of the generated phenotype.
 	 * @param fitness the known fitness of the phenotype, maybe {@code null}
+	 * @param provenance the provenance of the phenotype, maybe {@code null}
 	 * @throws NullPointerException if the genotype is {@code null}.
 	 * @throws IllegalArgumentException if the given {@code generation} is
 	 *         {@code < 0}.
@@ -86,7 +96,8 @@ public final class Phenotype<
 	private Phenotype(
 		final Genotype<G> genotype,
 		final long generation,
-		final C fitness
+		final C fitness,
+		final Provenance<G, C> provenance
 	) {
 		if (generation < 0) {
 			throw new IllegalArgumentException(format(
@@ -97,6 +108,15 @@ public final class Phenotype<
 		_genotype = requireNonNull(genotype, "Genotype");
 		_generation = generation;
 		_fitness = fitness;
+		_provenance = provenance;
+	}
+
+	private Phenotype(
+		final Genotype<G> genotype,
+		final long generation,
+		final C fitness
+	) {
+		this(genotype, generation, fitness, null);
 	}
 
 	/**
@@ -232,6 +252,56 @@ public final class Phenotype<
 		return _fitness != null ? of(_genotype, _generation) : this;
 	}
 
+	/**
+	 * Return the provenance of this phenotype, if available. Only
+	 * <em>not evaluated</em> phenotypes, which have been derived from an
+	 * evaluated parent, have a provenance. The provenance is dropped when the
+	 * fitness is set and is not serialized.
+	 *
+	 * @since 7.1
+	 *
+	 * @see #derivedFrom(Phenotype)
+	 *
+	 * @return the provenance of this phenotype, if available
+	 */
+	public Optional<Provenance<G, C>> provenance() {
+		return Optional.ofNullable(_provenance);
+	}
+
+	/**
+	 * Return a phenotype with the same genotype and generation, which records
+	 * the given {@code parent} as its provenance. If the {@code parent} is not
+	 * evaluated, its own provenance parent is used. {@code This} phenotype is
+	 * returned if it is already evaluated, if no evaluated parent is available
+	 * or if the genotypes have a different number of chromosomes.
+	 *
+	 * @since 7.1
+	 *
+	 * @see #provenance()
+	 *
+	 * @param parent the phenotype {@code this} phenotype has been derived from
+	 * @return a phenotype with the given provenance
+	 * @throws NullPointerException if the given {@code parent} is {@code null}
+	 */
+	public Phenotype<G, C> derivedFrom(final Phenotype<G, C> parent) {
+		requireNonNull(parent);
+
+		final Phenotype<G, C> source = parent.isEvaluated()
+			? parent
+			: parent._provenance != null ? parent._provenance.parent() : null;
+
+		return _fitness == null &&
+			source != null &&
+			source != this &&
+			source.genotype().length() == _genotype.length()
+				? new Phenotype<>(
+					_genotype,
+					_generation,
+					null,
+					new Provenance<>(source, _genotype))
+				: this;
+	}
+
 	/**
 	 * Test whether this phenotype is valid. The phenotype is valid if its
 	 * {@link Genotype} is valid.
@@ -28,10 +28,11 @@ import static io.jenetics.internal.math.Basics.ulpDistance;
 import java.util.Comparator;
 import java.util.function.Function;
 
+import io.jenetics.internal.math.AliasTable;
 import io.jenetics.internal.math.DoubleAdder;
 import io.jenetics.internal.util.Arrays;
+import io.jenetics.internal.util.ParallelSampler;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.ProxySorter;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
@@ -47,11 +48,14 @@ import io.jenetics.util.Seq;
  * runtime complexity of the implemented probability selectors is
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
- * array.</i>
+ * array.</i> For bigger populations, an <em>alias table</em> is created
+ * from the probability array, which allows to select an individual in
+ * constant time. Big selection counts are drawn in parallel, with random
+ * generators split from the {@link RandomRegistry#random()} generator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.1
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -60,6 +64,7 @@ public abstract class ProbabilitySelector<
 	implements Selector<G, C>
 {
 	private static final int SERIAL_INDEX_THRESHOLD = 35;
+	private static final int ALIAS_TABLE_THRESHOLD = 250;
 
 	private static final long MAX_ULP_DISTANCE = pow(10, 10);
 
@@ -107,29 +112,50 @@ public abstract class ProbabilitySelector<
 			));
 		}
 
-		final MSeq<Phenotype<G, C>> selection = MSeq
-			.ofLength(population.isEmpty() ? 0 : count);
-
-		if (count > 0 && !population.isEmpty()) {
-			final Seq<Phenotype<G, C>> pop = _sorted
-				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
-				: population;
+		if (count == 0 || population.isEmpty()) {
+			return ISeq.empty();
+		}
 
+		final Seq<Phenotype<G, C>> pop = _sorted
+			? sort(population)
+			: population;
 
-			final double[] prob = probabilities(pop, count, opt);
-			assert pop.size() == prob.length
-				: "Population size and probability length are not equal.";
+		final double[] prob = probabilities(pop, count, opt);
+		assert pop.size() == prob.length
+			: "Population size and probability length are not equal.";
 
-			checkAndCorrect(prob);
-			assert sum2one(prob) : "Probabilities doesn't sum to one.";
+		checkAndCorrect(prob);
+		assert sum2one(prob) : "Probabilities doesn't sum to one.";
 
+		final var random = RandomRegistry.random();
+		if (prob.length < ALIAS_TABLE_THRESHOLD) {
 			incremental(prob);
+			return ParallelSampler.sample(
+				count,
+				random,
+				r -> pop.get(indexOf(prob, r.nextDouble()))
+			);
+		} else {
+			final AliasTable table = AliasTable.of(prob);
+			return ParallelSampler.sample(
+				count,
+				random,
+				r -> pop.get(table.nextIndex(r))
+			);
+		}
+	}
 
-			final var random = RandomRegistry.random();
-			selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
+	// Only sort the population if it is not already sorted.
+	private Seq<Phenotype<G, C>> sort(final Seq<Phenotype<G, C>> population) {
+		for (int i = 1, n = population.size(); i < n; ++i) {
+			if (POPULATION_COMPARATOR
+					.compare(population.get(i - 1), population.get(i)) > 0)
+			{
+				return population.asISeq().copy().sort(POPULATION_COMPARATOR);
+			}
 		}
 
-		return selection.toISeq();
+		return population;
 	}
 
 	/**
@@ -0,0 +1,223 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The provenance of an altered, not yet evaluated, {@link Phenotype}. It
+ * contains the evaluated <em>parent</em> phenotype the offspring has been
+ * derived from and gives access to the gene positions where the genotype of
+ * the offspring differs from the genotype of its parent. Fitness functions,
+ * which are additive over the genes, can use this information for updating
+ * the fitness of the parent in {@code O(changes)}, instead of recalculating
+ * the fitness from all genes.
+ *
+ * <pre>{@code
+ * // Knapsack value of the offspring, calculated from its parent.
+ * static double value(final Genotype<BitGene> gt, final Provenance<BitGene, Double> p) {
+ *     double value = p.fitness();
+ *     for (int i : p.changes(0)) {
+ *         final double v = ITEMS[i].value;
+ *         value += gt.get(0).get(i).bit() ? v : -v;
+ *     }
+ *     return value;
+ * }
+ * }</pre>
+ *
+ * The changed gene positions are determined lazily, when they are requested
+ * the first time, by comparing the genes of the parent and the offspring
+ * chromosome. This is an {@code O(genes)} operation for every chromosome
+ * which is not shared between parent and offspring. Shared chromosomes are
+ * detected by reference and need no gene comparison, and permutation
+ * chromosomes are compared by their allele indexes. The genes of all other
+ * chromosomes are accessed as objects, which creates the lazily allocated
+ * genes of the numeric chromosomes backed by primitive arrays. The saving of
+ * an incremental fitness function is therefore the cheaper fitness
+ * calculation, not the gene access.
+ *
+ * @see Phenotype#provenance()
+ * @see Phenotype#derivedFrom(Phenotype)
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class Provenance<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Phenotype<G, C> _parent;
+	private final Genotype<G> _genotype;
+
+	// Lazily calculated gene changes, for every chromosome. The atomic array
+	// safely publishes the calculated arrays to other threads.
+	private final AtomicReferenceArray<int[]> _changes;
+
+	/**
+	 * Create a new provenance object.
+	 *
+	 * @param parent the evaluated parent phenotype
+	 * @param genotype the genotype of the offspring
+	 * @throws IllegalArgumentException if the {@code parent} is not evaluated
+	 *         or the genotypes have a different number of chromosomes
+	 */
+	Provenance(final Phenotype<G, C> parent, final Genotype<G> genotype) {
+		_parent = requireNonNull(parent);
+		_genotype = requireNonNull(genotype);
+
+		if (parent.nonEvaluated()) {
+			throw new IllegalArgumentException("Parent must be evaluated.");
+		}
+		if (parent.genotype().length() != genotype.length()) {
+			throw new IllegalArgumentException(format(
+				"Genotype lengths are not equal: %d != %d.",
+				parent.genotype().length(), genotype.length()
+			));
+		}
+
+		_changes = new AtomicReferenceArray<>(genotype.length());
+	}
+
+	/**
+	 * Return the evaluated parent phenotype.
+	 *
+	 * @return the evaluated parent phenotype
+	 */
+	public Phenotype<G, C> parent() {
+		return _parent;
+	}
+
+	/**
+	 * Return the fitness value of the parent phenotype.
+	 *
+	 * @return the fitness value of the parent phenotype
+	 */
+	public C fitness() {
+		return _parent.fitness();
+	}
+
+	/**
+	 * Return the sorted gene positions of the chromosome with the given
+	 * {@code index}, where offspring and parent differ. If the chromosome
+	 * lengths differ, all gene positions of the offspring chromosome are
+	 * returned.
+	 *
+	 * @param index the chromosome index
+	 * @return the changed gene positions of the given chromosome
+	 * @throws IndexOutOfBoundsException if the chromosome index is out of
+	 *         range
+	 */
+	public int[] changes(final int index) {
+		int[] changes = _changes.get(index);
+		if (changes == null) {
+			changes = diff(_parent.genotype().get(index), _genotype.get(index));
+			if (!_changes.compareAndSet(index, null, changes)) {
+				changes = _changes.get(index);
+			}
+		}
+
+		return changes.clone();
+	}
+
+	/**
+	 * Test whether the chromosome with the given {@code index} has been changed.
+	 *
+	 * @param index the chromosome index
+	 * @return {@code true} if the chromosome has been changed, {@code false}
+	 *         otherwise
+	 * @throws IndexOutOfBoundsException if the chromosome index is out of
+	 *         range
+	 */
+	public boolean isChanged(final int index) {
+		return _parent.genotype().get(index) != _genotype.get(index) &&
+			changes(index).length > 0;
+	}
+
+	/**
+	 * Return the overall number of changed genes.
+	 *
+	 * @return the overall number of changed genes
+	 */
+	public int changes() {
+		int changes = 0;
+		for (int i = 0; i < _changes.length(); ++i) {
+			if (_parent.genotype().get(i) != _genotype.get(i)) {
+				changes += changes(i).length;
+			}
+		}
+		return changes;
+	}
+
+	private static <G extends Gene<?, G>> int[]
+	diff(final Chromosome<G> parent, final Chromosome<G> offspring) {
+		if (parent == offspring) {
+			return EMPTY;
+		}
+
+		final int length = offspring.length();
+		final int[] changes = new int[length];
+		int count = 0;
+
+		if (parent.length() != length) {
+			for (int i = 0; i < length; ++i) {
+				changes[count++] = i;
+			}
+		} else if (
+			parent instanceof PermutationChromosome<?> p &&
+			offspring instanceof PermutationChromosome<?> o
+		) {
+			final int[] a = p.toIntArray();
+			final int[] b = o.toIntArray();
+			for (int i = 0; i < length; ++i) {
+				if (a[i] != b[i]) {
+					changes[count++] = i;
+				}
+			}
+		} else {
+			for (int i = 0; i < length; ++i) {
+				if (!parent.get(i).equals(offspring.get(i))) {
+					changes[count++] = i;
+				}
+			}
+		}
+
+		return count == 0 ? EMPTY : Arrays.copyOf(changes, count);
+	}
+
+	@Override
+	public String toString() {
+		return format("Provenance[parent=%s]", _parent);
+	}
+
+}
@@ -48,10 +48,12 @@ import io.jenetics.util.Seq;
  * <i>O<sub>R</sub></i> is the order of the recombination, which is the number
  * of individuals involved int the {@link #recombine} method.
  * </p>
+ * The recombined phenotypes record the phenotype they replaced as their
+ * {@link Phenotype#provenance()}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.1
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -108,6 +110,13 @@ public abstract class Recombinator<
 				.mapToInt(ind -> recombine(pop, ind, generation))
 				.sum();
 
+			// Records the provenance of the recombined individuals.
+			for (int i = 0, n = pop.size(); i < n; ++i) {
+				if (pop.get(i) != population.get(i)) {
+					pop.set(i, pop.get(i).derivedFrom(population.get(i)));
+				}
+			}
+
 			result = new AltererResult<>(pop.toISeq(), count);
 		} else {
 			result = new AltererResult<>(population.asISeq());
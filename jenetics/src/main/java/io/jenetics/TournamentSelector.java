@@ -26,8 +26,8 @@ import java.util.Comparator;
 import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
+import io.jenetics.internal.util.ParallelSampler;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -40,12 +40,16 @@ import io.jenetics.util.Seq;
  * in all the tournaments it participates. The selection pressure can be varied
  * by changing the tournament size <i>s</i> . For large values of <i>s</i>, weak
  * individuals have less chance being selected.
+ * <p>
+ * For big selection counts, the tournaments are performed in parallel. The
+ * needed random generators are split from the {@link RandomRegistry#random()}
+ * generator, which keeps the selection reproducible for a fixed seed.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Tournament_selection">Tournament selection</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.1
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -127,17 +131,24 @@ public class TournamentSelector<
 			));
 		}
 
-		final var random = RandomRegistry.random();
-		return population.isEmpty()
-			? ISeq.empty()
-			: MSeq.<Phenotype<G, C>>ofLength(count)
-				.fill(() -> select(population, opt, random))
-				.toISeq();
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final Comparator<? super Phenotype<G, C>> cmp = opt == Optimize.MAXIMUM
+			? _comparator
+			: _comparator.reversed();
+
+		return ParallelSampler.sample(
+			count,
+			RandomRegistry.random(),
+			random -> select(population, cmp, random)
+		);
 	}
 
 	private Phenotype<G, C> select(
 		final Seq<Phenotype<G, C>> population,
-		final Optimize opt,
+		final Comparator<? super Phenotype<G, C>> cmp,
 		final RandomGenerator random
 	) {
 		final int N = population.size();
@@ -145,10 +156,6 @@ public class TournamentSelector<
 		assert _sampleSize >= 2;
 		assert N >= 1;
 
-		final Comparator<? super Phenotype<G, C>> cmp = opt == Optimize.MAXIMUM
-			? _comparator
-			: _comparator.reversed();
-
 		return Stream.generate(() -> population.get(random.nextInt(N)))
 			.limit(_sampleSize)
 			.max(cmp)
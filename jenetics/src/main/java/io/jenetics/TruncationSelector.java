@@ -23,6 +23,7 @@ import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import io.jenetics.internal.util.PartialSorter;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
@@ -39,7 +40,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 7.1
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -80,10 +81,13 @@ public final class TruncationSelector<
 	}
 
 	/**
-	 * This method sorts the population in descending order while calculating
-	 * the selection probabilities. If the selection size is greater the the
+	 * This method selects the best {@code min(count, n)} individuals of the
+	 * population in descending order. If the selection size is greater the the
 	 * population size, the whole population is duplicated until the desired
-	 * sample size is reached.
+	 * sample size is reached. Only the selected individuals are sorted, which
+	 * leads to a complexity of {@code O(n + k log(k))} for selecting
+	 * {@code k} individuals out of a population of size {@code n}. For big
+	 * populations, the best individuals are determined in parallel.
 	 *
 	 * @throws NullPointerException if the {@code population} or {@code opt} is
 	 *         {@code null}.
@@ -107,15 +111,21 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.fitness(), b.fitness()));
+			// Only the best 'min(count, n)' individuals are needed, which
+			// doesn't require sorting the whole population.
+			final int[] best = PartialSorter.sort(
+				population,
+				population.size(),
+				min(count, _n),
+				(p, i, j) -> opt.<C>descending()
+					.compare(p.get(i).fitness(), p.get(j).fitness())
+			);
 
 			int size = count;
 			do {
-				final int length = min(min(copy.size(), size), _n);
+				final int length = min(best.length, size);
 				for (int i = 0; i < length; ++i) {
-					selection.set((count - size) + i, copy.get(i));
+					selection.set((count - size) + i, population.get(best[i]));
 				}
 
 				size -= length;
@@ -0,0 +1,186 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.math.Randoms.indexes;
+
+import java.util.function.ToDoubleBiFunction;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * The {@code TwoOptMutator} improves a (cyclic) route with the <em>2-opt</em>
+ * local search move. For every gene, chosen with the mutation probability, the
+ * edge to its successor is compared with all other edges of the route. The
+ * two edges are replaced by the two reconnected ones, if this gives the
+ * biggest reduction of the route length. Reconnecting the edges is done by
+ * reversing the genes between them, on the {@code int[]} allele indexes of
+ * the {@link EnumGene}s. Every mutation is therefore linear in the chromosome
+ * length.
+ * <p>
+ * Unlike the {@link InversionMutator}, which performs random 2-opt moves, this
+ * mutator needs the distance between two alleles. The distance function is
+ * expected to be <em>symmetric</em>.
+ *
+ * <pre>{@code
+ * final ISeq<Point> points = ...;
+ * final Engine<EnumGene<Point>, Double> engine = Engine
+ *     .builder(Tsp::length, PermutationChromosome.of(points))
+ *     .optimize(Optimize.MINIMUM)
+ *     .alterers(
+ *         new TwoOptMutator<>(0.05, Point::distance),
+ *         new EdgeRecombinationCrossover<>(0.3))
+ *     .build();
+ * }</pre>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/2-opt">Wikipedia: 2-opt</a>
+ * @see InversionMutator
+ * @see PermutationChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public class TwoOptMutator<T, C extends Comparable<? super C>>
+	extends Mutator<EnumGene<T>, C>
+{
+
+	private final ToDoubleBiFunction<? super T, ? super T> _distance;
+
+	/**
+	 * Constructs an alterer with a given mutation probability and distance
+	 * function.
+	 *
+	 * @param probability the mutation probability.
+	 * @param distance the (symmetric) distance between two alleles
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}.
+	 * @throws NullPointerException if the {@code distance} function is
+	 *         {@code null}
+	 */
+	public TwoOptMutator(
+		final double probability,
+		final ToDoubleBiFunction<? super T, ? super T> distance
+	) {
+		super(probability);
+		_distance = requireNonNull(distance);
+	}
+
+	/**
+	 * Constructs an alterer with the default mutation probability
+	 * ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}) and the given
+	 * distance function.
+	 *
+	 * @param distance the (symmetric) distance between two alleles
+	 * @throws NullPointerException if the {@code distance} function is
+	 *         {@code null}
+	 */
+	public TwoOptMutator(final ToDoubleBiFunction<? super T, ? super T> distance) {
+		this(DEFAULT_ALTER_PROBABILITY, distance);
+	}
+
+	@Override
+	protected MutatorResult<Chromosome<EnumGene<T>>> mutate(
+		final Chromosome<EnumGene<T>> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		final MutatorResult<Chromosome<EnumGene<T>>> result;
+		if (chromosome.length() > 3) {
+			final ISeq<? extends T> alleles = chromosome.get(0).validAlleles();
+			final int[] indexes = EnumGene.toAlleleIndexes(chromosome);
+
+			final int mutations = (int)indexes(random, indexes.length, p)
+				.filter(i -> improve(indexes, i, alleles))
+				.count();
+
+			if (mutations > 0) {
+				result = new MutatorResult<>(
+					EnumGene.newChromosome(chromosome, indexes),
+					mutations
+				);
+			} else {
+				result = new MutatorResult<>(chromosome, 0);
+			}
+		} else {
+			result = new MutatorResult<>(chromosome, 0);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Performs the best improving 2-opt move, which replaces the edge from
+	 * position {@code i} to its successor.
+	 *
+	 * @return {@code true} if the route has been changed, {@code false}
+	 *         otherwise
+	 */
+	private boolean improve(
+		final int[] route,
+		final int i,
+		final ISeq<? extends T> alleles
+	) {
+		final int n = route.length;
+
+		int bestX = -1;
+		int bestY = -1;
+		double bestDelta = 0;
+		for (int k = 0; k < n; ++k) {
+			final int x = min(i, k);
+			final int y = max(i, k);
+
+			if (y - x >= 2 && !(x == 0 && y == n - 1)) {
+				final int a = route[x];
+				final int b = route[x + 1];
+				final int c = route[y];
+				final int d = route[(y + 1)%n];
+
+				final double delta =
+					distance(a, c, alleles) + distance(b, d, alleles) -
+					distance(a, b, alleles) - distance(c, d, alleles);
+
+				if (delta < bestDelta) {
+					bestDelta = delta;
+					bestX = x;
+					bestY = y;
+				}
+			}
+		}
+
+		if (bestX != -1) {
+			InversionMutator.reverse(route, bestX + 1, bestY);
+		}
+		return bestX != -1;
+	}
+
+	private double distance(
+		final int a,
+		final int b,
+		final ISeq<? extends T> alleles
+	) {
+		return _distance.applyAsDouble(alleles.get(a), alleles.get(b));
+	}
+
+}
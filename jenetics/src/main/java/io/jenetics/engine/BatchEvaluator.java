@@ -0,0 +1,149 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluation strategy for fitness functions, which evaluate whole batches of
+ * genotypes at once. The not evaluated phenotypes of the population are split
+ * into chunks of the given batch size and the chunks are evaluated
+ * concurrently with the configured {@link Executor}. This removes the
+ * per-individual call overhead of the fitness function and allows
+ * vectorized implementations of it.
+ *
+ * @see Evaluators#batched(Function, int, Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class BatchEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends EngineEvaluator<G, C>
+{
+
+	private final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>> _fitness;
+	private final int _batchSize;
+	private final Executor _executor;
+
+	BatchEvaluator(
+		final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>> fitness,
+		final int batchSize,
+		final Executor executor
+	) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero: %d", batchSize
+			));
+		}
+
+		_fitness = requireNonNull(fitness);
+		_batchSize = batchSize;
+		_executor = requireNonNull(executor);
+	}
+
+	@Override
+	BatchEvaluator<G, C>
+	with(final Executor executor, final EvolutionRandom random) {
+		return new BatchEvaluator<>(_fitness, _batchSize, executor);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+
+		final int[] indexes = new int[result.length()];
+		int count = 0;
+		for (int i = 0; i < result.length(); ++i) {
+			if (result.get(i).nonEvaluated()) {
+				indexes[count++] = i;
+			}
+		}
+
+		if (count > 0) {
+			final MSeq<Batch> batches =
+				MSeq.ofLength((count + _batchSize - 1)/_batchSize);
+			for (int i = 0; i < batches.length(); ++i) {
+				final int from = i*_batchSize;
+				final int until = Math.min(from + _batchSize, count);
+
+				final MSeq<Genotype<G>> genotypes = MSeq.ofLength(until - from);
+				for (int j = from; j < until; ++j) {
+					genotypes.set(j - from, result.get(indexes[j]).genotype());
+				}
+				batches.set(i, new Batch(genotypes.toISeq()));
+			}
+
+			try (var c = Concurrency.with(_executor)) {
+				c.execute(batches);
+			}
+
+			for (int i = 0; i < batches.length(); ++i) {
+				final Seq<? extends C> fitness = batches.get(i).fitness;
+				for (int j = 0; j < fitness.length(); ++j) {
+					final int index = indexes[i*_batchSize + j];
+					result.set(index, result.get(index).withFitness(fitness.get(j)));
+				}
+			}
+		}
+
+		return result.toISeq();
+	}
+
+	/**
+	 * Evaluates one chunk of genotypes.
+	 */
+	private final class Batch implements Runnable {
+		private final ISeq<Genotype<G>> _genotypes;
+		private Seq<? extends C> fitness;
+
+		private Batch(final ISeq<Genotype<G>> genotypes) {
+			_genotypes = genotypes;
+		}
+
+		@Override
+		public void run() {
+			final Seq<? extends C> values = _fitness.apply(_genotypes);
+			if (values.length() != _genotypes.length()) {
+				throw new IllegalStateException(format(
+					"Expected %d fitness values, but got %d.",
+					_genotypes.length(), values.length()
+				));
+			}
+			fitness = values;
+		}
+	}
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator decorator which memoizes already calculated fitness values. The
+ * fitness values are stored in a bounded cache with <em>least recently
+ * used</em> (LRU) eviction strategy. The cache key is derived from the
+ * genotype of the phenotypes to evaluate. By default, the genotype itself is
+ * used as cache key. Only the phenotypes, whose fitness value is not already
+ * cached, are passed to the decorated evaluator. Structural equal genotypes
+ * within one population are evaluated only once. The penalty fitness of timed
+ * out evaluations, see {@link EvaluationTimeout}, is not cached.
+ *
+ * <pre>{@code
+ * final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+ *     Evaluators.concurrent(Main::fitness, commonPool()),
+ *     10_000
+ * );
+ * final Engine<DoubleGene, Double> engine = new Engine.Builder<>(evaluator, gtf)
+ *     .build();
+ * ...
+ * System.out.println("Cache hits: " + evaluator.hits());
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. The cache lookups are synchronized, but the
+ * decorated evaluator is called without holding a lock. If the decorated
+ * evaluator is a {@link Evaluators#concurrent(Function, Executor)} or
+ * {@link Evaluators#batched(Function, int, Executor)} evaluator, it will use
+ * the executor of the evolution {@link Engine}.
+ *
+ * @see Evaluators#cached(Evaluator, int)
+ * @see Evaluators#cached(Evaluator, Function, int)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class CachedEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends EngineEvaluator<G, C>
+{
+
+	private final Evaluator<G, C> _evaluator;
+	private final Function<? super Genotype<G>, ?> _key;
+	private final Cache<C> _cache;
+
+	private CachedEvaluator(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ?> key,
+		final Cache<C> cache
+	) {
+		_evaluator = requireNonNull(evaluator);
+		_key = requireNonNull(key);
+		_cache = requireNonNull(cache);
+	}
+
+	CachedEvaluator(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ?> key,
+		final int maxSize
+	) {
+		this(evaluator, key, new Cache<>(maxSize));
+	}
+
+	/**
+	 * Return a new evaluator, where the decorated evaluator uses the given
+	 * engine settings. The returned evaluator shares the cache with
+	 * {@code this} evaluator.
+	 */
+	@Override
+	CachedEvaluator<G, C>
+	with(final Executor executor, final EvolutionRandom random) {
+		return new CachedEvaluator<>(
+			EngineEvaluator.with(_evaluator, executor, random), _key, _cache
+		);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return evaluate(population).population();
+	}
+
+	@Override
+	EvaluatorResult<G, C>
+	evaluate(final Seq<Phenotype<G, C>> population, final long offset) {
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+
+		final Object[] keys = new Object[result.length()];
+		for (int i = 0; i < keys.length; ++i) {
+			if (result.get(i).nonEvaluated()) {
+				keys[i] = key(result.get(i).genotype());
+			}
+		}
+
+		// Phenotypes with unknown fitness value, grouped by its key.
+		final Map<Object, List<Integer>> pending = new HashMap<>();
+		final List<Phenotype<G, C>> evaluate = new ArrayList<>();
+
+		synchronized (_cache) {
+			for (int i = 0; i < keys.length; ++i) {
+				if (keys[i] != null) {
+					final C fitness = _cache.get(keys[i]);
+					if (fitness != null) {
+						result.set(i, result.get(i).withFitness(fitness));
+						++_cache.hits;
+					} else {
+						final List<Integer> indexes = pending.get(keys[i]);
+						if (indexes == null) {
+							pending.put(keys[i], new ArrayList<>(List.of(i)));
+							evaluate.add(result.get(i));
+							++_cache.misses;
+						} else {
+							indexes.add(i);
+							++_cache.hits;
+						}
+					}
+				}
+			}
+		}
+
+		int timeouts = 0;
+		Set<Genotype<G>> penalized = Set.of();
+		if (!evaluate.isEmpty()) {
+			final EvaluatorResult<G, C> er =
+				EngineEvaluator.evaluate(_evaluator, ISeq.of(evaluate), offset);
+			final ISeq<Phenotype<G, C>> evaluated = er.population();
+			timeouts = er.timeoutCount();
+			penalized = er.penalized();
+
+			final List<Object> evaluatedKeys = new ArrayList<>(evaluated.size());
+			for (Phenotype<G, C> pt : evaluated) {
+				evaluatedKeys.add(key(pt.genotype()));
+			}
+
+			synchronized (_cache) {
+				for (int i = 0; i < evaluated.size(); ++i) {
+					final Phenotype<G, C> pt = evaluated.get(i);
+					final List<Integer> indexes =
+						pending.remove(evaluatedKeys.get(i));
+
+					if (pt.isEvaluated() && indexes != null) {
+						// Penalty fitness values are not cached.
+						if (!penalized.contains(pt.genotype())) {
+							_cache.put(evaluatedKeys.get(i), pt.fitness());
+						}
+						for (int index : indexes) {
+							result.set(index, result.get(index)
+								.withFitness(pt.fitness()));
+						}
+					}
+				}
+			}
+		}
+
+		return new EvaluatorResult<>(result.toISeq(), timeouts, penalized);
+	}
+
+	private Object key(final Genotype<G> genotype) {
+		return requireNonNull(
+			_key.apply(genotype),
+			"The cache key function returned null."
+		);
+	}
+
+	/**
+	 * Return the number of fitness values which has been taken from the cache,
+	 * including structural equal genotypes within the same population.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long hits() {
+		synchronized (_cache) {
+			return _cache.hits;
+		}
+	}
+
+	/**
+	 * Return the number of fitness values which has been calculated by the
+	 * decorated evaluator.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long misses() {
+		synchronized (_cache) {
+			return _cache.misses;
+		}
+	}
+
+	/**
+	 * Return the number of fitness values which has been removed from the
+	 * cache, because the maximal cache size has been exceeded.
+	 *
+	 * @return the number of evicted cache entries
+	 */
+	public long evictions() {
+		synchronized (_cache) {
+			return _cache.evictions;
+		}
+	}
+
+	/**
+	 * Return the number of currently cached fitness values.
+	 *
+	 * @return the current cache size
+	 */
+	public int size() {
+		synchronized (_cache) {
+			return _cache.size();
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (_cache) {
+			return format(
+				"CachedEvaluator[size=%d, hits=%d, misses=%d, evictions=%d]",
+				_cache.size(), _cache.hits, _cache.misses, _cache.evictions
+			);
+		}
+	}
+
+	/**
+	 * LRU cache with additional statistics counters. Access to the cache
+	 * must be synchronized on the cache object itself.
+	 */
+	private static final class Cache<C> extends LinkedHashMap<Object, C> {
+
+		private final int _maxSize;
+
+		long hits;
+		long misses;
+		long evictions;
+
+		Cache(final int maxSize) {
+			super(16, 0.75F, true);
+			if (maxSize < 1) {
+				throw new IllegalArgumentException(format(
+					"Cache size must be greater than zero: %d", maxSize
+				));
+			}
+			_maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Object, C> eldest) {
+			final boolean remove = size() > _maxSize;
+			if (remove) {
+				++evictions;
+			}
+			return remove;
+		}
+	}
+
+}
@@ -21,8 +21,11 @@ package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
@@ -33,45 +36,154 @@ import io.jenetics.util.Seq;
 
 /**
  * Default phenotype evaluation strategy. It uses the configured {@link Executor}
- * for the fitness evaluation.
+ * for the fitness evaluation. If an {@link IncrementalFitness} function is
+ * given, it is used for the phenotypes with a known
+ * {@link Phenotype#provenance()}. If an {@link EvaluationTimeout} is given,
+ * evaluations which miss their deadline are cancelled.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 7.1
  * @since 4.2
  */
 final class ConcurrentEvaluator<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 >
-	implements Evaluator<G, C>
+	extends EngineEvaluator<G, C>
 {
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
+	private final IncrementalFitness<G, C> _incremental;
+	private final EvaluationTimeout<C> _timeout;
 	private final Executor _executor;
+	private final EvolutionRandom _random;
 
 	ConcurrentEvaluator(
 		final Function<? super Genotype<G>, ? extends C> function,
-		final Executor executor
+		final IncrementalFitness<G, C> incremental,
+		final EvaluationTimeout<C> timeout,
+		final Executor executor,
+		final EvolutionRandom random
 	) {
 		_function = requireNonNull(function);
+		_incremental = incremental;
+		_timeout = timeout;
 		_executor = requireNonNull(executor);
+		_random = requireNonNull(random);
+	}
+
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final EvaluationTimeout<C> timeout,
+		final Executor executor
+	) {
+		this(function, null, requireNonNull(timeout), executor, EvolutionRandom.NONE);
+	}
+
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final IncrementalFitness<G, C> incremental,
+		final Executor executor
+	) {
+		this(function, requireNonNull(incremental), null, executor, EvolutionRandom.NONE);
+	}
+
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Executor executor
+	) {
+		this(function, null, null, executor, EvolutionRandom.NONE);
 	}
 
-	ConcurrentEvaluator<G, C> with(final Executor executor) {
-		return new ConcurrentEvaluator<>(_function, executor);
+	@Override
+	ConcurrentEvaluator<G, C>
+	with(final Executor executor, final EvolutionRandom random) {
+		return new ConcurrentEvaluator<>(
+			_function, _incremental, _timeout, executor, random
+		);
+	}
+
+	private Function<? super Genotype<G>, ? extends C>
+	function(final Phenotype<G, C> phenotype) {
+		if (_incremental != null) {
+			final var provenance = phenotype.provenance();
+			if (provenance.isPresent()) {
+				final var prov = provenance.get();
+				return gt -> _incremental.apply(gt, prov);
+			}
+		}
+
+		return _function;
+	}
+
+	/**
+	 * Return {@code true} if the evaluations of this evaluator have a
+	 * deadline.
+	 *
+	 * @return {@code true} if the evaluations have a deadline
+	 */
+	boolean isTimed() {
+		return _timeout != null;
+	}
+
+	/**
+	 * Evaluates the given {@code phenotype} directly, in the calling thread.
+	 * The evaluation deadline, if any, is not applied.
+	 *
+	 * @param phenotype the phenotype to evaluate
+	 * @param index the index of the evaluation, used for deriving the random
+	 *        generator of the fitness function
+	 * @return the evaluated phenotype
+	 */
+	Phenotype<G, C> evaluate(final Phenotype<G, C> phenotype, final long index) {
+		final var fitness = new PhenotypeFitness<>(
+			phenotype,
+			_random.fitness(function(phenotype), phenotype.generation(), index)
+		);
+		fitness.run();
+		return fitness.phenotype();
 	}
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
+		return evaluate(population).population();
+	}
+
+	@Override
+	EvaluatorResult<G, C>
+	evaluate(final Seq<Phenotype<G, C>> population, final long offset) {
+		final ISeq<Phenotype<G, C>> unevaluated = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
+			.collect(ISeq.toISeq());
+
+		final ISeq<PhenotypeFitness<G, C>> evaluate = IntStream
+			.range(0, unevaluated.size())
+			.mapToObj(i -> new PhenotypeFitness<>(
+				unevaluated.get(i),
+				_random.fitness(
+					function(unevaluated.get(i)),
+					unevaluated.get(i).generation(),
+					offset + i
+				)
+			))
 			.collect(ISeq.toISeq());
 
 		final ISeq<Phenotype<G, C>> result;
+		int timeouts = 0;
+		Set<Genotype<G>> penalized = Set.of();
 		if (evaluate.nonEmpty()) {
-			try (var c = Concurrency.with(_executor)) {
-				c.execute(evaluate);
+			if (_timeout != null) {
+				timeouts = _timeout.evaluate(evaluate, _executor);
+				if (timeouts > 0) {
+					penalized = evaluate.stream()
+						.filter(fitness -> fitness._penalized)
+						.map(fitness -> fitness._phenotype.genotype())
+						.collect(Collectors.toSet());
+				}
+			} else {
+				try (var c = Concurrency.with(_executor)) {
+					c.execute(evaluate);
+				}
 			}
 
 			result = evaluate.size() == population.size()
@@ -84,11 +196,11 @@ final class ConcurrentEvaluator<
 			result = population.asISeq();
 		}
 
-		return result;
+		return new EvaluatorResult<>(result, timeouts, penalized);
 	}
 
 
-	private static final class PhenotypeFitness<
+	static final class PhenotypeFitness<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
 	>
@@ -97,6 +209,7 @@ final class ConcurrentEvaluator<
 		final Phenotype<G, C> _phenotype;
 		final Function<? super Genotype<G>, ? extends C> _function;
 		C _fitness;
+		boolean _penalized;
 
 		PhenotypeFitness(
 			final Phenotype<G, C> phenotype,
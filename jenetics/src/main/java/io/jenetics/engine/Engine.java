@@ -23,6 +23,12 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static io.jenetics.engine.EvolutionRandom.Phase.EVOLUTION_START;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_ALTER;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_FILTER;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_SELECTION;
+import static io.jenetics.engine.EvolutionRandom.Phase.SURVIVORS_SELECTION;
+import static io.jenetics.engine.EvolutionRandom.Phase.SURVIVOR_FILTER;
 
 import java.time.InstantSource;
 import java.util.concurrent.CompletableFuture;
@@ -39,6 +45,7 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.internal.util.ParallelSampler;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -108,7 +115,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 7.0
+ * @version 7.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -133,6 +140,7 @@ public final class Engine<
 	private final Executor _executor;
 	private final InstantSource _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
+	private final EvolutionRandom _random;
 
 
 	/**
@@ -150,6 +158,7 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
+	 * @param random the random generators used by the evolution phases
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -162,7 +171,8 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final InstantSource clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final EvolutionRandom random
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -172,30 +182,25 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_random = requireNonNull(random);
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
-		final EvolutionTiming timing = new EvolutionTiming(_clock);
-		timing.evolve.start();
-
-		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
-
-		// Create initial population if `start` is empty.
-		final EvolutionStart<G, C> es = interceptedStart.population().isEmpty()
-			? evolutionStart(interceptedStart)
-			: interceptedStart;
-
-		// Initial evaluation of the population.
-		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
-			: es.population();
+		final EvolutionFrame<G, C> frame = EvolutionFrame.start(this, start);
+		final EvolutionTiming timing = frame.timing();
+		final long generation = frame.generation();
+		final ISeq<Phenotype<G, C>> population = frame.population();
 
 		// Select the offspring population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
 			supplyAsync(() ->
 				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
+					_random.with(generation, OFFSPRING_SELECTION, () ->
+						ParallelSampler.with(_executor, () ->
+							selectOffspring(population)
+						)
+					)
 				),
 				_executor
 			);
@@ -204,7 +209,11 @@ public final class Engine<
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
 			supplyAsync(() ->
 				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
+					_random.with(generation, SURVIVORS_SELECTION, () ->
+						ParallelSampler.with(_executor, () ->
+							selectSurvivors(population)
+						)
+					)
 				),
 				_executor
 			);
@@ -213,7 +222,9 @@ public final class Engine<
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+					_random.with(generation, OFFSPRING_ALTER, () ->
+						_evolutionParams.alterer().alter(off, generation)
+					)
 				),
 				_executor
 			);
@@ -222,7 +233,9 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
 			survivors.thenApplyAsync(sur ->
 				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
+					_random.with(generation, SURVIVOR_FILTER, () ->
+						filter(sur, generation)
+					)
 				),
 				_executor
 			);
@@ -231,7 +244,9 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
 			alteredOffspring.thenApplyAsync(off ->
 				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
+					_random.with(generation, OFFSPRING_FILTER, () ->
+						filter(off.population(), generation)
+					)
 				),
 				_executor
 			);
@@ -245,10 +260,7 @@ public final class Engine<
 			);
 
 		// Evaluate the fitness-function and wait for result.
-		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
-		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
-		);
+		final ISeq<Phenotype<G, C>> result = frame.evaluate(nextPopulation.join());
 
 		final int killCount =
 			filteredOffspring.join().killCount() +
@@ -260,29 +272,7 @@ public final class Engine<
 
 		final int alterationCount = alteredOffspring.join().alterations();
 
-		EvolutionResult<G, C> er = EvolutionResult.of(
-			_optimize,
-			result,
-			es.generation(),
-			timing.toDurations(),
-			killCount,
-			invalidCount,
-			alterationCount
-		);
-
-		final EvolutionResult<G, C> interceptedResult = _interceptor.after(er);
-		if (er != interceptedResult) {
-			er = interceptedResult.withPopulation(
-				timing.evaluation.timing(() ->
-					eval(interceptedResult.population())
-			));
-		}
-
-		timing.evolve.stop();
-
-		return er
-			.withDurations(timing.toDurations())
-			.clean();
+		return frame.result(result, killCount, invalidCount, alterationCount);
 	}
 
 	// Selects the survivors population. A new population object is returned.
@@ -304,7 +294,7 @@ public final class Engine<
 	}
 
 	// Filters out invalid and old individuals. Filtering is done in place.
-	private FilterResult<G, C> filter(
+	FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
@@ -353,7 +343,16 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
+		return evaluate(population, 0).population();
+	}
+
+	// Evaluates the population and counts the timed out fitness evaluations.
+	// The offset is the evaluation index of the first phenotype.
+	EvaluatorResult<G, C>
+	evaluate(final Seq<Phenotype<G, C>> population, final long offset) {
+		final EvaluatorResult<G, C> result =
+			EngineEvaluator.evaluate(_evaluator, population, offset);
+		final ISeq<Phenotype<G, C>> evaluated = result.population();
 
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
@@ -369,7 +368,7 @@ public final class Engine<
 			);
 		}
 
-		return evaluated;
+		return result;
 	}
 
 
@@ -391,7 +390,7 @@ public final class Engine<
 		return stream(evolutionStart(init));
 	}
 
-	private EvolutionStart<G, C>
+	EvolutionStart<G, C>
 	evolutionStart(final EvolutionStart<G, C> start) {
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
@@ -402,14 +401,16 @@ public final class Engine<
 				.map(gt -> Phenotype.of(gt, gen))
 		);
 
-		final ISeq<Phenotype<G, C>> pop = stream
-			.limit(populationSize())
-			.collect(ISeq.toISeq());
+		final ISeq<Phenotype<G, C>> pop = _random.with(gen, EVOLUTION_START, () ->
+			stream
+				.limit(populationSize())
+				.collect(ISeq.toISeq())
+		);
 
 		return EvolutionStart.of(pop, gen);
 	}
 
-	private EvolutionStart<G, C>
+	EvolutionStart<G, C>
 	evolutionStart(final EvolutionInit<G> init) {
 		final ISeq<Genotype<G>> pop = init.population();
 		final long gen = init.generation();
@@ -422,6 +423,71 @@ public final class Engine<
 		);
 	}
 
+	/**
+	 * Return a <em>pipelined</em> evolution, which uses the configuration of
+	 * this engine. The returned evolution streamable doesn't wait for the
+	 * evaluation of a whole generation. Every evaluated individual replaces
+	 * the worst individual of the current population as soon as its fitness
+	 * is available and new offspring is bred immediately. This keeps the
+	 * {@link #executor()} busy, if the evaluation time of the fitness
+	 * function varies widely.
+	 *
+	 * <pre>{@code
+	 * final Phenotype<DoubleGene, Double> best = engine.pipelined(16).stream()
+	 *     .limit(100)
+	 *     .collect(EvolutionResult.toBestPhenotype());
+	 * }</pre>
+	 *
+	 * One generation of the created evolution stream consists of
+	 * {@link #offspringSize()} replaced individuals. Since the population is
+	 * updated individual by individual, the best individual is never lost,
+	 * and the {@link #survivorsSelector()} is not used.
+	 *
+	 * @since 7.1
+	 *
+	 * @param depth the number of individuals which are evaluated concurrently
+	 * @return a new pipelined evolution streamable
+	 * @throws IllegalArgumentException if the given {@code depth} is smaller
+	 *         than one
+	 */
+	public EvolutionStreamable<G, C> pipelined(final int depth) {
+		return new PipelinedEvolution<>(this, depth);
+	}
+
+	/**
+	 * Return a <em>steady-state</em> evolution, which uses the configuration
+	 * of this engine. Instead of replacing the whole offspring population at
+	 * once, the returned evolution breeds and evaluates {@code k} individuals
+	 * in one step, which then replace the {@code k} worst individuals of the
+	 * current population. The population is updated in place and only
+	 * {@code O(k)} objects are allocated per step.
+	 *
+	 * <pre>{@code
+	 * final Phenotype<DoubleGene, Double> best = engine
+	 *     .steadyState(Runtime.getRuntime().availableProcessors())
+	 *     .stream()
+	 *     .limit(100)
+	 *     .collect(EvolutionResult.toBestPhenotype());
+	 * }</pre>
+	 *
+	 * One generation of the created evolution stream consists of
+	 * {@link #offspringSize()} replaced individuals. Since only the worst
+	 * individuals are replaced, the best individual is never lost, and the
+	 * {@link #survivorsSelector()} is not used.
+	 *
+	 * @since 7.1
+	 *
+	 * @see #pipelined(int)
+	 *
+	 * @param k the number of individuals which are replaced in one step
+	 * @return a new steady-state evolution
+	 * @throws IllegalArgumentException if the given {@code k} is smaller than
+	 *         one
+	 */
+	public EvolutionStreamable<G, C> steadyState(final int k) {
+		return new SteadyStateEvolution<>(this, k);
+	}
+
 	/* *************************************************************************
 	 * Property access methods.
 	 **************************************************************************/
@@ -540,6 +606,24 @@ public final class Engine<
 		return _executor;
 	}
 
+	/**
+	 * Return the random generators of the evolution phases.
+	 *
+	 * @return the random generators of the evolution phases
+	 */
+	EvolutionRandom random() {
+		return _random;
+	}
+
+	/**
+	 * Return the evaluator of this engine.
+	 *
+	 * @return the evaluator of this engine
+	 */
+	Evaluator<G, C> evaluator() {
+		return _evaluator;
+	}
+
 	/**
 	 * Return the evolution interceptor.
 	 *
@@ -565,7 +649,8 @@ public final class Engine<
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.random(_random);
 	}
 
 
@@ -674,7 +759,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 7.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -701,6 +786,8 @@ public final class Engine<
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
 
+		private EvolutionRandom _random = EvolutionRandom.NONE;
+
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
 		 * evaluator and genotype factory. This is the most general way for
@@ -1019,6 +1106,42 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Makes the evolution <em>reproducible</em>, also for a parallel
+		 * execution. Every evolution phase, offspring and survivor
+		 * selection, altering, filtering and the creation of the initial
+		 * population, is executed with its own random generator, which is
+		 * derived from the given {@code seed}, the generation and the phase.
+		 * If the engine uses the default evaluator, every fitness function
+		 * call gets its own random generator as well. The created
+		 * evolution streams therefore deliver the same results, independent
+		 * of the used {@link #executor(Executor)} and of the thread
+		 * scheduling. This also holds for the {@link Engine#steadyState(int)}
+		 * evolution, where every replacement round gets its own generators.
+		 * The {@link Engine#pipelined(int)} evolution is not reproducible,
+		 * since it depends on the completion order of the evaluations.
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+		 *     .executor(ForkJoinPool.commonPool())
+		 *     .seed(42)
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @since 7.1
+		 *
+		 * @param seed the root seed of the derived random generators
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> seed(final long seed) {
+			return random(EvolutionRandom.of(seed));
+		}
+
+		Builder<G, C> random(final EvolutionRandom random) {
+			_random = requireNonNull(random);
+			return this;
+		}
+
 		/**
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
@@ -1033,14 +1156,13 @@ public final class Engine<
 				_evolutionParams.build(),
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_random
 			);
 		}
 
 		private Evaluator<G, C> __evaluator() {
-			return _evaluator instanceof ConcurrentEvaluator<G, C> ce
-				? ce.with(_executor)
-				: _evaluator;
+			return EngineEvaluator.with(_evaluator, _executor, _random);
 		}
 
 		private Constraint<G, C> __constraint() {
@@ -1211,7 +1333,8 @@ public final class Engine<
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.random(_random);
 		}
 
 	}
@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.Executor;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Base class of the evaluators, which use the {@link Executor} and the random
+ * source of the evolution {@link Engine}. Evaluator decorators pass the
+ * engine settings on to the decorated evaluator.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+abstract class EngineEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	/**
+	 * Return a new evaluator, which uses the given {@code executor} and
+	 * {@code random} source. Shared state, like a fitness cache, is kept.
+	 *
+	 * @param executor the executor of the evolution engine
+	 * @param random the random source of the evolution engine
+	 * @return a new evaluator with the given engine settings
+	 */
+	abstract EngineEvaluator<G, C>
+	with(final Executor executor, final EvolutionRandom random);
+
+	/**
+	 * Evaluates the given population and returns the evaluated population,
+	 * together with the timed out evaluations. The evaluated phenotypes get
+	 * the evaluation indexes {@code offset, offset + 1, ...}, which select
+	 * the random stream of the fitness function. Evaluations within the same
+	 * generation must therefore use non-overlapping index ranges.
+	 *
+	 * @param population the population to evaluate
+	 * @param offset the evaluation index of the first phenotype
+	 * @return the evaluation result
+	 */
+	EvaluatorResult<G, C>
+	evaluate(final Seq<Phenotype<G, C>> population, final long offset) {
+		return new EvaluatorResult<>(eval(population));
+	}
+
+	/**
+	 * Evaluates the given population, starting with the evaluation index
+	 * zero.
+	 *
+	 * @see #evaluate(Seq, long)
+	 *
+	 * @param population the population to evaluate
+	 * @return the evaluation result
+	 */
+	final EvaluatorResult<G, C>
+	evaluate(final Seq<Phenotype<G, C>> population) {
+		return evaluate(population, 0);
+	}
+
+	/**
+	 * Applies the given engine settings to the given {@code evaluator}, if it
+	 * supports them. Otherwise, the {@code evaluator} is returned unchanged.
+	 *
+	 * @param evaluator the evaluator to configure
+	 * @param executor the executor of the evolution engine
+	 * @param random the random source of the evolution engine
+	 * @return the configured evaluator
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> with(
+		final Evaluator<G, C> evaluator,
+		final Executor executor,
+		final EvolutionRandom random
+	) {
+		return evaluator instanceof EngineEvaluator<G, C> ee
+			? ee.with(executor, random)
+			: evaluator;
+	}
+
+	/**
+	 * Evaluates the given population with the given {@code evaluator}. Only
+	 * engine evaluators report timed out evaluations.
+	 *
+	 * @see #evaluate(Seq, long)
+	 *
+	 * @param evaluator the evaluator to use
+	 * @param population the population to evaluate
+	 * @param offset the evaluation index of the first phenotype
+	 * @return the evaluation result
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluatorResult<G, C> evaluate(
+		final Evaluator<G, C> evaluator,
+		final Seq<Phenotype<G, C>> population,
+		final long offset
+	) {
+		return evaluator instanceof EngineEvaluator<G, C> ee
+			? ee.evaluate(population, offset)
+			: new EvaluatorResult<>(evaluator.eval(population));
+	}
+
+}
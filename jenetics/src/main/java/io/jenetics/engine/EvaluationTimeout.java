@@ -0,0 +1,354 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.ConcurrentEvaluator.PhenotypeFitness;
+import io.jenetics.util.Seq;
+
+/**
+ * Defines the deadlines of the fitness evaluation. Every single fitness
+ * evaluation must finish within the {@code individual} duration, measured
+ * from the start of the evaluation, and the whole population must be
+ * evaluated within the {@code generation} duration. The evaluation of a
+ * phenotype, which misses one of the deadlines, is cancelled (with
+ * interruption) and rescheduled, as long as the number of {@code retries} is
+ * not exhausted and the generation deadline has not passed. Otherwise, the
+ * phenotype gets the {@code penalty} fitness assigned.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+ *         Evaluators.concurrent(
+ *             Main::simulation,
+ *             EvaluationTimeout.of(Duration.ofSeconds(2), Double.MAX_VALUE),
+ *             executor
+ *         ),
+ *         codec.encoding()
+ *     )
+ *     .minimizing()
+ *     .build();
+ * }</pre>
+ *
+ * The number of timed out evaluations of a generation is reported by
+ * {@link EvolutionResult#timeoutCount()}. The deadlines can only be enforced
+ * if the fitness function is evaluated asynchronously, by an executor which
+ * doesn't run the given tasks in the calling thread.
+ *
+ * @see Evaluators#concurrent(java.util.function.Function, EvaluationTimeout, Executor)
+ *
+ * @param individual the maximal evaluation time of one phenotype
+ * @param generation the maximal evaluation time of the whole population
+ * @param penalty the fitness value assigned to timed out phenotypes
+ * @param retries the number of times a timed out phenotype is rescheduled,
+ *        before the {@code penalty} fitness is assigned
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public record EvaluationTimeout<C extends Comparable<? super C>>(
+	Duration individual,
+	Duration generation,
+	C penalty,
+	int retries
+) {
+
+	/**
+	 * Duration value, which represents an unlimited evaluation time.
+	 */
+	public static final Duration UNLIMITED = ChronoUnit.FOREVER.getDuration();
+
+	// Keeps the deadline arithmetic of System.nanoTime() values overflow free.
+	private static final long MAX_NANOS = Long.MAX_VALUE/4;
+
+	/**
+	 * Create a new evaluation timeout object.
+	 *
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if one of the durations is not
+	 *         positive or the number of {@code retries} is negative
+	 */
+	public EvaluationTimeout {
+		requireNonNull(individual);
+		requireNonNull(generation);
+		requireNonNull(penalty);
+		if (individual.isNegative() || individual.isZero()) {
+			throw new IllegalArgumentException(format(
+				"Individual timeout must be positive: %s", individual
+			));
+		}
+		if (generation.isNegative() || generation.isZero()) {
+			throw new IllegalArgumentException(format(
+				"Generation timeout must be positive: %s", generation
+			));
+		}
+		if (retries < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of retries must not be negative: %d", retries
+			));
+		}
+	}
+
+	/**
+	 * Return a new timeout object with the given number of {@code retries}.
+	 *
+	 * @param retries the number of times a timed out phenotype is
+	 *        rescheduled
+	 * @return a new timeout object with the given number of retries
+	 * @throws IllegalArgumentException if the number of {@code retries} is
+	 *         negative
+	 */
+	public EvaluationTimeout<C> withRetries(final int retries) {
+		return new EvaluationTimeout<>(individual, generation, penalty, retries);
+	}
+
+	/**
+	 * Create a new timeout object with the given individual and generation
+	 * deadline. Timed out phenotypes are not rescheduled.
+	 *
+	 * @param individual the maximal evaluation time of one phenotype
+	 * @param generation the maximal evaluation time of the whole population
+	 * @param penalty the fitness value assigned to timed out phenotypes
+	 * @param <C> the fitness value type
+	 * @return a new evaluation timeout object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if one of the durations is not
+	 *         positive
+	 */
+	public static <C extends Comparable<? super C>> EvaluationTimeout<C> of(
+		final Duration individual,
+		final Duration generation,
+		final C penalty
+	) {
+		return new EvaluationTimeout<>(individual, generation, penalty, 0);
+	}
+
+	/**
+	 * Create a new timeout object with the given individual deadline and an
+	 * {@link #UNLIMITED} generation deadline. Timed out phenotypes are not
+	 * rescheduled.
+	 *
+	 * @param individual the maximal evaluation time of one phenotype
+	 * @param penalty the fitness value assigned to timed out phenotypes
+	 * @param <C> the fitness value type
+	 * @return a new evaluation timeout object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code individual} duration is
+	 *         not positive
+	 */
+	public static <C extends Comparable<? super C>> EvaluationTimeout<C> of(
+		final Duration individual,
+		final C penalty
+	) {
+		return of(individual, UNLIMITED, penalty);
+	}
+
+	private static long nanos(final Duration duration) {
+		return duration.compareTo(Duration.ofNanos(MAX_NANOS)) < 0
+			? duration.toNanos()
+			: MAX_NANOS;
+	}
+
+	/**
+	 * Evaluates the given phenotypes with the given {@code executor}, obeying
+	 * the deadlines of {@code this} timeout object.
+	 *
+	 * @param phenotypes the phenotypes to evaluate
+	 * @param executor the executor used for the evaluation
+	 * @return the number of timed out (and cancelled) evaluations
+	 * @throws CancellationException if one of the evaluations has failed or
+	 *         the calling thread has been interrupted
+	 */
+	<G extends Gene<?, G>> int evaluate(
+		final Seq<PhenotypeFitness<G, C>> phenotypes,
+		final Executor executor
+	) {
+		final long individual = nanos(this.individual);
+		final long generation = System.nanoTime() + nanos(this.generation);
+
+		// Started and finished tasks. Only these tasks, and the running
+		// tasks whose deadline has passed, are handled on a wake-up. The
+		// running tasks are ordered by their individual deadline.
+		final BlockingQueue<Task<G>> events = new LinkedBlockingQueue<>();
+		final Set<Task<G>> pending = new HashSet<>();
+		final PriorityQueue<Task<G>> running = new PriorityQueue<>(
+			comparingLong(task -> task.started)
+		);
+		for (var phenotype : phenotypes) {
+			submit(new Task<>(phenotype, 0, events), executor, pending);
+		}
+
+		int timeouts = 0;
+		try {
+			while (!pending.isEmpty()) {
+				final long wait = running.isEmpty()
+					? generation - System.nanoTime()
+					: min(generation, running.peek().started + individual) -
+						System.nanoTime();
+
+				Task<G> task = wait > 0
+					? events.poll(wait, TimeUnit.NANOSECONDS)
+					: events.poll();
+				while (task != null) {
+					if (pending.contains(task)) {
+						if (task.isDone()) {
+							pending.remove(task);
+							task.phenotype._fitness = task.get();
+						} else {
+							running.add(task);
+						}
+					}
+					task = events.poll();
+				}
+
+				final long now = System.nanoTime();
+				final List<Task<G>> timedOut = new ArrayList<>();
+				if (generation - now <= 0) {
+					for (var t : List.copyOf(pending)) {
+						if (t.isDone()) {
+							pending.remove(t);
+							t.phenotype._fitness = t.get();
+						} else {
+							timedOut.add(t);
+						}
+					}
+				} else {
+					while (!running.isEmpty() &&
+						running.peek().started + individual - now <= 0)
+					{
+						final Task<G> t = running.poll();
+						if (pending.contains(t) && !t.isDone()) {
+							timedOut.add(t);
+						}
+					}
+				}
+
+				for (var t : timedOut) {
+					pending.remove(t);
+					t.cancel(true);
+					++timeouts;
+
+					if (t.attempt < retries && generation - now > 0) {
+						submit(
+							new Task<>(t.phenotype, t.attempt + 1, events),
+							executor,
+							pending
+						);
+					} else {
+						t.phenotype._fitness = penalty;
+						t.phenotype._penalized = true;
+					}
+				}
+			}
+		} catch (ExecutionException e) {
+			cancel(pending);
+			final String msg = e.getCause() != null
+				? e.getCause().getMessage()
+				: null;
+			throw (CancellationException)new CancellationException(msg)
+				.initCause(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancel(pending);
+			throw (CancellationException)new CancellationException(e.getMessage())
+				.initCause(e);
+		}
+
+		return timeouts;
+	}
+
+	private <G extends Gene<?, G>> void submit(
+		final Task<G> task,
+		final Executor executor,
+		final Set<Task<G>> pending
+	) {
+		pending.add(task);
+		try {
+			executor.execute(task);
+		} catch (RuntimeException e) {
+			cancel(pending);
+			throw e;
+		}
+	}
+
+	private void cancel(final Collection<? extends Task<?>> tasks) {
+		tasks.forEach(task -> task.cancel(true));
+	}
+
+	/**
+	 * Evaluates the fitness of one phenotype. The fitness value is assigned
+	 * by the waiting thread, since cancelled tasks may still be running. The
+	 * task is added to the {@code events} queue when it is started and when
+	 * it is done.
+	 */
+	private final class Task<G extends Gene<?, G>> extends FutureTask<C> {
+		private final PhenotypeFitness<G, C> phenotype;
+		private final int attempt;
+		private final BlockingQueue<? super Task<G>> events;
+
+		private volatile long started;
+
+		private Task(
+			final PhenotypeFitness<G, C> phenotype,
+			final int attempt,
+			final BlockingQueue<? super Task<G>> events
+		) {
+			super(() -> phenotype._function.apply(phenotype._phenotype.genotype()));
+			this.phenotype = phenotype;
+			this.attempt = attempt;
+			this.events = events;
+		}
+
+		@Override
+		public void run() {
+			started = System.nanoTime();
+			events.offer(this);
+			super.run();
+		}
+
+		@Override
+		protected void done() {
+			events.offer(this);
+		}
+	}
+
+}
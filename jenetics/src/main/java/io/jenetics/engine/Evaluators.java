@@ -19,6 +19,8 @@
  */
 package io.jenetics.engine;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
@@ -26,6 +28,10 @@ import java.util.function.Function;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
 
 /**
  * This class contains factory methods for creating commonly usable
@@ -35,7 +41,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 7.1
  * @since 5.0
  */
 public final class Evaluators {
@@ -171,6 +177,207 @@ public final class Evaluators {
 		return concurrent(fitness, codec.decoder(), executor);
 	}
 
+	/**
+	 * Return a new fitness evaluator, which evaluates the fitness function of
+	 * the population (concurrently) with the given {@code executor}. Fitness
+	 * evaluations, which miss one of the deadlines of the given
+	 * {@code timeout}, are cancelled.
+	 *
+	 * @see EvaluationTimeout
+	 * @see EvolutionResult#timeoutCount()
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function
+	 * @param timeout the evaluation deadlines
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new (concurrent) fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> concurrent(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final EvaluationTimeout<C> timeout,
+		final Executor executor
+	) {
+		return new ConcurrentEvaluator<>(fitness, timeout, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates the fitness function of
+	 * the population (concurrently) with the given {@code executor}. Fitness
+	 * evaluations, which miss one of the deadlines of the given
+	 * {@code timeout}, are cancelled.
+	 *
+	 * @see EvaluationTimeout
+	 * @see EvolutionResult#timeoutCount()
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function, working on the <em>native</em>
+	 *        fitness domain
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param timeout the evaluation deadlines
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <T> the <em>native</em> fitness domain type
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new (concurrent) fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T, G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> concurrent(
+		final Function<? super T, ? extends C> fitness,
+		final Codec<T, G> codec,
+		final EvaluationTimeout<C> timeout,
+		final Executor executor
+	) {
+		return concurrent(fitness.compose(codec.decoder()), timeout, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which calculates the fitness of altered
+	 * phenotypes incrementally from their evaluated parent. The
+	 * {@code incremental} function is used for every phenotype with a known
+	 * {@link io.jenetics.Phenotype#provenance()}, the {@code fitness}
+	 * function for all others. The fitness functions are evaluated
+	 * (concurrently) with the given {@code executor}.
+	 *
+	 * @see IncrementalFitness
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function, which evaluates a genotype from
+	 *        scratch
+	 * @param incremental the incremental fitness function
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new incremental fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> incremental(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final IncrementalFitness<G, C> incremental,
+		final Executor executor
+	) {
+		return new ConcurrentEvaluator<>(fitness, incremental, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which calculates the fitness of altered
+	 * phenotypes incrementally from their evaluated parent. When used with
+	 * the {@link Engine.Builder}, the fitness functions are evaluated with the
+	 * executor of the engine.
+	 *
+	 * @see #incremental(Function, IncrementalFitness, Executor)
+	 * @see IncrementalFitness
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function, which evaluates a genotype from
+	 *        scratch
+	 * @param incremental the incremental fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new incremental fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> incremental(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final IncrementalFitness<G, C> incremental
+	) {
+		return incremental(fitness, incremental, Runnable::run);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates every phenotype in its
+	 * own (virtual) thread. This evaluator is suited for blocking, I/O-bound
+	 * fitness functions, where the number of concurrent evaluations shouldn't
+	 * be limited by the number of CPU cores. If the Java runtime doesn't
+	 * support virtual threads, platform threads are used instead. If one of
+	 * the fitness evaluations fails, the remaining ones are cancelled.
+	 *
+	 * <pre>{@code
+	 * final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+	 *         Evaluators.virtualThreads(Main::simulate, 256),
+	 *         gtf
+	 *     )
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function
+	 * @param maxConcurrency the maximal number of concurrently running
+	 *        fitness evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new thread-per-phenotype fitness evaluator
+	 * @throws NullPointerException if the fitness {@code function} is {@code null}
+	 * @throws IllegalArgumentException if the {@code maxConcurrency} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> virtualThreads(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxConcurrency
+	) {
+		return new ThreadPerTaskEvaluator<>(fitness, maxConcurrency);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates every phenotype in its
+	 * own (virtual) thread, without limiting the number of concurrent
+	 * evaluations.
+	 *
+	 * @see #virtualThreads(Function, int)
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new thread-per-phenotype fitness evaluator
+	 * @throws NullPointerException if the fitness {@code function} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C>
+	virtualThreads(final Function<? super Genotype<G>, ? extends C> fitness) {
+		return virtualThreads(fitness, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates every phenotype in its
+	 * own (virtual) thread.
+	 *
+	 * @see #virtualThreads(Function, int)
+	 * @since 7.1
+	 *
+	 * @param fitness the fitness function, working on the <em>native</em>
+	 *        fitness domain
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param maxConcurrency the maximal number of concurrently running
+	 *        fitness evaluations
+	 * @param <T> the <em>native</em> fitness domain type
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new thread-per-phenotype fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code maxConcurrency} is smaller
+	 *         than one
+	 */
+	public static <T, G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> virtualThreads(
+		final Function<? super T, ? extends C> fitness,
+		final Codec<T, G> codec,
+		final int maxConcurrency
+	) {
+		return virtualThreads(fitness.compose(codec.decoder()), maxConcurrency);
+	}
+
 	/**
 	 * Return a new fitness evaluator, which evaluates <em>asynchronous</em>
 	 * fitness functions.
@@ -295,4 +502,259 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new fitness evaluator, which caches the fitness values
+	 * calculated by the given {@code evaluator}. The genotype of the
+	 * phenotypes is used as cache key. This evaluator is useful if the
+	 * fitness function is expensive and the population contains many
+	 * structural equal genotypes.
+	 *
+	 * <pre>{@code
+	 * final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+	 *     Evaluators.concurrent(Main::fitness, commonPool()),
+	 *     10_000
+	 * );
+	 * }</pre>
+	 *
+	 * @see CachedEvaluator
+	 * @since 7.1
+	 *
+	 * @param evaluator the evaluator which calculates the fitness values not
+	 *        found in the cache
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C> cached(
+		final Evaluator<G, C> evaluator,
+		final int maxSize
+	) {
+		return cached(evaluator, Function.identity(), maxSize);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which caches the fitness values
+	 * calculated by the given {@code evaluator}. The cache key is created from
+	 * the genotype with the given {@code key} function. This allows to use a
+	 * more compact key, e.g. the decoded {@code double[]} array wrapped into
+	 * a {@code List}, or to map different genotypes onto the same key.
+	 *
+	 * @see CachedEvaluator
+	 * @since 7.1
+	 *
+	 * @param evaluator the evaluator which calculates the fitness values not
+	 *        found in the cache
+	 * @param key the function which creates the cache key from a genotype.
+	 *        The returned keys must implement {@code equals} and
+	 *        {@code hashCode} consistently and must not be {@code null}.
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}.
+	 *         The evaluation of the returned evaluator throws a
+	 *         {@code NullPointerException} if the {@code key} function
+	 *         returns {@code null}.
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C> cached(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ?> key,
+		final int maxSize
+	) {
+		return new CachedEvaluator<>(evaluator, key, maxSize);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which pre-screens the phenotypes with
+	 * an online surrogate model of the fitness function. Only the promising
+	 * phenotypes are evaluated by the given {@code evaluator}.
+	 *
+	 * @see SurrogateEvaluator
+	 * @since 7.1
+	 *
+	 * @param evaluator the (expensive) evaluator of the promising phenotypes
+	 * @param features the function, which creates the feature vector of the
+	 *        surrogate model from a genotype. All feature vectors must have
+	 *        the same length.
+	 * @param optimize the optimization strategy of the engine
+	 * @param params the parameters of the surrogate evaluator
+	 * @param <G> the gene type
+	 * @return a new surrogate fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>> SurrogateEvaluator<G> surrogate(
+		final Evaluator<G, Double> evaluator,
+		final Function<? super Genotype<G>, double[]> features,
+		final Optimize optimize,
+		final SurrogateEvaluator.Params params
+	) {
+		return new SurrogateEvaluator<>(evaluator, features, optimize, params);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which pre-screens the phenotypes with
+	 * an online surrogate model of the fitness function. The genes of the
+	 * numeric chromosomes are used as feature vector, and the
+	 * {@link SurrogateEvaluator.Params#DEFAULT} parameters are used.
+	 *
+	 * @see SurrogateEvaluator
+	 * @since 7.1
+	 *
+	 * @param evaluator the (expensive) evaluator of the promising phenotypes
+	 * @param optimize the optimization strategy of the engine
+	 * @param <G> the gene type
+	 * @return a new surrogate fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends NumericGene<?, G>> SurrogateEvaluator<G> surrogate(
+		final Evaluator<G, Double> evaluator,
+		final Optimize optimize
+	) {
+		return surrogate(
+			evaluator,
+			Evaluators::features,
+			optimize,
+			SurrogateEvaluator.Params.DEFAULT
+		);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates the fitness function
+	 * for whole batches of genotypes. The not evaluated phenotypes of the
+	 * population are split into chunks of (at most) {@code batchSize}
+	 * genotypes, and the chunks are evaluated (concurrently) with the given
+	 * {@code executor}. The returned fitness sequence must have the same
+	 * length and order as the given genotype sequence.
+	 *
+	 * @since 7.1
+	 *
+	 * @param fitness the batch fitness function
+	 * @param batchSize the maximal number of genotypes evaluated in one call
+	 *        of the batch fitness function
+	 * @param executor the {@code Executor} used for evaluating the batches
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new batch fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> batched(
+		final Function<? super Seq<Genotype<G>>, ? extends Seq<? extends C>> fitness,
+		final int batchSize,
+		final Executor executor
+	) {
+		return new BatchEvaluator<>(fitness, batchSize, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates the fitness function
+	 * for whole batches of decoded genotypes.
+	 *
+	 * @see #batched(Function, int, Executor)
+	 * @since 7.1
+	 *
+	 * @param fitness the batch fitness function, working on the
+	 *        <em>native</em> fitness domain
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param batchSize the maximal number of genotypes evaluated in one call
+	 *        of the batch fitness function
+	 * @param executor the {@code Executor} used for evaluating the batches
+	 * @param <T> the <em>native</em> fitness domain type
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new batch fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 */
+	public static <T, G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> batched(
+		final Function<? super Seq<T>, ? extends Seq<? extends C>> fitness,
+		final Codec<T, G> codec,
+		final int batchSize,
+		final Executor executor
+	) {
+		requireNonNull(fitness);
+		final Function<? super Genotype<G>, ? extends T> decoder = codec.decoder();
+
+		return batched(
+			(Seq<Genotype<G>> genotypes) -> fitness.apply(genotypes.map(decoder)),
+			batchSize,
+			executor
+		);
+	}
+
+	/**
+	 * Return a new fitness evaluator for <em>vectorized</em> fitness
+	 * functions. The decoded arguments of one batch are passed as
+	 * {@code double[batch][dimension]} matrix to the fitness function, which
+	 * returns the fitness values of the batch as one {@code double[]} array.
+	 * This allows the fitness function to evaluate a whole batch in tight,
+	 * SIMD-friendly loops.
+	 *
+	 * @see #batched(Function, int, Executor)
+	 * @since 7.1
+	 *
+	 * @param fitness the vectorized fitness function
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param batchSize the maximal number of genotypes evaluated in one call
+	 *        of the batch fitness function
+	 * @param executor the {@code Executor} used for evaluating the batches
+	 * @param <G> the gene type
+	 * @return a new batch fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>> Evaluator<G, Double> vectorized(
+		final Function<? super double[][], double[]> fitness,
+		final Codec<double[], G> codec,
+		final int batchSize,
+		final Executor executor
+	) {
+		requireNonNull(fitness);
+		final Function<Genotype<G>, double[]> decoder = codec.decoder();
+
+		return batched(
+			(Seq<Genotype<G>> genotypes) -> {
+				final double[][] arguments = new double[genotypes.length()][];
+				for (int i = 0; i < arguments.length; ++i) {
+					arguments[i] = decoder.apply(genotypes.get(i));
+				}
+
+				final double[] values = fitness.apply(arguments);
+				final MSeq<Double> result = MSeq.ofLength(values.length);
+				for (int i = 0; i < values.length; ++i) {
+					result.set(i, values[i]);
+				}
+				return result.toISeq();
+			},
+			batchSize,
+			executor
+		);
+	}
+
+	private static <G extends NumericGene<?, G>>
+	double[] features(final Genotype<G> genotype) {
+		final double[] features = new double[genotype.geneCount()];
+		int index = 0;
+		for (var chromosome : genotype) {
+			for (var gene : chromosome) {
+				features[index++] = gene.doubleValue();
+			}
+		}
+		return features;
+	}
+
 }
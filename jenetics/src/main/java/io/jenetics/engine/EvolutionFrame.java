@@ -0,0 +1,217 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * The common frame of one evolution step: the interception and
+ * initialization of the evolution start object, the evaluation of a
+ * <em>dirty</em> start population, the creation and interception of the
+ * evolution result and the time measurement. It is shared by the
+ * {@link Engine} and its {@link PipelinedEvolution} and
+ * {@link SteadyStateEvolution} modes. A frame object is used for one
+ * evolution step only, by one thread.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class EvolutionFrame<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Engine<G, C> _engine;
+	private final EvolutionTiming _timing;
+
+	private EvolutionStart<G, C> _start;
+	private ISeq<Phenotype<G, C>> _population;
+	private int _timeoutCount = 0;
+	private long _evaluations = 0;
+
+	private EvolutionFrame(final Engine<G, C> engine) {
+		_engine = requireNonNull(engine);
+		_timing = new EvolutionTiming(engine.clock());
+		_timing.evolve.start();
+	}
+
+	/**
+	 * Return the timing object of the current evolution step.
+	 *
+	 * @return the timing object of the current evolution step
+	 */
+	EvolutionTiming timing() {
+		return _timing;
+	}
+
+	/**
+	 * Return the generation of the current evolution step.
+	 *
+	 * @return the generation of the current evolution step
+	 */
+	long generation() {
+		return _start.generation();
+	}
+
+	/**
+	 * Return the evaluated start population of the current evolution step.
+	 *
+	 * @return the evaluated start population
+	 */
+	ISeq<Phenotype<G, C>> population() {
+		return _population;
+	}
+
+	/**
+	 * Reserves {@code count} evaluation indexes of the current evolution
+	 * step. Every evaluated phenotype of a step gets its own index, and with
+	 * it its own random stream of the fitness function.
+	 *
+	 * @param count the number of indexes to reserve
+	 * @return the first reserved evaluation index
+	 */
+	long offset(final int count) {
+		final long offset = _evaluations;
+		_evaluations += count;
+		return offset;
+	}
+
+	/**
+	 * Evaluates the given {@code population} with the engine evaluator. The
+	 * evaluation time and the number of timed out evaluations are recorded.
+	 *
+	 * @param population the population to evaluate
+	 * @return the evaluated population
+	 */
+	ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population) {
+		final long offset = offset(population.size());
+		return accept(_timing.evaluation.timing(() ->
+			_engine.evaluate(population, offset)
+		));
+	}
+
+	/**
+	 * Adds the timed out evaluations of the given evaluation {@code result}
+	 * to the timeout count of this step. This is used for populations which
+	 * are not evaluated with {@link #evaluate(Seq)}.
+	 *
+	 * @param result the evaluation result
+	 * @return the evaluated population of the given {@code result}
+	 */
+	ISeq<Phenotype<G, C>> accept(final EvaluatorResult<G, C> result) {
+		_timeoutCount += result.timeoutCount();
+		return result.population();
+	}
+
+	/**
+	 * Create the evolution result of the current evolution step. The
+	 * evolution result is passed to the interceptor, and the intercepted
+	 * result population is evaluated, if the interceptor has changed the
+	 * result.
+	 *
+	 * @param population the evaluated, resulting population
+	 * @param killCount the number of killed individuals
+	 * @param invalidCount the number of invalid individuals
+	 * @param alterCount the number of altered individuals
+	 * @return the evolution result of the current evolution step
+	 */
+	EvolutionResult<G, C> result(
+		final ISeq<Phenotype<G, C>> population,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount
+	) {
+		EvolutionResult<G, C> er = EvolutionResult.of(
+			_engine.optimize(),
+			population,
+			_start.generation(),
+			_start.generation(),
+			_timing.toDurations(),
+			killCount,
+			invalidCount,
+			alterCount,
+			_timeoutCount
+		);
+
+		final EvolutionResult<G, C> interceptedResult =
+			_engine.interceptor().after(er);
+		if (er != interceptedResult) {
+			final int timeoutCount = _timeoutCount;
+			er = interceptedResult
+				.withPopulation(evaluate(interceptedResult.population()));
+
+			if (_timeoutCount > timeoutCount) {
+				er = er.withTimeoutCount(
+					er.timeoutCount() + _timeoutCount - timeoutCount
+				);
+			}
+		}
+
+		_timing.evolve.stop();
+
+		return er
+			.withDurations(_timing.toDurations())
+			.clean();
+	}
+
+	/**
+	 * Starts a new evolution step. The given {@code start} object is passed
+	 * to the interceptor, the initial population is created, if the start
+	 * population is empty, and evaluated, if it is <em>dirty</em>.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param start the evolution start object
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new evolution frame
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionFrame<G, C> start(
+		final Engine<G, C> engine,
+		final EvolutionStart<G, C> start
+	) {
+		final var frame = new EvolutionFrame<>(engine);
+
+		final EvolutionStart<G, C> interceptedStart =
+			engine.interceptor().before(start);
+
+		// Create initial population if `start` is empty.
+		frame._start = interceptedStart.population().isEmpty()
+			? engine.evolutionStart(interceptedStart)
+			: interceptedStart;
+
+		// Initial evaluation of the population.
+		frame._population = frame._start.isDirty()
+			? frame.evaluate(frame._start.population())
+			: frame._start.population();
+
+		return frame;
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.jenetics.Genotype;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Derives the random generators used by the single evolution phases from a
+ * root seed. Every (generation, phase, index) triple gets its own, independent
+ * random generator. Since the derived generator doesn't depend on the thread
+ * which executes the phase, the evolution result is the same for a serial and
+ * a parallel execution.
+ *
+ * @see Engine.Builder#seed(long)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class EvolutionRandom {
+
+	/**
+	 * The evolution phases which get their own random generator.
+	 */
+	enum Phase {
+		EVOLUTION_START,
+		OFFSPRING_SELECTION,
+		SURVIVORS_SELECTION,
+		OFFSPRING_ALTER,
+		OFFSPRING_FILTER,
+		SURVIVOR_FILTER,
+		EVALUATION
+	}
+
+	/**
+	 * Evolution random, which doesn't derive any random generator. The
+	 * evolution phases are using the current {@link RandomRegistry#random()}.
+	 */
+	static final EvolutionRandom NONE = new EvolutionRandom(null, 0);
+
+	private static final String DEFAULT_RANDOM = "L64X256MixRandom";
+
+	// The 'golden gamma' used by the SplitMix64 algorithm.
+	private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+	private final RandomGeneratorFactory<? extends RandomGenerator> _factory;
+	private final long _seed;
+
+	private EvolutionRandom(
+		final RandomGeneratorFactory<? extends RandomGenerator> factory,
+		final long seed
+	) {
+		_factory = factory;
+		_seed = seed;
+	}
+
+	/**
+	 * Return the random generator for the given generation, phase and index.
+	 *
+	 * @param generation the current generation
+	 * @param phase the evolution phase
+	 * @param index the index, e.g. of the individual, within the phase
+	 * @return the derived random generator
+	 * @throws IllegalStateException if called on the {@link #NONE} instance
+	 */
+	RandomGenerator random(
+		final long generation,
+		final Phase phase,
+		final long index
+	) {
+		if (_factory == null) {
+			throw new IllegalStateException("No root seed available.");
+		}
+
+		long seed = mix(_seed + GAMMA);
+		seed = mix(seed + generation*GAMMA);
+		seed = mix(seed + (phase.ordinal() + 1)*GAMMA);
+		seed = mix(seed + index*GAMMA);
+		return _factory.create(seed);
+	}
+
+	/**
+	 * Executes the given {@code task} with the random generator of the given
+	 * generation and phase.
+	 *
+	 * @param generation the current generation
+	 * @param phase the evolution phase
+	 * @param task the task to execute
+	 * @param <T> the result type
+	 * @return the task result
+	 */
+	<T> T with(
+		final long generation,
+		final Phase phase,
+		final Supplier<? extends T> task
+	) {
+		return with(generation, phase, 0, task);
+	}
+
+	/**
+	 * Executes the given {@code task} with the random generator of the given
+	 * generation, phase and index. The index distinguishes several executions
+	 * of the same phase within one generation, e.g. the replacement rounds
+	 * of the steady-state evolution.
+	 *
+	 * @param generation the current generation
+	 * @param phase the evolution phase
+	 * @param index the execution index within the phase
+	 * @param task the task to execute
+	 * @param <T> the result type
+	 * @return the task result
+	 */
+	<T> T with(
+		final long generation,
+		final Phase phase,
+		final long index,
+		final Supplier<? extends T> task
+	) {
+		return _factory == null
+			? task.get()
+			: RandomRegistry.with(random(generation, phase, index), r -> task.get());
+	}
+
+	/**
+	 * Wraps the given fitness {@code function}, so that it is executed with
+	 * the random generator of the given generation and individual index.
+	 *
+	 * @param function the fitness function to wrap
+	 * @param generation the generation of the evaluated individual
+	 * @param index the index of the evaluated individual
+	 * @param <G> the genotype type
+	 * @param <C> the fitness result type
+	 * @return the wrapped fitness function
+	 */
+	<G extends Genotype<?>, C> Function<? super G, ? extends C> fitness(
+		final Function<? super G, ? extends C> function,
+		final long generation,
+		final long index
+	) {
+		return _factory == null
+			? function
+			: (G gt) -> RandomRegistry.with(
+				random(generation, Phase.EVALUATION, index),
+				r -> function.apply(gt)
+			);
+	}
+
+	/**
+	 * Create a new evolution random with the given root {@code seed}.
+	 *
+	 * @param seed the root seed
+	 * @return a new evolution random
+	 */
+	static EvolutionRandom of(final long seed) {
+		return new EvolutionRandom(RandomGeneratorFactory.of(DEFAULT_RANDOM), seed);
+	}
+
+	// The finalizer of the SplitMix64 algorithm.
+	private static long mix(final long value) {
+		long z = value;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -75,7 +75,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 7.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -95,11 +95,13 @@ public final class EvolutionResult<
 	private final int _killCount;
 	private final int _invalidCount;
 	private final int _alterCount;
+	private final int _timeoutCount;
 
 	private final boolean _dirty;
 
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
+	private final Lazy<PopulationSummary<G, C>> _summary;
 
 	private EvolutionResult(
 		final Optimize optimize,
@@ -110,6 +112,7 @@ public final class EvolutionResult<
 		final int killCount,
 		final int invalidCount,
 		final int alterCount,
+		final int timeoutCount,
 		final boolean dirty
 	) {
 		_optimize = requireNonNull(optimize);
@@ -120,6 +123,7 @@ public final class EvolutionResult<
 		_killCount = killCount;
 		_invalidCount = invalidCount;
 		_alterCount = alterCount;
+		_timeoutCount = timeoutCount;
 		_dirty = dirty;
 
 		_best = Lazy.of(() -> _population.stream()
@@ -131,6 +135,10 @@ public final class EvolutionResult<
 			.min(_optimize.ascending())
 			.orElse(null)
 		);
+
+		_summary = Lazy.of(() ->
+			PopulationSummary.of(_optimize, _population, _generation)
+		);
 	}
 
 	/**
@@ -216,6 +224,19 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of fitness evaluations, which has been cancelled,
+	 * because they missed their deadline.
+	 *
+	 * @see EvaluationTimeout
+	 * @since 7.1
+	 *
+	 * @return the number of timed out fitness evaluations
+	 */
+	public int timeoutCount() {
+		return _timeoutCount;
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -254,6 +275,18 @@ public final class EvolutionResult<
 		return _worst.get() != null ? _worst.get().fitness() : null;
 	}
 
+	/**
+	 * Return the cached, single pass, statistics summary of the result
+	 * population.
+	 *
+	 * @since 7.1
+	 *
+	 * @return the population summary
+	 */
+	PopulationSummary<G, C> summary() {
+		return _summary.get();
+	}
+
 	/**
 	 * Return the next evolution start object with the current population and
 	 * the incremented generation.
@@ -300,7 +333,8 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			_timeoutCount
 		);
 	}
 
@@ -313,7 +347,8 @@ public final class EvolutionResult<
 			durations(),
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			timeoutCount()
 		);
 	}
 
@@ -326,7 +361,8 @@ public final class EvolutionResult<
 			durations,
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			timeoutCount()
 		);
 	}
 
@@ -340,10 +376,25 @@ public final class EvolutionResult<
 			killCount(),
 			invalidCount(),
 			alterCount(),
+			timeoutCount(),
 			false
 		);
 	}
 
+	EvolutionResult<G, C> withTimeoutCount(final int timeoutCount) {
+		return EvolutionResult.of(
+			optimize(),
+			population(),
+			generation(),
+			totalGenerations(),
+			durations(),
+			killCount(),
+			invalidCount(),
+			alterCount(),
+			timeoutCount
+		);
+	}
+
 	@Override
 	public int hashCode() {
 		return
@@ -354,7 +405,8 @@ public final class EvolutionResult<
 			hash(_durations,
 			hash(_killCount,
 			hash(_invalidCount,
-			hash(_alterCount))))))));
+			hash(_alterCount,
+			hash(_timeoutCount)))))))));
 	}
 
 	@Override
@@ -368,7 +420,8 @@ public final class EvolutionResult<
 			Objects.equals(_durations, other._durations) &&
 			Objects.equals(_killCount, other._killCount) &&
 			Objects.equals(_invalidCount, other._invalidCount) &&
-			Objects.equals(_alterCount, other._alterCount);
+			Objects.equals(_alterCount, other._alterCount) &&
+			Objects.equals(_timeoutCount, other._timeoutCount);
 	}
 
 
@@ -729,6 +782,54 @@ public final class EvolutionResult<
 		));
 	}
 
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 7.1
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param timeoutCount the number of fitness evaluations which has been
+	 *        cancelled, because they missed their deadline
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final ISeq<Phenotype<G, C>> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int timeoutCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			timeoutCount,
+			true
+		);
+	}
+
 	/**
 	 * Return an new {@code EvolutionResult} object with the given values.
 	 *
@@ -767,6 +868,7 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
+			0,
 			true
 		);
 	}
@@ -807,6 +909,7 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
+			0,
 			true
 		);
 	}
@@ -818,7 +921,7 @@ public final class EvolutionResult<
 
 	@Serial
 	private Object writeReplace() {
-		return new SerialProxy(SerialProxy.EVOLUTION_RESULT, this);
+		return new SerialProxy(SerialProxy.EVOLUTION_RESULT_2, this);
 	}
 
 	@Serial
@@ -837,10 +940,11 @@ public final class EvolutionResult<
 		writeInt(_killCount, out);
 		writeInt(_invalidCount, out);
 		writeInt(_alterCount, out);
+		writeInt(_timeoutCount, out);
 	}
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
-	static Object read(final ObjectInput in)
+	static Object read(final ObjectInput in, final boolean timeouts)
 		throws IOException, ClassNotFoundException
 	{
 		return new EvolutionResult<>(
@@ -852,6 +956,7 @@ public final class EvolutionResult<
 			readInt(in),
 			readInt(in),
 			readInt(in),
+			timeouts ? readInt(in) : 0,
 			true
 		);
 	}
@@ -26,7 +26,6 @@ import java.text.NumberFormat;
 import java.time.Duration;
 import java.util.function.Consumer;
 
-import io.jenetics.Phenotype;
 import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
 import io.jenetics.stat.LongMomentStatistics;
@@ -85,7 +84,7 @@ import io.jenetics.stat.MinMax;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 7.1
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -124,12 +123,12 @@ public abstract class EvolutionStatistics<
 		_invalids.accept(result.invalidCount());
 		_altered.accept(result.alterCount());
 
-		result.population()
-			.forEach(pt -> accept(pt, result.generation()));
+		accept(result.summary());
 	}
 
-	void accept(final Phenotype<?, C> pt, final long generation) {
-		_age.accept(pt.age(generation));
+	// The population values are already aggregated by the evolution result.
+	void accept(final PopulationSummary<?, C> summary) {
+		_age.combine(summary.age());
 	}
 
 	// Calculate duration statistics
@@ -332,9 +331,9 @@ public abstract class EvolutionStatistics<
 		}
 
 		@Override
-		void accept(final Phenotype<?, C> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness());
+		void accept(final PopulationSummary<?, C> summary) {
+			super.accept(summary);
+			_fitness.combine(summary.fitness());
 		}
 
 		@Override
@@ -359,9 +358,11 @@ public abstract class EvolutionStatistics<
 		}
 
 		@Override
-		void accept(final Phenotype<?, N> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness().doubleValue());
+		void accept(final PopulationSummary<?, N> summary) {
+			super.accept(summary);
+			if (summary.numericFitness() != null) {
+				_fitness.combine(summary.numericFitness());
+			}
 		}
 
 		@Override
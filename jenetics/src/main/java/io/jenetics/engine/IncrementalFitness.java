@@ -0,0 +1,78 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.Provenance;
+
+/**
+ * Fitness function, which calculates the fitness of an offspring
+ * incrementally from the fitness of its evaluated parent. The genes positions,
+ * where the offspring differs from its parent, are available via the
+ * {@link Provenance} object. This allows fitness functions, which are additive
+ * over the genes, like the knapsack weight or the TSP tour length, to update
+ * the parent fitness in {@code O(changes)}, instead of recalculating it from
+ * all genes. Determining the changed gene positions still compares the genes
+ * of the altered chromosomes, which is {@code O(genes)}, see
+ * {@link Provenance}.
+ *
+ * <pre>{@code
+ * final Evaluator<BitGene, Double> evaluator = Evaluators.incremental(
+ *     Knapsack::value,
+ *     (gt, provenance) -> provenance.changes() < 10
+ *         ? Knapsack.update(gt, provenance)
+ *         : Knapsack.value(gt)
+ * );
+ *
+ * final Engine<BitGene, Double> engine = new Engine.Builder<>(evaluator, GTF)
+ *     .build();
+ * }</pre>
+ *
+ * @see Evaluators#incremental(java.util.function.Function, IncrementalFitness)
+ * @see Phenotype#provenance()
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+@FunctionalInterface
+public interface IncrementalFitness<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Calculates the fitness of the given offspring {@code genotype}, which
+	 * has been derived from the parent given by the {@code provenance}. The
+	 * implementation is free to recalculate the fitness from scratch, e.g. if
+	 * too many genes have been changed.
+	 *
+	 * @param genotype the genotype of the offspring
+	 * @param provenance the provenance of the offspring
+	 * @return the fitness value of the offspring
+	 */
+	C apply(final Genotype<G> genotype, final Provenance<G, C> provenance);
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.ParallelSampler;
+import io.jenetics.util.ISeq;
+
+/**
+ * <em>Pipelined</em>, asynchronous steady-state evolution, which is based on
+ * the configuration of a given {@link Engine}. Instead of waiting for the
+ * whole offspring population to be evaluated, every evaluated individual
+ * immediately replaces the worst individual of the population, and new
+ * offspring is bred from the current population as soon as evaluation slots
+ * become free. The evaluation of {@code depth} individuals is kept in flight
+ * all the time, also across the generation boundaries of the created
+ * evolution stream. Slow fitness evaluations will therefore no longer stall
+ * the whole evolution.
+ * <p>
+ * One <em>generation</em> of the evolution stream corresponds to
+ * {@link Engine#offspringSize()} replaced individuals.
+ *
+ * @see Engine#pipelined(int)
+ * @see SteadyStateEvolution
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class PipelinedEvolution<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _depth;
+
+	/**
+	 * Create a new pipelined evolution.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param depth the number of individuals which are evaluated concurrently
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code depth} is smaller
+	 *         than one
+	 */
+	PipelinedEvolution(final Engine<G, C> engine, final int depth) {
+		if (depth < 1) {
+			throw new IllegalArgumentException(
+				"Pipeline depth must be greater than zero: " + depth
+			);
+		}
+
+		_engine = requireNonNull(engine);
+		_depth = depth;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		return EvolutionStream.ofEvolution(
+			() -> _engine.evolutionStart(start.get()),
+			new Pipeline<>(_engine, _depth)
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(_engine.evolutionStart(init));
+	}
+
+
+	/**
+	 * The stateful evolution function of one evolution stream. It keeps track
+	 * of the individuals which are currently evaluated.
+	 */
+	private static final class Pipeline<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Evolution<G, C>
+	{
+		private final Engine<G, C> _engine;
+		private final int _depth;
+
+		private final BlockingQueue<CompletableFuture<EvaluatorResult<G, C>>>
+			_completed = new LinkedBlockingQueue<>();
+		private int _pending = 0;
+
+		// Bred offspring, which waits for a free evaluation slot.
+		private final Deque<Phenotype<G, C>> _bred = new ArrayDeque<>();
+
+		Pipeline(final Engine<G, C> engine, final int depth) {
+			_engine = engine;
+			_depth = depth;
+		}
+
+		@Override
+		public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final EvolutionFrame<G, C> frame = EvolutionFrame.start(_engine, start);
+			final EvolutionTiming timing = frame.timing();
+			final long generation = frame.generation();
+
+			final SteadyStatePopulation<G, C> pop =
+				new SteadyStatePopulation<>(_engine.optimize(), frame.population());
+
+			final int replacements = max(_engine.offspringSize(), 1);
+			int killCount = 0;
+			int invalidCount = 0;
+			int alterCount = 0;
+
+			for (int i = 0; i < replacements; ++i) {
+				if (_pending < _depth && _bred.isEmpty()) {
+					// Crossover needs at least two individuals.
+					final int count = max(_depth - _pending, 2);
+
+					final ISeq<Phenotype<G, C>> offspring =
+						timing.offspringSelection.timing(() ->
+							ParallelSampler.with(_engine.executor(), () ->
+								_engine.offspringSelector()
+									.select(pop.view(), count, _engine.optimize())
+							)
+						);
+
+					final AltererResult<G, C> altered =
+						timing.offspringAlter.timing(() ->
+							_engine.alterer().alter(offspring, generation)
+						);
+
+					final FilterResult<G, C> filtered =
+						timing.offspringFilter.timing(() ->
+							_engine.filter(altered.population(), generation)
+						);
+
+					alterCount += altered.alterations();
+					killCount += filtered.killCount();
+					invalidCount += filtered.invalidCount();
+
+					filtered.population().forEach(_bred::add);
+				}
+				while (_pending < _depth && !_bred.isEmpty()) {
+					submit(_bred.poll(), frame.offset(1));
+				}
+
+				final EvaluatorResult<G, C> evaluated =
+					timing.evaluation.timing(this::take);
+				pop.replaceWorst(frame.accept(evaluated).get(0));
+			}
+
+			return frame.result(pop.toISeq(), killCount, invalidCount, alterCount);
+		}
+
+		private void submit(final Phenotype<G, C> phenotype, final long index) {
+			final CompletableFuture<EvaluatorResult<G, C>> result =
+				phenotype.isEvaluated()
+					? completedFuture(new EvaluatorResult<>(ISeq.of(phenotype)))
+					: evaluate(phenotype, index);
+
+			++_pending;
+			result.whenComplete((pt, error) -> _completed.add(result));
+		}
+
+		// The fitness function of the default evaluator is called directly,
+		// within the task. Other evaluators may dispatch their work to the
+		// engine executor again, which can deadlock a bounded executor. They
+		// are therefore called from a separate, unbounded thread pool.
+		private CompletableFuture<EvaluatorResult<G, C>>
+		evaluate(final Phenotype<G, C> phenotype, final long index) {
+			return _engine.evaluator() instanceof ConcurrentEvaluator<G, C> ce &&
+				!ce.isTimed()
+				? supplyAsync(
+					() -> new EvaluatorResult<>(ISeq.of(ce.evaluate(phenotype, index))),
+					_engine.executor()
+				)
+				: supplyAsync(
+					() -> _engine.evaluate(ISeq.of(phenotype), index),
+					ThreadPerTaskEvaluator.ThreadPerTask.EXECUTOR
+				);
+		}
+
+		private EvaluatorResult<G, C> take() {
+			final CompletableFuture<EvaluatorResult<G, C>> result;
+			try {
+				result = _completed.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(e.getMessage());
+				ce.initCause(e);
+				throw ce;
+			}
+
+			--_pending;
+			return result.join();
+		}
+	}
+
+}
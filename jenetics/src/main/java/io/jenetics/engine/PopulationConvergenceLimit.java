@@ -29,7 +29,7 @@ import io.jenetics.stat.DoubleMoments;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 7.1
  * @since 3.9
  */
 final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
@@ -44,9 +44,10 @@ final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
 
 	@Override
 	public boolean test(final EvolutionResult<?, N> result) {
-		final DoubleMomentStatistics fitness = new DoubleMomentStatistics();
-		result.population()
-			.forEach(p -> fitness.accept(p.fitness().doubleValue()));
+		final DoubleMomentStatistics fitness =
+			result.summary().numericFitness() != null
+				? result.summary().numericFitness()
+				: new DoubleMomentStatistics();
 
 		return result.totalGenerations() <= 1 ||
 			_proceed.test(
@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.MinMax;
+import io.jenetics.util.Seq;
+
+/**
+ * Aggregated statistics of one evolution result population. All values are
+ * calculated in a single pass over the population, and the summary is cached
+ * by the {@link EvolutionResult}. This allows the different consumers of an
+ * evolution result, like the {@link EvolutionStatistics} or the evolution
+ * {@link Limits}, to share the aggregation work. The best and worst
+ * phenotypes are not part of the summary, since they are also needed by
+ * consumers which don't need the statistics.
+ *
+ * @implNote
+ *     The summary object must not be changed after creation. Consumers must
+ *     only <em>combine</em> the statistics objects into their own.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class PopulationSummary<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final LongMomentStatistics _age;
+	private final MinMax<C> _fitness;
+	private final DoubleMomentStatistics _numericFitness;
+
+	private PopulationSummary(
+		final LongMomentStatistics age,
+		final MinMax<C> fitness,
+		final DoubleMomentStatistics numericFitness
+	) {
+		_age = requireNonNull(age);
+		_fitness = requireNonNull(fitness);
+		_numericFitness = numericFitness;
+	}
+
+	/**
+	 * Return the age statistics of the population.
+	 *
+	 * @return the age statistics of the population
+	 */
+	LongMomentStatistics age() {
+		return _age;
+	}
+
+	/**
+	 * Return the minimal and maximal fitness value, ordered according the
+	 * {@link Optimize#ascending()} comparator.
+	 *
+	 * @return the minimal and maximal fitness value
+	 */
+	MinMax<C> fitness() {
+		return _fitness;
+	}
+
+	/**
+	 * Return the fitness moments, if the fitness type is a {@link Number}.
+	 *
+	 * @return the fitness moments, or {@code null} if the fitness type is not
+	 *         a number
+	 */
+	DoubleMomentStatistics numericFitness() {
+		return _numericFitness;
+	}
+
+	/**
+	 * Create a new population summary.
+	 *
+	 * @param optimize the optimization strategy
+	 * @param population the population to summarize
+	 * @param generation the generation of the population, used for calculating
+	 *        the phenotype age
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new population summary
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSummary<G, C> of(
+		final Optimize optimize,
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		final LongMomentStatistics age = new LongMomentStatistics();
+		final MinMax<C> fitness = MinMax.of(optimize.ascending());
+		DoubleMomentStatistics numericFitness = null;
+
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			age.accept(pt.age(generation));
+
+			if (pt.isEvaluated()) {
+				final C value = pt.fitness();
+				fitness.accept(value);
+
+				if (value instanceof Number number) {
+					if (numericFitness == null) {
+						numericFitness = new DoubleMomentStatistics();
+					}
+					numericFitness.accept(number.doubleValue());
+				}
+			}
+		}
+
+		return new PopulationSummary<>(age, fitness, numericFitness);
+	}
+
+}
@@ -9,7 +9,7 @@ import java.io.StreamCorruptedException;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 7.1
  * @since 5.2
  */
 final class SerialProxy implements Externalizable {
@@ -22,6 +22,7 @@ final class SerialProxy implements Externalizable {
 	static final byte EVOLUTION_PARAMS = 3;
 	static final byte EVOLUTION_RESULT = 4;
 	static final byte EVOLUTION_START = 5;
+	static final byte EVOLUTION_RESULT_2 = 6;
 
 	/**
 	 * The type being serialized.
@@ -57,7 +58,7 @@ final class SerialProxy implements Externalizable {
 			case EVOLUTION_DURATIONS -> ((EvolutionDurations)_object).write(out);
 			case EVOLUTION_INIT -> ((EvolutionInit<?>)_object).write(out);
 			case EVOLUTION_PARAMS -> ((EvolutionParams<?, ?>)_object).write(out);
-			case EVOLUTION_RESULT -> ((EvolutionResult<?, ?>)_object).write(out);
+			case EVOLUTION_RESULT_2 -> ((EvolutionResult<?, ?>)_object).write(out);
 			case EVOLUTION_START -> ((EvolutionStart<?, ?>)_object).write(out);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		}
@@ -72,7 +73,8 @@ final class SerialProxy implements Externalizable {
 			case EVOLUTION_DURATIONS -> EvolutionDurations.read(in);
 			case EVOLUTION_INIT -> EvolutionInit.read(in);
 			case EVOLUTION_PARAMS -> EvolutionParams.read(in);
-			case EVOLUTION_RESULT -> EvolutionResult.read(in);
+			case EVOLUTION_RESULT -> EvolutionResult.read(in, false);
+			case EVOLUTION_RESULT_2 -> EvolutionResult.read(in, true);
 			case EVOLUTION_START -> EvolutionStart.read(in);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		};
@@ -0,0 +1,167 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_ALTER;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_FILTER;
+import static io.jenetics.engine.EvolutionRandom.Phase.OFFSPRING_SELECTION;
+
+import java.util.function.Supplier;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.ParallelSampler;
+import io.jenetics.util.ISeq;
+
+/**
+ * Steady-state (incremental replacement) evolution, which is based on the
+ * configuration of a given {@link Engine}. In every evolution <em>step</em>,
+ * {@code k} new individuals are bred from the current population, evaluated
+ * and replace the {@code k} worst individuals. The population is kept in a
+ * mutable store, so that a step only allocates {@code O(k)} objects. An
+ * immutable population snapshot is only created once per generation of the
+ * evolution stream, which consists of {@link Engine#offspringSize()}
+ * replaced individuals.
+ *
+ * @see Engine#steadyState(int)
+ * @see PipelinedEvolution
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class SteadyStateEvolution<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _replacements;
+
+	/**
+	 * Create a new steady-state evolution.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param replacements the number of individuals replaced in one step
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code replacements} is
+	 *         smaller than one
+	 */
+	SteadyStateEvolution(final Engine<G, C> engine, final int replacements) {
+		if (replacements < 1) {
+			throw new IllegalArgumentException(
+				"Number of replacements must be greater than zero: " +
+					replacements
+			);
+		}
+
+		_engine = requireNonNull(engine);
+		_replacements = replacements;
+	}
+
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final EvolutionFrame<G, C> frame = EvolutionFrame.start(_engine, start);
+		final EvolutionTiming timing = frame.timing();
+		final long generation = frame.generation();
+
+		final SteadyStatePopulation<G, C> pop =
+			new SteadyStatePopulation<>(_engine.optimize(), frame.population());
+
+		int killCount = 0;
+		int invalidCount = 0;
+		int alterCount = 0;
+
+		final EvolutionRandom random = _engine.random();
+
+		int remaining = max(_engine.offspringSize(), 1);
+		for (int round = 0; remaining > 0; ++round) {
+			final int k = Math.min(_replacements, remaining);
+			final int index = round;
+
+			// Crossover needs at least two individuals.
+			final ISeq<Phenotype<G, C>> offspring =
+				timing.offspringSelection.timing(() ->
+					random.with(generation, OFFSPRING_SELECTION, index, () ->
+						ParallelSampler.with(_engine.executor(), () ->
+							_engine.offspringSelector()
+								.select(pop.view(), max(k, 2), _engine.optimize())
+						)
+					)
+				);
+
+			final AltererResult<G, C> altered =
+				timing.offspringAlter.timing(() ->
+					random.with(generation, OFFSPRING_ALTER, index, () ->
+						_engine.alterer().alter(offspring, generation)
+					)
+				);
+
+			final FilterResult<G, C> filtered =
+				timing.offspringFilter.timing(() ->
+					random.with(generation, OFFSPRING_FILTER, index, () ->
+						_engine.filter(
+							altered.population().subSeq(0, k),
+							generation
+						)
+					)
+				);
+
+			final ISeq<Phenotype<G, C>> evaluated =
+				frame.evaluate(filtered.population());
+
+			for (int i = 0; i < evaluated.size(); ++i) {
+				pop.replaceWorst(evaluated.get(i));
+			}
+
+			alterCount += altered.alterations();
+			killCount += filtered.killCount();
+			invalidCount += filtered.invalidCount();
+			remaining -= k;
+		}
+
+		return frame.result(pop.toISeq(), killCount, invalidCount, alterCount);
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		return EvolutionStream.ofEvolution(
+			() -> _engine.evolutionStart(start.get()),
+			this
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(_engine.evolutionStart(init));
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable, fixed size population of <em>evaluated</em> phenotypes, used by the
+ * steady-state evolution variants. The phenotypes are kept in a binary heap,
+ * with the <em>worst</em> individual at the root. Replacing the worst
+ * individual is therefore an {@code O(log n)} operation and the best
+ * individual is tracked incrementally.
+ *
+ * @implNote
+ *     This class is not thread-safe.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+final class SteadyStatePopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Optimize _optimize;
+	private final Comparator<Phenotype<G, C>> _comparator;
+	private final Object[] _heap;
+	private final Seq<Phenotype<G, C>> _view;
+
+	private Phenotype<G, C> _best;
+
+	/**
+	 * Create a new population from the given (evaluated) phenotypes.
+	 *
+	 * @param optimize the optimization strategy
+	 * @param population the initial, evaluated, population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code population} is
+	 *         empty or contains not evaluated phenotypes
+	 */
+	SteadyStatePopulation(
+		final Optimize optimize,
+		final Seq<Phenotype<G, C>> population
+	) {
+		if (population.isEmpty()) {
+			throw new IllegalArgumentException("Population must not be empty.");
+		}
+		if (!population.forAll(Phenotype::isEvaluated)) {
+			throw new IllegalArgumentException(
+				"Population contains not evaluated phenotypes."
+			);
+		}
+
+		_optimize = requireNonNull(optimize);
+		_comparator = optimize.ascending();
+		_heap = population.toArray();
+		_view = new ArrayMSeq<>(Array.of(ObjectStore.of(_heap)));
+
+		for (int i = _heap.length/2 - 1; i >= 0; --i) {
+			siftDown(i);
+		}
+		_best = population.stream()
+			.reduce(optimize::best)
+			.orElseThrow();
+	}
+
+	/**
+	 * Return the population size.
+	 *
+	 * @return the population size
+	 */
+	int size() {
+		return _heap.length;
+	}
+
+	/**
+	 * Return the best phenotype of this population.
+	 *
+	 * @return the best phenotype
+	 */
+	Phenotype<G, C> best() {
+		return _best;
+	}
+
+	/**
+	 * Return the worst phenotype of this population.
+	 *
+	 * @return the worst phenotype
+	 */
+	Phenotype<G, C> worst() {
+		return get(0);
+	}
+
+	/**
+	 * Replaces the worst individual of the population with the given
+	 * (evaluated) {@code phenotype}.
+	 *
+	 * @param phenotype the new population member
+	 * @return the replaced, worst, phenotype
+	 * @throws IllegalArgumentException if the given {@code phenotype} is not
+	 *         evaluated
+	 */
+	Phenotype<G, C> replaceWorst(final Phenotype<G, C> phenotype) {
+		if (!phenotype.isEvaluated()) {
+			throw new IllegalArgumentException(
+				"Phenotype is not evaluated: " + phenotype
+			);
+		}
+
+		final Phenotype<G, C> worst = get(0);
+		_heap[0] = phenotype;
+		siftDown(0);
+
+		if (_optimize.compare(phenotype, _best) > 0) {
+			_best = phenotype;
+		} else if (worst == _best) {
+			// Only possible if all individuals have the same fitness.
+			_best = view().stream()
+				.reduce(_optimize::best)
+				.orElseThrow();
+		}
+
+		return worst;
+	}
+
+	/**
+	 * Return a <em>view</em> of the current population. The order of the
+	 * elements is unspecified and the returned sequence reflects every
+	 * subsequent population change.
+	 *
+	 * @return a view of the current population
+	 */
+	Seq<Phenotype<G, C>> view() {
+		return _view;
+	}
+
+	/**
+	 * Return a snapshot of the current population.
+	 *
+	 * @return a snapshot of the current population
+	 */
+	ISeq<Phenotype<G, C>> toISeq() {
+		return new ArrayISeq<>(
+			Array.<Phenotype<G, C>>of(ObjectStore.of(_heap.clone())).seal()
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Phenotype<G, C> get(final int index) {
+		return (Phenotype<G, C>)_heap[index];
+	}
+
+	private void siftDown(final int index) {
+		final Phenotype<G, C> value = get(index);
+		final int half = _heap.length >>> 1;
+
+		int i = index;
+		while (i < half) {
+			int child = 2*i + 1;
+			final int right = child + 1;
+			if (right < _heap.length &&
+				_comparator.compare(get(child), get(right)) > 0)
+			{
+				child = right;
+			}
+			if (_comparator.compare(value, get(child)) <= 0) {
+				break;
+			}
+			_heap[i] = _heap[child];
+			i = child;
+		}
+		_heap[i] = value;
+	}
+
+}
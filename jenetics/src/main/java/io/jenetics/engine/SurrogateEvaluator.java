@@ -0,0 +1,502 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator decorator, which pre-screens the phenotypes with an online
+ * <em>surrogate model</em> of the fitness function. The surrogate is a
+ * <em>k-nearest-neighbours</em> regression over the feature vectors of the
+ * last evaluated genotypes. Only phenotypes with a promising predicted fitness
+ * are passed to the decorated (expensive) evaluator. The other phenotypes get
+ * their predicted fitness value assigned.
+ * <p>
+ * A phenotype is <em>promising</em> if its predicted fitness is not worse than
+ * the fitness at the {@link Params#threshold()} quantile of the already
+ * evaluated phenotypes of the population. A threshold of {@code 0.5} screens
+ * out all phenotypes, which are predicted to be worse than the median. A
+ * fraction of the screened out phenotypes, given by the
+ * {@link Params#revalidation()} rate, is evaluated anyway. This keeps the
+ * surrogate model up to date and allows to measure its {@link #hitRate()}.
+ * <p>
+ * Phenotypes with predicted fitness values should only take part in one
+ * survivor selection. If the evaluator is also registered as
+ * {@link EvolutionInterceptor}, the predicted fitness values of the
+ * phenotypes which survived are nullified at the start of the next
+ * generation, and they are evaluated with the decorated evaluator.
+ *
+ * <pre>{@code
+ * final SurrogateEvaluator<DoubleGene> evaluator = Evaluators.surrogate(
+ *     Evaluators.concurrent(Main::simulate, commonPool()),
+ *     Optimize.MAXIMUM
+ * );
+ * final Engine<DoubleGene, Double> engine = new Engine.Builder<>(evaluator, gtf)
+ *     .interceptor(evaluator)
+ *     .build();
+ * ...
+ * System.out.println("Hit rate: " + evaluator.hitRate());
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. If the decorated evaluator is a
+ * {@link Evaluators#concurrent(Function, Executor)} or
+ * {@link Evaluators#batched(Function, int, Executor)} evaluator, it will use
+ * the executor of the evolution {@link Engine}.
+ *
+ * @see Evaluators#surrogate(Evaluator, Function, Optimize, Params)
+ * @see Evaluators#surrogate(Evaluator, Optimize)
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+public final class SurrogateEvaluator<G extends Gene<?, G>>
+	extends EngineEvaluator<G, Double>
+	implements EvolutionInterceptor<G, Double>
+{
+
+	/**
+	 * The parameters of the surrogate evaluator.
+	 *
+	 * @param neighbours the number of nearest neighbours used for predicting
+	 *        the fitness value
+	 * @param capacity the maximal number of evaluated samples the surrogate
+	 *        model consists of. The oldest samples are replaced first.
+	 * @param threshold the quantile of the evaluated fitness values of the
+	 *        population, in the range {@code [0, 1]}, a phenotype must
+	 *        (predictively) reach for being evaluated
+	 * @param revalidation the probability, in the range {@code [0, 1]}, that
+	 *        a screened out phenotype is evaluated anyway
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 7.1
+	 * @since 7.1
+	 */
+	public record Params(
+		int neighbours,
+		int capacity,
+		double threshold,
+		double revalidation
+	) {
+
+		/**
+		 * The default parameters: five neighbours, a capacity of 1,000
+		 * samples, the median as threshold and a revalidation rate of 5%.
+		 */
+		public static final Params DEFAULT = new Params(5, 1_000, 0.5, 0.05);
+
+		/**
+		 * Create a new parameter object.
+		 *
+		 * @throws IllegalArgumentException if the {@code neighbours} is smaller
+		 *         than one, the {@code capacity} is smaller than the number of
+		 *         {@code neighbours}, or the {@code threshold} or
+		 *         {@code revalidation} is not in the range {@code [0, 1]}
+		 */
+		public Params {
+			if (neighbours < 1) {
+				throw new IllegalArgumentException(format(
+					"Number of neighbours must be greater than zero: %d",
+					neighbours
+				));
+			}
+			if (capacity < neighbours) {
+				throw new IllegalArgumentException(format(
+					"Capacity must not be smaller than the number of " +
+					"neighbours: %d < %d", capacity, neighbours
+				));
+			}
+			if (!(threshold >= 0 && threshold <= 1)) {
+				throw new IllegalArgumentException(format(
+					"Threshold is not in the range [0, 1]: %f", threshold
+				));
+			}
+			if (!(revalidation >= 0 && revalidation <= 1)) {
+				throw new IllegalArgumentException(format(
+					"Revalidation rate is not in the range [0, 1]: %f",
+					revalidation
+				));
+			}
+		}
+	}
+
+	private final Evaluator<G, Double> _evaluator;
+	private final Function<? super Genotype<G>, double[]> _features;
+	private final Optimize _optimize;
+	private final Params _params;
+	private final State<G> _state;
+
+	private SurrogateEvaluator(
+		final Evaluator<G, Double> evaluator,
+		final Function<? super Genotype<G>, double[]> features,
+		final Optimize optimize,
+		final Params params,
+		final State<G> state
+	) {
+		_evaluator = requireNonNull(evaluator);
+		_features = requireNonNull(features);
+		_optimize = requireNonNull(optimize);
+		_params = requireNonNull(params);
+		_state = requireNonNull(state);
+	}
+
+	SurrogateEvaluator(
+		final Evaluator<G, Double> evaluator,
+		final Function<? super Genotype<G>, double[]> features,
+		final Optimize optimize,
+		final Params params
+	) {
+		this(evaluator, features, optimize, params, new State<>(params));
+	}
+
+	/**
+	 * Return a new evaluator, where the decorated evaluator uses the given
+	 * engine settings. The returned evaluator shares the surrogate model with
+	 * {@code this} evaluator.
+	 */
+	@Override
+	SurrogateEvaluator<G>
+	with(final Executor executor, final EvolutionRandom random) {
+		return new SurrogateEvaluator<>(
+			EngineEvaluator.with(_evaluator, executor, random),
+			_features, _optimize, _params, _state
+		);
+	}
+
+	/**
+	 * Nullifies the predicted fitness values of the phenotypes, which
+	 * survived the last generation.
+	 */
+	@Override
+	public EvolutionStart<G, Double> before(final EvolutionStart<G, Double> start) {
+		synchronized (_state) {
+			return _state.predicted.isEmpty()
+				? start
+				: EvolutionStart.of(
+					start.population().map(pt ->
+						_state.predicted.contains(pt.genotype())
+							? pt.nullifyFitness()
+							: pt),
+					start.generation());
+		}
+	}
+
+	@Override
+	public ISeq<Phenotype<G, Double>> eval(final Seq<Phenotype<G, Double>> population) {
+		return evaluate(population).population();
+	}
+
+	@Override
+	EvaluatorResult<G, Double>
+	evaluate(final Seq<Phenotype<G, Double>> population, final long offset) {
+		final MSeq<Phenotype<G, Double>> result = MSeq.of(population);
+		final double limit = limit(population);
+		final var random = RandomRegistry.random();
+
+		final double[][] features = new double[result.length()][];
+		final double[] predictions = new double[result.length()];
+		final boolean[] screened = new boolean[result.length()];
+		final MSeq<Phenotype<G, Double>> evaluate = MSeq.ofLength(result.length());
+		final int[] indexes = new int[result.length()];
+		int count = 0;
+
+		synchronized (_state) {
+			for (int i = 0; i < result.length(); ++i) {
+				final Phenotype<G, Double> pt = result.get(i);
+				if (pt.nonEvaluated()) {
+					features[i] = _features.apply(pt.genotype());
+					predictions[i] = _state.predict(features[i], _params.neighbours());
+
+					final boolean forced = _state.predicted.contains(pt.genotype());
+					screened[i] = !forced &&
+						!Double.isNaN(predictions[i]) &&
+						!Double.isNaN(limit) &&
+						_optimize.compare(predictions[i], limit) < 0;
+
+					if (screened[i] && random.nextDouble() >= _params.revalidation()) {
+						result.set(i, pt.withFitness(predictions[i]));
+						++_state.predictions;
+					} else {
+						evaluate.set(count, pt);
+						indexes[count++] = i;
+					}
+				}
+			}
+
+			_state.predicted.clear();
+			for (int i = 0; i < result.length(); ++i) {
+				if (screened[i] && result.get(i).isEvaluated()) {
+					_state.predicted.add(result.get(i).genotype());
+				}
+			}
+		}
+
+		int timeouts = 0;
+		Set<Genotype<G>> penalized = Set.of();
+		if (count > 0) {
+			final EvaluatorResult<G, Double> er = EngineEvaluator.evaluate(
+				_evaluator,
+				evaluate.subSeq(0, count).toISeq(),
+				offset
+			);
+			final ISeq<Phenotype<G, Double>> evaluated = er.population();
+			timeouts = er.timeoutCount();
+			penalized = er.penalized();
+
+			synchronized (_state) {
+				for (int i = 0; i < count; ++i) {
+					final int index = indexes[i];
+					final double fitness = evaluated.get(i).fitness();
+					result.set(index, evaluated.get(i));
+
+					++_state.evaluations;
+					if (screened[index]) {
+						++_state.revalidations;
+						if (_optimize.compare(fitness, limit) < 0) {
+							++_state.hits;
+						}
+					}
+					// Penalty fitness values would distort the model.
+					if (!penalized.contains(evaluated.get(i).genotype())) {
+						_state.add(features[index], fitness);
+					}
+				}
+			}
+		}
+
+		return new EvaluatorResult<>(result.toISeq(), timeouts, penalized);
+	}
+
+	/**
+	 * Return the fitness value at the threshold quantile of the evaluated
+	 * phenotypes, or {@code NaN} if the population contains no evaluated
+	 * phenotypes.
+	 */
+	private double limit(final Seq<Phenotype<G, Double>> population) {
+		final double[] fitness = population.stream()
+			.filter(Phenotype::isEvaluated)
+			.mapToDouble(Phenotype::fitness)
+			.toArray();
+
+		if (fitness.length == 0) {
+			return Double.NaN;
+		}
+
+		// Sorted from the best to the worst fitness value.
+		Arrays.sort(fitness);
+		if (_optimize == Optimize.MAXIMUM) {
+			for (int i = 0, j = fitness.length - 1; i < j; ++i, --j) {
+				final double temp = fitness[i];
+				fitness[i] = fitness[j];
+				fitness[j] = temp;
+			}
+		}
+
+		return fitness[(int)(_params.threshold()*(fitness.length - 1))];
+	}
+
+	/**
+	 * Return the number of phenotypes, which has been evaluated by the
+	 * decorated evaluator, including the revalidated ones.
+	 *
+	 * @return the number of evaluations of the decorated evaluator
+	 */
+	public long evaluations() {
+		synchronized (_state) {
+			return _state.evaluations;
+		}
+	}
+
+	/**
+	 * Return the number of phenotypes, which got the predicted fitness value
+	 * of the surrogate model assigned.
+	 *
+	 * @return the number of predicted fitness values
+	 */
+	public long predictions() {
+		synchronized (_state) {
+			return _state.predictions;
+		}
+	}
+
+	/**
+	 * Return the number of screened out phenotypes, which has been evaluated
+	 * anyway.
+	 *
+	 * @return the number of revalidated phenotypes
+	 */
+	public long revalidations() {
+		synchronized (_state) {
+			return _state.revalidations;
+		}
+	}
+
+	/**
+	 * Return the number of revalidated phenotypes, which have been correctly
+	 * screened out by the surrogate model.
+	 *
+	 * @return the number of correctly screened out phenotypes
+	 */
+	public long hits() {
+		synchronized (_state) {
+			return _state.hits;
+		}
+	}
+
+	/**
+	 * Return the fraction of the revalidated phenotypes, which have been
+	 * correctly screened out by the surrogate model. If no phenotype has been
+	 * revalidated yet, {@code NaN} is returned.
+	 *
+	 * @return the hit rate of the surrogate model
+	 */
+	public double hitRate() {
+		synchronized (_state) {
+			return _state.revalidations == 0
+				? Double.NaN
+				: (double)_state.hits/_state.revalidations;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (_state) {
+			return format(
+				"SurrogateEvaluator[evaluations=%d, predictions=%d, " +
+				"revalidations=%d, hits=%d]",
+				_state.evaluations, _state.predictions,
+				_state.revalidations, _state.hits
+			);
+		}
+	}
+
+	/**
+	 * The surrogate model and the statistics counters. Access to the state
+	 * must be synchronized on the state object itself.
+	 */
+	private static final class State<G extends Gene<?, G>> {
+
+		// Ring buffer of the evaluated samples.
+		private final double[][] _samples;
+		private final double[] _fitness;
+		private int _size;
+		private int _next;
+
+		// Genotypes with predicted fitness value of the last evaluation.
+		final Set<Genotype<G>> predicted =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+
+		long evaluations;
+		long predictions;
+		long revalidations;
+		long hits;
+
+		State(final Params params) {
+			_samples = new double[params.capacity()][];
+			_fitness = new double[params.capacity()];
+		}
+
+		void add(final double[] features, final double fitness) {
+			_samples[_next] = features;
+			_fitness[_next] = fitness;
+			_next = (_next + 1)%_samples.length;
+			_size = Math.min(_size + 1, _samples.length);
+		}
+
+		/**
+		 * Return the inverse distance weighted mean fitness of the {@code k}
+		 * nearest samples, or {@code NaN} if there are less than {@code k}
+		 * samples available.
+		 */
+		double predict(final double[] features, final int k) {
+			if (_size < k) {
+				return Double.NaN;
+			}
+
+			// The k nearest samples, sorted by its distance.
+			final double[] distances = new double[k];
+			final int[] nearest = new int[k];
+			Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+			for (int i = 0; i < _size; ++i) {
+				final double distance = distance(features, _samples[i]);
+				if (distance < distances[k - 1]) {
+					int j = k - 1;
+					for (; j > 0 && distances[j - 1] > distance; --j) {
+						distances[j] = distances[j - 1];
+						nearest[j] = nearest[j - 1];
+					}
+					distances[j] = distance;
+					nearest[j] = i;
+				}
+			}
+
+			if (distances[0] == 0) {
+				return _fitness[nearest[0]];
+			}
+
+			double sum = 0;
+			double weights = 0;
+			for (int i = 0; i < k; ++i) {
+				final double weight = 1.0/distances[i];
+				sum += weight*_fitness[nearest[i]];
+				weights += weight;
+			}
+			return sum/weights;
+		}
+
+		private static double distance(final double[] a, final double[] b) {
+			if (a.length != b.length) {
+				throw new IllegalArgumentException(format(
+					"Feature vectors with different length: %d != %d",
+					a.length, b.length
+				));
+			}
+
+			double distance = 0;
+			for (int i = 0; i < a.length; ++i) {
+				final double diff = a[i] - b[i];
+				distance += diff*diff;
+			}
+			return Math.sqrt(distance);
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.ConcurrentEvaluator.PhenotypeFitness;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluation strategy, which starts one thread for every phenotype to
+ * evaluate. If the Java runtime supports <em>virtual threads</em>, a virtual
+ * thread is used for every evaluation. Otherwise, (daemon) platform threads
+ * of an unbounded, cached thread pool are used. This evaluator is suited for
+ * blocking, I/O-bound fitness functions, where the number of in-flight
+ * evaluations shouldn't be limited by the number of available CPU cores.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.1
+ * @since 7.1
+ */
+final class ThreadPerTaskEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Function<? super Genotype<G>, ? extends C> _function;
+	private final int _maxConcurrency;
+	private final ExecutorService _executor;
+
+	ThreadPerTaskEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final int maxConcurrency,
+		final ExecutorService executor
+	) {
+		_function = requireNonNull(function);
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException(format(
+				"Max concurrency must be greater than zero: %d", maxConcurrency
+			));
+		}
+		_maxConcurrency = maxConcurrency;
+		_executor = requireNonNull(executor);
+	}
+
+	ThreadPerTaskEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final int maxConcurrency
+	) {
+		this(function, maxConcurrency, ThreadPerTask.EXECUTOR);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.map(pt -> new PhenotypeFitness<>(pt, _function))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<G, C>> result;
+		if (evaluate.nonEmpty()) {
+			execute(evaluate);
+
+			result = evaluate.size() == population.size()
+				? evaluate.map(PhenotypeFitness::phenotype)
+				: population.stream()
+					.filter(Phenotype::isEvaluated)
+					.collect(ISeq.toISeq())
+					.append(evaluate.map(PhenotypeFitness::phenotype));
+		} else {
+			result = population.asISeq();
+		}
+
+		return result;
+	}
+
+	// The permits are acquired before a task is submitted. Otherwise, the
+	// platform thread fallback would start one (blocked) thread per task.
+	private void execute(final Seq<? extends Runnable> tasks) {
+		final Semaphore permits = _maxConcurrency < tasks.size()
+			? new Semaphore(_maxConcurrency)
+			: null;
+
+		final List<Future<?>> futures = new ArrayList<>(tasks.size());
+		for (Runnable task : tasks) {
+			if (permits != null) {
+				try {
+					permits.acquire();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					futures.forEach(f -> f.cancel(true));
+					throw new CancellationException(
+						"Interrupted while waiting for evaluation permit."
+					);
+				}
+				futures.add(_executor.submit(() -> run(task, permits)));
+			} else {
+				futures.add(_executor.submit(task));
+			}
+		}
+
+		Concurrency.join(futures);
+	}
+
+	private static void run(final Runnable task, final Semaphore permits) {
+		try {
+			task.run();
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Lazy holder of the thread-per-task executor. The virtual thread executor
+	 * is looked up reflectively, since it is not available in every supported
+	 * Java version.
+	 */
+	static final class ThreadPerTask {
+		static final ExecutorService EXECUTOR = executor();
+
+		private static ExecutorService executor() {
+			try {
+				return (ExecutorService)Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+			} catch (ReflectiveOperationException |
+					UnsupportedOperationException e)
+			{
+				return platformThreads();
+			}
+		}
+
+		static ExecutorService platformThreads() {
+			return Executors.newCachedThreadPool(task -> {
+				final var thread = new Thread(task, "jenetics-evaluator");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+}
@@ -19,18 +19,23 @@
  */
 package io.jenetics.internal.collection;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 
+import io.jenetics.internal.math.Randoms;
 import io.jenetics.internal.util.Bits;
+import io.jenetics.internal.util.Requires;
 import io.jenetics.util.Copyable;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * This class represents a fixed sized array of <em>bit</em> or <em>boolean</em>
- * values, backed by a {@code byte[]} array. The order of the bit values is shown
+ * values, backed by a {@code long[]} array. The order of the bit values is shown
  * if the drawing.
  * <pre> {@code
  *  Byte:       3        2        1        0
@@ -40,9 +45,15 @@ import io.jenetics.util.Copyable;
  *  Bit:    23                15       7      0
  * }</pre>
  *
+ * The bits are stored in 64-bit words, where the bit with index {@code i} is
+ * stored in the word {@code i/64}, at bit position {@code i%64}. This allows
+ * to perform the bulk operations, like {@link #xor(BitArray)} or
+ * {@link #swap(BitArray, BitArray)}, on 64 bits at once. The unused bits of
+ * the last word are always zero.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.0
- * @version 7.0
+ * @version 7.1
  */
 public final class BitArray implements Copyable<BitArray> {
 
@@ -50,13 +61,28 @@ public final class BitArray implements Copyable<BitArray> {
 		1, 0x02, 0x04, 0x08, 0x10, 0x20, 0x40, 0x80
 	};
 
-	private final byte[] _data;
-	private final int _start;
-	private final int _end;
+	/**
+	 * Below this probability, random masks are created by drawing the indexes
+	 * of the set bits. Above, the mask words are created directly.
+	 */
+	private static final double SPARSE_MASK_PROBABILITY = 1.0/32.0;
+
+	private final long[] _words;
+	private final int _length;
+
+	// Private primary constructor.
+	private BitArray(final long[] words, final int length) {
+		assert words.length == wordLength(length);
+
+		_words = words;
+		_length = length;
+		trim();
+	}
 
 	/**
 	 * Create a new bit-array with the given {@code data} values and
-	 * {@code begin} and {@code end} <em>bit</em> indexes.
+	 * {@code begin} and {@code end} <em>bit</em> indexes. The given
+	 * {@code data} array is copied.
 	 *
 	 * @param data the {@code byte[]} array which contains the bit data
 	 * @param start the start bit index (inclusively)
@@ -67,6 +93,25 @@ public final class BitArray implements Copyable<BitArray> {
 	 *         indexes are not within the valid range
 	 */
 	BitArray(final byte[] data, final int start, final int end) {
+		this(toWords(data, start, end), end - start);
+	}
+
+	/**
+	 * Create a new bit-array with the given {@code data} values.
+	 *
+	 * @param data the {@code byte[]} array which contains the bit data
+	 * @throws NullPointerException if the given {@code data} array is
+	 *         {@code null}
+	 */
+	BitArray(final byte[] data) {
+		this(data, 0, data.length*Byte.SIZE);
+	}
+
+	private static long[] toWords(
+		final byte[] data,
+		final int start,
+		final int end
+	) {
 		if (data.length == 0) {
 			throw new IllegalArgumentException("Byte array must not be empty.");
 		}
@@ -82,20 +127,24 @@ public final class BitArray implements Copyable<BitArray> {
 			));
 		}
 
-		_data = data;
-		_start = start;
-		_end = end;
+		final byte[] bytes = Bits.copy(data, start, end);
+		final long[] words = new long[wordLength(end - start)];
+		for (int i = 0, n = min(bytes.length, words.length*Long.BYTES); i < n; ++i) {
+			words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+		}
+		return words;
 	}
 
-	/**
-	 * Create a new bit-array with the given {@code data} values.
-	 *
-	 * @param data the {@code byte[]} array which contains the bit data
-	 * @throws NullPointerException if the given {@code data} array is
-	 *         {@code null}
-	 */
-	BitArray(final byte[] data) {
-		this(data, 0, data.length*Byte.SIZE);
+	private static int wordLength(final int length) {
+		return (length + Long.SIZE - 1) >>> 6;
+	}
+
+	// Clears the unused bits of the last word.
+	private void trim() {
+		final int bits = _length & 63;
+		if (bits != 0) {
+			_words[_words.length - 1] &= -1L >>> (Long.SIZE - bits);
+		}
 	}
 
 	/**
@@ -104,7 +153,7 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @return the length of the bit array
 	 */
 	public int length() {
-		return _end - _start;
+		return _length;
 	}
 
 	/**
@@ -113,7 +162,11 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @return the number of set bits
 	 */
 	public int bitCount() {
-		return Bits.count(_data, _start,_end);
+		int count = 0;
+		for (long word : _words) {
+			count += Long.bitCount(word);
+		}
+		return count;
 	}
 
 	/**
@@ -125,8 +178,11 @@ public final class BitArray implements Copyable<BitArray> {
 	 *         range of {@code [0, length())}
 	 */
 	public void set(final int index, final boolean value) {
-		Objects.checkIndex(index, length());
-		Bits.set(_data, _start + index, value);
+		if (value) {
+			set(index);
+		} else {
+			unset(index);
+		}
 	}
 
 	/**
@@ -139,7 +195,7 @@ public final class BitArray implements Copyable<BitArray> {
 	 */
 	public void set(final int index) {
 		Objects.checkIndex(index, length());
-		Bits.set(_data, _start + index);
+		_words[index >>> 6] |= 1L << index;
 	}
 
 	/**
@@ -152,7 +208,21 @@ public final class BitArray implements Copyable<BitArray> {
 	 */
 	public void unset(final int index) {
 		Objects.checkIndex(index, length());
-		Bits.unset(_data, _start + index);
+		_words[index >>> 6] &= ~(1L << index);
+	}
+
+	/**
+	 * Flips the bit at the given {@code index}.
+	 *
+	 * @since 7.1
+	 *
+	 * @param index the bit index
+	 * @throws IndexOutOfBoundsException if the index is not within the valid
+	 *         range of {@code [0, length())}
+	 */
+	public void flip(final int index) {
+		Objects.checkIndex(index, length());
+		_words[index >>> 6] ^= 1L << index;
 	}
 
 	/**
@@ -165,14 +235,143 @@ public final class BitArray implements Copyable<BitArray> {
 	 */
 	public boolean get(final int index) {
 		Objects.checkIndex(index, length());
-		return Bits.get(_data, _start + index);
+		return (_words[index >>> 6] & (1L << index)) != 0;
 	}
 
 	/**
 	 * Inverts {@code this} bit-array.
 	 */
 	public void invert() {
-		Bits.invert(_data);
+		for (int i = 0; i < _words.length; ++i) {
+			_words[i] = ~_words[i];
+		}
+		trim();
+	}
+
+	/**
+	 * Performs a logical <b>AND</b> of {@code this} bit-array with the
+	 * {@code other} one. Only the first {@code min(length(), other.length())}
+	 * bits of {@code this} array are changed.
+	 *
+	 * @since 7.1
+	 *
+	 * @param other the other bit-array
+	 * @throws NullPointerException if the {@code other} array is {@code null}
+	 */
+	public void and(final BitArray other) {
+		final int length = min(length(), other.length());
+		final int words = wordLength(length);
+		for (int i = 0; i < words; ++i) {
+			final long mask = mask(i, length);
+			_words[i] &= other._words[i] | ~mask;
+		}
+	}
+
+	/**
+	 * Performs a logical <b>OR</b> of {@code this} bit-array with the
+	 * {@code other} one. Only the first {@code min(length(), other.length())}
+	 * bits of {@code this} array are changed.
+	 *
+	 * @since 7.1
+	 *
+	 * @param other the other bit-array
+	 * @throws NullPointerException if the {@code other} array is {@code null}
+	 */
+	public void or(final BitArray other) {
+		final int length = min(length(), other.length());
+		final int words = wordLength(length);
+		for (int i = 0; i < words; ++i) {
+			_words[i] |= other._words[i] & mask(i, length);
+		}
+	}
+
+	/**
+	 * Performs a logical <b>XOR</b> of {@code this} bit-array with the
+	 * {@code other} one. Only the first {@code min(length(), other.length())}
+	 * bits of {@code this} array are changed. This method can be used for
+	 * flipping all bits, which are set in the given {@code other} mask.
+	 *
+	 * @since 7.1
+	 *
+	 * @param other the other bit-array
+	 * @throws NullPointerException if the {@code other} array is {@code null}
+	 */
+	public void xor(final BitArray other) {
+		final int length = min(length(), other.length());
+		final int words = wordLength(length);
+		for (int i = 0; i < words; ++i) {
+			_words[i] ^= other._words[i] & mask(i, length);
+		}
+	}
+
+	// Return the mask of the valid bits of the word with the given index.
+	private static long mask(final int word, final int length) {
+		final int bits = length - (word << 6);
+		return bits >= Long.SIZE ? -1L : -1L >>> (Long.SIZE - bits);
+	}
+
+	/**
+	 * Swaps the bits in the range {@code [start, end)} between {@code this}
+	 * and the {@code other} bit-array.
+	 *
+	 * @since 7.1
+	 *
+	 * @param start the start index of the swapped range (inclusively)
+	 * @param end the end index of the swapped range (exclusively)
+	 * @param other the other bit-array
+	 * @throws NullPointerException if the {@code other} array is {@code null}
+	 * @throws IndexOutOfBoundsException if the range is not within the valid
+	 *         range of {@code [0, min(length(), other.length()))}
+	 */
+	public void swap(final int start, final int end, final BitArray other) {
+		Objects.checkFromToIndex(start, end, min(length(), other.length()));
+		if (start == end) {
+			return;
+		}
+
+		final int first = start >>> 6;
+		final int last = (end - 1) >>> 6;
+		for (int i = first; i <= last; ++i) {
+			long mask = -1L;
+			if (i == first) {
+				mask &= -1L << start;
+			}
+			if (i == last) {
+				mask &= -1L >>> -end;
+			}
+
+			final long diff = (_words[i] ^ other._words[i]) & mask;
+			_words[i] ^= diff;
+			other._words[i] ^= diff;
+		}
+	}
+
+	/**
+	 * Swaps all bits between {@code this} and the {@code other} bit-array,
+	 * which are set in the given {@code mask}. The mask must not be longer
+	 * than the two bit-arrays.
+	 *
+	 * @since 7.1
+	 *
+	 * @param other the other bit-array
+	 * @param mask the swap mask
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code mask} is longer than
+	 *         one of the bit-arrays
+	 */
+	public void swap(final BitArray other, final BitArray mask) {
+		if (mask.length() > min(length(), other.length())) {
+			throw new IllegalArgumentException(format(
+				"Mask length must not be greater than %d: %d.",
+				min(length(), other.length()), mask.length()
+			));
+		}
+
+		for (int i = 0; i < mask._words.length; ++i) {
+			final long diff = (_words[i] ^ other._words[i]) & mask._words[i];
+			_words[i] ^= diff;
+			other._words[i] ^= diff;
+		}
 	}
 
 	/**
@@ -184,12 +383,25 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @param n the number of bits to shift.
 	 */
 	public void shiftLeft(final int n) {
-		if (_start != 0) {
-			throw new IllegalStateException(format(
-				"BitArray start is != 0:%s ", _start
-			));
+		if (n <= 0) {
+			return;
+		}
+		if (n >= length()) {
+			Arrays.fill(_words, 0L);
+			return;
 		}
-		Bits.shiftLeft(_data, n);
+
+		final int words = n >>> 6;
+		final int bits = n & 63;
+		for (int i = _words.length - 1; i >= 0; --i) {
+			final int j = i - words;
+			long word = j >= 0 ? _words[j] << bits : 0L;
+			if (bits != 0 && j > 0) {
+				word |= _words[j - 1] >>> (Long.SIZE - bits);
+			}
+			_words[i] = word;
+		}
+		trim();
 	}
 
 	/**
@@ -201,12 +413,24 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @param n the number of bits to shift.
 	 */
 	public void shiftRight(final int n) {
-		if (_start != 0) {
-			throw new IllegalStateException(format(
-				"BitArray start is != 0:%s ", _start
-			));
+		if (n <= 0) {
+			return;
+		}
+		if (n >= length()) {
+			Arrays.fill(_words, 0L);
+			return;
+		}
+
+		final int words = n >>> 6;
+		final int bits = n & 63;
+		for (int i = 0; i < _words.length; ++i) {
+			final int j = i + words;
+			long word = j < _words.length ? _words[j] >>> bits : 0L;
+			if (bits != 0 && j + 1 < _words.length) {
+				word |= _words[j + 1] << (Long.SIZE - bits);
+			}
+			_words[i] = word;
 		}
-		Bits.shiftRight(_data, n);
 	}
 
 	/**
@@ -288,7 +512,11 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @return the bit-array data as {@code byte[]} array
 	 */
 	public byte[] toByteArray() {
-		return Bits.copy(_data, _start, _end);
+		final byte[] bytes = new byte[Bits.toByteLength(length())];
+		for (int i = 0; i < bytes.length; ++i) {
+			bytes[i] = (byte)(_words[i >>> 3] >>> ((i & 7) << 3));
+		}
+		return bytes;
 	}
 
 	/**
@@ -298,7 +526,7 @@ public final class BitArray implements Copyable<BitArray> {
 	 */
 	@Override
 	public BitArray copy() {
-		return new BitArray(toByteArray(), 0, length());
+		return new BitArray(_words.clone(), _length);
 	}
 
 	@Override
@@ -312,10 +540,8 @@ public final class BitArray implements Copyable<BitArray> {
 	}
 
 	private boolean equals(final BitArray array) {
-		if (array.length() != length()) {
-			return false;
-		}
-		return Arrays.equals(toByteArray(), array.toByteArray());
+		return array.length() == length() &&
+			Arrays.equals(_words, array._words);
 	}
 
 	@Override
@@ -522,7 +748,12 @@ public final class BitArray implements Copyable<BitArray> {
 	 *         then one
 	 */
 	public static BitArray ofLength(final int length) {
-		return new BitArray(Bits.newArray(length), 0, length);
+		if (length < 1) {
+			throw new IllegalArgumentException(
+				"Length must be greater than zero: " + length
+			);
+		}
+		return new BitArray(new long[wordLength(length)], length);
 	}
 
 	/**
@@ -537,7 +768,75 @@ public final class BitArray implements Copyable<BitArray> {
 	 * @throws IllegalArgumentException if {@code p} is not a valid probability.
 	 */
 	public static BitArray ofLength(final int length, final double p) {
-		return new BitArray(Bits.newArray(length, p), 0, length);
+		final BitArray array = ofLength(length);
+		Randoms.indexes(RandomRegistry.random(), length, p)
+			.forEach(array::set);
+		return array;
+	}
+
+	/**
+	 * Create a new random bit-array, where every bit is set with the given
+	 * probability {@code p}. For small probabilities, only the indexes of the
+	 * set bits are drawn. Otherwise, the bits are created word by word, by
+	 * combining random 64-bit words according to the binary expansion of
+	 * {@code p}. The resolution of the probability is 2<sup>-32</sup> in this
+	 * case. Bit-arrays created with this method can be used as mask for the
+	 * {@link #xor(BitArray)} and {@link #swap(BitArray, BitArray)} methods.
+	 *
+	 * @since 7.1
+	 *
+	 * @param length the length of the bit-array
+	 * @param p the probability of the set bits
+	 * @param random the random generator used for creating the bits
+	 * @return a new random bit-array
+	 * @throws NullPointerException if the {@code random} generator is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code p} is not a valid probability
+	 *         or the {@code length} is smaller than one
+	 */
+	public static BitArray ofLength(
+		final int length,
+		final double p,
+		final RandomGenerator random
+	) {
+		Objects.requireNonNull(random);
+		Requires.probability(p);
+		final BitArray array = ofLength(length);
+
+		if (p < SPARSE_MASK_PROBABILITY) {
+			for (int index : Randoms.nextIndexes(random, length, p)) {
+				array._words[index >>> 6] |= 1L << index;
+			}
+		} else {
+			final long P = Math.round(p*0x1p32);
+			if (P >= 1L << 32) {
+				Arrays.fill(array._words, -1L);
+			} else if (P > 0) {
+				for (int i = 0; i < array._words.length; ++i) {
+					array._words[i] = nextWord(random, P);
+				}
+			}
+			array.trim();
+		}
+
+		return array;
+	}
+
+	/*
+	 * Creates a random word, where every bit is set with the probability
+	 * P/2^32. The bits of the probability are processed from the least
+	 * significant set bit upwards: an one bit ORs, a zero bit ANDs a new
+	 * random word into the result.
+	 */
+	private static long nextWord(final RandomGenerator random, final long P) {
+		final int lowest = Long.numberOfTrailingZeros(P);
+		long word = random.nextLong();
+		for (int bit = lowest + 1; bit < 32; ++bit) {
+			word = ((P >>> bit) & 1) != 0
+				? word | random.nextLong()
+				: word & random.nextLong();
+		}
+		return word;
 	}
 
 }
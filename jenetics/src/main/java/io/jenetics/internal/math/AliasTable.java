@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the <em>alias method</em>, for sampling from a discrete
+ * probability distribution, as described by Vose. Creating the table takes
+ * <i>O(n)</i> time and drawing a random index runs in constant time.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Alias_method">Alias method</a>
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">
+ *     Darts, Dice, and Coins: Sampling from a Discrete Distribution</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class AliasTable {
+
+	private final double[] _probabilities;
+	private final int[] _aliases;
+
+	private AliasTable(final double[] probabilities, final int[] aliases) {
+		_probabilities = probabilities;
+		_aliases = aliases;
+	}
+
+	/**
+	 * Return the number of indexes of this table.
+	 *
+	 * @return the number of indexes of this table
+	 */
+	public int size() {
+		return _aliases.length;
+	}
+
+	/**
+	 * Return the next random index, according to the probabilities the table
+	 * has been created with.
+	 *
+	 * @param random the random engine used for drawing the index
+	 * @return the next random index
+	 */
+	public int nextIndex(final RandomGenerator random) {
+		final int index = random.nextInt(_aliases.length);
+		return random.nextDouble() < _probabilities[index]
+			? index
+			: _aliases[index];
+	}
+
+	/**
+	 * Create a new alias table from the given probabilities. The given
+	 * probabilities must sum to one and are not changed.
+	 *
+	 * @param probabilities the probabilities of the indexes
+	 * @return a new alias table
+	 * @throws IllegalArgumentException if the given {@code probabilities} are
+	 *         empty
+	 */
+	public static AliasTable of(final double[] probabilities) {
+		final int n = probabilities.length;
+		if (n == 0) {
+			throw new IllegalArgumentException("Probabilities must not be empty.");
+		}
+
+		final double[] prob = new double[n];
+		final int[] alias = new int[n];
+
+		// The 'small' work-list grows from the beginning, the 'large'
+		// work-list from the end of the same array.
+		final double[] scaled = new double[n];
+		final int[] work = new int[n];
+		int small = 0;
+		int large = n;
+
+		for (int i = 0; i < n; ++i) {
+			scaled[i] = probabilities[i]*n;
+			if (scaled[i] < 1.0) {
+				work[small++] = i;
+			} else {
+				work[--large] = i;
+			}
+		}
+
+		while (small > 0 && large < n) {
+			final int l = work[--small];
+			final int g = work[large++];
+
+			prob[l] = scaled[l];
+			alias[l] = g;
+
+			scaled[g] = (scaled[g] + scaled[l]) - 1.0;
+			if (scaled[g] < 1.0) {
+				work[small++] = g;
+			} else {
+				work[--large] = g;
+			}
+		}
+
+		// Remaining entries have a probability of one, except for numerical
+		// instabilities.
+		while (large < n) {
+			final int g = work[large++];
+			prob[g] = 1.0;
+			alias[g] = g;
+		}
+		while (small > 0) {
+			final int l = work[--small];
+			prob[l] = 1.0;
+			alias[l] = l;
+		}
+
+		return new AliasTable(prob, alias);
+	}
+
+	@Override
+	public String toString() {
+		return format("AliasTable[size=%d]", _aliases.length);
+	}
+
+}
@@ -22,7 +22,10 @@ package io.jenetics.internal.math;
 import static java.lang.Math.abs;
 import static io.jenetics.internal.util.Requires.probability;
 
+import java.util.Arrays;
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.JumpableGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import java.util.stream.IntStream;
 
 /**
@@ -30,7 +33,7 @@ import java.util.stream.IntStream;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 7.0
+ * @version 7.1
  */
 public final class Randoms {
 	private Randoms() {}
@@ -173,6 +176,64 @@ public final class Randoms {
 		return indexes(random, 0, n, p);
 	}
 
+	/**
+	 * Return the (ascending) indexes of the range {@code [0, n)}, where every
+	 * index is selected with the given probability {@code p}. Instead of
+	 * drawing a random number for every index, the gaps between two selected
+	 * indexes are sampled from the geometric distribution. This is
+	 * considerably faster for small selection probabilities, since only
+	 * {@code O(n*p)} random numbers are needed.
+	 *
+	 * @since 7.1
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param n the end index (exclusively). The start index is zero.
+	 * @param p the index selection probability
+	 * @return the selected indexes, in ascending order
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 * @throws NullPointerException if the given {@code random}
+	 *         engine is {@code null}.
+	 */
+	public static int[] nextIndexes(
+		final RandomGenerator random,
+		final int n,
+		final double p
+	) {
+		probability(p);
+		if (n <= 0 || equals(p, 0, 1E-20)) {
+			return new int[0];
+		}
+		if (equals(p, 1, 1E-20)) {
+			return IntStream.range(0, n).toArray();
+		}
+
+		final double lq = Math.log1p(-p);
+		int[] indexes = new int[(int)Math.min(n, n*p*1.5 + 8)];
+		int length = 0;
+
+		int index = -1;
+		while (true) {
+			// The 'u' value is within the range (0, 1].
+			final double u = 1.0 - random.nextDouble();
+			final double skip = Math.floor(Math.log(u)/lq);
+			if (skip >= n - index - 1) {
+				break;
+			}
+
+			index += (int)skip + 1;
+			if (length == indexes.length) {
+				indexes = Arrays.copyOf(indexes, Math.min(n, length*2));
+			}
+			indexes[length++] = index;
+		}
+
+		return length == indexes.length
+			? indexes
+			: Arrays.copyOf(indexes, length);
+	}
+
 	/**
 	 * Create a new <em>seed</em> byte array of the given length.
 	 *
@@ -238,6 +299,44 @@ public final class Randoms {
 		return seed(System.nanoTime());
 	}
 
+	/**
+	 * Test whether independent random generators can be derived from the
+	 * given {@code random} generator, via the {@link #split(RandomGenerator)}
+	 * method.
+	 *
+	 * @param random the random generator to test
+	 * @return {@code true} if the given generator is splittable or jumpable,
+	 *         {@code false} otherwise
+	 */
+	public static boolean isSplittable(final RandomGenerator random) {
+		return random instanceof SplittableGenerator ||
+			random instanceof JumpableGenerator;
+	}
+
+	/**
+	 * Derives a new, statistically independent, random generator from the
+	 * given one. The state of the given {@code random} generator is advanced
+	 * in a deterministic way, which means that the derived generators are
+	 * reproducible, if the given generator has been created with a fixed seed.
+	 *
+	 * @param random the parent random generator
+	 * @return a new, independent, random generator
+	 * @throws UnsupportedOperationException if the given generator is neither
+	 *         splittable nor jumpable
+	 */
+	public static RandomGenerator split(final RandomGenerator random) {
+		if (random instanceof SplittableGenerator splittable) {
+			return splittable.split();
+		} else if (random instanceof JumpableGenerator jumpable) {
+			return jumpable.copyAndJump();
+		} else {
+			throw new UnsupportedOperationException(
+				"Random generator is neither splittable nor jumpable: " +
+					random.getClass().getName()
+			);
+		}
+	}
+
 	/**
 	 * Uses the given {@code base} value to create a reasonable safe seed
 	 * value. This is done by combining it with values of
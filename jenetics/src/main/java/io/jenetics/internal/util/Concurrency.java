@@ -39,7 +39,7 @@ import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 7.1
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -170,7 +170,19 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 	}
 
-	private static void join(final Iterable<? extends Future<?>> jobs) {
+	/**
+	 * Waits for the given futures in the given order. If one of the futures
+	 * fails or the calling thread is interrupted, the remaining futures are
+	 * cancelled (with interruption) and a {@link CancellationException} is
+	 * thrown.
+	 *
+	 * @since 7.1
+	 *
+	 * @param jobs the futures to wait for
+	 * @throws CancellationException if one of the futures has failed or the
+	 *         waiting thread has been interrupted
+	 */
+	public static void join(final Iterable<? extends Future<?>> jobs) {
 		Future<?> task = null;
 		Iterator<? extends Future<?>> tasks = null;
 		try {
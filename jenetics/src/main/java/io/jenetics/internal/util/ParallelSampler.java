@@ -0,0 +1,212 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.math.Randoms;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Helper class for drawing a big number of random samples in parallel. The
+ * samples are split into chunks of a fixed size, and every chunk gets its
+ * own random generator, which is derived from the given one via
+ * {@link Randoms#split(RandomGenerator)}. Since the chunking doesn't depend on
+ * the number of available threads, the result is reproducible for a random
+ * generator with a fixed seed.
+ * <p>
+ * The chunks are processed by the executor, which is set with the
+ * {@link #with(Executor, Supplier)} method for the current thread, or by the
+ * common fork-join pool otherwise. The calling thread takes part in the
+ * processing of the chunks and only waits for chunks which are already
+ * processed by another thread. This prevents a deadlock, if the calling
+ * thread itself is a thread of a bounded executor.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class ParallelSampler {
+	private ParallelSampler() {}
+
+	/**
+	 * The number of samples which are drawn with the same random generator.
+	 */
+	public static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * The minimal number of samples, which are drawn in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 2*CHUNK_SIZE;
+
+	private static final ThreadLocal<Executor> EXECUTOR = new ThreadLocal<>();
+
+	/**
+	 * Executes the given {@code task}, where all parallel sampling and
+	 * partial sorting, see {@link PartialSorter}, done by the current thread,
+	 * uses the given {@code executor}.
+	 *
+	 * @param executor the executor used for parallel sampling
+	 * @param task the task to execute
+	 * @param <T> the result type
+	 * @return the task result
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> T with(
+		final Executor executor,
+		final Supplier<? extends T> task
+	) {
+		requireNonNull(executor);
+		requireNonNull(task);
+
+		final Executor previous = EXECUTOR.get();
+		EXECUTOR.set(executor);
+		try {
+			return task.get();
+		} finally {
+			if (previous != null) {
+				EXECUTOR.set(previous);
+			} else {
+				EXECUTOR.remove();
+			}
+		}
+	}
+
+	/**
+	 * Draws {@code count} samples with the given {@code sampler} function. If
+	 * {@code count} is smaller than {@link #PARALLEL_THRESHOLD}, or the given
+	 * {@code random} generator is not splittable, all samples are drawn
+	 * sequentially with the given {@code random} generator. Otherwise, the
+	 * samples are drawn in parallel, with the executor set by
+	 * {@link #with(Executor, Supplier)}, or the common fork-join pool.
+	 *
+	 * @param count the number of samples to draw
+	 * @param random the (parent) random generator
+	 * @param sampler the sampling function, which draws one sample with the
+	 *        given random generator. The function must be thread-safe.
+	 * @param <T> the sample type
+	 * @return the drawn samples
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code count} is negative
+	 */
+	public static <T> ISeq<T> sample(
+		final int count,
+		final RandomGenerator random,
+		final Function<? super RandomGenerator, ? extends T> sampler
+	) {
+		requireNonNull(random);
+		requireNonNull(sampler);
+		if (count < 0) {
+			throw new IllegalArgumentException(
+				"Sample count must not be negative: " + count
+			);
+		}
+
+		final MSeq<T> samples = MSeq.ofLength(count);
+
+		if (count < PARALLEL_THRESHOLD || !Randoms.isSplittable(random)) {
+			samples.fill(() -> sampler.apply(random));
+		} else {
+			final int chunks = (count + CHUNK_SIZE - 1)/CHUNK_SIZE;
+
+			// The random generators must be created sequentially.
+			final RandomGenerator[] randoms = new RandomGenerator[chunks];
+			for (int i = 0; i < chunks; ++i) {
+				randoms[i] = Randoms.split(random);
+			}
+
+			execute(chunks, chunk -> {
+				final RandomGenerator r = randoms[chunk];
+				final int end = min((chunk + 1)*CHUNK_SIZE, count);
+				for (int i = chunk*CHUNK_SIZE; i < end; ++i) {
+					samples.set(i, sampler.apply(r));
+				}
+			});
+		}
+
+		return samples.toISeq();
+	}
+
+	// Processes the chunks with the current executor. Every worker, including
+	// the calling thread, claims the next unprocessed chunk, until all chunks
+	// are claimed. Also used by the PartialSorter.
+	static void execute(final int chunks, final IntConsumer task) {
+		final Executor current = EXECUTOR.get();
+		final Executor executor = current != null
+			? current
+			: ForkJoinPool.commonPool();
+
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(chunks);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		final Runnable worker = () -> {
+			int chunk;
+			while ((chunk = next.getAndIncrement()) < chunks) {
+				try {
+					if (error.get() == null) {
+						task.accept(chunk);
+					}
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+
+		for (int i = 1; i < chunks; ++i) {
+			executor.execute(worker);
+		}
+		worker.run();
+
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final var ce = new CancellationException(e.getMessage());
+			ce.initCause(e);
+			throw ce;
+		}
+
+		final Throwable e = error.get();
+		if (e instanceof RuntimeException re) {
+			throw re;
+		} else if (e instanceof Error err) {
+			throw err;
+		} else if (e != null) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Arrays.swap;
+
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.ProxySorter.Comparator;
+
+/**
+ * Partial proxy sorter, which only determines the {@code k} smallest elements
+ * of a given array, in sorted order. The {@code k} smallest elements are
+ * found with a <em>quickselect</em> in {@code O(n)} (expected) time and only
+ * these elements are sorted afterwards. This leads to an overall complexity
+ * of {@code O(n + k log(k))}, instead of the {@code O(n log(n))} of a full
+ * sort. Like the {@link ProxySorter}, the given array is not touched and an
+ * index lookup array is returned instead.
+ * <p>
+ * Equal elements are ordered by its index. The result is therefore the same
+ * as the first {@code k} indexes of a <em>stable</em> sort, and doesn't depend
+ * on whether the selection is performed in parallel or not. The parallel
+ * selection uses the executor set with
+ * {@link ParallelSampler#with(java.util.concurrent.Executor, java.util.function.Supplier)},
+ * or the common fork-join pool otherwise.
+ *
+ * @see ProxySorter
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.1
+ * @version 7.1
+ */
+public final class PartialSorter {
+	private PartialSorter() {}
+
+	/**
+	 * The number of elements, which are processed by one parallel task.
+	 */
+	public static final int CHUNK_SIZE = 1 << 14;
+
+	/**
+	 * The minimal array length, where the selection is performed in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 4*CHUNK_SIZE;
+
+	/**
+	 * Return the indexes of the {@code k} smallest array elements, in
+	 * ascending order. If {@code k} is greater or equal than the array
+	 * {@code length}, the result is equal to the result of a stable
+	 * {@link ProxySorter#sort(Object, int, Comparator)}.
+	 *
+	 * @param array the array which is partially sorted
+	 * @param length the array length
+	 * @param k the number of smallest elements to determine
+	 * @param comparator the array element comparator
+	 * @param <T> the array type
+	 * @return the sorted indexes of the {@code k} smallest elements, with
+	 *         length {@code min(k, length)}
+	 * @throws NullPointerException if the array or comparator is {@code null}
+	 * @throws IllegalArgumentException if {@code length} or {@code k} is
+	 *         negative
+	 */
+	public static <T> int[] sort(
+		final T array,
+		final int length,
+		final int k,
+		final Comparator<? super T> comparator
+	) {
+		requireNonNull(array);
+		requireNonNull(comparator);
+		if (length < 0 || k < 0) {
+			throw new IllegalArgumentException(format(
+				"Length and k must not be negative: [length=%d, k=%d].",
+				length, k
+			));
+		}
+
+		final int[] result;
+		if (k >= length) {
+			result = ProxySorter.sort(array, length, comparator);
+		} else if (k == 0) {
+			result = new int[0];
+		} else {
+			final IntComparator cmp = (i, j) -> {
+				final int c = comparator.compare(array, i, j);
+				return c != 0 ? c : Integer.compare(i, j);
+			};
+
+			final int[] candidates = length >= PARALLEL_THRESHOLD &&
+				k <= CHUNK_SIZE/4
+				? candidates(length, k, cmp)
+				: indexes(0, length);
+
+			select(candidates, 0, candidates.length, k, cmp);
+			result = sorted(candidates, k, cmp);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Determines the {@code k} smallest elements of every chunk in parallel
+	 * and returns the concatenated chunk results. The {@code k} smallest
+	 * elements of the whole array are contained in the returned candidates.
+	 */
+	private static int[] candidates(
+		final int length,
+		final int k,
+		final IntComparator cmp
+	) {
+		final int chunks = (length + CHUNK_SIZE - 1)/CHUNK_SIZE;
+		final int[][] selected = new int[chunks][];
+
+		ParallelSampler.execute(chunks, chunk -> {
+			final int start = chunk*CHUNK_SIZE;
+			final int end = min(start + CHUNK_SIZE, length);
+			final int[] indexes = indexes(start, end);
+
+			final int n = min(k, indexes.length);
+			select(indexes, 0, indexes.length, n, cmp);
+			selected[chunk] = copyOf(indexes, n);
+		});
+
+		int size = 0;
+		for (int[] indexes : selected) {
+			size += indexes.length;
+		}
+
+		final int[] result = new int[size];
+		int offset = 0;
+		for (int[] indexes : selected) {
+			System.arraycopy(indexes, 0, result, offset, indexes.length);
+			offset += indexes.length;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Rearranges the {@code indexes} in the range {@code [from, to)}, so that
+	 * the first {@code k} elements of the range are the smallest ones. The
+	 * given comparator must impose a total order, which is the case, if
+	 * equal elements are ordered by its index.
+	 */
+	private static void select(
+		final int[] indexes,
+		final int from,
+		final int to,
+		final int k,
+		final IntComparator cmp
+	) {
+		final int nth = from + k - 1;
+		int lo = from;
+		int hi = to;
+
+		// Fall back to sorting the remaining range, if the quickselect
+		// degenerates for badly chosen pivots.
+		int depth = 2*(32 - Integer.numberOfLeadingZeros(to - from));
+
+		while (hi - lo > 1) {
+			if (depth-- == 0) {
+				final int[] sorted = sorted(
+					copyOfRange(indexes, lo, hi),
+					hi - lo,
+					cmp
+				);
+				System.arraycopy(sorted, 0, indexes, lo, sorted.length);
+				return;
+			}
+
+			final int p = partition(indexes, lo, hi, cmp);
+			if (p == nth) {
+				return;
+			} else if (p < nth) {
+				lo = p + 1;
+			} else {
+				hi = p;
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range {@code [lo, hi)} around a median-of-three pivot
+	 * and returns the final position of the pivot element.
+	 */
+	private static int partition(
+		final int[] indexes,
+		final int lo,
+		final int hi,
+		final IntComparator cmp
+	) {
+		final int last = hi - 1;
+		final int mid = lo + (hi - lo)/2;
+
+		// Median-of-three pivot, moved to the last range position.
+		if (cmp.compare(indexes[mid], indexes[lo]) < 0) swap(indexes, mid, lo);
+		if (cmp.compare(indexes[last], indexes[lo]) < 0) swap(indexes, last, lo);
+		if (cmp.compare(indexes[mid], indexes[last]) < 0) swap(indexes, mid, last);
+
+		final int pivot = indexes[last];
+		int store = lo;
+		for (int i = lo; i < last; ++i) {
+			if (cmp.compare(indexes[i], pivot) < 0) {
+				swap(indexes, i, store++);
+			}
+		}
+		swap(indexes, store, last);
+
+		return store;
+	}
+
+	/**
+	 * Returns the first {@code k} elements of the given {@code indexes} array,
+	 * sorted according to the given comparator.
+	 */
+	private static int[] sorted(
+		final int[] indexes,
+		final int k,
+		final IntComparator cmp
+	) {
+		final int[] proxy = ProxySorter.sort(
+			indexes, k,
+			(a, i, j) -> cmp.compare(a[i], a[j])
+		);
+
+		final int[] result = new int[k];
+		for (int i = 0; i < k; ++i) {
+			result[i] = indexes[proxy[i]];
+		}
+		return result;
+	}
+
+	private static int[] indexes(final int from, final int to) {
+		final int[] indexes = new int[to - from];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = from + i;
+		}
+		return indexes;
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitFlipMutatorTest {
+
+	@Test(dataProvider = "probabilities")
+	public void mutateBitChromosome(final double p) {
+		final var random = new Random(1234);
+		final var chromosome = BitChromosome.of(10_000, 0.5);
+
+		final var result = new BitFlipMutator<Integer>()
+			.mutate(chromosome, p, random);
+		final var mutated = (BitChromosome)result.result();
+
+		// Every mutation flips exactly one bit.
+		Assert.assertEquals(
+			mutated.xor(chromosome).bitCount(),
+			result.mutations()
+		);
+		Assert.assertEquals(mutated.oneProbability(), chromosome.oneProbability());
+
+		final double sigma = Math.sqrt(chromosome.length()*p*(1 - p));
+		Assert.assertEquals(
+			result.mutations(),
+			chromosome.length()*p,
+			5*sigma + 1
+		);
+	}
+
+	@DataProvider
+	public Object[][] probabilities() {
+		return new Object[][] {{0.0}, {0.001}, {0.01}, {0.2}, {0.5}, {1.0}};
+	}
+
+	@Test
+	public void mutateGenericChromosome() {
+		final var random = new Random(1234);
+		final var genes = ISeq.of(BitChromosome.of(1000, 0.5));
+		final Chromosome<BitGene> chromosome = new GenericBitChromosome(genes);
+
+		final var result = new BitFlipMutator<Integer>()
+			.mutate(chromosome, 0.1, random);
+		final var mutated = result.result();
+
+		int flips = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			if (mutated.get(i) != chromosome.get(i)) {
+				++flips;
+			}
+		}
+		Assert.assertEquals(flips, result.mutations());
+	}
+
+	@Test
+	public void evolve() {
+		final var engine = Engine
+			.builder(
+				gt -> gt.chromosome().as(BitChromosome.class).bitCount(),
+				BitChromosome.of(500, 0.5))
+			.alterers(new BitFlipMutator<>(0.01))
+			.build();
+
+		final var best = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestPhenotype());
+		Assert.assertTrue(best.fitness() > 250);
+	}
+
+	private record GenericBitChromosome(ISeq<BitGene> genes)
+		implements Chromosome<BitGene>
+	{
+		@Override
+		public BitGene get(final int index) {
+			return genes.get(index);
+		}
+		@Override
+		public int length() {
+			return genes.length();
+		}
+		@Override
+		public Chromosome<BitGene> newInstance(final ISeq<BitGene> genes) {
+			return new GenericBitChromosome(genes);
+		}
+		@Override
+		public Chromosome<BitGene> newInstance() {
+			return new GenericBitChromosome(genes.map(BitGene::newInstance));
+		}
+	}
+
+}
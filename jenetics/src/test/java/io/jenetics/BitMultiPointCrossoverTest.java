@@ -0,0 +1,94 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.internal.collection.BitArray;
+import io.jenetics.internal.math.Subset;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitMultiPointCrossoverTest {
+
+	@Test(dataProvider = "parameters")
+	public void crossoverEqualsMultiPointCrossover(final int length, final int n) {
+		final var a = BitChromosome.of(length, 0.5);
+		final var b = BitChromosome.of(length, 0.5);
+
+		final var bitsA = a.toBitArray();
+		final var bitsB = b.toBitArray();
+		new BitMultiPointCrossover<Integer>(0.5, n)
+			.crossover(bitsA, bitsB, new Random(length + n));
+
+		final MSeq<BitGene> genesA = MSeq.of(a);
+		final MSeq<BitGene> genesB = MSeq.of(b);
+		final int[] points = Subset.next(
+			length, Math.min(length, n), new Random(length + n)
+		);
+		MultiPointCrossover.crossover(genesA, genesB, points);
+
+		Assert.assertEquals(a.newInstance(bitsA), a.newInstance(genesA.toISeq()));
+		Assert.assertEquals(b.newInstance(bitsB), b.newInstance(genesB.toISeq()));
+	}
+
+	@DataProvider
+	public Object[][] parameters() {
+		return new Object[][] {
+			{1, 1}, {10, 1}, {10, 2}, {10, 3}, {10, 20},
+			{100, 1}, {100, 2}, {100, 5}, {1000, 2}, {1000, 7}
+		};
+	}
+
+	@Test
+	public void crossoverDifferentLength() {
+		final var a = BitArray.ofLength(200, 0.5, new Random(1));
+		final var b = BitArray.ofLength(70, 0.5, new Random(2));
+		final var x = a.copy();
+		final var y = b.copy();
+
+		new BitMultiPointCrossover<Integer>(0.5, 3)
+			.crossover(x, y, new Random(3));
+
+		Assert.assertEquals(x.length(), a.length());
+		Assert.assertEquals(y.length(), b.length());
+		for (int i = b.length(); i < a.length(); ++i) {
+			Assert.assertEquals(x.get(i), a.get(i));
+		}
+		for (int i = 0; i < b.length(); ++i) {
+			Assert.assertTrue(
+				x.get(i) == a.get(i) && y.get(i) == b.get(i) ||
+				x.get(i) == b.get(i) && y.get(i) == a.get(i)
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroCrossoverPoints() {
+		new BitMultiPointCrossover<Integer>(0.5, 0);
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitUniformCrossoverTest {
+
+	@Test(dataProvider = "swapProbabilities")
+	public void crossover(final double p) {
+		final int length = 10_000;
+		final var a = BitChromosome.of(length, 0.5).toBitArray();
+		final var b = BitChromosome.of(length, 0.5).toBitArray();
+		final var x = a.copy();
+		final var y = b.copy();
+
+		new BitUniformCrossover<Integer>(0.5, p)
+			.crossover(x, y, new Random(1234));
+
+		int swapped = 0;
+		int different = 0;
+		for (int i = 0; i < length; ++i) {
+			// The bits are either kept or swapped.
+			Assert.assertTrue(
+				x.get(i) == a.get(i) && y.get(i) == b.get(i) ||
+				x.get(i) == b.get(i) && y.get(i) == a.get(i)
+			);
+			if (a.get(i) != b.get(i)) {
+				++different;
+				if (x.get(i) != a.get(i)) {
+					++swapped;
+				}
+			}
+		}
+
+		final double sigma = Math.sqrt(different*p*(1 - p));
+		Assert.assertEquals(swapped, different*p, 5*sigma + 1);
+	}
+
+	@DataProvider
+	public Object[][] swapProbabilities() {
+		return new Object[][] {{0.0}, {0.01}, {0.05}, {0.3}, {0.5}, {1.0}};
+	}
+
+	@Test
+	public void evolve() {
+		final var engine = Engine
+			.builder(
+				gt -> gt.chromosome().as(BitChromosome.class).bitCount(),
+				BitChromosome.of(500, 0.5))
+			.alterers(
+				new BitUniformCrossover<>(0.2),
+				new BitMultiPointCrossover<>(0.2),
+				new BitFlipMutator<>(0.01))
+			.build();
+
+		final var best = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestPhenotype());
+		Assert.assertTrue(best.fitness() > 250);
+		Assert.assertEquals(best.genotype().chromosome().length(), 500);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSwapProbability() {
+		new BitUniformCrossover<Integer>(0.5, 1.5);
+	}
+
+}
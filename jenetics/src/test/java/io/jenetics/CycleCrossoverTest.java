@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.TestUtils.isPermutation;
+import static io.jenetics.TestUtils.shuffled;
+import static io.jenetics.util.factories.Int;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CycleCrossoverTest {
+
+	@Test
+	public void crossoverExample() {
+		final int[] that = {1, 2, 3, 4, 5, 6, 7, 8};
+		final int[] other = {8, 5, 2, 1, 3, 6, 4, 7};
+
+		CycleCrossover.crossover(that, other, 9);
+
+		Assert.assertEquals(that, new int[]{1, 5, 2, 4, 3, 6, 7, 8});
+		Assert.assertEquals(other, new int[]{8, 2, 3, 1, 5, 6, 4, 7});
+	}
+
+	@Test(invocationCount = 20)
+	public void crossoverKeepsPositions() {
+		final RandomGenerator random = RandomRegistry.random();
+		final int length = 50;
+		final int[] that = shuffled(length, random);
+		final int[] other = shuffled(length, random);
+		final int[] thatCopy = that.clone();
+		final int[] otherCopy = other.clone();
+
+		CycleCrossover.crossover(that, other, length);
+
+		Assert.assertTrue(isPermutation(that), Arrays.toString(that));
+		Assert.assertTrue(isPermutation(other), Arrays.toString(other));
+		for (int i = 0; i < length; ++i) {
+			Assert.assertTrue(that[i] == thatCopy[i] || that[i] == otherCopy[i]);
+			Assert.assertEquals(that[i] + other[i], thatCopy[i] + otherCopy[i]);
+		}
+	}
+
+	@Test(invocationCount = 10)
+	public void crossover() {
+		final CycleCrossover<Integer, Double> crossover = new CycleCrossover<>(1);
+
+		final int length = 1000;
+		final ISeq<Integer> alleles = MSeq.<Integer>ofLength(length)
+			.fill(Int()).toISeq();
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		that.shuffle();
+		other.shuffle();
+
+		final PermutationChromosome<Integer> thatChrom1 = new PermutationChromosome<>(that.toISeq());
+		final PermutationChromosome<Integer> otherChrom1 = new PermutationChromosome<>(other.toISeq());
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid: " + thatChrom2);
+
+		final PermutationChromosome<Integer> otherChrom2 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid: " + otherChrom2);
+
+		Assert.assertNotEquals(thatChrom2, thatChrom1);
+		Assert.assertNotEquals(otherChrom2, otherChrom1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void crossoverWithDifferentLength() {
+		final ISeq<Integer> alleles = ISeq.of(0, 1, 2, 3, 4, 5);
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = that.subSeq(1).copy();
+
+		new CycleCrossover<Integer, Double>(1).crossover(that, other);
+	}
+
+}
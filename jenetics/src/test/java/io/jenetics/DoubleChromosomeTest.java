@@ -162,4 +162,36 @@ public class DoubleChromosomeTest
 		ch.map(v -> new double[0]);
 	}
 
+	@Test
+	public void toArrayIsCopy() {
+		final var ch = DoubleChromosome.of(0, 10, 100);
+		final double[] values = ch.toArray();
+		values[0] = values[0] + 1;
+
+		Assert.assertNotEquals(ch.doubleValue(0), values[0]);
+		Assert.assertEquals(ch.toArray(), ch.toArray());
+	}
+
+	@Test
+	public void equalsGeneSeq() {
+		final var ch1 = DoubleChromosome.of(0, 10, 100);
+		final var ch2 = DoubleChromosome.of(ISeq.of(ch1));
+
+		Assert.assertEquals(ch2, ch1);
+		Assert.assertEquals(ch2.hashCode(), ch1.hashCode());
+		Assert.assertEquals(ch2.toArray(), ch1.toArray());
+	}
+
+	@Test
+	public void newInstanceWithDifferentGeneRanges() {
+		final var ch = DoubleChromosome.of(0, 10, 2).newInstance(ISeq.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(15, 0, 20)
+		));
+
+		Assert.assertEquals(ch.get(1), DoubleGene.of(15, 0, 20));
+		Assert.assertEquals(ch.doubleValue(1), ch.get(1).doubleValue());
+		Assert.assertTrue(ch.isValid());
+	}
+
 }
@@ -0,0 +1,147 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.TestUtils.isPermutation;
+import static io.jenetics.TestUtils.shuffled;
+import static io.jenetics.util.factories.Int;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EdgeRecombinationCrossoverTest {
+
+	@Test(invocationCount = 20)
+	public void recombineKeepsEdges() {
+		final RandomGenerator random = RandomRegistry.random();
+		final int length = 50;
+		final int[] that = shuffled(length, random);
+		final int[] other = that.clone();
+		InversionMutator.reverse(other, 10, 30);
+
+		final int[] child = EdgeRecombinationCrossover
+			.recombine(that, other, length, random);
+
+		Assert.assertTrue(isPermutation(child), Arrays.toString(child));
+		Assert.assertEquals(child[0], that[0]);
+		Assert.assertTrue(
+			edges(child, that, other) >= length - 1,
+			"Too many new edges: " + Arrays.toString(child)
+		);
+	}
+
+	@Test
+	public void recombineIdenticalParents() {
+		final int[] that = {3, 1, 4, 0, 2, 5};
+		final int[] child = EdgeRecombinationCrossover
+			.recombine(that, that.clone(), 6, RandomRegistry.random());
+
+		final int[] reversed = {3, 5, 2, 0, 4, 1};
+		Assert.assertTrue(
+			Arrays.equals(child, that) || Arrays.equals(child, reversed),
+			Arrays.toString(child)
+		);
+	}
+
+	@Test
+	public void recombineDifferentSubsets() {
+		final int[] that = {0, 2, 4, 6, 8};
+		final int[] other = {1, 3, 4, 2, 9};
+
+		final int[] child = EdgeRecombinationCrossover
+			.recombine(that, other, 10, RandomRegistry.random());
+
+		final int[] sorted = child.clone();
+		Arrays.sort(sorted);
+		Assert.assertEquals(sorted, that);
+	}
+
+	// Counts the edges of the child, which are edges of one of the parents.
+	private static int edges(final int[] child, final int[] a, final int[] b) {
+		int count = 0;
+		for (int i = 0; i < child.length; ++i) {
+			final int p = child[i];
+			final int q = child[(i + 1)%child.length];
+			if (isEdge(a, p, q) || isEdge(b, p, q)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private static boolean isEdge(final int[] route, final int p, final int q) {
+		for (int i = 0; i < route.length; ++i) {
+			final int next = route[(i + 1)%route.length];
+			if (route[i] == p && next == q || route[i] == q && next == p) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	@Test(invocationCount = 10)
+	public void crossover() {
+		final EdgeRecombinationCrossover<Integer, Double> crossover = new EdgeRecombinationCrossover<>(1);
+
+		final int length = 1000;
+		final ISeq<Integer> alleles = MSeq.<Integer>ofLength(length)
+			.fill(Int()).toISeq();
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		that.shuffle();
+		other.shuffle();
+
+		final PermutationChromosome<Integer> thatChrom1 = new PermutationChromosome<>(that.toISeq());
+		final PermutationChromosome<Integer> otherChrom1 = new PermutationChromosome<>(other.toISeq());
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid: " + thatChrom2);
+
+		final PermutationChromosome<Integer> otherChrom2 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid: " + otherChrom2);
+
+		Assert.assertNotEquals(thatChrom2, thatChrom1);
+		Assert.assertNotEquals(otherChrom2, otherChrom1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void crossoverWithDifferentLength() {
+		final ISeq<Integer> alleles = ISeq.of(0, 1, 2, 3, 4, 5);
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = that.subSeq(1).copy();
+
+		new EdgeRecombinationCrossover<Integer, Double>(1).crossover(that, other);
+	}
+
+}
@@ -159,4 +159,36 @@ public class IntegerChromosomeTest
 		ch.map(v -> new int[0]);
 	}
 
+	@Test
+	public void toArrayIsCopy() {
+		final var ch = IntegerChromosome.of(0, 10, 100);
+		final int[] values = ch.toArray();
+		values[0] = values[0] + 1;
+
+		Assert.assertNotEquals(ch.intValue(0), values[0]);
+		Assert.assertEquals(ch.toArray(), ch.toArray());
+	}
+
+	@Test
+	public void equalsGeneSeq() {
+		final var ch1 = IntegerChromosome.of(0, 10, 100);
+		final var ch2 = IntegerChromosome.of(ISeq.of(ch1));
+
+		Assert.assertEquals(ch2, ch1);
+		Assert.assertEquals(ch2.hashCode(), ch1.hashCode());
+		Assert.assertEquals(ch2.toArray(), ch1.toArray());
+	}
+
+	@Test
+	public void newInstanceWithDifferentGeneRanges() {
+		final var ch = IntegerChromosome.of(0, 10, 2).newInstance(ISeq.of(
+			IntegerGene.of(1, 0, 10),
+			IntegerGene.of(15, 0, 20)
+		));
+
+		Assert.assertEquals(ch.get(1), IntegerGene.of(15, 0, 20));
+		Assert.assertEquals(ch.intValue(1), ch.get(1).intValue());
+		Assert.assertTrue(ch.isValid());
+	}
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class InversionMutatorTest {
+
+	@Test(dataProvider = "segments")
+	public void reverse(final int i, final int j, final int[] expected) {
+		final int[] array = {0, 1, 2, 3, 4, 5};
+		InversionMutator.reverse(array, i, j);
+		Assert.assertEquals(array, expected);
+	}
+
+	@DataProvider(name = "segments")
+	public Object[][] segments() {
+		return new Object[][] {
+			{0, 5, new int[]{5, 4, 3, 2, 1, 0}},
+			{5, 0, new int[]{5, 4, 3, 2, 1, 0}},
+			{1, 3, new int[]{0, 3, 2, 1, 4, 5}},
+			{4, 2, new int[]{0, 1, 4, 3, 2, 5}},
+			{3, 3, new int[]{0, 1, 2, 3, 4, 5}}
+		};
+	}
+
+	@Test(invocationCount = 10)
+	public void mutate() {
+		final PermutationChromosome<Integer> chromosome =
+			PermutationChromosome.ofInteger(100);
+
+		final InversionMutator<Integer, Double> mutator = new InversionMutator<>(0.1);
+		final MutatorResult<Chromosome<EnumGene<Integer>>> result =
+			mutator.mutate(chromosome, 0.1, RandomRegistry.random());
+
+		Assert.assertTrue(result.result().isValid());
+		Assert.assertTrue(result.mutations() > 0);
+		Assert.assertNotEquals(result.result(), chromosome);
+	}
+
+	@Test
+	public void mutateAll() {
+		final PermutationChromosome<Integer> chromosome =
+			PermutationChromosome.ofInteger(20);
+
+		final MutatorResult<Chromosome<EnumGene<Integer>>> result =
+			new InversionMutator<Integer, Double>(1)
+				.mutate(chromosome, 1, RandomRegistry.random());
+
+		Assert.assertTrue(result.result().isValid());
+		Assert.assertEquals(result.mutations(), 20);
+		Assert.assertNotEquals(result.result(), chromosome);
+	}
+
+	@Test
+	public void mutateSingleGene() {
+		final PermutationChromosome<Integer> chromosome =
+			PermutationChromosome.ofInteger(1);
+
+		final MutatorResult<Chromosome<EnumGene<Integer>>> result =
+			new InversionMutator<Integer, Double>(1)
+				.mutate(chromosome, 1, RandomRegistry.random());
+
+		Assert.assertSame(result.result(), chromosome);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
+}
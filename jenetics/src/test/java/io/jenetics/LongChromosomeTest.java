@@ -159,4 +159,36 @@ public class LongChromosomeTest
 		ch.map(v -> new long[0]);
 	}
 
+	@Test
+	public void toArrayIsCopy() {
+		final var ch = LongChromosome.of(0, 10, 100);
+		final long[] values = ch.toArray();
+		values[0] = values[0] + 1;
+
+		Assert.assertNotEquals(ch.longValue(0), values[0]);
+		Assert.assertEquals(ch.toArray(), ch.toArray());
+	}
+
+	@Test
+	public void equalsGeneSeq() {
+		final var ch1 = LongChromosome.of(0, 10, 100);
+		final var ch2 = LongChromosome.of(ISeq.of(ch1));
+
+		Assert.assertEquals(ch2, ch1);
+		Assert.assertEquals(ch2.hashCode(), ch1.hashCode());
+		Assert.assertEquals(ch2.toArray(), ch1.toArray());
+	}
+
+	@Test
+	public void newInstanceWithDifferentGeneRanges() {
+		final var ch = LongChromosome.of(0, 10, 2).newInstance(ISeq.of(
+			LongGene.of(1, 0, 10),
+			LongGene.of(15, 0, 20)
+		));
+
+		Assert.assertEquals(ch.get(1), LongGene.of(15, 0, 20));
+		Assert.assertEquals(ch.longValue(1), ch.get(1).longValue());
+		Assert.assertTrue(ch.isValid());
+	}
+
 }
@@ -19,6 +19,9 @@
  */
 package io.jenetics;
 
+import java.util.Random;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
@@ -32,4 +35,52 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test
+	public void mutateBulkChromosome() {
+		final var chromosome = DoubleChromosome.of(0, 10, 1_000);
+		final var mutator = new Mutator<DoubleGene, Double>(0.1);
+
+		final var result = mutator.mutate(chromosome, 0.1, new Random(123));
+		Assert.assertTrue(result.result() instanceof DoubleChromosome);
+		Assert.assertEquals(result.result().length(), chromosome.length());
+		Assert.assertTrue(result.result().isValid());
+
+		int diff = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			if (!chromosome.get(i).equals(result.result().get(i))) {
+				++diff;
+			}
+		}
+		Assert.assertEquals(diff, result.mutations());
+		Assert.assertTrue(diff > 50 && diff < 150, "Mutations: " + diff);
+	}
+
+	@Test
+	public void mutateChromosome() {
+		final var chromosome = CharacterChromosome.of(1_000);
+		final var mutator = new Mutator<CharacterGene, Double>(0.1);
+
+		final var result = mutator.mutate(chromosome, 0.1, new Random(123));
+		Assert.assertTrue(result.result() instanceof CharacterChromosome);
+		Assert.assertEquals(result.result().length(), chromosome.length());
+
+		int diff = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			if (!chromosome.get(i).equals(result.result().get(i))) {
+				++diff;
+			}
+		}
+		Assert.assertTrue(diff <= result.mutations());
+	}
+
+	@Test
+	public void mutateWithZeroProbability() {
+		final var chromosome = DoubleChromosome.of(0, 10, 100);
+		final var mutator = new Mutator<DoubleGene, Double>(0.1);
+
+		final var result = mutator.mutate(chromosome, 0, new Random(123));
+		Assert.assertSame(result.result(), chromosome);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
 }
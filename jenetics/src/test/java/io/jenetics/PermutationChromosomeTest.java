@@ -142,4 +142,79 @@ public class PermutationChromosomeTest
 		Assert.assertEquals(ch.length(), 10);
 	}
 
+	@Test
+	public void toIntArray() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome
+			.ofInteger(IntRange.of(0, 200), 100);
+
+		final int[] indexes = ch.toIntArray();
+		Assert.assertEquals(indexes.length, ch.length());
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertEquals(indexes[i], ch.get(i).alleleIndex());
+			Assert.assertEquals(
+				ch.validAlleles().get(indexes[i]),
+				ch.get(i).allele()
+			);
+		}
+
+		indexes[0] = indexes[1];
+		Assert.assertEquals(ch.toIntArray()[0], ch.get(0).alleleIndex());
+		Assert.assertTrue(ch.isValid());
+	}
+
+	@Test
+	public void newInstanceFromIndexes() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome.ofInteger(50);
+		final int[] indexes = ch.toIntArray();
+		InversionMutator.reverse(indexes, 0, indexes.length - 1);
+
+		final PermutationChromosome<Integer> reversed = ch.newInstance(indexes);
+		Assert.assertTrue(reversed.isValid());
+		Assert.assertSame(reversed.validAlleles(), ch.validAlleles());
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(reversed.get(i), ch.get(ch.length() - i - 1));
+		}
+	}
+
+	@Test
+	public void equalsGenesChromosome() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome.ofInteger(50);
+		final PermutationChromosome<Integer> copy =
+			new PermutationChromosome<>(MSeq.of(ch).toISeq());
+
+		Assert.assertEquals(copy, ch);
+		Assert.assertEquals(copy.hashCode(), ch.hashCode());
+		Assert.assertEquals(copy.toString(), ch.toString());
+		Assert.assertEquals(MSeq.of(copy), MSeq.of(ch));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentValidAlleles() {
+		final ISeq<EnumGene<Integer>> genes = ISeq.of(
+			EnumGene.of(0, ISeq.of(1, 2, 3)),
+			EnumGene.of(1, ISeq.of(4, 5, 6))
+		);
+
+		new PermutationChromosome<>(genes);
+	}
+
+	@Test
+	public void isValidReusesBits() {
+		final ISeq<Integer> alleles = IntStream.range(0, 1000)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		for (int i = 0; i < 100; ++i) {
+			final PermutationChromosome<Integer> valid =
+				PermutationChromosome.of(alleles, 1 + i%alleles.length());
+			Assert.assertTrue(valid.newInstance(valid.toIntArray()).isValid());
+
+			final int[] indexes = valid.toIntArray();
+			if (indexes.length > 1) {
+				indexes[indexes.length - 1] = indexes[0];
+				Assert.assertFalse(valid.newInstance(indexes).isValid());
+			}
+		}
+	}
+
 }
@@ -0,0 +1,193 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Optional;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.internal.collection.BitArray;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProvenanceTest {
+
+	private static Phenotype<BitGene, Integer> evaluated(final Genotype<BitGene> gt) {
+		return Phenotype.of(gt, 1, gt.chromosome().as(BitChromosome.class).bitCount());
+	}
+
+	@Test
+	public void changes() {
+		final Genotype<BitGene> gt = Genotype.of(
+			BitChromosome.of(100, 0.5),
+			BitChromosome.of(50, 0.5)
+		);
+		final Phenotype<BitGene, Integer> parent = evaluated(gt);
+
+		final BitChromosome ch = gt.get(0).as(BitChromosome.class);
+		final BitArray bits = ch.toBitArray();
+		bits.flip(3);
+		bits.flip(42);
+		bits.flip(99);
+		final Genotype<BitGene> offspring = Genotype.of(
+			ch.newInstance(bits),
+			gt.get(1)
+		);
+
+		final Phenotype<BitGene, Integer> pt = Phenotype
+			.<BitGene, Integer>of(offspring, 2)
+			.derivedFrom(parent);
+
+		final Provenance<BitGene, Integer> provenance = pt.provenance().orElseThrow();
+		Assert.assertSame(provenance.parent(), parent);
+		Assert.assertEquals(provenance.fitness(), parent.fitness());
+		Assert.assertEquals(provenance.changes(0), new int[]{3, 42, 99});
+		Assert.assertEquals(provenance.changes(1), new int[0]);
+		Assert.assertTrue(provenance.isChanged(0));
+		Assert.assertFalse(provenance.isChanged(1));
+		Assert.assertEquals(provenance.changes(), 3);
+	}
+
+	@Test
+	public void permutationChanges() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome.ofInteger(20);
+		final Phenotype<EnumGene<Integer>, Integer> parent =
+			Phenotype.of(Genotype.of(ch), 1, 0);
+
+		final int[] indexes = ch.toIntArray();
+		final int temp = indexes[5];
+		indexes[5] = indexes[17];
+		indexes[17] = temp;
+
+		final Phenotype<EnumGene<Integer>, Integer> pt = Phenotype
+			.<EnumGene<Integer>, Integer>of(Genotype.of(ch.newInstance(indexes)), 2)
+			.derivedFrom(parent);
+
+		Assert.assertEquals(pt.provenance().orElseThrow().changes(0), new int[]{5, 17});
+	}
+
+	@Test
+	public void changedLength() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1, 5));
+		final Phenotype<DoubleGene, Double> parent = Phenotype.of(gt, 1, 1.0);
+
+		final Phenotype<DoubleGene, Double> pt = Phenotype
+			.<DoubleGene, Double>of(Genotype.of(DoubleChromosome.of(0, 1, 3)), 2)
+			.derivedFrom(parent);
+
+		Assert.assertEquals(pt.provenance().orElseThrow().changes(0), new int[]{0, 1, 2});
+	}
+
+	@Test
+	public void derivedFromTransitive() {
+		final Genotype<BitGene> gt = Genotype.of(BitChromosome.of(10, 0.5));
+		final Phenotype<BitGene, Integer> parent = evaluated(gt);
+
+		final Phenotype<BitGene, Integer> child = Phenotype
+			.<BitGene, Integer>of(gt.newInstance(), 2)
+			.derivedFrom(parent);
+		final Phenotype<BitGene, Integer> grandchild = Phenotype
+			.<BitGene, Integer>of(gt.newInstance(), 2)
+			.derivedFrom(child);
+
+		Assert.assertSame(grandchild.provenance().orElseThrow().parent(), parent);
+	}
+
+	@Test
+	public void derivedFromWithoutEvaluatedParent() {
+		final Genotype<BitGene> gt = Genotype.of(BitChromosome.of(10, 0.5));
+		final Phenotype<BitGene, Integer> parent = Phenotype.of(gt, 1);
+		final Phenotype<BitGene, Integer> pt = Phenotype.of(gt.newInstance(), 1);
+
+		Assert.assertSame(pt.derivedFrom(parent), pt);
+		Assert.assertEquals(pt.provenance(), Optional.empty());
+	}
+
+	@Test
+	public void evaluatedDropsProvenance() {
+		final Genotype<BitGene> gt = Genotype.of(BitChromosome.of(10, 0.5));
+		final Phenotype<BitGene, Integer> pt = Phenotype
+			.<BitGene, Integer>of(gt.newInstance(), 2)
+			.derivedFrom(evaluated(gt));
+
+		Assert.assertTrue(pt.provenance().isPresent());
+		Assert.assertEquals(pt, Phenotype.of(pt.genotype(), 2));
+		Assert.assertFalse(pt.withFitness(1).provenance().isPresent());
+		Assert.assertSame(evaluated(gt).derivedFrom(pt).provenance(), Optional.empty());
+	}
+
+	@Test
+	public void mutatorRecordsProvenance() {
+		final ISeq<Phenotype<BitGene, Integer>> population =
+			Genotype.of(BitChromosome.of(100, 0.5)).instances()
+				.limit(50)
+				.map(ProvenanceTest::evaluated)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<BitGene, Integer>> altered =
+			new Mutator<BitGene, Integer>(0.5).alter(population, 2).population();
+
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<BitGene, Integer> pt = altered.get(i);
+			if (pt.nonEvaluated()) {
+				final var provenance = pt.provenance().orElseThrow();
+				Assert.assertSame(provenance.parent(), population.get(i));
+				for (int index : provenance.changes(0)) {
+					Assert.assertNotEquals(
+						pt.genotype().get(0).get(index),
+						population.get(i).genotype().get(0).get(index)
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void crossoverRecordsProvenance() {
+		final ISeq<Phenotype<BitGene, Integer>> population =
+			Genotype.of(BitChromosome.of(100, 0.5)).instances()
+				.limit(50)
+				.map(ProvenanceTest::evaluated)
+				.collect(ISeq.toISeq());
+
+		final MSeq<Phenotype<BitGene, Integer>> altered = MSeq.of(
+			new SinglePointCrossover<BitGene, Integer>(0.5)
+				.alter(population, 2)
+				.population()
+		);
+
+		int recombined = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			if (altered.get(i) != population.get(i)) {
+				++recombined;
+				Assert.assertSame(
+					altered.get(i).provenance().orElseThrow().parent(),
+					population.get(i)
+				);
+			}
+		}
+		Assert.assertTrue(recombined > 0);
+	}
+
+}
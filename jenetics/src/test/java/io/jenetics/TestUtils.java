@@ -19,8 +19,10 @@
  */
 package io.jenetics;
 
+import java.util.Arrays;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
@@ -240,4 +242,36 @@ class TestUtils {
 		return newDoublePopulation(length, 0, 10);
 	}
 
+	/**
+	 * Tests whether the given {@code array} is a permutation of the values
+	 * {@code [0, array.length)}.
+	 */
+	public static boolean isPermutation(final int[] array) {
+		final int[] sorted = array.clone();
+		Arrays.sort(sorted);
+		for (int i = 0; i < sorted.length; ++i) {
+			if (sorted[i] != i) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return a random permutation of the values {@code [0, length)}.
+	 */
+	public static int[] shuffled(final int length, final RandomGenerator random) {
+		final int[] array = new int[length];
+		for (int i = 0; i < length; ++i) {
+			array[i] = i;
+		}
+		for (int i = length; --i > 0;) {
+			final int j = random.nextInt(i + 1);
+			final int temp = array[i];
+			array[i] = array[j];
+			array[j] = temp;
+		}
+		return array;
+	}
+
 }
@@ -22,18 +22,23 @@ package io.jenetics;
 import static java.lang.String.format;
 import static io.jenetics.stat.StatisticsAssert.assertDistribution;
 import static io.jenetics.util.RandomRegistry.using;
+import static io.jenetics.util.RandomRegistry.with;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGeneratorFactory;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.util.Named;
+import io.jenetics.internal.util.ParallelSampler;
 import io.jenetics.stat.Histogram;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.TestData;
 
 /**
@@ -48,6 +53,33 @@ public class TournamentSelectorTest
 		return () -> new TournamentSelector<>(3);
 	}
 
+	@Test
+	public void parallelSelectionIsReproducible() {
+		final var factory = RandomGeneratorFactory.of("L64X256MixRandom");
+		final var population = IntStream.range(0, 1000)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				(double)i
+			))
+			.collect(ISeq.toISeq());
+
+		final int count = 4*ParallelSampler.PARALLEL_THRESHOLD;
+		final var selector = new TournamentSelector<DoubleGene, Double>(3);
+
+		final var selection1 = with(
+			factory.create(42),
+			r -> selector.select(population, count, Optimize.MAXIMUM)
+		);
+		final var selection2 = with(
+			factory.create(42),
+			r -> selector.select(population, count, Optimize.MAXIMUM)
+		);
+
+		Assert.assertEquals(selection1.size(), count);
+		Assert.assertEquals(selection1, selection2);
+	}
+
 	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
 	public void selectDistribution(
 		final Integer tournamentSize,
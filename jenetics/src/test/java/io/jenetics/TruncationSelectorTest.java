@@ -25,6 +25,8 @@ import static io.jenetics.util.RandomRegistry.using;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -74,6 +76,45 @@ public class TruncationSelectorTest
 		}
 	}
 
+	@Test(dataProvider = "selectionSizes")
+	public void selectBestInSortOrder(final int n, final int count, final Optimize opt) {
+		final var random = new Random(count);
+		final ISeq<Phenotype<DoubleGene, Integer>> population = IntStream.range(0, 1000)
+			.mapToObj(i -> {
+				final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+				return Phenotype.of(gt, 1, random.nextInt(50));
+			})
+			.collect(ISeq.toISeq());
+
+		// Reference selection, which sorts the whole population (stable).
+		final MSeq<Phenotype<DoubleGene, Integer>> sorted = population.copy();
+		sorted.sort((a, b) -> opt.<Integer>descending().compare(a.fitness(), b.fitness()));
+		final int k = Math.min(Math.min(n, count), population.size());
+		final ISeq<Phenotype<DoubleGene, Integer>> expected = IntStream.range(0, count)
+			.mapToObj(i -> sorted.get(i%k))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Integer>> selected =
+			new TruncationSelector<DoubleGene, Integer>(n)
+				.select(population, count, opt);
+
+		Assert.assertEquals(selected, expected);
+	}
+
+	@DataProvider(name = "selectionSizes")
+	public Object[][] selectionSizes() {
+		return Arrays.stream(Optimize.values())
+			.flatMap(opt -> Stream.of(
+				new Object[]{Integer.MAX_VALUE, 1, opt},
+				new Object[]{Integer.MAX_VALUE, 20, opt},
+				new Object[]{Integer.MAX_VALUE, 1000, opt},
+				new Object[]{Integer.MAX_VALUE, 2500, opt},
+				new Object[]{5, 20, opt},
+				new Object[]{50, 10, opt}
+			))
+			.toArray(Object[][]::new);
+	}
+
 	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
 	public void selectDistribution(final Named<double[]> expected, final Optimize opt) {
 		retry(3, () -> {
@@ -0,0 +1,93 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.abs;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TwoOptMutatorTest {
+
+	// Points on a line, where the optimal route visits the points in order.
+	private static double distance(final Integer a, final Integer b) {
+		return abs(a - b);
+	}
+
+	private static double length(final Chromosome<EnumGene<Integer>> route) {
+		double length = 0;
+		for (int i = 0; i < route.length(); ++i) {
+			length += distance(
+				route.get(i).allele(),
+				route.get((i + 1)%route.length()).allele()
+			);
+		}
+		return length;
+	}
+
+	@Test(invocationCount = 10)
+	public void mutateNeverIncreasesLength() {
+		final PermutationChromosome<Integer> chromosome =
+			PermutationChromosome.ofInteger(100);
+
+		final TwoOptMutator<Integer, Double> mutator =
+			new TwoOptMutator<>(0.1, TwoOptMutatorTest::distance);
+		final MutatorResult<Chromosome<EnumGene<Integer>>> result =
+			mutator.mutate(chromosome, 0.1, RandomRegistry.random());
+
+		Assert.assertTrue(result.result().isValid());
+		Assert.assertTrue(result.mutations() > 0);
+		Assert.assertTrue(length(result.result()) < length(chromosome));
+	}
+
+	@Test
+	public void mutateToOptimum() {
+		Chromosome<EnumGene<Integer>> route = PermutationChromosome.ofInteger(30);
+		final TwoOptMutator<Integer, Double> mutator =
+			new TwoOptMutator<>(1, TwoOptMutatorTest::distance);
+
+		for (int i = 0; i < 100; ++i) {
+			route = mutator.mutate(route, 1, RandomRegistry.random()).result();
+		}
+
+		Assert.assertEquals(length(route), 2.0*29);
+	}
+
+	@Test
+	public void mutateOptimalRoute() {
+		final ISeq<Integer> alleles = ISeq.of(0, 1, 2, 3, 4, 5, 6, 7);
+		final PermutationChromosome<Integer> chromosome =
+			new PermutationChromosome<>(alleles.map(i -> new EnumGene<>(i, alleles)));
+
+		final MutatorResult<Chromosome<EnumGene<Integer>>> result =
+			new TwoOptMutator<Integer, Double>(1, TwoOptMutatorTest::distance)
+				.mutate(chromosome, 1, RandomRegistry.random());
+
+		Assert.assertSame(result.result(), chromosome);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
+}
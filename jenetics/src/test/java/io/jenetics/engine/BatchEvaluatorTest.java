@@ -0,0 +1,223 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BatchEvaluatorTest {
+
+	private static final Codec<double[], DoubleGene> CODEC =
+		Codecs.ofVector(DoubleRange.of(-5, 5), 3);
+
+	private static double fitness(final double[] x) {
+		double sum = 0;
+		for (double v : x) {
+			sum += v*v;
+		}
+		return sum;
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return CODEC.encoding().instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		Evaluators.<DoubleGene, Double>batched(
+			gts -> gts.map(gt -> 0.0),
+			0,
+			Runnable::run
+		);
+	}
+
+	@Test(dataProvider = "batchSizes")
+	public void eval(final int populationSize, final int batchSize) {
+		final List<Integer> batches = new CopyOnWriteArrayList<>();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.batched(
+			(Seq<double[]> xs) -> {
+				batches.add(xs.length());
+				return xs.map(BatchEvaluatorTest::fitness);
+			},
+			CODEC,
+			batchSize,
+			ForkJoinPool.commonPool()
+		);
+
+		final var population = population(populationSize);
+		final var evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(evaluated.length(), population.length());
+		for (int i = 0; i < population.length(); ++i) {
+			final var pt = evaluated.get(i);
+			Assert.assertEquals(pt.genotype(), population.get(i).genotype());
+			Assert.assertEquals(
+				pt.fitness().doubleValue(),
+				fitness(CODEC.decode(pt.genotype()))
+			);
+		}
+
+		Assert.assertEquals(
+			batches.stream().mapToInt(Integer::intValue).sum(),
+			populationSize
+		);
+		Assert.assertEquals(
+			batches.size(),
+			(populationSize + batchSize - 1)/batchSize
+		);
+		Assert.assertTrue(batches.stream().allMatch(b -> b <= batchSize));
+	}
+
+	@DataProvider
+	public Object[][] batchSizes() {
+		return new Object[][] {
+			{0, 10},
+			{1, 10},
+			{10, 1},
+			{10, 10},
+			{100, 7},
+			{100, 32},
+			{1000, 64}
+		};
+	}
+
+	@Test
+	public void evalOnlyNonEvaluated() {
+		final List<Integer> batches = new CopyOnWriteArrayList<>();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.batched(
+			(Seq<Genotype<DoubleGene>> gts) -> {
+				batches.add(gts.length());
+				return gts.map(gt -> fitness(CODEC.decode(gt)));
+			},
+			4,
+			Runnable::run
+		);
+
+		final var population = population(10).asMSeq();
+		for (int i = 0; i < population.length(); i += 2) {
+			population.set(i, population.get(i).withFitness(-1.0));
+		}
+
+		final var evaluated = evaluator.eval(population);
+		Assert.assertEquals(batches, List.of(4, 1));
+		for (int i = 0; i < evaluated.length(); ++i) {
+			Assert.assertEquals(
+				evaluated.get(i).fitness().doubleValue(),
+				i%2 == 0 ? -1.0 : fitness(CODEC.decode(evaluated.get(i).genotype()))
+			);
+		}
+	}
+
+	@Test
+	public void vectorized() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Evaluator<DoubleGene, Double> evaluator = Evaluators.vectorized(
+				xs -> {
+					final double[] result = new double[xs.length];
+					for (int i = 0; i < xs.length; ++i) {
+						result[i] = fitness(xs[i]);
+					}
+					return result;
+				},
+				CODEC,
+				16,
+				executor
+			);
+
+			final var evaluated = evaluator.eval(population(100));
+			for (var pt : evaluated) {
+				Assert.assertEquals(
+					pt.fitness().doubleValue(),
+					fitness(CODEC.decode(pt.genotype()))
+				);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void invalidFitnessLength() {
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.vectorized(
+			xs -> new double[xs.length - 1],
+			CODEC,
+			8,
+			Runnable::run
+		);
+
+		evaluator.eval(population(20));
+	}
+
+	@Test
+	public void engine() {
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+			Evaluators.vectorized(
+				xs -> {
+					final double[] result = new double[xs.length];
+					for (int i = 0; i < xs.length; ++i) {
+						result[i] = fitness(xs[i]);
+					}
+					return result;
+				},
+				CODEC,
+				10,
+				Runnable::run
+			),
+			CODEC.encoding()
+		)
+			.minimizing()
+			.populationSize(50)
+			.build();
+
+		final var result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.population().length(), 50);
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(
+			result.bestFitness().doubleValue(),
+			fitness(CODEC.decode(result.bestPhenotype().genotype()))
+		);
+	}
+
+}
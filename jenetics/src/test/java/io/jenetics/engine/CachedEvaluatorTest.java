@@ -0,0 +1,177 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CachedEvaluatorTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	population(final int size, final int distinct) {
+		final ISeq<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 10)).instances()
+				.limit(distinct)
+				.collect(ISeq.toISeq());
+
+		return IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(genotypes.get(i%distinct), 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static Double fitness(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().as(DoubleChromosome.class).doubleStream().sum();
+	}
+
+	@Test
+	public void eval() {
+		final var count = new AtomicInteger();
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>serial(gt -> {
+				count.incrementAndGet();
+				return fitness(gt);
+			}),
+			100
+		);
+
+		final var population = population(100, 50);
+		final var evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(evaluated.length(), population.length());
+		Assert.assertEquals(count.get(), 50);
+		Assert.assertEquals(evaluator.misses(), 50);
+		Assert.assertEquals(evaluator.hits(), 50);
+		Assert.assertEquals(evaluator.size(), 50);
+		for (int i = 0; i < evaluated.length(); ++i) {
+			Assert.assertEquals(evaluated.get(i).genotype(), population.get(i).genotype());
+			Assert.assertEquals(evaluated.get(i).fitness(), fitness(population.get(i).genotype()));
+		}
+
+		// Same genotypes, new phenotypes.
+		final var reevaluated = evaluator.eval(
+			population.map(pt -> Phenotype.<DoubleGene, Double>of(pt.genotype(), 2))
+		);
+		Assert.assertEquals(count.get(), 50);
+		Assert.assertEquals(evaluator.hits(), 150);
+		Assert.assertEquals(reevaluated, evaluated.map(pt -> pt.withGeneration(2)));
+	}
+
+	@Test
+	public void evalEvaluated() {
+		final var count = new AtomicInteger();
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>serial(gt -> {
+				count.incrementAndGet();
+				return fitness(gt);
+			}),
+			100
+		);
+
+		final var population = population(10, 10)
+			.map(pt -> pt.withFitness(-1.0));
+		final var evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(evaluated, population);
+		Assert.assertEquals(count.get(), 0);
+		Assert.assertEquals(evaluator.hits() + evaluator.misses(), 0);
+	}
+
+	@Test
+	public void evictions() {
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>serial(CachedEvaluatorTest::fitness),
+			10
+		);
+
+		evaluator.eval(population(50, 50));
+		Assert.assertEquals(evaluator.size(), 10);
+		Assert.assertEquals(evaluator.misses(), 50);
+		Assert.assertEquals(evaluator.evictions(), 40);
+	}
+
+	@Test
+	public void keyFunction() {
+		final var count = new AtomicInteger();
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>serial(gt -> (double)count.incrementAndGet()),
+			gt -> gt.gene().doubleValue() < 0.5,
+			100
+		);
+
+		evaluator.eval(population(100, 100));
+		Assert.assertTrue(count.get() <= 2);
+		Assert.assertEquals(evaluator.size(), count.get());
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nullKey() {
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>serial(gt -> 1.0),
+			gt -> null,
+			100
+		);
+
+		evaluator.eval(population(10, 10));
+	}
+
+	@Test
+	public void engineExecutor() {
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			Evaluators.<DoubleGene, Double>concurrent(
+				CachedEvaluatorTest::fitness,
+				ForkJoinPool.commonPool()
+			),
+			1_000
+		);
+
+		final var engine = new Engine.Builder<>(
+			evaluator,
+			Genotype.of(DoubleChromosome.of(0, 1, 2))
+		)
+			.executor(Runnable::run)
+			.populationSize(50)
+			.build();
+
+		final var result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.totalGenerations(), 20);
+		Assert.assertTrue(evaluator.misses() >= engine.populationSize());
+		Assert.assertEquals(
+			result.bestFitness(),
+			fitness(result.bestPhenotype().genotype())
+		);
+	}
+
+}
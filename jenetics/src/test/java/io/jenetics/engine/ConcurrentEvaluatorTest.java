@@ -19,13 +19,20 @@
  */
 package io.jenetics.engine;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
 import io.jenetics.DoubleChromosome;
 import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
+import io.jenetics.Mutator;
 import io.jenetics.Phenotype;
+import io.jenetics.SinglePointCrossover;
 import io.jenetics.util.ISeq;
 
 /**
@@ -51,4 +58,35 @@ public class ConcurrentEvaluatorTest {
 		evaluated.forEach(pt -> Assert.assertEquals(pt.genotype().gene().allele(), pt.fitness()));
 	}
 
+	@Test
+	public void evaluateIncremental() {
+		final Function<Genotype<BitGene>, Integer> fitness =
+			gt -> gt.chromosome().as(BitChromosome.class).bitCount();
+
+		final AtomicInteger updates = new AtomicInteger();
+		final IncrementalFitness<BitGene, Integer> incremental = (gt, p) -> {
+			updates.incrementAndGet();
+			int count = p.fitness();
+			for (int i : p.changes(0)) {
+				count += gt.get(0).get(i).bit() ? 1 : -1;
+			}
+			Assert.assertEquals(count, fitness.apply(gt).intValue());
+			return count;
+		};
+
+		final Engine<BitGene, Integer> engine = new Engine.Builder<>(
+				Evaluators.incremental(fitness, incremental),
+				Genotype.of(BitChromosome.of(200, 0.1))
+			)
+			.alterers(new Mutator<>(0.05), new SinglePointCrossover<>(0.1))
+			.build();
+
+		final Phenotype<BitGene, Integer> best = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(updates.get() > 0);
+		Assert.assertEquals(best.fitness(), fitness.apply(best.genotype()));
+	}
+
 }
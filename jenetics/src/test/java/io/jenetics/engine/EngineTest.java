@@ -27,7 +27,10 @@ import static java.lang.String.format;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -51,8 +54,10 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
+import io.jenetics.MeanAlterer;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -62,6 +67,7 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -521,4 +527,92 @@ public class EngineTest {
 			.collect(EvolutionResult.toBestEvolutionResult());
 	}
 
+	@Test
+	public void reproducibleParallelEvolution() {
+		// Noisy fitness function, which uses the registered random generator.
+		final Function<Genotype<DoubleGene>, Double> fitness = gt ->
+			gt.gene().doubleValue() + RandomRegistry.random().nextDouble()*0.01;
+
+		final Function<Executor, ISeq<Phenotype<DoubleGene, Double>>> evolve =
+			executor -> Engine.builder(fitness, DoubleChromosome.of(0, 10, 5))
+				.executor(executor)
+				.populationSize(200)
+				.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+				.selector(new TournamentSelector<>(3))
+				.seed(12345)
+				.build()
+				.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.population();
+
+		final ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			final var serial = evolve.apply(Runnable::run);
+			Assert.assertEquals(evolve.apply(pool), serial);
+			Assert.assertEquals(evolve.apply(ForkJoinPool.commonPool()), serial);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void differentSeeds() {
+		final Function<Long, ISeq<Phenotype<DoubleGene, Double>>> evolve =
+			seed -> Engine.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 10))
+				.populationSize(50)
+				.seed(seed)
+				.build()
+				.stream()
+				.limit(5)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.population();
+
+		Assert.assertEquals(evolve.apply(1L), evolve.apply(1L));
+		Assert.assertNotEquals(evolve.apply(1L), evolve.apply(2L));
+	}
+
+	@Test
+	public void independentEvaluationRandoms() {
+		// The initial population and the offspring of the first generation
+		// must not share the random streams of the fitness function.
+		final List<Double> values = new CopyOnWriteArrayList<>();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					final double value = RandomRegistry.random().nextDouble();
+					values.add(value);
+					return value;
+				},
+				DoubleChromosome.of(0, 10)
+			)
+			.populationSize(20)
+			.seed(12345)
+			.build();
+
+		engine.stream()
+			.limit(3)
+			.forEach(result -> {});
+
+		Assert.assertTrue(values.size() > 20);
+		Assert.assertEquals(Set.copyOf(values).size(), values.size());
+	}
+
+	@Test
+	public void seedIsCopied() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 10))
+			.populationSize(50)
+			.seed(7);
+
+		final var result1 = builder.build().stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+		final var result2 = builder.copy().build().toBuilder().build().stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result2.population(), result1.population());
+	}
+
 }
@@ -0,0 +1,350 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvaluationTimeoutTest {
+
+	private static final Genotype<DoubleGene> GTF =
+		Genotype.of(DoubleChromosome.of(0, 1));
+
+	private final ExecutorService _executor = Executors.newFixedThreadPool(8);
+
+	@AfterClass
+	public void shutdown() {
+		_executor.shutdownNow();
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return GTF.instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static double sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return millis;
+	}
+
+	@Test(dataProvider = "invalidTimeouts", expectedExceptions = IllegalArgumentException.class)
+	public void invalidTimeout(
+		final Duration individual,
+		final Duration generation,
+		final int retries
+	) {
+		new EvaluationTimeout<>(individual, generation, 0.0, retries);
+	}
+
+	@DataProvider
+	public Object[][] invalidTimeouts() {
+		return new Object[][] {
+			{Duration.ZERO, Duration.ofSeconds(1), 0},
+			{Duration.ofSeconds(-1), Duration.ofSeconds(1), 0},
+			{Duration.ofSeconds(1), Duration.ZERO, 0},
+			{Duration.ofSeconds(1), Duration.ofSeconds(1), -1}
+		};
+	}
+
+	@Test
+	public void evalWithoutTimeouts() {
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> gt.gene().doubleValue(),
+			EvaluationTimeout.of(Duration.ofSeconds(10), -1.0),
+			_executor
+		);
+
+		final var result = evaluator.evaluate(population(100));
+
+		Assert.assertEquals(result.timeoutCount(), 0);
+		Assert.assertEquals(result.population().length(), 100);
+		for (var pt : result.population()) {
+			Assert.assertEquals(
+				pt.fitness().doubleValue(),
+				pt.genotype().gene().doubleValue()
+			);
+		}
+	}
+
+	@Test
+	public void evalLargePopulation() {
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> gt.gene().doubleValue(),
+			EvaluationTimeout.of(Duration.ofSeconds(10), -1.0),
+			_executor
+		);
+
+		final var result = evaluator.evaluate(population(50_000));
+
+		Assert.assertEquals(result.timeoutCount(), 0);
+		Assert.assertTrue(result.population().forAll(pt ->
+			pt.fitness() == pt.genotype().gene().doubleValue()
+		));
+	}
+
+	@Test
+	public void individualTimeout() {
+		final var interrupted = new AtomicInteger();
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> {
+				if (gt.gene().doubleValue() < 0.5) {
+					return gt.gene().doubleValue();
+				}
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.incrementAndGet();
+				}
+				return 0.0;
+			},
+			EvaluationTimeout.of(Duration.ofMillis(50), -1.0),
+			_executor
+		);
+
+		final var population = population(20);
+		final long slow = population.stream()
+			.filter(pt -> pt.genotype().gene().doubleValue() >= 0.5)
+			.count();
+
+		final long start = System.nanoTime();
+		final var result = evaluator.evaluate(population);
+		final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		Assert.assertTrue(millis < 5_000, "Evaluation took " + millis + " ms.");
+		Assert.assertEquals(result.timeoutCount(), slow);
+		for (var pt : result.population()) {
+			final double value = pt.genotype().gene().doubleValue();
+			Assert.assertEquals(
+				pt.fitness().doubleValue(),
+				value < 0.5 ? value : -1.0
+			);
+		}
+	}
+
+	@Test
+	public void generationTimeout() {
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> sleep(10_000),
+			EvaluationTimeout.of(
+				Duration.ofSeconds(20),
+				Duration.ofMillis(100),
+				-1.0
+			),
+			_executor
+		);
+
+		final long start = System.nanoTime();
+		final var result = evaluator.evaluate(population(10));
+		final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		Assert.assertTrue(millis < 5_000, "Evaluation took " + millis + " ms.");
+		Assert.assertEquals(result.timeoutCount(), 10);
+		Assert.assertTrue(result.population().forAll(pt -> pt.fitness() == -1.0));
+	}
+
+	@Test
+	public void reschedule() {
+		final Map<Genotype<DoubleGene>, AtomicInteger> attempts =
+			new ConcurrentHashMap<>();
+
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> {
+				final int attempt = attempts
+					.computeIfAbsent(gt, k -> new AtomicInteger())
+					.getAndIncrement();
+				return attempt < 2 ? sleep(10_000) : attempt;
+			},
+			EvaluationTimeout.of(Duration.ofMillis(50), -1.0).withRetries(2),
+			_executor
+		);
+
+		final var result = evaluator.evaluate(population(5));
+
+		Assert.assertEquals(result.timeoutCount(), 10);
+		Assert.assertTrue(result.population().forAll(pt -> pt.fitness() == 2.0));
+	}
+
+	@Test
+	public void retriesExhausted() {
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> sleep(10_000),
+			EvaluationTimeout.of(Duration.ofMillis(20), -1.0).withRetries(2),
+			_executor
+		);
+
+		final var result = evaluator.evaluate(population(4));
+
+		Assert.assertEquals(result.timeoutCount(), 12);
+		Assert.assertTrue(result.population().forAll(pt -> pt.fitness() == -1.0));
+	}
+
+	@Test
+	public void cancelledTasksAreInterrupted() throws InterruptedException {
+		final var latch = new CountDownLatch(4);
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					latch.countDown();
+				}
+				return 0.0;
+			},
+			EvaluationTimeout.of(Duration.ofMillis(20), -1.0),
+			_executor
+		);
+
+		evaluator.evaluate(population(4));
+		Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test(expectedExceptions = CancellationException.class)
+	public void failingFitnessFunction() {
+		final var evaluator = new ConcurrentEvaluator<DoubleGene, Double>(
+			gt -> {
+				throw new IllegalStateException("Fitness failed.");
+			},
+			EvaluationTimeout.of(Duration.ofSeconds(10), -1.0),
+			_executor
+		);
+
+		evaluator.evaluate(population(10));
+	}
+
+	@Test
+	public void engineTimeoutCount() {
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+			Evaluators.concurrent(
+				gt -> gt.gene().doubleValue() > 0.9
+					? sleep(10_000)
+					: gt.gene().doubleValue(),
+				EvaluationTimeout.of(Duration.ofMillis(50), 0.0),
+				Runnable::run
+			),
+			GTF
+		)
+			.executor(_executor)
+			.populationSize(20)
+			.build();
+
+		final var results = engine.stream()
+			.limit(5)
+			.toList();
+
+		Assert.assertTrue(results.stream().anyMatch(r -> r.timeoutCount() > 0));
+		for (var result : results) {
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+			final long penalized = result.population().stream()
+				.filter(pt -> pt.genotype().gene().doubleValue() > 0.9)
+				.filter(pt -> pt.generation() == result.generation())
+				.count();
+			Assert.assertTrue(result.timeoutCount() >= penalized);
+		}
+	}
+
+	@Test
+	public void cachedTimeouts() {
+		final var calls = new AtomicInteger();
+		final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+			new ConcurrentEvaluator<DoubleGene, Double>(
+				gt -> calls.incrementAndGet() == 1 ? sleep(10_000) : 1.0,
+				EvaluationTimeout.of(Duration.ofMillis(50), -1.0),
+				_executor
+			),
+			100
+		);
+
+		final var population = population(1);
+		final var timedOut = evaluator.evaluate(population);
+		Assert.assertEquals(timedOut.timeoutCount(), 1);
+		Assert.assertEquals(timedOut.population().get(0).fitness().doubleValue(), -1.0);
+		Assert.assertEquals(evaluator.size(), 0);
+
+		// The penalty fitness is not cached.
+		final var evaluated = evaluator.evaluate(population);
+		Assert.assertEquals(evaluated.timeoutCount(), 0);
+		Assert.assertEquals(evaluated.population().get(0).fitness().doubleValue(), 1.0);
+		Assert.assertEquals(evaluator.size(), 1);
+	}
+
+	@Test(dataProvider = "pipelined")
+	public void cachedEngineTimeoutCount(final boolean pipelined) {
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+			Evaluators.cached(
+				Evaluators.<DoubleGene, Double>concurrent(
+					gt -> gt.gene().doubleValue() > 0.5
+						? sleep(10_000)
+						: gt.gene().doubleValue(),
+					EvaluationTimeout.of(Duration.ofMillis(50), 0.0),
+					Runnable::run
+				),
+				100
+			),
+			GTF
+		)
+			.executor(_executor)
+			.populationSize(20)
+			.build();
+
+		final EvolutionStreamable<DoubleGene, Double> streamable =
+			pipelined ? engine.pipelined(4) : engine;
+		final var results = streamable.stream()
+			.limit(5)
+			.toList();
+
+		Assert.assertTrue(results.stream().anyMatch(r -> r.timeoutCount() > 0));
+		for (var result : results) {
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@DataProvider
+	public Object[][] pipelined() {
+		return new Object[][] {{false}, {true}};
+	}
+
+}
@@ -83,6 +83,7 @@ public class EvolutionResultTest
 				),
 				random.nextInt(100),
 				random.nextInt(100),
+				random.nextInt(100),
 				random.nextInt(100)
 			);
 		};
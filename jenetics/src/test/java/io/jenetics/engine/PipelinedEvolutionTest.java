@@ -0,0 +1,212 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PipelinedEvolutionTest {
+
+	private static Engine<DoubleGene, Double> engine() {
+		return Engine
+			.builder(x -> x*x, Codecs.ofScalar(DoubleRange.of(-10, 10)))
+			.optimize(Optimize.MINIMUM)
+			.populationSize(50)
+			.build();
+	}
+
+	@Test
+	public void stream() {
+		final var engine = engine();
+
+		final var results = engine.pipelined(8).stream()
+			.limit(20)
+			.toList();
+
+		Assert.assertEquals(results.size(), 20);
+		for (int i = 0; i < results.size(); ++i) {
+			final var result = results.get(i);
+			Assert.assertEquals(result.generation(), i + 1);
+			Assert.assertEquals(result.population().size(), engine.populationSize());
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@Test
+	public void bestPhenotypeIsNeverLost() {
+		final var results = engine().pipelined(4).stream()
+			.limit(30)
+			.toList();
+
+		for (int i = 1; i < results.size(); ++i) {
+			Assert.assertTrue(
+				results.get(i).bestFitness() <= results.get(i - 1).bestFitness(),
+				"Best fitness got worse in generation " + (i + 1)
+			);
+		}
+	}
+
+	@Test
+	public void convergence() {
+		final Phenotype<DoubleGene, Double> best = engine().pipelined(16)
+			.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.fitness() < 0.01, "Fitness: " + best.fitness());
+	}
+
+	@Test
+	public void withoutAlterers() {
+		final var result = engine().toBuilder()
+			.alterers(new Mutator<>(0))
+			.build()
+			.pipelined(4)
+			.stream()
+			.limit(5)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		Assert.assertEquals(result.generation(), 5);
+		Assert.assertEquals(result.alterCount(), 0);
+	}
+
+	@Test
+	public void evaluationCount() {
+		final var count = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				Codecs.ofScalar(DoubleRange.of(0, 1)).encoding()
+			)
+			.populationSize(20)
+			.offspringFraction(0.5)
+			.build();
+
+		engine.pipelined(4).stream()
+			.limit(10)
+			.forEach(r -> {});
+
+		// Initial population plus the altered offspring, including the
+		// individuals which are still in flight.
+		Assert.assertTrue(count.get() > 20, "Count: " + count);
+		Assert.assertTrue(count.get() <= 20 + 10*10 + 5, "Count: " + count);
+	}
+
+	@Test(dataProvider = "depths")
+	public void evaluationsInFlight(final int depth) {
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(1);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						running.decrementAndGet();
+					}
+					return gt.gene().doubleValue();
+				},
+				Codecs.ofScalar(DoubleRange.of(0, 1)).encoding()
+			)
+			.populationSize(depth)
+			.build();
+
+		// The population size is chosen, so that the evaluation of the
+		// initial population doesn't exceed the pipeline depth either.
+		engine.pipelined(depth).stream()
+			.limit(10)
+			.forEach(r -> {});
+
+		Assert.assertTrue(maxRunning.get() <= depth, "Max running: " + maxRunning);
+	}
+
+	@DataProvider
+	public Object[][] depths() {
+		return new Object[][] {{1}, {2}, {3}};
+	}
+
+	@Test(timeOut = 10_000)
+	public void singleThreadExecutor() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final var result = engine().toBuilder()
+				.executor(executor)
+				.build()
+				.pipelined(4)
+				.stream()
+				.limit(10)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+
+			Assert.assertEquals(result.generation(), 10);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void fitnessError() {
+		final var errors = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					if (errors.incrementAndGet() > 50) {
+						throw new IllegalStateException("Fitness error.");
+					}
+					return gt.gene().doubleValue();
+				},
+				Codecs.ofScalar(DoubleRange.of(0, 1)).encoding()
+			)
+			.populationSize(50)
+			.build();
+
+		engine.pipelined(4).stream()
+			.limit(10)
+			.forEach(r -> {});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDepth() {
+		engine().pipelined(0);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationSummaryTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final var random = RandomRegistry.random();
+		return IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				random.nextInt(10) + 1,
+				(double)random.nextInt(100)
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void summary(final Optimize optimize) {
+		final var population = population(500);
+		final var summary = PopulationSummary.of(optimize, population, 20);
+
+		Assert.assertEquals(
+			summary.fitness().max(),
+			population.stream().max(optimize.ascending()).orElseThrow().fitness()
+		);
+		Assert.assertEquals(
+			summary.fitness().min(),
+			population.stream().min(optimize.ascending()).orElseThrow().fitness()
+		);
+
+		final var age = new LongMomentStatistics();
+		final var fitness = new DoubleMomentStatistics();
+		population.forEach(pt -> {
+			age.accept(pt.age(20));
+			fitness.accept(pt.fitness());
+		});
+		Assert.assertTrue(summary.age().sameState(age));
+		Assert.assertTrue(summary.numericFitness().sameState(fitness));
+	}
+
+	@DataProvider
+	public Object[][] optimizations() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	@Test
+	public void emptyPopulation() {
+		final var summary = PopulationSummary
+			.<DoubleGene, Double>of(Optimize.MAXIMUM, ISeq.empty(), 1);
+
+		Assert.assertNull(summary.numericFitness());
+		Assert.assertEquals(summary.age().count(), 0);
+	}
+
+	@Test
+	public void evolutionResultSummary() {
+		final var population = population(100);
+		final var result = EvolutionResult.of(
+			Optimize.MINIMUM,
+			population,
+			15,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+
+		Assert.assertSame(result.summary(), result.summary());
+		Assert.assertEquals(
+			result.bestPhenotype(),
+			population.stream().max(Optimize.MINIMUM.ascending()).orElseThrow()
+		);
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEvolutionTest {
+
+	private static Engine<DoubleGene, Double> engine() {
+		return Engine
+			.builder(x -> x*x, Codecs.ofScalar(DoubleRange.of(-10, 10)))
+			.optimize(Optimize.MINIMUM)
+			.populationSize(50)
+			.build();
+	}
+
+	@Test(dataProvider = "replacements")
+	public void stream(final int k) {
+		final var engine = engine();
+
+		final var results = engine.steadyState(k).stream()
+			.limit(20)
+			.toList();
+
+		Assert.assertEquals(results.size(), 20);
+		for (int i = 0; i < results.size(); ++i) {
+			final var result = results.get(i);
+			Assert.assertEquals(result.generation(), i + 1);
+			Assert.assertEquals(result.population().size(), engine.populationSize());
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+
+			if (i > 0) {
+				Assert.assertTrue(
+					result.bestFitness() <= results.get(i - 1).bestFitness(),
+					"Best fitness got worse in generation " + (i + 1)
+				);
+			}
+		}
+	}
+
+	@Test(dataProvider = "replacements")
+	public void evaluationCount(final int k) {
+		final var count = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				Codecs.ofScalar(DoubleRange.of(0, 1)).encoding()
+			)
+			.populationSize(20)
+			.offspringFraction(0.5)
+			.build();
+
+		engine.steadyState(k).stream()
+			.limit(10)
+			.forEach(r -> {});
+
+		// Initial population and at most the offspring of every generation.
+		Assert.assertTrue(count.get() > 20, "Count: " + count);
+		Assert.assertTrue(count.get() <= 20 + 10*10, "Count: " + count);
+	}
+
+	@DataProvider
+	public Object[][] replacements() {
+		return new Object[][] {{1}, {2}, {3}, {7}, {10}, {100}};
+	}
+
+	@Test
+	public void convergence() {
+		final Phenotype<DoubleGene, Double> best = engine().steadyState(4)
+			.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.fitness() < 0.01, "Fitness: " + best.fitness());
+	}
+
+	@Test
+	public void reproducible() {
+		final Function<Executor, ISeq<Phenotype<DoubleGene, Double>>> evolve =
+			executor -> engine().toBuilder()
+				.executor(executor)
+				.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+				.seed(12345)
+				.build()
+				.steadyState(4)
+				.stream()
+				.limit(10)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.population();
+
+		final var serial = evolve.apply(Runnable::run);
+		Assert.assertEquals(evolve.apply(ForkJoinPool.commonPool()), serial);
+		Assert.assertEquals(evolve.apply(Runnable::run), serial);
+	}
+
+	@Test
+	public void independentEvaluationRandoms() {
+		// Every evaluation of one generation, also from different rounds,
+		// must get its own random stream.
+		final List<Double> values = new CopyOnWriteArrayList<>();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				x -> {
+					final double value = RandomRegistry.random().nextDouble();
+					values.add(value);
+					return value;
+				},
+				Codecs.ofScalar(DoubleRange.of(-10, 10))
+			)
+			.populationSize(20)
+			.seed(12345)
+			.build();
+
+		engine.steadyState(2).stream()
+			.limit(5)
+			.forEach(result -> {});
+
+		Assert.assertTrue(values.size() > 20);
+		Assert.assertEquals(Set.copyOf(values).size(), values.size());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidReplacements() {
+		engine().steadyState(0);
+	}
+
+}
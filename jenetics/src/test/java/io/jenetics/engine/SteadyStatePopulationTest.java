@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStatePopulationTest {
+
+	private static Phenotype<IntegerGene, Integer> phenotype(final int fitness) {
+		return Phenotype.<IntegerGene, Integer>of(
+			Genotype.of(IntegerChromosome.of(0, 1000)),
+			1
+		).withFitness(fitness);
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(final int size) {
+		final var random = RandomRegistry.random();
+		return IntStream.range(0, size)
+			.mapToObj(i -> phenotype(random.nextInt(1000)))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void replaceWorstMaximum() {
+		replaceWorst(Optimize.MAXIMUM);
+	}
+
+	@Test
+	public void replaceWorstMinimum() {
+		replaceWorst(Optimize.MINIMUM);
+	}
+
+	private static void replaceWorst(final Optimize optimize) {
+		final var initial = population(100);
+		final var pop = new SteadyStatePopulation<>(optimize, initial);
+
+		final Comparator<Phenotype<IntegerGene, Integer>> cmp = optimize.ascending();
+		final var random = RandomRegistry.random();
+		for (int i = 0; i < 1000; ++i) {
+			final var expectedWorst = pop.view().stream().min(cmp).orElseThrow();
+			Assert.assertEquals(pop.worst().fitness(), expectedWorst.fitness());
+
+			final var worst = pop.replaceWorst(phenotype(random.nextInt(1000)));
+			Assert.assertEquals(worst.fitness(), expectedWorst.fitness());
+
+			final var expectedBest = pop.view().stream().max(cmp).orElseThrow();
+			Assert.assertEquals(pop.best().fitness(), expectedBest.fitness());
+			Assert.assertEquals(pop.size(), initial.size());
+		}
+	}
+
+	@Test
+	public void replaceWorstWithEqualFitness() {
+		final var pop = new SteadyStatePopulation<>(
+			Optimize.MAXIMUM,
+			ISeq.of(phenotype(5), phenotype(5), phenotype(5))
+		);
+
+		pop.replaceWorst(phenotype(1));
+		Assert.assertEquals(pop.best().fitness().intValue(), 5);
+		Assert.assertEquals(pop.worst().fitness().intValue(), 1);
+	}
+
+	@Test
+	public void toISeqIsSnapshot() {
+		final var pop = new SteadyStatePopulation<>(Optimize.MAXIMUM, population(10));
+		final var snapshot = pop.toISeq();
+		final var copy = snapshot.copy().toISeq();
+
+		pop.replaceWorst(phenotype(10_000));
+		Assert.assertEquals(snapshot, copy);
+		Assert.assertEquals(pop.best().fitness().intValue(), 10_000);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void replaceWithNotEvaluated() {
+		final var pop = new SteadyStatePopulation<>(Optimize.MAXIMUM, population(10));
+		pop.replaceWorst(Phenotype.of(
+			Genotype.of(IntegerChromosome.of(0, 1000)),
+			1
+		));
+	}
+
+}
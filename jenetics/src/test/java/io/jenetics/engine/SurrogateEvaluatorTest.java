@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SurrogateEvaluatorTest {
+
+	private static final Genotype<DoubleGene> GTF =
+		Genotype.of(DoubleChromosome.of(-5, 5, 2));
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		return -gt.chromosome().as(DoubleChromosome.class).doubleStream()
+			.map(x -> x*x)
+			.sum();
+	}
+
+	private static SurrogateEvaluator<DoubleGene>
+	evaluator(final AtomicInteger count, final SurrogateEvaluator.Params params) {
+		return Evaluators.surrogate(
+			Evaluators.<DoubleGene, Double>serial(gt -> {
+				count.incrementAndGet();
+				return fitness(gt);
+			}),
+			gt -> gt.chromosome().as(DoubleChromosome.class).toArray(),
+			Optimize.MAXIMUM,
+			params
+		);
+	}
+
+	@Test(dataProvider = "invalidParams", expectedExceptions = IllegalArgumentException.class)
+	public void invalidParams(
+		final int neighbours,
+		final int capacity,
+		final double threshold,
+		final double revalidation
+	) {
+		new SurrogateEvaluator.Params(neighbours, capacity, threshold, revalidation);
+	}
+
+	@DataProvider
+	public Object[][] invalidParams() {
+		return new Object[][] {
+			{0, 10, 0.5, 0.1},
+			{5, 4, 0.5, 0.1},
+			{5, 10, -0.1, 0.1},
+			{5, 10, 1.1, 0.1},
+			{5, 10, 0.5, Double.NaN},
+			{5, 10, 0.5, 1.5}
+		};
+	}
+
+	@Test
+	public void evalWithoutEvaluatedPhenotypes() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator =
+			evaluator(count, SurrogateEvaluator.Params.DEFAULT);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = GTF.instances()
+			.limit(50)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Double>> evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(count.get(), 50);
+		Assert.assertEquals(evaluator.evaluations(), 50);
+		Assert.assertEquals(evaluator.predictions(), 0);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(evaluated.get(i).genotype(), population.get(i).genotype());
+			Assert.assertEquals(evaluated.get(i).fitness().doubleValue(), fitness(evaluated.get(i).genotype()));
+		}
+	}
+
+	@Test
+	public void evalScreensOutBadPhenotypes() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator =
+			evaluator(count, new SurrogateEvaluator.Params(3, 1000, 0.5, 0));
+
+		final ISeq<Phenotype<DoubleGene, Double>> evaluated = evaluator.eval(
+			GTF.instances()
+				.limit(500)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq())
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = evaluated.append(
+			GTF.instances()
+				.limit(500)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 2))
+				.collect(ISeq.toISeq())
+		);
+		count.set(0);
+		final ISeq<Phenotype<DoubleGene, Double>> result = evaluator.eval(population);
+
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(evaluator.evaluations() + evaluator.predictions(), 1000);
+		Assert.assertTrue(count.get() < 400, "Evaluations: " + count.get());
+		Assert.assertEquals(evaluator.revalidations(), 0);
+		Assert.assertEquals(evaluator.hitRate(), Double.NaN);
+	}
+
+	@Test
+	public void evolve() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator =
+			evaluator(count, new SurrogateEvaluator.Params(5, 1000, 0.5, 0.1));
+
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(evaluator, GTF)
+			.interceptor(evaluator)
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(evaluator.predictions() > 0);
+		Assert.assertTrue(evaluator.revalidations() > 0);
+		Assert.assertTrue(evaluator.hitRate() > 0.5, "Hit rate: " + evaluator.hitRate());
+		Assert.assertEquals(evaluator.evaluations(), count.get());
+		Assert.assertTrue(result.bestFitness() > -0.1, "Best: " + result.bestFitness());
+	}
+
+}
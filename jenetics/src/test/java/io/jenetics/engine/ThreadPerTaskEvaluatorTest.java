@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ThreadPerTaskEvaluatorTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return Genotype.of(DoubleChromosome.of(0, 1)).instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void eval() {
+		final var phenotypes = population(100);
+
+		final Evaluator<DoubleGene, Double> evaluator =
+			Evaluators.virtualThreads(gt -> gt.gene().doubleValue());
+
+		final var evaluated = evaluator.eval(phenotypes);
+
+		Assert.assertEquals(evaluated.length(), phenotypes.length());
+		for (int i = 0; i < evaluated.length(); ++i) {
+			Assert.assertEquals(evaluated.get(i).genotype(), phenotypes.get(i).genotype());
+			Assert.assertEquals(
+				evaluated.get(i).fitness(),
+				evaluated.get(i).genotype().gene().allele()
+			);
+		}
+	}
+
+	@Test
+	public void maxConcurrency() {
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+
+		final Evaluator<DoubleGene, Double> evaluator =
+			Evaluators.virtualThreads(
+				gt -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(5);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						running.decrementAndGet();
+					}
+					return gt.gene().doubleValue();
+				},
+				4
+			);
+
+		final var evaluated = evaluator.eval(population(50));
+
+		Assert.assertEquals(evaluated.length(), 50);
+		Assert.assertTrue(evaluated.forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(maxRunning.get() <= 4, "Max running: " + maxRunning);
+	}
+
+	@Test
+	public void platformThreadCount() {
+		final var executor =
+			(ThreadPoolExecutor)ThreadPerTaskEvaluator.ThreadPerTask.platformThreads();
+
+		try {
+			final Evaluator<DoubleGene, Double> evaluator =
+				new ThreadPerTaskEvaluator<>(
+					gt -> {
+						try {
+							Thread.sleep(1);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return gt.gene().doubleValue();
+					},
+					4,
+					executor
+				);
+
+			final var evaluated = evaluator.eval(population(500));
+			Assert.assertTrue(evaluated.forAll(Phenotype::isEvaluated));
+
+			// Running threads plus threads which released their permit, but
+			// haven't been returned to the pool yet.
+			Assert.assertTrue(
+				executor.getLargestPoolSize() <= 2*4,
+				"Peak thread count: " + executor.getLargestPoolSize()
+			);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = CancellationException.class)
+	public void evalError() {
+		final Evaluator<DoubleGene, Double> evaluator =
+			Evaluators.virtualThreads(gt -> {
+				throw new IllegalStateException("Fitness error.");
+			});
+
+		evaluator.eval(population(10));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxConcurrency() {
+		Evaluators.<DoubleGene, Double>virtualThreads(gt -> 1.0, 0);
+	}
+
+}
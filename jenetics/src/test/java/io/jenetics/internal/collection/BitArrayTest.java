@@ -262,6 +262,116 @@ public class BitArrayTest {
 		Assert.assertEquals(bits.hashCode(), value);
 	}
 
+	@Test(dataProvider = "lengths")
+	public void shiftWords(final int length) {
+		final var random = new Random(length);
+		final var bits = BitArray.ofLength(length, 0.5, random);
+
+		for (int shift : new int[]{1, 7, 63, 64, 65, 130, length - 1}) {
+			final var left = bits.copy();
+			left.shiftLeft(shift);
+			final var right = bits.copy();
+			right.shiftRight(shift);
+
+			for (int i = 0; i < length; ++i) {
+				Assert.assertEquals(left.get(i), i >= shift && bits.get(i - shift));
+				Assert.assertEquals(right.get(i), i + shift < length && bits.get(i + shift));
+			}
+			Assert.assertEquals(left.toByteArray(), BitArray.of(left.toString()).toByteArray());
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void logicalOperations(final int length) {
+		final var random = new Random(length);
+		final var a = BitArray.ofLength(length, 0.5, random);
+		final var b = BitArray.ofLength(length/2 + 1, 0.5, random);
+
+		final var and = a.copy();
+		and.and(b);
+		final var or = a.copy();
+		or.or(b);
+		final var xor = a.copy();
+		xor.xor(b);
+
+		for (int i = 0; i < length; ++i) {
+			final boolean x = a.get(i);
+			final boolean y = i < b.length() && b.get(i);
+			Assert.assertEquals(and.get(i), i < b.length() ? x && y : x);
+			Assert.assertEquals(or.get(i), x || y);
+			Assert.assertEquals(xor.get(i), x ^ y);
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void swapRange(final int length) {
+		final var random = new Random(length);
+		final var a = BitArray.ofLength(length, 0.5, random);
+		final var b = BitArray.ofLength(length, 0.5, random);
+
+		final int start = random.nextInt(length);
+		final int end = start + random.nextInt(length - start + 1);
+		final var x = a.copy();
+		final var y = b.copy();
+		x.swap(start, end, y);
+
+		for (int i = 0; i < length; ++i) {
+			final boolean swapped = i >= start && i < end;
+			Assert.assertEquals(x.get(i), swapped ? b.get(i) : a.get(i));
+			Assert.assertEquals(y.get(i), swapped ? a.get(i) : b.get(i));
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void swapMask(final int length) {
+		final var random = new Random(length);
+		final var a = BitArray.ofLength(length, 0.5, random);
+		final var b = BitArray.ofLength(length, 0.5, random);
+		final var mask = BitArray.ofLength(length, 0.3, random);
+
+		final var x = a.copy();
+		final var y = b.copy();
+		x.swap(y, mask);
+
+		for (int i = 0; i < length; ++i) {
+			Assert.assertEquals(x.get(i), mask.get(i) ? b.get(i) : a.get(i));
+			Assert.assertEquals(y.get(i), mask.get(i) ? a.get(i) : b.get(i));
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void invertTrimsUnusedBits(final int length) {
+		final var bits = BitArray.ofLength(length, 0.5, new Random(length));
+		final var inverted = bits.copy();
+		inverted.invert();
+
+		Assert.assertEquals(inverted.bitCount(), length - bits.bitCount());
+		inverted.invert();
+		Assert.assertEquals(inverted, bits);
+	}
+
+	@DataProvider
+	public Object[][] lengths() {
+		return new Object[][] {{1}, {7}, {63}, {64}, {65}, {128}, {1000}, {1027}};
+	}
+
+	@Test(dataProvider = "probabilities")
+	public void randomMask(final double p) {
+		final int length = 100_000;
+		final var mask = BitArray.ofLength(length, p, new Random(123));
+
+		Assert.assertEquals(mask.length(), length);
+		final double sigma = Math.sqrt(length*p*(1 - p));
+		Assert.assertEquals(mask.bitCount(), length*p, 5*sigma + 1);
+	}
+
+	@DataProvider
+	public Object[][] probabilities() {
+		return new Object[][] {
+			{0.0}, {0.001}, {0.01}, {0.03}, {0.1}, {0.25}, {0.5}, {0.77}, {1.0}
+		};
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void fromEmptyString() {
 		BitArray.of("");
@@ -0,0 +1,84 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import static java.lang.Math.sqrt;
+import static io.jenetics.internal.math.Basics.normalize;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AliasTableTest {
+
+	@Test(dataProvider = "probabilities")
+	public void nextIndex(final double[] probabilities) {
+		final var random = new Random(1234);
+		final var table = AliasTable.of(probabilities);
+		Assert.assertEquals(table.size(), probabilities.length);
+
+		final int samples = 200_000;
+		final int[] histogram = new int[probabilities.length];
+		for (int i = 0; i < samples; ++i) {
+			++histogram[table.nextIndex(random)];
+		}
+
+		for (int i = 0; i < histogram.length; ++i) {
+			final double p = probabilities[i];
+			final double expected = p*samples;
+			final double sigma = sqrt(samples*p*(1 - p));
+
+			if (p == 0) {
+				Assert.assertEquals(histogram[i], 0);
+			} else {
+				Assert.assertEquals(histogram[i], expected, 6*sigma + 1);
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] probabilities() {
+		final var random = new Random(5678);
+		final double[] randoms = new double[500];
+		for (int i = 0; i < randoms.length; ++i) {
+			randoms[i] = random.nextDouble();
+		}
+
+		return new Object[][] {
+			{new double[]{1.0}},
+			{new double[]{0.5, 0.5}},
+			{new double[]{0.1, 0.0, 0.6, 0.0, 0.3}},
+			{new double[]{0.999, 0.001}},
+			{normalize(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10})},
+			{normalize(randoms)}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyProbabilities() {
+		AliasTable.of(new double[0]);
+	}
+
+}
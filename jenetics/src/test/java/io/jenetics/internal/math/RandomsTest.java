@@ -19,6 +19,12 @@
  */
 package io.jenetics.internal.math;
 
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -37,4 +43,51 @@ public class RandomsTest {
 //		}
 //	}
 
+	@Test(dataProvider = "indexesParameters")
+	public void nextIndexes(final Integer n, final Double p) {
+		final var random = new Random(1234);
+		final int N = 1000;
+
+		long count = 0;
+		for (int i = 0; i < N; ++i) {
+			final int[] indexes = Randoms.nextIndexes(random, n, p);
+			for (int j = 0; j < indexes.length; ++j) {
+				Assert.assertTrue(indexes[j] >= 0 && indexes[j] < n);
+				if (j > 0) {
+					Assert.assertTrue(indexes[j - 1] < indexes[j]);
+				}
+			}
+			count += indexes.length;
+		}
+
+		final double mean = (double)count/N;
+		final double expected = n*p;
+		Assert.assertEquals(mean, expected, Math.max(0.1, expected*0.05));
+	}
+
+	@DataProvider(name = "indexesParameters")
+	public Object[][] indexesParameters() {
+		return new Object[][] {
+			{1, 0.5},
+			{10, 0.1},
+			{100, 0.01},
+			{1_000, 0.001},
+			{1_000, 0.5},
+			{1_000, 0.9},
+			{10_000, 0.01}
+		};
+	}
+
+	@Test
+	public void nextIndexesBoundaries() {
+		final var random = new Random(1234);
+
+		Assert.assertEquals(Randoms.nextIndexes(random, 100, 0).length, 0);
+		Assert.assertEquals(Randoms.nextIndexes(random, 0, 0.5).length, 0);
+		Assert.assertEquals(
+			Randoms.nextIndexes(random, 5, 1),
+			new int[]{0, 1, 2, 3, 4}
+		);
+	}
+
 }
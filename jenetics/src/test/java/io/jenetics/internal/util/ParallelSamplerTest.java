@@ -0,0 +1,133 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static io.jenetics.internal.util.ParallelSampler.CHUNK_SIZE;
+import static io.jenetics.internal.util.ParallelSampler.PARALLEL_THRESHOLD;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.random.RandomGeneratorFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParallelSamplerTest {
+
+	@Test(dataProvider = "counts")
+	public void reproducible(final Integer count) {
+		final var factory = RandomGeneratorFactory.of("L64X256MixRandom");
+
+		final ISeq<Long> samples1 = ParallelSampler
+			.sample(count, factory.create(123), r -> r.nextLong());
+		final ISeq<Long> samples2 = ParallelSampler
+			.sample(count, factory.create(123), r -> r.nextLong());
+
+		Assert.assertEquals(samples1.size(), count.intValue());
+		Assert.assertEquals(samples1, samples2);
+		Assert.assertEquals(samples1.stream().distinct().count(), count.longValue());
+	}
+
+	@DataProvider
+	public Object[][] counts() {
+		return new Object[][] {
+			{0},
+			{1},
+			{PARALLEL_THRESHOLD - 1},
+			{PARALLEL_THRESHOLD},
+			{PARALLEL_THRESHOLD + 1},
+			{10*CHUNK_SIZE + CHUNK_SIZE/2}
+		};
+	}
+
+	@Test
+	public void sequentialWithoutSplittableGenerator() {
+		final int count = 2*PARALLEL_THRESHOLD;
+
+		final ISeq<Long> samples = ParallelSampler
+			.sample(count, new Random(123), r -> r.nextLong());
+
+		final var random = new Random(123);
+		for (int i = 0; i < count; ++i) {
+			Assert.assertEquals(samples.get(i).longValue(), random.nextLong());
+		}
+	}
+
+	@Test
+	public void sequentialBelowThreshold() {
+		final var factory = RandomGeneratorFactory.of("L64X256MixRandom");
+		final int count = PARALLEL_THRESHOLD - 1;
+
+		final ISeq<Long> samples = ParallelSampler
+			.sample(count, factory.create(123), r -> r.nextLong());
+
+		final var random = factory.create(123);
+		for (int i = 0; i < count; ++i) {
+			Assert.assertEquals(samples.get(i).longValue(), random.nextLong());
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void withExecutor() throws Exception {
+		final var factory = RandomGeneratorFactory.of("L64X256MixRandom");
+		final int count = 10*CHUNK_SIZE;
+		final ISeq<Long> expected = ParallelSampler
+			.sample(count, factory.create(123), r -> r.nextLong());
+
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// Sampling from within the single thread of the executor must not
+			// deadlock.
+			final ISeq<Long> samples = executor.submit(() ->
+				ParallelSampler.with(executor, () ->
+					ParallelSampler.sample(count, factory.create(123), r -> {
+						threads.add(Thread.currentThread());
+						return r.nextLong();
+					})
+				)
+			).get();
+
+			Assert.assertEquals(samples, expected);
+			Assert.assertEquals(threads.size(), 1);
+			Assert.assertFalse(
+				threads.iterator().next() instanceof ForkJoinWorkerThread
+			);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeCount() {
+		ParallelSampler.sample(-1, new Random(), r -> r.nextLong());
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartialSorterTest {
+
+	@Test(dataProvider = "sizes")
+	public void sortRandom(final int length, final int k) {
+		final int[] array = new Random(length + k).ints(length, 0, 100).toArray();
+		assertPartialSort(array, k);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void sortAscending(final int length, final int k) {
+		assertPartialSort(IntStream.range(0, length).toArray(), k);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void sortDescending(final int length, final int k) {
+		assertPartialSort(IntStream.range(0, length).map(i -> -i).toArray(), k);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void sortConstant(final int length, final int k) {
+		assertPartialSort(new int[length], k);
+	}
+
+	@Test
+	public void sortWithExecutor() {
+		final int[] array = new Random(123)
+			.ints(PartialSorter.PARALLEL_THRESHOLD + 1234, 0, 100)
+			.toArray();
+		final var executions = new AtomicInteger();
+
+		final int[] indexes = ParallelSampler.with(
+			task -> {
+				executions.incrementAndGet();
+				task.run();
+			},
+			() -> PartialSorter.sort(
+				array, array.length, 100,
+				(a, i, j) -> Integer.compare(a[i], a[j])
+			)
+		);
+
+		Assert.assertTrue(executions.get() > 0);
+		Assert.assertEquals(indexes, expected(array, 100));
+	}
+
+	@DataProvider
+	public Object[][] sizes() {
+		final int big = PartialSorter.PARALLEL_THRESHOLD + 1234;
+		return new Object[][] {
+			{0, 0}, {0, 5}, {1, 0}, {1, 1}, {10, 1}, {10, 3}, {10, 10},
+			{10, 20}, {1000, 1}, {1000, 17}, {1000, 999}, {1000, 1000},
+			{big, 1}, {big, 100}, {big, PartialSorter.CHUNK_SIZE/4},
+			{big, PartialSorter.CHUNK_SIZE}
+		};
+	}
+
+	private static void assertPartialSort(final int[] array, final int k) {
+		final int[] indexes = PartialSorter.sort(
+			array, array.length, k,
+			(a, i, j) -> Integer.compare(a[i], a[j])
+		);
+
+		Assert.assertEquals(indexes, expected(array, k));
+	}
+
+	// The first 'k' indexes of a stable sort.
+	private static int[] expected(final int[] array, final int k) {
+		return IntStream.range(0, array.length)
+			.boxed()
+			.sorted(Comparator.comparingInt(i -> array[i]))
+			.mapToInt(Integer::intValue)
+			.limit(min(k, array.length))
+			.toArray();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeK() {
+		PartialSorter.sort(new int[10], 10, -1, (a, i, j) -> 0);
+	}
+
+}